@@ -0,0 +1,65 @@
+package com.freshcart.backend.config;
+
+import com.freshcart.backend.repository.FetchPlans;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Registry of named fetch plans (entity graphs)
+ * 
+ * Features:
+ * - Fails fast at startup when a plan in {@link FetchPlans} has no matching
+ *   named entity graph or targets the wrong entity
+ * - Builds query hints for code that uses the EntityManager directly
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FetchPlanRegistry {
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyFetchPlans() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            FetchPlans.ALL.forEach((name, rootType) -> {
+                boolean declared = entityManager.getEntityGraphs(rootType).stream()
+                        .map(EntityGraph::getName)
+                        .anyMatch(name::equals);
+                if (!declared) {
+                    throw new IllegalStateException("Fetch plan " + name + " is not declared on " + rootType.getName());
+                }
+            });
+            log.info("Verified {} fetch plans: {}", FetchPlans.ALL.size(), FetchPlans.ALL.keySet());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Build query hints that apply a fetch plan
+     * 
+     * @param entityManager Entity manager running the query
+     * @param planName Plan name from {@link FetchPlans}
+     * @return Hints map for find() or Query.setHint()
+     */
+    public Map<String, Object> hints(EntityManager entityManager, String planName) {
+        if (!FetchPlans.ALL.containsKey(planName)) {
+            throw new IllegalArgumentException("Unknown fetch plan: " + planName);
+        }
+        return Map.of(FETCH_GRAPH_HINT, entityManager.getEntityGraph(planName));
+    }
+}
@@ -0,0 +1,197 @@
+package com.freshcart.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps a separate local H2 database in step with the primary so the
+ * replica-local profile reads from a real second instance
+ * 
+ * Features:
+ * - Creates the replica schema from the primary ({@code SCRIPT NODATA}) on startup,
+ *   before other startup listeners read through the routing data source
+ * - Copies every table from one repeatable-read snapshot of the primary into the
+ *   replica in a single transaction, so readers see one consistent point in time
+ * - Runs on a fixed delay, which gives the replica a real replication lag
+ *   for the read-your-writes window to cover
+ * 
+ * Each pass copies whole tables, so this is meant for local development
+ * catalogs, not production volumes.
+ * 
+ * Metrics: freshcart.replica.local.sync (timer)
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@ConditionalOnProperty(name = "freshcart.datasource.replica.local-sync.enabled", havingValue = "true")
+@Slf4j
+public class LocalReplicaSynchronizer {
+
+    private static final String TABLES_SQL =
+            "SELECT table_name FROM information_schema.tables " +
+            "WHERE table_schema = 'PUBLIC' AND table_type = 'BASE TABLE' ORDER BY table_name";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final DataSource primaryDataSource;
+    private final String replicaUrl;
+    private final String replicaUsername;
+    private final String replicaPassword;
+    private final Timer syncTimer;
+
+    private volatile List<String> tables = Collections.emptyList();
+
+    public LocalReplicaSynchronizer(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                    @Value("${freshcart.datasource.replica.hikari.jdbc-url}") String replicaUrl,
+                                    @Value("${freshcart.datasource.replica.hikari.username}") String replicaUsername,
+                                    @Value("${freshcart.datasource.replica.hikari.password}") String replicaPassword,
+                                    MeterRegistry meterRegistry) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaUrl = replicaUrl;
+        this.replicaUsername = replicaUsername;
+        this.replicaPassword = replicaPassword;
+        this.syncTimer = Timer.builder("freshcart.replica.local.sync").register(meterRegistry);
+    }
+
+    /**
+     * Create the replica schema and copy the primary once
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initialize() {
+        try (Connection source = primaryDataSource.getConnection();
+             Connection target = replicaConnection()) {
+            List<String> ddl = new ArrayList<>();
+            try (Statement statement = source.createStatement();
+                 ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+                while (script.next()) {
+                    ddl.add(script.getString(1));
+                }
+            }
+            try (Statement statement = target.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                for (String sql : ddl) {
+                    statement.execute(sql);
+                }
+                // Rows arrive table by table; the primary already enforced the constraints
+                statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            }
+            tables = tableNames(source);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create the local replica schema at " + replicaUrl, e);
+        }
+        log.info("Local replica created at {} with {} tables", replicaUrl, tables.size());
+        sync();
+    }
+
+    /**
+     * Copy the primary into the replica
+     */
+    @Scheduled(fixedDelayString = "${freshcart.datasource.replica.local-sync.interval-ms:1000}")
+    public void sync() {
+        List<String> snapshotTables = tables;
+        if (snapshotTables.isEmpty()) {
+            return;
+        }
+        syncTimer.record(() -> {
+            try (Connection source = primaryDataSource.getConnection();
+                 Connection target = replicaConnection()) {
+                source.setAutoCommit(false);
+                source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                target.setAutoCommit(false);
+                try {
+                    for (String table : snapshotTables) {
+                        copyTable(source, target, table);
+                    }
+                    target.commit();
+                } catch (SQLException e) {
+                    target.rollback();
+                    throw e;
+                } finally {
+                    source.rollback();
+                }
+            } catch (SQLException e) {
+                log.warn("Local replica sync failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quoted = "\"" + table + "\"";
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + quoted);
+        }
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM " + quoted)) {
+            int columns = rows.getMetaData().getColumnCount();
+            String insertSql = "INSERT INTO " + quoted + " VALUES (" + "?, ".repeat(columns - 1) + "?)";
+            try (PreparedStatement insert = target.prepareStatement(insertSql)) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        insert.setObject(column, detach(rows.getObject(column)));
+                    }
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    /**
+     * LOB handles belong to the source connection, so copy their contents
+     */
+    private Object detach(Object value) throws SQLException {
+        if (value instanceof Blob blob) {
+            return blob.getBytes(1, (int) blob.length());
+        }
+        if (value instanceof Clob clob) {
+            return clob.getSubString(1, (int) clob.length());
+        }
+        return value;
+    }
+
+    private List<String> tableNames(Connection source) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet rows = statement.executeQuery(TABLES_SQL)) {
+            while (rows.next()) {
+                names.add(rows.getString(1));
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    private Connection replicaConnection() throws SQLException {
+        return DriverManager.getConnection(replicaUrl, replicaUsername, replicaPassword);
+    }
+}
@@ -0,0 +1,69 @@
+package com.freshcart.backend.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.freshcart.backend.util.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Currency;
+
+/**
+ * JSON mapping for {@link Money}, registered with Spring's ObjectMapper
+ * 
+ * Features:
+ * - Written as a plain decimal such as {@code 12.34}, so responses keep the
+ *   shape they had with BigDecimal amounts; orders carry their currency in
+ *   a separate field
+ * - Read from a number in the store currency, or from
+ *   {@code {"amount": 12.34, "currency": "USD"}}
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+public class MoneyJsonModule extends SimpleModule {
+
+    public MoneyJsonModule(@Value("${freshcart.business.default-currency:USD}") Currency currency) {
+        super("MoneyJsonModule");
+        addSerializer(Money.class, new Serializer());
+        addDeserializer(Money.class, new Deserializer(currency));
+    }
+
+    static class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money money, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(money.toBigDecimal());
+        }
+    }
+
+    static class Deserializer extends JsonDeserializer<Money> {
+
+        private final Currency currency;
+
+        Deserializer(Currency currency) {
+            this.currency = currency;
+        }
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            if (node.isNumber()) {
+                return Money.of(node.decimalValue(), currency);
+            }
+            JsonNode amount = node.get("amount");
+            if (amount == null || !amount.isNumber()) {
+                return (Money) context.handleUnexpectedToken(Money.class, parser);
+            }
+            JsonNode code = node.get("currency");
+            return Money.of(amount.decimalValue(), code != null ? Currency.getInstance(code.asText()) : currency);
+        }
+    }
+}
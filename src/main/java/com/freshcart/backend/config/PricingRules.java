@@ -0,0 +1,71 @@
+package com.freshcart.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tax, shipping and promotion rules bound from {@code freshcart.pricing}
+ * 
+ * These are the source rules; the pricing engine compiles them into an
+ * immutable plan and can replace them at runtime.
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "freshcart.pricing")
+public class PricingRules {
+
+    private BigDecimal defaultTaxRate = new BigDecimal("0.08");
+    private List<TaxRule> taxRules = new ArrayList<>();
+    private List<ShippingTier> shippingTiers = new ArrayList<>();
+    private List<Promotion> promotions = new ArrayList<>();
+
+    /**
+     * Tax rate for a country, optionally narrowed to a state
+     */
+    @Data
+    public static class TaxRule {
+        private String country;
+        private String state;
+        private BigDecimal rate;
+    }
+
+    /**
+     * Shipping cost applying from a minimum subtotal upwards
+     */
+    @Data
+    public static class ShippingTier {
+        private BigDecimal minSubtotal = BigDecimal.ZERO;
+        private BigDecimal cost = BigDecimal.ZERO;
+    }
+
+    @Data
+    public static class Promotion {
+        private String name;
+        private PromotionType type;
+        private boolean enabled = true;
+        /** CATEGORY_PERCENT_OFF: category whose products are discounted */
+        private Long categoryId;
+        /** BUY_X_GET_Y: product the offer applies to */
+        private Long productId;
+        private Integer buyQuantity;
+        private Integer freeQuantity;
+        /** CATEGORY_PERCENT_OFF and COUPON: percentage off */
+        private BigDecimal percentOff;
+        /** COUPON: fixed amount off, used when percentOff is not set */
+        private BigDecimal amountOff;
+        private String couponCode;
+        /** COUPON: minimum subtotal after other promotions */
+        private BigDecimal minSubtotal;
+    }
+
+    public enum PromotionType {
+        CATEGORY_PERCENT_OFF, BUY_X_GET_Y, COUPON
+    }
+}
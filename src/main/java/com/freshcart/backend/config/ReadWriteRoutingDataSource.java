@@ -0,0 +1,64 @@
+package com.freshcart.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to the read pool and everything else to the
+ * primary pool
+ * 
+ * The routing key is resolved when a physical connection is first needed,
+ * which is why this data source is wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * by then the transaction's read-only flag has been published.
+ * 
+ * @author FreshCart Development Team
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userKey = currentUserKey();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite(userKey);
+            return Route.PRIMARY;
+        }
+        if (userKey != null && readYourWritesTracker.mustReadPrimary(userKey)) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    private void trackWrite(String userKey) {
+        if (userKey == null
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(userKey);
+            }
+        });
+    }
+
+    private String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.freshcart.backend.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each user last committed a write
+ * 
+ * For the configured replication-lag tolerance after a user's own write,
+ * that user's read-only transactions are kept on the primary so they never
+ * read data older than what they just wrote. Other users keep reading from
+ * the replica.
+ * 
+ * @author FreshCart Development Team
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long maxLagNanos;
+
+    public ReadYourWritesTracker(Duration maxLag) {
+        this.maxLagNanos = maxLag.toNanos();
+    }
+
+    /**
+     * Record a committed write by a user
+     * 
+     * @param userKey Authenticated user name
+     */
+    public void recordWrite(String userKey) {
+        long now = System.nanoTime();
+        lastWriteNanos.put(userKey, now);
+        if (lastWriteNanos.size() > PURGE_THRESHOLD) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > maxLagNanos);
+        }
+    }
+
+    /**
+     * Check whether a user's reads must still go to the primary
+     * 
+     * @param userKey Authenticated user name
+     * @return True while the user's last write may not have replicated yet
+     */
+    public boolean mustReadPrimary(String userKey) {
+        Long writtenAt = lastWriteNanos.get(userKey);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > maxLagNanos) {
+            lastWriteNanos.remove(userKey, writtenAt);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package com.freshcart.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (write-behind flushes, sweepers, relays)
+ * 
+ * Turned off with {@code freshcart.scheduling.enabled=false}, e.g. in tests
+ * that drive the jobs by hand.
+ * 
+ * @author FreshCart Development Team
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "freshcart.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+    // Scheduled methods are declared on the components that own the work
+}
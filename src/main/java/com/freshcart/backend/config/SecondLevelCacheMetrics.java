@@ -0,0 +1,72 @@
+package com.freshcart.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports Hibernate second-level cache statistics per region to Micrometer
+ * 
+ * Metrics (tagged with {@code region}):
+ * - freshcart.cache.l2.hits / misses / puts
+ * - freshcart.cache.l2.size (entries held in memory)
+ * 
+ * Query cache totals are exported as freshcart.cache.query.hits / misses.
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = regionStatistics(statistics, region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            FunctionCounter.builder("freshcart.cache.l2.hits", regionStatistics, CacheRegionStatistics::getHitCount)
+                    .tag("region", region)
+                    .register(registry);
+            FunctionCounter.builder("freshcart.cache.l2.misses", regionStatistics, CacheRegionStatistics::getMissCount)
+                    .tag("region", region)
+                    .register(registry);
+            FunctionCounter.builder("freshcart.cache.l2.puts", regionStatistics, CacheRegionStatistics::getPutCount)
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("freshcart.cache.l2.size", regionStatistics, CacheRegionStatistics::getElementCountInMemory)
+                    .tag("region", region)
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("freshcart.cache.query.hits", statistics, Statistics::getQueryCacheHitCount)
+                .register(registry);
+        FunctionCounter.builder("freshcart.cache.query.misses", statistics, Statistics::getQueryCacheMissCount)
+                .register(registry);
+    }
+
+    private CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+        try {
+            return statistics.getDomainDataRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            // Not a domain data region (query results or update timestamps)
+            return statistics.getQueryRegionStatistics(region);
+        }
+    }
+}
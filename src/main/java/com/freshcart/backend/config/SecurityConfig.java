@@ -116,7 +116,7 @@ public class SecurityConfig {
                 .contentTypeOptions().and()
                 .xssProtection().and()
                 .httpStrictTransportSecurity(hstsConfig -> hstsConfig
-                    .includeSubdomains(true)
+                    .includeSubDomains(true)
                     .maxAgeInSeconds(31536000)
                 )
             );
@@ -151,13 +151,16 @@ public class SecurityConfig {
             "Content-Type",
             "X-Requested-With",
             "X-CSRF-Token",
-            "Cache-Control"
+            "Cache-Control",
+            "X-Guest-Cart",
+            "Idempotency-Key"
         ));
         
         // Exposed headers (for JWT token refresh)
         configuration.setExposedHeaders(Arrays.asList(
             "Authorization",
-            "X-New-Token"
+            "X-New-Token",
+            "X-Guest-Cart"
         ));
         
         // Allow credentials (cookies, authorization headers)
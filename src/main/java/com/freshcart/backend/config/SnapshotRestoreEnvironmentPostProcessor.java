@@ -0,0 +1,75 @@
+package com.freshcart.backend.config;
+
+import org.apache.commons.logging.Log;
+import org.h2.tools.Restore;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Restores a catalog snapshot before the application context starts
+ * 
+ * When {@code freshcart.persistence.snapshot.restore-from} points to a
+ * snapshot zip and the file-backed database does not exist yet, the
+ * snapshot is unpacked into the data directory. This runs before the
+ * DataSource and Hibernate are created, so the node starts with a
+ * validated schema and a populated catalog instead of reseeding.
+ * 
+ * Registered in {@code META-INF/spring.factories}.
+ * 
+ * @author FreshCart Development Team
+ */
+public class SnapshotRestoreEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String FILE_URL_PREFIX = "jdbc:h2:file:";
+    private static final String MV_STORE_SUFFIX = ".mv.db";
+
+    private final Log log;
+
+    public SnapshotRestoreEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(SnapshotRestoreEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String snapshot = environment.getProperty("freshcart.persistence.snapshot.restore-from");
+        String url = environment.getProperty("spring.datasource.url");
+        if (!StringUtils.hasText(snapshot) || url == null || !url.startsWith(FILE_URL_PREFIX)) {
+            return;
+        }
+
+        Path databasePath = Paths.get(databaseLocation(url)).toAbsolutePath();
+        Path directory = databasePath.getParent();
+        String databaseName = databasePath.getFileName().toString();
+
+        if (Files.exists(directory.resolve(databaseName + MV_STORE_SUFFIX))) {
+            log.info("Database " + databasePath + " already exists, skipping snapshot restore");
+            return;
+        }
+        if (!Files.isRegularFile(Paths.get(snapshot))) {
+            throw new IllegalStateException("Snapshot file not found: " + snapshot);
+        }
+
+        try {
+            Files.createDirectories(directory);
+            long start = System.nanoTime();
+            Restore.execute(snapshot, directory.toString(), databaseName);
+            log.info(String.format("Restored database %s from snapshot %s in %d ms",
+                    databasePath, snapshot, (System.nanoTime() - start) / 1_000_000));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to restore snapshot " + snapshot, e);
+        }
+    }
+
+    private String databaseLocation(String url) {
+        String location = url.substring(FILE_URL_PREFIX.length());
+        int settings = location.indexOf(';');
+        return settings >= 0 ? location.substring(0, settings) : location;
+    }
+}
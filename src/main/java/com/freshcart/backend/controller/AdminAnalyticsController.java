@@ -0,0 +1,41 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.request.AnalyticsQueryRequest;
+import com.freshcart.backend.dto.response.AnalyticsQueryResponse;
+import com.freshcart.backend.service.analytics.columnar.OrderItemFactStore;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin endpoints for ad-hoc reports over the in-memory order item facts
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/admin/analytics")
+@RequiredArgsConstructor
+public class AdminAnalyticsController {
+
+    private final OrderItemFactStore factStore;
+
+    @PostMapping("/query")
+    public ResponseEntity<AnalyticsQueryResponse> query(@Valid @RequestBody AnalyticsQueryRequest request) {
+        return ResponseEntity.ok(factStore.query(request));
+    }
+
+    @PostMapping("/basket-sizes")
+    public ResponseEntity<AnalyticsQueryResponse> basketSizes(
+            @RequestBody(required = false) List<AnalyticsQueryRequest.Filter> filters) {
+        return ResponseEntity.ok(factStore.basketSizes(filters != null ? filters : List.of()));
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(factStore.status());
+    }
+}
@@ -0,0 +1,38 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.response.SalesDashboardResponse;
+import com.freshcart.backend.entity.SalesRollup;
+import com.freshcart.backend.service.analytics.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Admin dashboard figures, served from the sales rollups
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/admin/dashboard")
+@RequiredArgsConstructor
+public class AdminDashboardController {
+
+    private final SalesRollupService rollupService;
+
+    @GetMapping("/sales")
+    public ResponseEntity<SalesDashboardResponse> getSales(
+            @RequestParam(defaultValue = "DAY") SalesRollup.Granularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(rollupService.getDashboard(granularity, from, to));
+    }
+
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        return ResponseEntity.ok(Map.of("maxOrderId", rollupService.rebuild()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.service.inventory.InventoryReservationEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Admin endpoints for the inventory reservation ledger
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/admin/inventory")
+@RequiredArgsConstructor
+public class AdminInventoryController {
+
+    private final InventoryReservationEngine reservationEngine;
+
+    @GetMapping("/{productId}")
+    public ResponseEntity<Map<String, Object>> getAvailability(@PathVariable Long productId) {
+        return ResponseEntity.ok(Map.of(
+                "productId", productId,
+                "available", reservationEngine.available(productId),
+                "hot", reservationEngine.isHot(productId)));
+    }
+
+    @PostMapping("/{productId}/reload")
+    public ResponseEntity<Void> reload(@PathVariable Long productId) {
+        reservationEngine.reload(productId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.entity.NotificationDeadLetter;
+import com.freshcart.backend.service.notification.NotificationMailer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Admin endpoints for undeliverable emails
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/admin/notifications")
+@RequiredArgsConstructor
+public class AdminNotificationController {
+
+    private final NotificationMailer mailer;
+
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<NotificationDeadLetter>> getDeadLetters() {
+        return ResponseEntity.ok(mailer.recentDeadLetters());
+    }
+
+    @PostMapping("/dead-letters/{id}/requeue")
+    public ResponseEntity<Void> requeue(@PathVariable Long id) {
+        mailer.requeue(id);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.response.SnapshotResponse;
+import com.freshcart.backend.service.DatabaseSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Admin endpoints for database snapshots
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/admin/persistence")
+@RequiredArgsConstructor
+public class AdminPersistenceController {
+
+    private final DatabaseSnapshotService snapshotService;
+
+    @PostMapping("/snapshots")
+    public ResponseEntity<SnapshotResponse> createSnapshot() {
+        return ResponseEntity.status(HttpStatus.CREATED).body(snapshotService.createSnapshot());
+    }
+
+    @GetMapping("/snapshots")
+    public ResponseEntity<List<SnapshotResponse>> listSnapshots() {
+        return ResponseEntity.ok(snapshotService.listSnapshots());
+    }
+}
@@ -0,0 +1,37 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.config.PricingRules;
+import com.freshcart.backend.service.pricing.PricingEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Admin endpoints for tax, shipping and promotion rules
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/admin/pricing")
+@RequiredArgsConstructor
+public class AdminPricingController {
+
+    private final PricingEngine pricingEngine;
+
+    @GetMapping("/rules")
+    public ResponseEntity<PricingRules> getRules() {
+        return ResponseEntity.ok(pricingEngine.getRules());
+    }
+
+    @PutMapping("/rules")
+    public ResponseEntity<Map<String, Object>> replaceRules(@RequestBody PricingRules rules) {
+        return ResponseEntity.ok(pricingEngine.replaceRules(rules).describe());
+    }
+
+    @GetMapping("/plan")
+    public ResponseEntity<Map<String, Object>> getPlan() {
+        return ResponseEntity.ok(pricingEngine.currentPlan().describe());
+    }
+}
@@ -0,0 +1,44 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.request.BulkReviewModerationRequest;
+import com.freshcart.backend.dto.response.BulkReviewModerationResponse;
+import com.freshcart.backend.dto.response.PendingReviewResponse;
+import com.freshcart.backend.service.moderation.ReviewModerationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin endpoints for the review moderation queue
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/admin/reviews")
+@RequiredArgsConstructor
+public class AdminReviewController {
+
+    private final ReviewModerationService moderationService;
+
+    @GetMapping("/pending")
+    public ResponseEntity<List<PendingReviewResponse>> getPendingReviews(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(moderationService.getModerationQueue(afterId, size));
+    }
+
+    @PutMapping("/status")
+    public ResponseEntity<BulkReviewModerationResponse> moderate(
+            @Valid @RequestBody BulkReviewModerationRequest request) {
+        return ResponseEntity.ok(moderationService.moderate(request));
+    }
+
+    @GetMapping("/classifier")
+    public ResponseEntity<Map<String, Object>> getClassifierStatus() {
+        return ResponseEntity.ok(moderationService.getClassifierStatus());
+    }
+}
@@ -0,0 +1,90 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.request.AddCartItemRequest;
+import com.freshcart.backend.dto.request.UpdateCartItemRequest;
+import com.freshcart.backend.dto.response.CartResponse;
+import com.freshcart.backend.dto.response.CartValidationResponse;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.CartService;
+import com.freshcart.backend.service.CartValidationService;
+import com.freshcart.backend.service.pricing.PricingContext;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the authenticated user's shopping cart
+ * 
+ * Cart lines are addressed by product ID.
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/cart")
+@RequiredArgsConstructor
+public class CartController {
+
+    private final CartService cartService;
+    private final CartValidationService cartValidationService;
+
+    @GetMapping
+    public ResponseEntity<CartResponse> getCart(@AuthenticationPrincipal User user,
+                                                @RequestParam(required = false) String country,
+                                                @RequestParam(required = false) String state,
+                                                @RequestParam(required = false) String coupon) {
+        return ResponseEntity.ok(cartService.getCart(user.getId(), new PricingContext(country, state, coupon)));
+    }
+
+    @GetMapping("/validate")
+    public ResponseEntity<CartValidationResponse> validateCart(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(cartValidationService.validateCart(user.getId()));
+    }
+
+    @PostMapping("/items")
+    public ResponseEntity<CartResponse> addItem(@AuthenticationPrincipal User user,
+                                                @Valid @RequestBody AddCartItemRequest request) {
+        return ResponseEntity.ok(cartService.addItem(user.getId(), request.getProductId(), request.getQuantity()));
+    }
+
+    @PutMapping("/items/{productId}")
+    public ResponseEntity<CartResponse> updateItem(@AuthenticationPrincipal User user,
+                                                   @PathVariable Long productId,
+                                                   @Valid @RequestBody UpdateCartItemRequest request) {
+        return ResponseEntity.ok(cartService.updateQuantity(user.getId(), productId, request.getQuantity()));
+    }
+
+    @PostMapping("/items/{productId}/increment")
+    public ResponseEntity<CartResponse> incrementItem(@AuthenticationPrincipal User user,
+                                                      @PathVariable Long productId) {
+        return ResponseEntity.ok(cartService.incrementQuantity(user.getId(), productId));
+    }
+
+    @PostMapping("/items/{productId}/decrement")
+    public ResponseEntity<CartResponse> decrementItem(@AuthenticationPrincipal User user,
+                                                      @PathVariable Long productId) {
+        return ResponseEntity.ok(cartService.decrementQuantity(user.getId(), productId));
+    }
+
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<CartResponse> removeItem(@AuthenticationPrincipal User user,
+                                                   @PathVariable Long productId) {
+        return ResponseEntity.ok(cartService.removeItem(user.getId(), productId));
+    }
+
+    @PostMapping("/merge-guest")
+    public ResponseEntity<CartResponse> mergeGuestCart(
+            @AuthenticationPrincipal User user,
+            @RequestHeader(GuestCartController.GUEST_CART_HEADER) String guestCartToken) {
+        return ResponseEntity.ok()
+                .header(GuestCartController.GUEST_CART_HEADER, "")
+                .body(cartService.mergeGuestCart(user.getId(), guestCartToken));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clearCart(@AuthenticationPrincipal User user) {
+        cartService.clearCart(user.getId());
+        return ResponseEntity.noContent().build();
+    }
+}
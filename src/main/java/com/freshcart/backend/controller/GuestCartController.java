@@ -0,0 +1,62 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.request.AddCartItemRequest;
+import com.freshcart.backend.dto.request.UpdateCartItemRequest;
+import com.freshcart.backend.dto.response.CartResponse;
+import com.freshcart.backend.service.GuestCartService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for anonymous guest carts
+ * 
+ * The cart travels in the {@value #GUEST_CART_HEADER} header: clients send the
+ * token they last received and store the one returned with each response.
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/public/guest-cart")
+@RequiredArgsConstructor
+public class GuestCartController {
+
+    public static final String GUEST_CART_HEADER = "X-Guest-Cart";
+
+    private final GuestCartService guestCartService;
+
+    @GetMapping
+    public ResponseEntity<CartResponse> getCart(
+            @RequestHeader(value = GUEST_CART_HEADER, required = false) String token) {
+        return respond(guestCartService.getCart(token));
+    }
+
+    @PostMapping("/items")
+    public ResponseEntity<CartResponse> addItem(
+            @RequestHeader(value = GUEST_CART_HEADER, required = false) String token,
+            @Valid @RequestBody AddCartItemRequest request) {
+        return respond(guestCartService.addItem(token, request.getProductId(), request.getQuantity()));
+    }
+
+    @PutMapping("/items/{productId}")
+    public ResponseEntity<CartResponse> updateItem(
+            @RequestHeader(value = GUEST_CART_HEADER, required = false) String token,
+            @PathVariable Long productId,
+            @Valid @RequestBody UpdateCartItemRequest request) {
+        return respond(guestCartService.updateQuantity(token, productId, request.getQuantity()));
+    }
+
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<CartResponse> removeItem(
+            @RequestHeader(value = GUEST_CART_HEADER, required = false) String token,
+            @PathVariable Long productId) {
+        return respond(guestCartService.removeItem(token, productId));
+    }
+
+    private ResponseEntity<CartResponse> respond(GuestCartService.GuestCart guestCart) {
+        return ResponseEntity.ok()
+                .header(GUEST_CART_HEADER, guestCart.token())
+                .body(guestCart.cart());
+    }
+}
@@ -0,0 +1,88 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.request.BulkOrderStatusRequest;
+import com.freshcart.backend.dto.request.OrderStatusUpdateRequest;
+import com.freshcart.backend.dto.request.PlaceOrderRequest;
+import com.freshcart.backend.dto.response.BulkOrderStatusResponse;
+import com.freshcart.backend.dto.response.OrderDetailResponse;
+import com.freshcart.backend.dto.response.OrderHistoryResponse;
+import com.freshcart.backend.dto.response.OrderSummaryResponse;
+import com.freshcart.backend.dto.response.PlaceOrderResponse;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.OrderArchiver;
+import com.freshcart.backend.service.OrderService;
+import com.freshcart.backend.service.checkout.CheckoutService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST controller for customer orders
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/orders")
+@RequiredArgsConstructor
+public class OrderController {
+
+    private final OrderService orderService;
+    private final CheckoutService checkoutService;
+    private final OrderArchiver orderArchiver;
+
+    @GetMapping
+    public ResponseEntity<Page<OrderSummaryResponse>> getOrders(
+            @AuthenticationPrincipal User user,
+            @PageableDefault(size = 20, sort = "orderDate", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(orderService.getOrderSummaries(user.getId(), pageable));
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<OrderHistoryResponse> getOrderHistory(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(orderService.getOrderHistory(user.getId(), cursor, size));
+    }
+
+    @PostMapping
+    public ResponseEntity<PlaceOrderResponse> placeOrder(
+            @AuthenticationPrincipal User user,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody PlaceOrderRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(checkoutService.placeOrder(user.getId(), idempotencyKey, request));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderDetailResponse> getOrder(@AuthenticationPrincipal User user, @PathVariable Long id) {
+        return ResponseEntity.ok(orderService.getOrderDetail(user.getId(), id));
+    }
+
+    @PutMapping("/admin/{id}/status")
+    public ResponseEntity<Void> updateOrderStatus(@PathVariable Long id,
+                                                  @Valid @RequestBody OrderStatusUpdateRequest request) {
+        orderService.updateOrderStatus(id, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/admin/status")
+    public ResponseEntity<BulkOrderStatusResponse> updateOrderStatuses(
+            @Valid @RequestBody BulkOrderStatusRequest request) {
+        return ResponseEntity.ok(orderService.updateOrderStatuses(request));
+    }
+
+    @PostMapping("/admin/archive")
+    public ResponseEntity<Map<String, Object>> archiveOrders() {
+        return ResponseEntity.ok(Map.of("archived", orderArchiver.archive()));
+    }
+}
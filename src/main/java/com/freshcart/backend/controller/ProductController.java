@@ -0,0 +1,69 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.request.PriceUpdateRequest;
+import com.freshcart.backend.dto.response.ProductCardResponse;
+import com.freshcart.backend.dto.response.ProductDetailResponse;
+import com.freshcart.backend.service.ProductService;
+import com.freshcart.backend.service.cart.CartRepricingEngine;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for the product catalog
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/products")
+@RequiredArgsConstructor
+public class ProductController {
+
+    private final ProductService productService;
+    private final CartRepricingEngine cartRepricingEngine;
+
+    @GetMapping
+    public ResponseEntity<Page<ProductCardResponse>> getProducts(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean includeImages,
+            @PageableDefault(size = 24, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(productService.getProductCards(categoryId, includeImages, pageable));
+    }
+
+    @GetMapping("/featured")
+    public ResponseEntity<Page<ProductCardResponse>> getFeaturedProducts(
+            @PageableDefault(size = 12) Pageable pageable) {
+        return ResponseEntity.ok(productService.getFeaturedCards(pageable));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductCardResponse>> searchProducts(
+            @RequestParam("q") String term,
+            @PageableDefault(size = 24) Pageable pageable) {
+        return ResponseEntity.ok(productService.searchProductCards(term, pageable));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductDetailResponse> getProduct(@PathVariable Long id) {
+        return ResponseEntity.ok(productService.getProductDetail(id));
+    }
+
+    @PutMapping("/admin/prices")
+    public ResponseEntity<Map<String, Integer>> updatePrices(@RequestBody List<@Valid PriceUpdateRequest> updates) {
+        return ResponseEntity.ok(Map.of("updated", productService.updatePrices(updates)));
+    }
+
+    @GetMapping("/admin/prices/repricing")
+    public ResponseEntity<CartRepricingEngine.RepricingReport> getRepricingStatus() {
+        CartRepricingEngine.RepricingReport report = cartRepricingEngine.getLastReport();
+        return report == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(report);
+    }
+}
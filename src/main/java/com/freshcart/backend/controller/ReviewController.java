@@ -0,0 +1,43 @@
+package com.freshcart.backend.controller;
+
+import com.freshcart.backend.dto.response.ReviewPageResponse;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for product reviews
+ * 
+ * @author FreshCart Development Team
+ */
+@RestController
+@RequestMapping("/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    @GetMapping("/product/{productId}")
+    public ResponseEntity<ReviewPageResponse> getProductReviews(
+            @PathVariable Long productId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(reviewService.getProductReviews(productId, cursor, size));
+    }
+
+    @PostMapping("/{reviewId}/votes")
+    public ResponseEntity<Void> vote(@AuthenticationPrincipal User user,
+                                     @PathVariable Long reviewId,
+                                     @RequestParam boolean helpful) {
+        reviewService.vote(reviewId, user.getId(), helpful);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.freshcart.backend.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request to add a product to the cart
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddCartItemRequest {
+
+    @NotNull(message = "Product ID is required")
+    private Long productId;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    @Max(value = 100, message = "Quantity cannot exceed 100")
+    private Integer quantity;
+}
@@ -0,0 +1,59 @@
+package com.freshcart.backend.dto.request;
+
+import com.freshcart.backend.service.analytics.columnar.FactField;
+import com.freshcart.backend.service.analytics.columnar.FactMeasure;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ad-hoc report over the order item facts: filter, group and aggregate
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsQueryRequest {
+
+    @Valid
+    private List<Filter> filters = new ArrayList<>();
+
+    @Size(max = 3, message = "At most 3 group-by fields are supported")
+    private List<FactField> groupBy = new ArrayList<>();
+
+    @NotEmpty(message = "At least one measure is required")
+    private List<FactMeasure> measures = new ArrayList<>();
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 10000, message = "Limit must not exceed 10000")
+    private int limit = 100;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+
+        @NotNull(message = "Filter field is required")
+        private FactField field;
+
+        @NotNull(message = "Filter operator is required")
+        private Operator op;
+
+        @NotEmpty(message = "Filter values are required")
+        private List<String> values;
+    }
+
+    public enum Operator {
+        EQ, NE, IN, GE, LT
+    }
+}
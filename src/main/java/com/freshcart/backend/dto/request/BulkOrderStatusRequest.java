@@ -0,0 +1,43 @@
+package com.freshcart.backend.dto.request;
+
+import com.freshcart.backend.entity.Order;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request to move many orders to the same status
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderStatusRequest {
+
+    @NotNull(message = "Status is required")
+    private Order.OrderStatus status;
+
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = 1000, message = "At most 1000 orders can be updated at once")
+    @Valid
+    private List<Item> orders;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "Order ID is required")
+        private Long orderId;
+
+        @Size(max = 100, message = "Tracking number must not exceed 100 characters")
+        private String trackingNumber;
+    }
+}
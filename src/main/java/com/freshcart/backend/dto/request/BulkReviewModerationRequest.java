@@ -0,0 +1,32 @@
+package com.freshcart.backend.dto.request;
+
+import com.freshcart.backend.entity.Review;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request to approve, reject or mark as spam many reviews at once
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReviewModerationRequest {
+
+    @NotNull(message = "Status is required")
+    private Review.ReviewStatus status;
+
+    @NotEmpty(message = "At least one review is required")
+    @Size(max = 1000, message = "At most 1000 reviews can be moderated at once")
+    private List<@NotNull Long> reviewIds;
+
+    @Size(max = 500, message = "Reason must not exceed 500 characters")
+    private String reason;
+}
@@ -0,0 +1,27 @@
+package com.freshcart.backend.dto.request;
+
+import com.freshcart.backend.entity.Order;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request to move an order to a new status
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusUpdateRequest {
+
+    @NotNull(message = "Status is required")
+    private Order.OrderStatus status;
+
+    private Order.PaymentStatus paymentStatus;
+
+    @Size(max = 100, message = "Tracking number must not exceed 100 characters")
+    private String trackingNumber;
+}
@@ -0,0 +1,71 @@
+package com.freshcart.backend.dto.request;
+
+import com.freshcart.backend.entity.Order;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request to place an order from the current cart
+ * 
+ * Billing address fields default to the shipping address when omitted.
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceOrderRequest {
+
+    @NotNull(message = "Payment method is required")
+    private Order.PaymentMethod paymentMethod;
+
+    @NotBlank(message = "Shipping address is required")
+    @Size(max = 255, message = "Shipping address line 1 must not exceed 255 characters")
+    private String shippingAddressLine1;
+
+    @Size(max = 255, message = "Shipping address line 2 must not exceed 255 characters")
+    private String shippingAddressLine2;
+
+    @NotBlank(message = "Shipping city is required")
+    @Size(max = 100, message = "Shipping city must not exceed 100 characters")
+    private String shippingCity;
+
+    @Size(max = 100, message = "Shipping state must not exceed 100 characters")
+    private String shippingState;
+
+    @NotBlank(message = "Shipping postal code is required")
+    @Size(max = 20, message = "Shipping postal code must not exceed 20 characters")
+    private String shippingPostalCode;
+
+    @NotBlank(message = "Shipping country is required")
+    @Size(max = 100, message = "Shipping country must not exceed 100 characters")
+    private String shippingCountry;
+
+    @Size(max = 255, message = "Billing address line 1 must not exceed 255 characters")
+    private String billingAddressLine1;
+
+    @Size(max = 255, message = "Billing address line 2 must not exceed 255 characters")
+    private String billingAddressLine2;
+
+    @Size(max = 100, message = "Billing city must not exceed 100 characters")
+    private String billingCity;
+
+    @Size(max = 100, message = "Billing state must not exceed 100 characters")
+    private String billingState;
+
+    @Size(max = 20, message = "Billing postal code must not exceed 20 characters")
+    private String billingPostalCode;
+
+    @Size(max = 100, message = "Billing country must not exceed 100 characters")
+    private String billingCountry;
+
+    @Size(max = 50, message = "Coupon code must not exceed 50 characters")
+    private String couponCode;
+
+    @Size(max = 1000, message = "Notes must not exceed 1000 characters")
+    private String notes;
+}
@@ -0,0 +1,28 @@
+package com.freshcart.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of an ad-hoc report over the order item facts
+ * 
+ * Each row maps group-by field and measure names to values; rows are sorted by
+ * the first measure, largest first.
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsQueryResponse {
+
+    private long scannedRows;
+    private long matchedRows;
+    private int groups;
+    private long elapsedMicros;
+    private List<Map<String, Object>> rows;
+}
@@ -0,0 +1,45 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-order outcome of a bulk status update
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderStatusResponse {
+
+    private int updated;
+    private List<Result> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+
+        private Long orderId;
+        private Outcome outcome;
+        private Order.OrderStatus previousStatus;
+    }
+
+    public enum Outcome {
+        /** Status changed */
+        UPDATED,
+        /** Already in the requested status */
+        UNCHANGED,
+        /** No such order (or already archived) */
+        NOT_FOUND,
+        /** The requested status cannot follow the current one */
+        ILLEGAL_TRANSITION,
+        /** The order changed while the update ran; retry it */
+        CONFLICT
+    }
+}
@@ -0,0 +1,43 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Review;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-review outcome of a bulk moderation
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReviewModerationResponse {
+
+    private int updated;
+    private List<Result> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+
+        private Long reviewId;
+        private Outcome outcome;
+        private Review.ReviewStatus previousStatus;
+    }
+
+    public enum Outcome {
+        /** Status changed, or an automatic decision was confirmed */
+        UPDATED,
+        /** Already in the requested status by a moderator's decision */
+        UNCHANGED,
+        /** No such review */
+        NOT_FOUND,
+        /** The review changed while the update ran; retry it */
+        CONFLICT
+    }
+}
@@ -0,0 +1,36 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cart line projection joining a cart item with the product columns the
+ * cart page displays
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartLineResponse {
+
+    private Long cartItemId;
+    private Long productId;
+    private String productName;
+    private String productSlug;
+    private String primaryImageUrl;
+    private String unit;
+    private Integer quantity;
+    private Money unitPrice;
+    private Money currentPrice;
+    private Integer stockQuantity;
+    private Integer maxOrderQuantity;
+    private Product.ProductStatus productStatus;
+
+    public Money getLineTotal() {
+        return unitPrice.times(quantity);
+    }
+}
@@ -0,0 +1,28 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Shopping cart with its lines and summary
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartResponse {
+
+    private List<CartLineResponse> lines;
+    private int itemCount;
+    private Money subtotal;
+    private Money discountAmount;
+    private List<String> appliedPromotions;
+    private Money taxAmount;
+    private Money shippingCost;
+    private Money totalAmount;
+}
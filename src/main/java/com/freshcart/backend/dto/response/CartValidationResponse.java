@@ -0,0 +1,47 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of validating a cart against current stock and prices
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartValidationResponse {
+
+    private boolean valid;
+    private List<LineValidation> lines;
+    private Money cartSubtotal;
+    private Money currentSubtotal;
+
+    public enum LineStatus {
+        AVAILABLE, INSUFFICIENT_STOCK, OUT_OF_STOCK, UNAVAILABLE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineValidation {
+
+        private Long productId;
+        private String productName;
+        private Integer quantity;
+        private LineStatus status;
+        private Integer maxPurchasableQuantity;
+        private Money unitPrice;
+        private Money currentPrice;
+        private Money priceDrift;
+
+        public boolean isPriceChanged() {
+            return priceDrift != null && priceDrift.signum() != 0;
+        }
+    }
+}
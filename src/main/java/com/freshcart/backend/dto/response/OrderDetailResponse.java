@@ -0,0 +1,41 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Full order view for the order detail page
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDetailResponse {
+
+    private Long id;
+    private String orderNumber;
+    private LocalDateTime orderDate;
+    private Order.OrderStatus status;
+    private Order.PaymentStatus paymentStatus;
+    private Order.PaymentMethod paymentMethod;
+    private Money subtotal;
+    private Money taxAmount;
+    private Money shippingCost;
+    private Money discountAmount;
+    private Money totalAmount;
+    private String currency;
+    private String fullShippingAddress;
+    private String fullBillingAddress;
+    private String trackingNumber;
+    private LocalDateTime shippedDate;
+    private LocalDateTime deliveredDate;
+    private LocalDateTime expectedDeliveryDate;
+    private List<OrderItemResponse> items;
+}
@@ -0,0 +1,43 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One page of a customer's order history
+ * 
+ * Pass {@code nextCursor} as {@code before} to fetch the next page; it is
+ * null on the last page.
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryResponse {
+
+    private List<Entry> orders;
+    private String nextCursor;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+
+        private Long orderId;
+        private String orderNumber;
+        private LocalDateTime orderDate;
+        private Order.OrderStatus status;
+        private Order.PaymentStatus paymentStatus;
+        private Money totalAmount;
+        private String currency;
+        private Integer itemCount;
+        private List<String> thumbnails;
+    }
+}
@@ -0,0 +1,29 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Order line as shown on the order detail page, built from the product
+ * snapshot stored on the order item
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemResponse {
+
+    private Long id;
+    private Long productId;
+    private String productName;
+    private String productSku;
+    private String productImageUrl;
+    private String unit;
+    private Integer quantity;
+    private Money unitPrice;
+    private Money totalPrice;
+}
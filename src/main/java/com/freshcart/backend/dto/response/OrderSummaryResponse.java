@@ -0,0 +1,32 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Order list projection for the customer order history
+ * 
+ * The item count is computed by the database, so order items are never
+ * loaded to render the list.
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryResponse {
+
+    private Long id;
+    private String orderNumber;
+    private LocalDateTime orderDate;
+    private Order.OrderStatus status;
+    private Order.PaymentStatus paymentStatus;
+    private Money totalAmount;
+    private String currency;
+    private Long itemCount;
+}
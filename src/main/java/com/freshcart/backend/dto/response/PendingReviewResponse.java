@@ -0,0 +1,30 @@
+package com.freshcart.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Review waiting for a moderator, as listed in the moderation queue
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingReviewResponse {
+
+    private Long id;
+    private Long productId;
+    private String productName;
+    private BigDecimal rating;
+    private String title;
+    private String comment;
+    private Boolean verifiedPurchase;
+    private Double spamScore;
+    private String displayName;
+    private LocalDateTime createdAt;
+}
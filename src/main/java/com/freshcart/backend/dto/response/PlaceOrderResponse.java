@@ -0,0 +1,27 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of placing an order, returned as soon as the order is committed
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceOrderResponse {
+
+    private Long orderId;
+    private String orderNumber;
+    private LocalDateTime orderDate;
+    private Order.OrderStatus status;
+    private Money totalAmount;
+    private String currency;
+}
@@ -0,0 +1,70 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.util.Money;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Lightweight product projection used by catalog listings
+ * 
+ * Only the columns a product tile renders are selected, so a listing page
+ * never reads descriptions, nutrition or SEO columns. Gallery images are
+ * attached afterwards from a single batched IN query when requested.
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+public class ProductCardResponse {
+
+    private Long id;
+    private String name;
+    private String slug;
+    private Money price;
+    private Money originalPrice;
+    private String unit;
+    private String primaryImageUrl;
+    private BigDecimal averageRating;
+    private Integer reviewCount;
+    private Integer stockQuantity;
+    private Product.ProductStatus status;
+    private Boolean isFeatured;
+    private Boolean isOrganic;
+    private String categoryName;
+    private List<String> imageUrls;
+
+    /**
+     * Constructor used by JPQL constructor expressions (images are attached later)
+     */
+    public ProductCardResponse(Long id, String name, String slug, Money price, Money originalPrice,
+                               String unit, String primaryImageUrl, BigDecimal averageRating, Integer reviewCount,
+                               Integer stockQuantity, Product.ProductStatus status, Boolean isFeatured,
+                               Boolean isOrganic, String categoryName) {
+        this.id = id;
+        this.name = name;
+        this.slug = slug;
+        this.price = price;
+        this.originalPrice = originalPrice;
+        this.unit = unit;
+        this.primaryImageUrl = primaryImageUrl;
+        this.averageRating = averageRating;
+        this.reviewCount = reviewCount;
+        this.stockQuantity = stockQuantity;
+        this.status = status;
+        this.isFeatured = isFeatured;
+        this.isOrganic = isOrganic;
+        this.categoryName = categoryName;
+    }
+
+    public boolean isInStock() {
+        return stockQuantity != null && stockQuantity > 0 && status == Product.ProductStatus.ACTIVE;
+    }
+
+    public boolean isOnSale() {
+        return originalPrice != null && price != null && originalPrice.compareTo(price) > 0;
+    }
+}
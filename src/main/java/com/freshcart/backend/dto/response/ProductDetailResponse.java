@@ -0,0 +1,115 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.util.Money;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Product detail projection for the product page
+ * 
+ * Carries the descriptive and nutritional columns but leaves out internal
+ * fields (cost price, SEO metadata, counters) and every association.
+ * Image URLs are loaded separately with an IN query.
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+public class ProductDetailResponse {
+
+    private Long id;
+    private String name;
+    private String slug;
+    private String sku;
+    private String shortDescription;
+    private String description;
+    private Money price;
+    private Money originalPrice;
+    private Integer stockQuantity;
+    private Integer maxOrderQuantity;
+    private String unit;
+    private BigDecimal weight;
+    private String weightUnit;
+    private String brand;
+    private String manufacturer;
+    private LocalDate expiryDate;
+    private String primaryImageUrl;
+    private Product.ProductStatus status;
+    private Boolean isOrganic;
+    private Boolean isVegetarian;
+    private Boolean isVegan;
+    private Boolean isGlutenFree;
+
+    // Nutritional information
+    private BigDecimal calories;
+    private BigDecimal protein;
+    private BigDecimal carbohydrates;
+    private BigDecimal fat;
+    private BigDecimal fiber;
+    private BigDecimal sugar;
+    private BigDecimal sodium;
+
+    private BigDecimal averageRating;
+    private Integer reviewCount;
+    private Long categoryId;
+    private String categoryName;
+    private String categorySlug;
+    private List<String> imageUrls;
+
+    /**
+     * Constructor used by the JPQL constructor expression (images are attached later)
+     */
+    public ProductDetailResponse(Long id, String name, String slug, String sku, String shortDescription,
+                                 String description, Money price, Money originalPrice,
+                                 Integer stockQuantity, Integer maxOrderQuantity, String unit, BigDecimal weight,
+                                 String weightUnit, String brand, String manufacturer, LocalDate expiryDate,
+                                 String primaryImageUrl, Product.ProductStatus status, Boolean isOrganic,
+                                 Boolean isVegetarian, Boolean isVegan, Boolean isGlutenFree, BigDecimal calories,
+                                 BigDecimal protein, BigDecimal carbohydrates, BigDecimal fat, BigDecimal fiber,
+                                 BigDecimal sugar, BigDecimal sodium, BigDecimal averageRating, Integer reviewCount,
+                                 Long categoryId, String categoryName, String categorySlug) {
+        this.id = id;
+        this.name = name;
+        this.slug = slug;
+        this.sku = sku;
+        this.shortDescription = shortDescription;
+        this.description = description;
+        this.price = price;
+        this.originalPrice = originalPrice;
+        this.stockQuantity = stockQuantity;
+        this.maxOrderQuantity = maxOrderQuantity;
+        this.unit = unit;
+        this.weight = weight;
+        this.weightUnit = weightUnit;
+        this.brand = brand;
+        this.manufacturer = manufacturer;
+        this.expiryDate = expiryDate;
+        this.primaryImageUrl = primaryImageUrl;
+        this.status = status;
+        this.isOrganic = isOrganic;
+        this.isVegetarian = isVegetarian;
+        this.isVegan = isVegan;
+        this.isGlutenFree = isGlutenFree;
+        this.calories = calories;
+        this.protein = protein;
+        this.carbohydrates = carbohydrates;
+        this.fat = fat;
+        this.fiber = fiber;
+        this.sugar = sugar;
+        this.sodium = sodium;
+        this.averageRating = averageRating;
+        this.reviewCount = reviewCount;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.categorySlug = categorySlug;
+    }
+
+    public boolean isInStock() {
+        return stockQuantity != null && stockQuantity > 0 && status == Product.ProductStatus.ACTIVE;
+    }
+}
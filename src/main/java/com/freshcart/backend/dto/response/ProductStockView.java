@@ -0,0 +1,44 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Stock and price projection of a product, used to validate cart lines
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockView {
+
+    private Long id;
+    private String name;
+    private Product.ProductStatus status;
+    private Money price;
+    private Integer stockQuantity;
+    private Integer maxOrderQuantity;
+
+    public boolean isInStock() {
+        return stockQuantity != null && stockQuantity > 0 && status == Product.ProductStatus.ACTIVE;
+    }
+
+    /**
+     * Largest quantity a single order line may hold right now
+     * 
+     * @param lineLimit Upper bound applied to every cart line
+     * @return Maximum purchasable quantity, zero if the product cannot be bought
+     */
+    public int getMaxPurchasableQuantity(int lineLimit) {
+        if (!isInStock()) {
+            return 0;
+        }
+        int max = Math.min(stockQuantity, lineLimit);
+        return maxOrderQuantity != null ? Math.min(max, maxOrderQuantity) : max;
+    }
+}
@@ -0,0 +1,24 @@
+package com.freshcart.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a product's reviews, most helpful first
+ * 
+ * Pass {@code nextCursor} as {@code cursor} to fetch the next page; it is
+ * null on the last page.
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPageResponse {
+
+    private List<ReviewResponse> reviews;
+    private String nextCursor;
+}
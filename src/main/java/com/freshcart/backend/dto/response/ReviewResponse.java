@@ -0,0 +1,30 @@
+package com.freshcart.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Public review as listed on a product page
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewResponse {
+
+    private Long id;
+    private BigDecimal rating;
+    private String title;
+    private String comment;
+    private Boolean verifiedPurchase;
+    private Integer helpfulVotes;
+    private Integer notHelpfulVotes;
+    private Double helpfulnessScore;
+    private String displayName;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,65 @@
+package com.freshcart.backend.dto.response;
+
+import com.freshcart.backend.entity.SalesRollup;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Admin dashboard sales figures for a time range, read from the sales rollups
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesDashboardResponse {
+
+    private SalesRollup.Granularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Figures totals;
+    private BigDecimal averageOrderValue;
+    private List<Point> series;
+    private List<Breakdown> topCategories;
+    private List<Breakdown> paymentMethods;
+    private List<Breakdown> statuses;
+    private List<Breakdown> customers;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Figures {
+
+        private long orders;
+        private long items;
+        private BigDecimal revenue;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+
+        private LocalDateTime bucketStart;
+        private long orders;
+        private long items;
+        private BigDecimal revenue;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Breakdown {
+
+        private String key;
+        private String label;
+        private long orders;
+        private long items;
+        private BigDecimal revenue;
+    }
+}
@@ -0,0 +1,23 @@
+package com.freshcart.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Database snapshot file description
+ * 
+ * @author FreshCart Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotResponse {
+
+    private String fileName;
+    private String path;
+    private long sizeBytes;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,74 @@
+package com.freshcart.backend.entity;
+
+import com.freshcart.backend.util.Money;
+import com.freshcart.backend.util.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Closed order moved out of the {@code orders} and {@code order_items} tables
+ * 
+ * Features:
+ * - The order detail, items included, is kept as gzip-compressed JSON
+ * - A few columns stay queryable: owner, number, date, status and total
+ * - {@code partition_month} (yyyyMM of the order date) groups rows by month so a
+ *   month can be exported or dropped with one indexed statement
+ * 
+ * The table is not partitioned by the database; {@code partition_month} is an
+ * ordinary indexed column, so dropping a month is a DELETE, not a partition drop.
+ * 
+ * Rows are written by {@code OrderArchiver}.
+ * 
+ * @author FreshCart Development Team
+ */
+@Entity
+@Table(name = "archived_orders",
+       indexes = {
+           @Index(name = "idx_archived_order_user", columnList = "user_id"),
+           @Index(name = "idx_archived_order_partition", columnList = "partition_month")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedOrder extends BaseEntity {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_number", nullable = false, length = 50)
+    private String orderNumber;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Order.OrderStatus status;
+
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money totalAmount;
+
+    @Column(name = "partition_month", nullable = false)
+    private Integer partitionMonth;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+}
@@ -1,8 +1,9 @@
 package com.freshcart.backend.entity;
 
 import jakarta.persistence.*;
-import lombok.Data;
-import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.Hibernate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,12 +18,13 @@ import java.time.LocalDateTime;
  * - Last modification timestamp
  * - Automatic auditing via JPA
  * - Version control for optimistic locking
+ * - Identity-based equality that never touches lazy associations
  * 
  * @author FreshCart Development Team
  */
 @MappedSuperclass
-@Data
-@EqualsAndHashCode
+@Getter
+@Setter
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
@@ -49,4 +51,35 @@ public abstract class BaseEntity {
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * Database identifier of the entity, null until persisted
+     */
+    public abstract Long getId();
+
+    /**
+     * Entities are equal when they are of the same persistent class and share
+     * a non-null identifier. Proxies are unwrapped by class only, so comparing
+     * never initializes a proxy or a lazy collection.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        Long id = getId();
+        return id != null && id.equals(((BaseEntity) o).getId());
+    }
+
+    /**
+     * Constant per class so the hash code does not change when the entity is
+     * persisted and receives its identifier.
+     */
+    @Override
+    public int hashCode() {
+        return Hibernate.getClass(this).hashCode();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.freshcart.backend.entity;
+
+/**
+ * Names of the Hibernate second-level cache regions
+ * 
+ * Each region is configured (size, expiry) in {@code ehcache.xml}.
+ * 
+ * @author FreshCart Development Team
+ */
+public final class CacheRegions {
+
+    public static final String CATEGORY = "freshcart.category";
+    public static final String PRODUCT = "freshcart.product";
+    public static final String PRODUCT_IMAGES = "freshcart.product.images";
+    public static final String PRODUCT_NATURAL_ID = "freshcart.product.naturalid";
+    public static final String USER = "freshcart.user";
+    public static final String USER_NATURAL_ID = "freshcart.user.naturalid";
+
+    private CacheRegions() {
+    }
+}
@@ -1,10 +1,11 @@
 package com.freshcart.backend.entity;
 
+import com.freshcart.backend.util.Money;
+import com.freshcart.backend.util.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 
 /**
  * CartItem Entity representing items in a user's shopping cart
@@ -24,13 +25,15 @@ import java.math.BigDecimal;
        },
        indexes = {
            @Index(name = "idx_cart_user", columnList = "user_id"),
-           @Index(name = "idx_cart_product", columnList = "product_id")
+           @Index(name = "idx_cart_product", columnList = "product_id"),
+           @Index(name = "idx_cart_updated", columnList = "updated_at")
        })
-@Data
+@NamedEntityGraph(name = "CartItem.cartView", attributeNodes = @NamedAttributeNode("product"))
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(callSuper = true, exclude = {"user", "product"})
 @ToString(exclude = {"user", "product"})
 public class CartItem extends BaseEntity {
 
@@ -48,7 +51,8 @@ public class CartItem extends BaseEntity {
     @DecimalMin(value = "0.01", message = "Unit price must be greater than 0")
     @Digits(integer = 8, fraction = 2, message = "Unit price must have at most 8 integer digits and 2 decimal places")
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money unitPrice;
 
     // Relationships
     @ManyToOne(fetch = FetchType.LAZY)
@@ -60,8 +64,8 @@ public class CartItem extends BaseEntity {
     private Product product;
 
     // Utility methods
-    public BigDecimal getTotalPrice() {
-        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    public Money getTotalPrice() {
+        return unitPrice.times(quantity);
     }
 
     public void updateQuantity(Integer newQuantity) {
@@ -81,6 +85,14 @@ public class CartItem extends BaseEntity {
         }
     }
 
+    /**
+     * Check this item against its product's stock
+     * 
+     * Initializes the lazy product association; validate whole carts with
+     * {@code CartValidationService} instead.
+     * 
+     * @return true if the product can be bought in this quantity
+     */
     public boolean isProductAvailable() {
         return product != null && product.isInStock() && product.getStockQuantity() >= quantity;
     }
@@ -3,6 +3,8 @@ package com.freshcart.backend.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -15,6 +17,7 @@ import java.util.Set;
  * - SEO-friendly slug generation
  * - Category status management
  * - Display order for sorting
+ * - Cached in the second-level cache (read-mostly)
  * 
  * @author FreshCart Development Team
  */
@@ -29,11 +32,13 @@ import java.util.Set;
            @Index(name = "idx_category_status", columnList = "status"),
            @Index(name = "idx_category_display_order", columnList = "display_order")
        })
-@Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORY)
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(callSuper = true, exclude = {"products", "children", "parent"})
 @ToString(exclude = {"products", "children", "parent"})
 public class Category extends BaseEntity {
 
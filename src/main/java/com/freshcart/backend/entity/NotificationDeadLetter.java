@@ -0,0 +1,42 @@
+package com.freshcart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Email that could not be delivered
+ * 
+ * Features:
+ * - Written when a send keeps failing or a queued mail cannot be rendered
+ * - Keeps template, recipient and model so the mail can be requeued as is
+ * 
+ * @author FreshCart Development Team
+ */
+@Entity
+@Table(name = "notification_dead_letters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationDeadLetter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String template;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Column(nullable = false, length = 4000)
+    private String model;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
@@ -1,13 +1,14 @@
 package com.freshcart.backend.entity;
 
+import com.freshcart.backend.util.Money;
+import com.freshcart.backend.util.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Order Entity representing customer orders
@@ -17,15 +18,18 @@ import java.util.Set;
  * - Multiple payment methods support
  * - Order status workflow
  * - Billing and shipping address management
- * - Tax and discount calculations
+ * - Subtotal, discount, tax, shipping and total set from the pricing
+ *   engine's running totals
  * - Order item management
+ * - Idempotency key guarding against duplicate checkouts
  * 
  * @author FreshCart Development Team
  */
 @Entity
 @Table(name = "orders",
        uniqueConstraints = {
-           @UniqueConstraint(columnNames = "order_number")
+           @UniqueConstraint(columnNames = "order_number"),
+           @UniqueConstraint(name = "uk_order_user_idempotency_key", columnNames = {"user_id", "idempotency_key"})
        },
        indexes = {
            @Index(name = "idx_order_number", columnList = "order_number"),
@@ -33,11 +37,12 @@ import java.util.Set;
            @Index(name = "idx_order_user", columnList = "user_id"),
            @Index(name = "idx_order_date", columnList = "order_date")
        })
-@Data
+@NamedEntityGraph(name = "Order.detail", attributeNodes = @NamedAttributeNode("orderItems"))
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(callSuper = true, exclude = {"user", "orderItems"})
 @ToString(exclude = {"user", "orderItems"})
 public class Order extends BaseEntity {
 
@@ -54,6 +59,10 @@ public class Order extends BaseEntity {
     @Column(name = "order_date", nullable = false)
     private LocalDateTime orderDate;
 
+    @Size(max = 100, message = "Idempotency key must not exceed 100 characters")
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30)
     @Builder.Default
@@ -63,33 +72,35 @@ public class Order extends BaseEntity {
     @DecimalMin(value = "0.00", message = "Subtotal must be non-negative")
     @Digits(integer = 8, fraction = 2, message = "Subtotal must have at most 8 integer digits and 2 decimal places")
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal subtotal;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money subtotal;
 
     @NotNull(message = "Tax amount is required")
     @DecimalMin(value = "0.00", message = "Tax amount must be non-negative")
     @Digits(integer = 8, fraction = 2, message = "Tax amount must have at most 8 integer digits and 2 decimal places")
     @Column(name = "tax_amount", nullable = false, precision = 10, scale = 2)
-    @Builder.Default
-    private BigDecimal taxAmount = BigDecimal.ZERO;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money taxAmount;
 
     @NotNull(message = "Shipping cost is required")
     @DecimalMin(value = "0.00", message = "Shipping cost must be non-negative")
     @Digits(integer = 8, fraction = 2, message = "Shipping cost must have at most 8 integer digits and 2 decimal places")
     @Column(name = "shipping_cost", nullable = false, precision = 10, scale = 2)
-    @Builder.Default
-    private BigDecimal shippingCost = BigDecimal.ZERO;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money shippingCost;
 
     @DecimalMin(value = "0.00", message = "Discount amount must be non-negative")
     @Digits(integer = 8, fraction = 2, message = "Discount amount must have at most 8 integer digits and 2 decimal places")
     @Column(name = "discount_amount", precision = 10, scale = 2)
-    @Builder.Default
-    private BigDecimal discountAmount = BigDecimal.ZERO;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money discountAmount;
 
     @NotNull(message = "Total amount is required")
     @DecimalMin(value = "0.01", message = "Total amount must be greater than 0")
     @Digits(integer = 8, fraction = 2, message = "Total amount must have at most 8 integer digits and 2 decimal places")
     @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money totalAmount;
 
     @Size(max = 50, message = "Currency must not exceed 50 characters")
     @Column(length = 50)
@@ -184,32 +195,21 @@ public class Order extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_order_user"))
     private User user;
 
+    // A list: BaseEntity's per-class hash code puts every item of a hash set in one bucket
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
-    private Set<OrderItem> orderItems = new HashSet<>();
-
-    // Utility methods
-    public void calculateTotals() {
-        this.subtotal = orderItems.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        this.totalAmount = subtotal
-                .add(taxAmount)
-                .add(shippingCost)
-                .subtract(discountAmount);
-    }
+    private List<OrderItem> orderItems = new ArrayList<>();
 
+    // Utility methods; totals come from TotalsEngine and are not adjusted here
     public void addOrderItem(OrderItem orderItem) {
         orderItems.add(orderItem);
         orderItem.setOrder(this);
-        calculateTotals();
     }
 
     public void removeOrderItem(OrderItem orderItem) {
-        orderItems.remove(orderItem);
-        orderItem.setOrder(null);
-        calculateTotals();
+        if (orderItems.remove(orderItem)) {
+            orderItem.setOrder(null);
+        }
     }
 
     public boolean canBeCancelled() {
@@ -220,6 +220,32 @@ public class Order extends BaseEntity {
         return status == OrderStatus.CONFIRMED && paymentStatus == PaymentStatus.PAID;
     }
 
+    public boolean canTransitionTo(OrderStatus target) {
+        return isLegalTransition(status, paymentStatus, target);
+    }
+
+    /**
+     * Whether an order may move from one status to another; shipping also
+     * requires the order to be paid
+     * 
+     * @param from Current status
+     * @param paymentStatus Current payment status
+     * @param to Target status
+     * @return True if the transition is allowed
+     */
+    public static boolean isLegalTransition(OrderStatus from, PaymentStatus paymentStatus, OrderStatus to) {
+        return switch (to) {
+            case PENDING -> false;
+            case CONFIRMED -> from == OrderStatus.PENDING;
+            case PROCESSING -> from == OrderStatus.CONFIRMED;
+            case SHIPPED -> (from == OrderStatus.CONFIRMED || from == OrderStatus.PROCESSING)
+                    && paymentStatus == PaymentStatus.PAID;
+            case DELIVERED -> from == OrderStatus.SHIPPED;
+            case CANCELLED -> from == OrderStatus.PENDING || from == OrderStatus.CONFIRMED;
+            case REFUNDED -> from == OrderStatus.DELIVERED || from == OrderStatus.CANCELLED;
+        };
+    }
+
     public boolean isDelivered() {
         return status == OrderStatus.DELIVERED;
     }
@@ -1,5 +1,7 @@
 package com.freshcart.backend.entity;
 
+import com.freshcart.backend.util.Money;
+import com.freshcart.backend.util.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -23,11 +25,11 @@ import java.math.BigDecimal;
            @Index(name = "idx_order_item_order", columnList = "order_id"),
            @Index(name = "idx_order_item_product", columnList = "product_id")
        })
-@Data
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(callSuper = true, exclude = {"order", "product"})
 @ToString(exclude = {"order", "product"})
 public class OrderItem extends BaseEntity {
 
@@ -44,13 +46,15 @@ public class OrderItem extends BaseEntity {
     @DecimalMin(value = "0.01", message = "Unit price must be greater than 0")
     @Digits(integer = 8, fraction = 2, message = "Unit price must have at most 8 integer digits and 2 decimal places")
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money unitPrice;
 
     @NotNull(message = "Total price is required")
     @DecimalMin(value = "0.01", message = "Total price must be greater than 0")
     @Digits(integer = 8, fraction = 2, message = "Total price must have at most 8 integer digits and 2 decimal places")
     @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalPrice;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money totalPrice;
 
     // Product snapshot data (preserved at time of order)
     @NotBlank(message = "Product name is required")
@@ -90,10 +94,10 @@ public class OrderItem extends BaseEntity {
 
     // Utility methods
     public void calculateTotalPrice() {
-        this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        this.totalPrice = unitPrice.times(quantity);
     }
 
-    public BigDecimal getTotalPrice() {
+    public Money getTotalPrice() {
         if (totalPrice == null) {
             calculateTotalPrice();
         }
@@ -116,7 +120,7 @@ public class OrderItem extends BaseEntity {
     @PrePersist
     @PreUpdate
     private void ensureTotalPriceCalculated() {
-        if (totalPrice == null || totalPrice.compareTo(BigDecimal.ZERO) == 0) {
+        if (totalPrice == null || totalPrice.isZero()) {
             calculateTotalPrice();
         }
     }
@@ -0,0 +1,79 @@
+package com.freshcart.backend.entity;
+
+import com.freshcart.backend.util.Money;
+import com.freshcart.backend.util.MoneyAttributeConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized order history row, one per order
+ * 
+ * Features:
+ * - Everything the order history page shows, without joining order items
+ * - Item count and the first three item images are copied when the order is placed
+ * - Status columns are updated with the order
+ * - Served by keyset pagination over (user_id, order_date, order_id)
+ * 
+ * Rows are maintained with SQL by {@code OrderSummaryProjector}.
+ * 
+ * @author FreshCart Development Team
+ */
+@Entity
+@Table(name = "order_summaries",
+       indexes = {
+           @Index(name = "idx_order_summary_user_date", columnList = "user_id, order_date, order_id")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSummary extends BaseEntity {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "order_number", nullable = false, length = 50)
+    private String orderNumber;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Order.OrderStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false, length = 30)
+    private Order.PaymentStatus paymentStatus;
+
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money totalAmount;
+
+    @Column(length = 50)
+    private String currency;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    @Column(name = "thumbnail_1")
+    private String thumbnail1;
+
+    @Column(name = "thumbnail_2")
+    private String thumbnail2;
+
+    @Column(name = "thumbnail_3")
+    private String thumbnail3;
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+}
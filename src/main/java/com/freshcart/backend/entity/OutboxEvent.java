@@ -0,0 +1,81 @@
+package com.freshcart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event waiting to be delivered to one in-process handler
+ * 
+ * Features:
+ * - Written in the same transaction as the change that raised the event
+ * - One row per event and handler, so handlers retry independently
+ * - Claimed by a relay with a claim token and a lease; an expired lease
+ *   makes the row claimable again
+ * - Failed deliveries are retried with backoff until the attempt limit,
+ *   then parked as FAILED
+ * 
+ * Rows are written and dispatched with SQL by {@code OutboxWriter} and
+ * {@code OutboxRelay}.
+ * 
+ * @author FreshCart Development Team
+ */
+@Entity
+@Table(name = "outbox_events",
+       indexes = {
+           @Index(name = "idx_outbox_status_available", columnList = "status, available_at"),
+           @Index(name = "idx_outbox_claim_token", columnList = "claim_token"),
+           @Index(name = "idx_outbox_aggregate_status", columnList = "aggregate_id, status")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, length = 100)
+    private String handler;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public enum Status {
+        PENDING, DONE, FAILED
+    }
+}
@@ -1,8 +1,14 @@
 package com.freshcart.backend.entity;
 
+import com.freshcart.backend.util.Money;
+import com.freshcart.backend.util.MoneyAttributeConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,6 +26,7 @@ import java.util.Set;
  * - Product ratings and reviews
  * - SEO optimization
  * - Multi-image support
+ * - Cached in the second-level cache, with SKU lookups resolved from the natural-id cache
  * 
  * @author FreshCart Development Team
  */
@@ -37,11 +44,14 @@ import java.util.Set;
            @Index(name = "idx_product_price", columnList = "price"),
            @Index(name = "idx_product_featured", columnList = "is_featured")
        })
-@Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT)
+@NaturalIdCache(region = CacheRegions.PRODUCT_NATURAL_ID)
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(callSuper = true, exclude = {"category", "cartItems", "reviews", "orderItems"})
 @ToString(exclude = {"category", "cartItems", "reviews", "orderItems"})
 public class Product extends BaseEntity {
 
@@ -64,6 +74,7 @@ public class Product extends BaseEntity {
     @NotBlank(message = "SKU is required")
     @Size(min = 3, max = 50, message = "SKU must be between 3 and 50 characters")
     @Pattern(regexp = "^[A-Z0-9\\-_]+$", message = "SKU must contain only uppercase letters, numbers, hyphens, and underscores")
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true, length = 50)
     private String sku;
 
@@ -79,17 +90,20 @@ public class Product extends BaseEntity {
     @DecimalMin(value = "0.01", message = "Price must be greater than 0")
     @Digits(integer = 8, fraction = 2, message = "Price must have at most 8 integer digits and 2 decimal places")
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal price;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money price;
 
     @DecimalMin(value = "0.00", message = "Original price must be non-negative")
     @Digits(integer = 8, fraction = 2, message = "Original price must have at most 8 integer digits and 2 decimal places")
     @Column(name = "original_price", precision = 10, scale = 2)
-    private BigDecimal originalPrice;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money originalPrice;
 
     @DecimalMin(value = "0.00", message = "Cost price must be non-negative")
     @Digits(integer = 8, fraction = 2, message = "Cost price must have at most 8 integer digits and 2 decimal places")
     @Column(name = "cost_price", precision = 10, scale = 2)
-    private BigDecimal costPrice;
+    @Convert(converter = MoneyAttributeConverter.class)
+    private Money costPrice;
 
     @Min(value = 0, message = "Stock quantity must be non-negative")
     @Column(name = "stock_quantity", nullable = false)
@@ -141,6 +155,7 @@ public class Product extends BaseEntity {
     private String primaryImageUrl;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_IMAGES)
     @CollectionTable(name = "product_images", joinColumns = @JoinColumn(name = "product_id"))
     @Column(name = "image_url")
     @Builder.Default
@@ -271,18 +286,16 @@ public class Product extends BaseEntity {
         return originalPrice != null && originalPrice.compareTo(price) > 0;
     }
 
-    public BigDecimal getDiscountAmount() {
+    public Money getDiscountAmount() {
         if (isOnSale()) {
-            return originalPrice.subtract(price);
+            return originalPrice.minus(price);
         }
-        return BigDecimal.ZERO;
+        return price != null ? Money.zero(price.getCurrency()) : null;
     }
 
     public BigDecimal getDiscountPercentage() {
         if (isOnSale()) {
-            return getDiscountAmount()
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(originalPrice, 2, BigDecimal.ROUND_HALF_UP);
+            return getDiscountAmount().percentOf(originalPrice, 2);
         }
         return BigDecimal.ZERO;
     }
@@ -0,0 +1,64 @@
+package com.freshcart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Email waiting to be sent
+ * 
+ * Features:
+ * - Written in the transaction that decided to send the mail, so a committed
+ *   decision survives a crash and a rolled-back one sends nothing
+ * - Claimed by a mailer with a claim token and a lease; an expired lease
+ *   makes the row claimable again
+ * - Deleted once the mail is accepted by the SMTP server; failed sends are
+ *   retried with backoff and finally moved to {@link NotificationDeadLetter}
+ * 
+ * Rows are written and sent with SQL by {@code NotificationMailer}.
+ * 
+ * @author FreshCart Development Team
+ */
+@Entity
+@Table(name = "queued_notifications",
+       indexes = {
+           @Index(name = "idx_queued_notification_available", columnList = "available_at"),
+           @Index(name = "idx_queued_notification_claim_token", columnList = "claim_token")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueuedNotification extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String template;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Column(nullable = false, length = 4000)
+    private String model;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
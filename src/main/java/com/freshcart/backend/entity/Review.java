@@ -15,6 +15,8 @@ import java.math.BigDecimal;
  * - Review status management
  * - Verified purchase validation
  * - Helpful votes tracking
+ * - Persisted helpfulness score (Wilson lower bound) used as the listing sort key
+ * - Spam score from the moderation classifier, with auto-moderated decisions flagged
  * 
  * @author FreshCart Development Team
  */
@@ -27,13 +29,16 @@ import java.math.BigDecimal;
            @Index(name = "idx_review_user", columnList = "user_id"),
            @Index(name = "idx_review_product", columnList = "product_id"),
            @Index(name = "idx_review_rating", columnList = "rating"),
-           @Index(name = "idx_review_status", columnList = "status")
+           @Index(name = "idx_review_status", columnList = "status"),
+           @Index(name = "idx_review_product_score", columnList = "product_id, status, helpfulness_score, id"),
+           @Index(name = "idx_review_moderation", columnList = "status, spam_score, id")
        })
-@Data
+@NamedEntityGraph(name = "Review.withUser", attributeNodes = @NamedAttributeNode("user"))
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(callSuper = true, exclude = {"user", "product"})
 @ToString(exclude = {"user", "product"})
 public class Review extends BaseEntity {
 
@@ -74,10 +79,26 @@ public class Review extends BaseEntity {
     @Builder.Default
     private Integer notHelpfulVotes = 0;
 
+    @Column(name = "helpfulness_score", nullable = false)
+    @Builder.Default
+    private Double helpfulnessScore = 0.0;
+
+    /** Spam probability from the moderation classifier; null until scored */
+    @Column(name = "spam_score")
+    private Double spamScore;
+
+    /** Whether the current status was set by the classifier rather than a moderator */
+    @Builder.Default
+    @Column(name = "auto_moderated", nullable = false)
+    private Boolean autoModerated = false;
+
     @Size(max = 500, message = "Admin notes must not exceed 500 characters")
     @Column(name = "admin_notes", length = 500)
     private String adminNotes;
 
+    /** z for a 95% confidence interval */
+    private static final double WILSON_Z = 1.96;
+
     // Relationships
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_review_user"))
@@ -133,6 +154,34 @@ public class Review extends BaseEntity {
         return (double) helpfulVotes / total;
     }
 
+    /**
+     * Lower bound of the Wilson score interval of the helpful share of votes
+     * 
+     * Unlike the plain ratio this ranks 40 of 50 helpful above 1 of 1, since
+     * few votes give a wide interval and so a low bound. No votes score 0.
+     * 
+     * @param helpful Helpful votes
+     * @param notHelpful Not helpful votes
+     * @return Score between 0 and 1
+     */
+    public static double wilsonLowerBound(long helpful, long notHelpful) {
+        long total = helpful + notHelpful;
+        if (total <= 0) {
+            return 0.0;
+        }
+        double z2 = WILSON_Z * WILSON_Z;
+        double phat = (double) helpful / total;
+        double spread = WILSON_Z * Math.sqrt((phat * (1 - phat) + z2 / (4.0 * total)) / total);
+        return Math.max(0.0, (phat + z2 / (2.0 * total) - spread) / (1 + z2 / total));
+    }
+
+    // Keep the sort key in step with votes changed through the entity
+    @PrePersist
+    @PreUpdate
+    private void updateHelpfulnessScore() {
+        this.helpfulnessScore = wilsonLowerBound(helpfulVotes, notHelpfulVotes);
+    }
+
     public String getDisplayName() {
         if (user != null) {
             return user.getFirstName() + " " + user.getLastName().charAt(0) + ".";
@@ -0,0 +1,47 @@
+package com.freshcart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One customer's helpful / not helpful vote on a review
+ * 
+ * Features:
+ * - At most one vote per customer and review, enforced by a unique constraint
+ * - A customer can change their vote; the review's counts move with it
+ * 
+ * Rows are written with SQL by {@code ReviewVoteBuffer}.
+ * 
+ * @author FreshCart Development Team
+ */
+@Entity
+@Table(name = "review_votes",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"review_id", "user_id"})
+       },
+       indexes = {
+           @Index(name = "idx_review_vote_user", columnList = "user_id")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"review", "user"})
+public class ReviewVote extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id", nullable = false, foreignKey = @ForeignKey(name = "fk_review_vote_review"))
+    private Review review;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_review_vote_user"))
+    private User user;
+
+    @Column(nullable = false)
+    private Boolean helpful;
+}
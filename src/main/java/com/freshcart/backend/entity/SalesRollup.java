@@ -0,0 +1,71 @@
+package com.freshcart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated sales figures for one time bucket and dimension value
+ * 
+ * Features:
+ * - Hourly and daily buckets of the order date
+ * - Dimensions: all orders, product category, payment method, order status
+ *   and new versus returning customers
+ * - Maintained incrementally with MERGE upserts as orders are placed and
+ *   change status, and rebuilt from history on demand
+ * - The unique key doubles as the index for dashboard range reads
+ * 
+ * Rows are maintained with SQL by {@code SalesRollupService}.
+ * 
+ * @author FreshCart Development Team
+ */
+@Entity
+@Table(name = "sales_rollups",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_sales_rollup",
+                             columnNames = {"granularity", "bucket_start", "dimension", "dimension_key"})
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Dimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 50)
+    private String dimensionKey;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    public enum Granularity {
+        HOUR, DAY
+    }
+
+    public enum Dimension {
+        TOTAL, CATEGORY, PAYMENT_METHOD, STATUS, CUSTOMER
+    }
+}
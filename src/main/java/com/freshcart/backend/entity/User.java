@@ -3,6 +3,10 @@ package com.freshcart.backend.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,6 +27,7 @@ import java.util.*;
  * - Audit trail with creation and update timestamps
  * - Email verification system
  * - Account locking mechanism
+ * - Cached in the second-level cache, with username lookups resolved from the natural-id cache
  * 
  * @author FreshCart Development Team
  */
@@ -37,12 +42,15 @@ import java.util.*;
            @Index(name = "idx_user_username", columnList = "username"),
            @Index(name = "idx_user_role", columnList = "role")
        })
-@Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
+@NaturalIdCache(region = CacheRegions.USER_NATURAL_ID)
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(callSuper = true)
-@ToString(exclude = {"password", "orders", "cartItems"})
+@ToString(exclude = {"password", "orders", "cartItems", "reviews"})
 public class User extends BaseEntity implements UserDetails {
 
     @Id
@@ -53,6 +61,7 @@ public class User extends BaseEntity implements UserDetails {
     @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
     @Pattern(regexp = "^[a-zA-Z0-9._-]{3,50}$", 
              message = "Username can only contain letters, numbers, dots, underscores, and hyphens")
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true, length = 50)
     private String username;
 
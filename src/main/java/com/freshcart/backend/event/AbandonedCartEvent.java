@@ -0,0 +1,20 @@
+package com.freshcart.backend.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published for each idle cart just before the expiry sweeper deletes it
+ * 
+ * @param userId Owner of the cart
+ * @param lines Lines the cart held
+ * @param subtotal Sum of line totals at the stored unit prices
+ * @param lastUpdatedAt Time of the most recent change to the cart
+ * @author FreshCart Development Team
+ */
+public record AbandonedCartEvent(Long userId, List<Line> lines, BigDecimal subtotal, LocalDateTime lastUpdatedAt) {
+
+    public record Line(Long productId, int quantity, BigDecimal unitPrice) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.freshcart.backend.event;
+
+import com.freshcart.backend.util.Money;
+
+import java.util.List;
+
+/**
+ * Published inside the checkout transaction when an order is placed
+ * 
+ * @param orderId Order ID
+ * @param orderNumber Order number
+ * @param userId Customer
+ * @param productIds Products on the order
+ * @param totalAmount Order total
+ * @author FreshCart Development Team
+ */
+public record OrderPlacedEvent(Long orderId, String orderNumber, Long userId, List<Long> productIds,
+                               Money totalAmount) {
+}
@@ -0,0 +1,15 @@
+package com.freshcart.backend.event;
+
+import java.util.List;
+
+/**
+ * Published once inside the transaction of a bulk status update, carrying every change it made
+ * 
+ * Listeners handle the changes as one batch; outbox handlers still receive
+ * them as individual {@link OrderStatusChangedEvent}s.
+ * 
+ * @param changes One entry per updated order
+ * @author FreshCart Development Team
+ */
+public record OrderStatusBatchChangedEvent(List<OrderStatusChangedEvent> changes) {
+}
@@ -0,0 +1,27 @@
+package com.freshcart.backend.event;
+
+import com.freshcart.backend.entity.Order;
+
+/**
+ * Published inside the transaction that changes an order's status or payment status
+ * 
+ * @param orderId Order ID
+ * @param userId Customer
+ * @param previousStatus Status before the change
+ * @param status Status after the change
+ * @param previousPaymentStatus Payment status before the change
+ * @param paymentStatus Payment status after the change
+ * @author FreshCart Development Team
+ */
+public record OrderStatusChangedEvent(Long orderId, Long userId,
+                                      Order.OrderStatus previousStatus, Order.OrderStatus status,
+                                      Order.PaymentStatus previousPaymentStatus, Order.PaymentStatus paymentStatus) {
+
+    public boolean isStatusChange() {
+        return previousStatus != status;
+    }
+
+    public boolean isPaymentStatusChange() {
+        return previousPaymentStatus != paymentStatus;
+    }
+}
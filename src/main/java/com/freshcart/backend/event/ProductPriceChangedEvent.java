@@ -0,0 +1,14 @@
+package com.freshcart.backend.event;
+
+import com.freshcart.backend.util.Money;
+
+/**
+ * Published when a product's price changes
+ * 
+ * @param productId Product ID
+ * @param oldPrice Price before the change
+ * @param newPrice Price after the change
+ * @author FreshCart Development Team
+ */
+public record ProductPriceChangedEvent(Long productId, Money oldPrice, Money newPrice) {
+}
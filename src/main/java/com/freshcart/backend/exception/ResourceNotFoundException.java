@@ -0,0 +1,21 @@
+package com.freshcart.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a requested resource does not exist
+ * 
+ * @author FreshCart Development Team
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String resourceName, Object id) {
+        super(String.format("%s not found with id: %s", resourceName, id));
+    }
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.freshcart.backend.mapper;
+
+import com.freshcart.backend.dto.response.OrderDetailResponse;
+import com.freshcart.backend.dto.response.OrderItemResponse;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.OrderItem;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper from order entities to response DTOs
+ * 
+ * @author FreshCart Development Team
+ */
+@Mapper(componentModel = "spring")
+public interface OrderMapper {
+
+    @Mapping(target = "items", source = "orderItems")
+    OrderDetailResponse toDetailResponse(Order order);
+
+    @Mapping(target = "productId", source = "product.id")
+    OrderItemResponse toItemResponse(OrderItem orderItem);
+}
@@ -0,0 +1,16 @@
+package com.freshcart.backend.mapper;
+
+import com.freshcart.backend.dto.response.ReviewResponse;
+import com.freshcart.backend.entity.Review;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper from review entities to response DTOs
+ * 
+ * @author FreshCart Development Team
+ */
+@Mapper(componentModel = "spring")
+public interface ReviewMapper {
+
+    ReviewResponse toResponse(Review review);
+}
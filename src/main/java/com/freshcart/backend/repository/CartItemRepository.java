@@ -0,0 +1,29 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.dto.response.CartLineResponse;
+import com.freshcart.backend.entity.CartItem;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for {@link CartItem} entities
+ * 
+ * @author FreshCart Development Team
+ */
+@Repository
+public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    @Query("select new com.freshcart.backend.dto.response.CartLineResponse(" +
+           "ci.id, p.id, p.name, p.slug, p.primaryImageUrl, p.unit, ci.quantity, ci.unitPrice, " +
+           "p.price, p.stockQuantity, p.maxOrderQuantity, p.status) " +
+           "from CartItem ci join ci.product p where ci.user.id = :userId order by ci.id")
+    List<CartLineResponse> findCartLinesByUserId(@Param("userId") Long userId);
+
+    @EntityGraph(FetchPlans.CART_VIEW)
+    List<CartItem> findByUserIdOrderByIdAsc(Long userId);
+}
@@ -0,0 +1,39 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.entity.CartItem;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.Review;
+
+import java.util.Map;
+
+/**
+ * Names of the entity graphs used as fetch plans, one per use case
+ * 
+ * Each plan loads everything its use case touches in a single statement:
+ * - ORDER_DETAIL: an order together with its items
+ * - CART_VIEW: a user's cart items together with their products
+ * - REVIEW_LIST: reviews together with the authoring user (display name)
+ * 
+ * Constants are compile-time strings so they can be used in
+ * {@code @EntityGraph} annotations on repository methods.
+ * 
+ * @author FreshCart Development Team
+ */
+public final class FetchPlans {
+
+    public static final String ORDER_DETAIL = "Order.detail";
+    public static final String CART_VIEW = "CartItem.cartView";
+    public static final String REVIEW_LIST = "Review.withUser";
+
+    /**
+     * Every registered plan with the root entity it applies to
+     */
+    public static final Map<String, Class<?>> ALL = Map.of(
+            ORDER_DETAIL, Order.class,
+            CART_VIEW, CartItem.class,
+            REVIEW_LIST, Review.class
+    );
+
+    private FetchPlans() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.entity.NotificationDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for undeliverable emails
+ * 
+ * @author FreshCart Development Team
+ */
+@Repository
+public interface NotificationDeadLetterRepository extends JpaRepository<NotificationDeadLetter, Long> {
+
+    List<NotificationDeadLetter> findTop100ByOrderByIdDesc();
+}
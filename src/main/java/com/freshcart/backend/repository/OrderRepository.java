@@ -0,0 +1,44 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.dto.response.OrderSummaryResponse;
+import com.freshcart.backend.dto.response.PlaceOrderResponse;
+import com.freshcart.backend.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for {@link Order} entities
+ * 
+ * @author FreshCart Development Team
+ */
+@Repository
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Query(value = "select new com.freshcart.backend.dto.response.OrderSummaryResponse(" +
+                   "o.id, o.orderNumber, o.orderDate, o.status, o.paymentStatus, o.totalAmount, o.currency, " +
+                   "(select count(oi.id) from OrderItem oi where oi.order.id = o.id)) " +
+                   "from Order o where o.user.id = :userId",
+           countQuery = "select count(o) from Order o where o.user.id = :userId")
+    Page<OrderSummaryResponse> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(FetchPlans.ORDER_DETAIL)
+    Optional<Order> findByIdAndUserId(Long id, Long userId);
+
+    @EntityGraph(FetchPlans.ORDER_DETAIL)
+    List<Order> findByIdIn(Collection<Long> ids);
+
+    @Query("select new com.freshcart.backend.dto.response.PlaceOrderResponse(" +
+           "o.id, o.orderNumber, o.orderDate, o.status, o.totalAmount, o.currency) " +
+           "from Order o where o.user.id = :userId and o.idempotencyKey = :idempotencyKey")
+    Optional<PlaceOrderResponse> findPlacedOrder(@Param("userId") Long userId,
+                                                 @Param("idempotencyKey") String idempotencyKey);
+}
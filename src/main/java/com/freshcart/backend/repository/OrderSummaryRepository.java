@@ -0,0 +1,35 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.entity.OrderSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the {@link OrderSummary} read model
+ * 
+ * Both queries walk {@code idx_order_summary_user_date} newest first and
+ * stop after the limit, so every page costs the same however deep it is.
+ * 
+ * @author FreshCart Development Team
+ */
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    @Query("select s from OrderSummary s where s.userId = :userId " +
+           "order by s.orderDate desc, s.orderId desc")
+    List<OrderSummary> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("select s from OrderSummary s where s.userId = :userId " +
+           "and (s.orderDate < :orderDate or (s.orderDate = :orderDate and s.orderId < :orderId)) " +
+           "order by s.orderDate desc, s.orderId desc")
+    List<OrderSummary> findPageBefore(@Param("userId") Long userId,
+                                      @Param("orderDate") LocalDateTime orderDate,
+                                      @Param("orderId") Long orderId,
+                                      Limit limit);
+}
@@ -0,0 +1,92 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.dto.response.ProductCardResponse;
+import com.freshcart.backend.dto.response.ProductDetailResponse;
+import com.freshcart.backend.dto.response.ProductStockView;
+import com.freshcart.backend.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for {@link Product} entities
+ * 
+ * Listing queries return constructor projections instead of entities so that
+ * wide text columns and the image collection are never read for a page of
+ * products. SKU lookups go through the natural-id cache and slug lookups
+ * through the query cache.
+ * 
+ * @author FreshCart Development Team
+ */
+@Repository
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    String PRODUCT_CARD_SELECT =
+            "select new com.freshcart.backend.dto.response.ProductCardResponse(" +
+            "p.id, p.name, p.slug, p.price, p.originalPrice, p.unit, p.primaryImageUrl, " +
+            "p.averageRating, p.reviewCount, p.stockQuantity, p.status, p.isFeatured, p.isOrganic, c.name) " +
+            "from Product p left join p.category c ";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Product> findBySlug(String slug);
+
+    @Query(value = PRODUCT_CARD_SELECT + "where p.status = :status",
+           countQuery = "select count(p) from Product p where p.status = :status")
+    Page<ProductCardResponse> findCardsByStatus(@Param("status") Product.ProductStatus status, Pageable pageable);
+
+    @Query(value = PRODUCT_CARD_SELECT + "where p.status = :status and c.id = :categoryId",
+           countQuery = "select count(p) from Product p where p.status = :status and p.category.id = :categoryId")
+    Page<ProductCardResponse> findCardsByStatusAndCategory(@Param("status") Product.ProductStatus status,
+                                                          @Param("categoryId") Long categoryId,
+                                                          Pageable pageable);
+
+    @Query(value = PRODUCT_CARD_SELECT + "where p.status = :status and p.isFeatured = true",
+           countQuery = "select count(p) from Product p where p.status = :status and p.isFeatured = true")
+    Page<ProductCardResponse> findFeaturedCards(@Param("status") Product.ProductStatus status, Pageable pageable);
+
+    @Query(value = PRODUCT_CARD_SELECT + "where p.status = :status and lower(p.name) like lower(concat('%', :term, '%'))",
+           countQuery = "select count(p) from Product p where p.status = :status " +
+                        "and lower(p.name) like lower(concat('%', :term, '%'))")
+    Page<ProductCardResponse> searchCards(@Param("status") Product.ProductStatus status,
+                                          @Param("term") String term,
+                                          Pageable pageable);
+
+    @Query("select new com.freshcart.backend.dto.response.ProductDetailResponse(" +
+           "p.id, p.name, p.slug, p.sku, p.shortDescription, p.description, p.price, p.originalPrice, " +
+           "p.stockQuantity, p.maxOrderQuantity, p.unit, p.weight, p.weightUnit, p.brand, p.manufacturer, " +
+           "p.expiryDate, p.primaryImageUrl, p.status, p.isOrganic, p.isVegetarian, p.isVegan, p.isGlutenFree, " +
+           "p.calories, p.protein, p.carbohydrates, p.fat, p.fiber, p.sugar, p.sodium, " +
+           "p.averageRating, p.reviewCount, c.id, c.name, c.slug) " +
+           "from Product p left join p.category c where p.id = :id")
+    Optional<ProductDetailResponse> findDetailById(@Param("id") Long id);
+
+    /**
+     * Load stock and price state for many products in one statement
+     * 
+     * @param productIds Product IDs
+     * @return Stock views of the products that exist
+     */
+    @Query("select new com.freshcart.backend.dto.response.ProductStockView(" +
+           "p.id, p.name, p.status, p.price, p.stockQuantity, p.maxOrderQuantity) " +
+           "from Product p where p.id in :productIds")
+    List<ProductStockView> findStockViewsByIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Load gallery images for many products in one statement
+     * 
+     * @param productIds Product IDs
+     * @return Rows of [productId, imageUrl]
+     */
+    @Query("select p.id, i from Product p join p.imageUrls i where p.id in :productIds")
+    List<Object[]> findImageUrlsByProductIds(@Param("productIds") Collection<Long> productIds);
+}
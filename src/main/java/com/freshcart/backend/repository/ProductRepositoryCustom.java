@@ -0,0 +1,32 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.entity.Product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom product repository operations implemented with the Hibernate API
+ * 
+ * @author FreshCart Development Team
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * Load a product by SKU through the natural-id cache
+     * 
+     * @param sku Product SKU
+     * @return Product if found
+     */
+    Optional<Product> findBySku(String sku);
+
+    /**
+     * Load several products by ID, resolving them from the second-level cache
+     * first and fetching only the misses in one batched query
+     * 
+     * @param ids Product IDs
+     * @return Products that exist, in no particular order
+     */
+    List<Product> findAllByIdCached(Collection<Long> ids);
+}
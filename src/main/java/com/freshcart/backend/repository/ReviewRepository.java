@@ -0,0 +1,61 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.dto.response.PendingReviewResponse;
+import com.freshcart.backend.dto.response.ReviewResponse;
+import com.freshcart.backend.entity.Review;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for {@link Review} entities
+ * 
+ * The listing queries walk {@code idx_review_product_score} most helpful
+ * first and stop after the limit. They project straight into
+ * {@link ReviewResponse}, building the author's display name in the same
+ * statement, so no entities or users are loaded. The moderation queue is
+ * paged the same way, by ID over {@code idx_review_moderation}.
+ * 
+ * @author FreshCart Development Team
+ */
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    String LISTING_SELECT =
+            "select new com.freshcart.backend.dto.response.ReviewResponse(" +
+            "r.id, r.rating, r.title, r.comment, r.verifiedPurchase, r.helpfulVotes, r.notHelpfulVotes, " +
+            "r.helpfulnessScore, concat(u.firstName, ' ', substring(u.lastName, 1, 1), '.'), r.createdAt) " +
+            "from Review r join r.user u ";
+
+    boolean existsByIdAndStatus(Long id, Review.ReviewStatus status);
+
+    @Query(LISTING_SELECT +
+           "where r.product.id = :productId and r.status = :status " +
+           "order by r.helpfulnessScore desc, r.id desc")
+    List<ReviewResponse> findFirstPage(@Param("productId") Long productId,
+                                       @Param("status") Review.ReviewStatus status,
+                                       Limit limit);
+
+    @Query(LISTING_SELECT +
+           "where r.product.id = :productId and r.status = :status " +
+           "and (r.helpfulnessScore < :score or (r.helpfulnessScore = :score and r.id < :reviewId)) " +
+           "order by r.helpfulnessScore desc, r.id desc")
+    List<ReviewResponse> findPageAfter(@Param("productId") Long productId,
+                                       @Param("status") Review.ReviewStatus status,
+                                       @Param("score") Double score,
+                                       @Param("reviewId") Long reviewId,
+                                       Limit limit);
+
+    @Query("select new com.freshcart.backend.dto.response.PendingReviewResponse(" +
+           "r.id, p.id, p.name, r.rating, r.title, r.comment, r.verifiedPurchase, r.spamScore, " +
+           "concat(u.firstName, ' ', substring(u.lastName, 1, 1), '.'), r.createdAt) " +
+           "from Review r join r.user u join r.product p " +
+           "where r.status = :status and r.id > :afterId order by r.id")
+    List<PendingReviewResponse> findModerationQueue(@Param("status") Review.ReviewStatus status,
+                                                    @Param("afterId") Long afterId,
+                                                    Limit limit);
+}
@@ -0,0 +1,29 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for {@link User} entities
+ * 
+ * Username lookups go through the natural-id cache; email lookups use the
+ * query cache, which is invalidated only when the users table changes.
+ * 
+ * @author FreshCart Development Team
+ */
+@Repository
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<User> findByEmail(String email);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+}
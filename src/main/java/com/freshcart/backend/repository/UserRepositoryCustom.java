@@ -0,0 +1,21 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.entity.User;
+
+import java.util.Optional;
+
+/**
+ * Custom user repository operations implemented with the Hibernate API
+ * 
+ * @author FreshCart Development Team
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Load a user by username through the natural-id cache
+     * 
+     * @param username Username
+     * @return User if found
+     */
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,31 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Implementation of {@link UserRepositoryCustom}
+ * 
+ * Runs in a read-only transaction so the unwrapped Session stays open when
+ * called outside a service transaction.
+ * 
+ * @author FreshCart Development Team
+ */
+@Transactional(readOnly = true)
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
@@ -0,0 +1,286 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.CartLineResponse;
+import com.freshcart.backend.dto.response.CartResponse;
+import com.freshcart.backend.dto.response.ProductStockView;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.repository.ProductRepository;
+import com.freshcart.backend.service.cart.CartLine;
+import com.freshcart.backend.service.cart.CartStore;
+import com.freshcart.backend.service.cart.GuestCartTokenCodec;
+import com.freshcart.backend.service.cart.UserCart;
+import com.freshcart.backend.service.pricing.OrderTotals;
+import com.freshcart.backend.service.pricing.PricingContext;
+import com.freshcart.backend.service.pricing.TotalsEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shopping cart service
+ * 
+ * Features:
+ * - Cart reads and mutations served by the in-memory {@link CartStore}
+ * - Product data for new lines comes from the second-level cache
+ * - Per-line quantity and cart size limits
+ * - Cart summary computed by the same {@link TotalsEngine} as orders
+ * - Guest carts are merged in one mutation and written as one batch
+ * - Cart page loads show live stock and price for every line from one batched
+ *   query; add/update/remove responses are served from memory alone and leave
+ *   the stock fields empty
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@RequiredArgsConstructor
+public class CartService {
+
+    static final int MAX_LINE_QUANTITY = 100;
+
+    private final CartStore cartStore;
+    private final ProductRepository productRepository;
+    private final GuestCartTokenCodec guestCartTokenCodec;
+    private final TotalsEngine totalsEngine;
+
+    @Value("${freshcart.business.max-cart-items:100}")
+    private int maxCartItems;
+
+    /**
+     * Get a user's cart for the cart page, with live stock and price
+     * 
+     * @param userId User ID
+     * @return Cart
+     */
+    public CartResponse getCart(Long userId) {
+        return getCart(userId, PricingContext.NONE);
+    }
+
+    /**
+     * Get a user's cart for the cart page, priced for a destination and
+     * coupon, with live stock and price
+     * 
+     * @param userId User ID
+     * @param context Destination and coupon
+     * @return Cart
+     */
+    public CartResponse getCart(Long userId, PricingContext context) {
+        CartResponse response = cartStore.read(userId, cart -> toResponse(cart, context));
+        attachStock(response.getLines());
+        return response;
+    }
+
+    /**
+     * Add a product to the cart, or increase its quantity if already present
+     * 
+     * @param userId User ID
+     * @param productId Product ID
+     * @param quantity Quantity to add
+     * @return Updated cart
+     */
+    public CartResponse addItem(Long userId, Long productId, int quantity) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", productId));
+        if (!product.isInStock()) {
+            throw new BusinessException("Product is not available: " + product.getName());
+        }
+
+        cartStore.mutate(userId, cart -> {
+            CartLine line = cart.getLine(productId);
+            if (line == null) {
+                if (cart.size() >= maxCartItems) {
+                    throw new BusinessException("Cart cannot contain more than " + maxCartItems + " items");
+                }
+                cart.putLine(new CartLine(productId, product.getName(), product.getSlug(),
+                        product.getPrimaryImageUrl(), product.getUnit(), checkQuantity(quantity), product.getPrice()));
+            } else {
+                line.setQuantity(checkQuantity(line.getQuantity() + quantity));
+                cart.markChanged(productId);
+            }
+        });
+        return residentCart(userId);
+    }
+
+    /**
+     * Merge a guest cart into the user's cart
+     * 
+     * Quantities of products already in the cart are added up to the per-line
+     * limit; unavailable products and lines beyond the cart size limit are
+     * dropped. The merged cart is written in a single flush.
+     * 
+     * @param userId User ID
+     * @param guestCartToken Guest cart token
+     * @return Updated cart
+     */
+    public CartResponse mergeGuestCart(Long userId, String guestCartToken) {
+        Map<Long, Integer> guestLines = guestCartTokenCodec.decode(guestCartToken);
+        if (guestLines.isEmpty()) {
+            return residentCart(userId);
+        }
+        Map<Long, Product> products = productRepository.findAllByIdCached(guestLines.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        cartStore.mutate(userId, cart -> guestLines.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product == null || !product.isInStock()) {
+                return;
+            }
+            CartLine line = cart.getLine(productId);
+            if (line != null) {
+                line.setQuantity(Math.min(line.getQuantity() + quantity, MAX_LINE_QUANTITY));
+                cart.markChanged(productId);
+            } else if (cart.size() < maxCartItems) {
+                cart.putLine(new CartLine(productId, product.getName(), product.getSlug(),
+                        product.getPrimaryImageUrl(), product.getUnit(),
+                        Math.min(quantity, MAX_LINE_QUANTITY), product.getPrice()));
+            }
+        }));
+        cartStore.flush(userId);
+        return residentCart(userId);
+    }
+
+    /**
+     * Set the quantity of a cart line
+     * 
+     * @param userId User ID
+     * @param productId Product ID
+     * @param quantity New quantity
+     * @return Updated cart
+     */
+    public CartResponse updateQuantity(Long userId, Long productId, int quantity) {
+        int checked = checkQuantity(quantity);
+        cartStore.mutate(userId, cart -> {
+            CartLine line = requireLine(cart, productId);
+            if (line.getQuantity() != checked) {
+                line.setQuantity(checked);
+                cart.markChanged(productId);
+            }
+        });
+        return residentCart(userId);
+    }
+
+    /**
+     * Increase the quantity of a cart line by one
+     * 
+     * @param userId User ID
+     * @param productId Product ID
+     * @return Updated cart
+     */
+    public CartResponse incrementQuantity(Long userId, Long productId) {
+        cartStore.mutate(userId, cart -> {
+            CartLine line = requireLine(cart, productId);
+            line.setQuantity(checkQuantity(line.getQuantity() + 1));
+            cart.markChanged(productId);
+        });
+        return residentCart(userId);
+    }
+
+    /**
+     * Decrease the quantity of a cart line by one (never below one)
+     * 
+     * @param userId User ID
+     * @param productId Product ID
+     * @return Updated cart
+     */
+    public CartResponse decrementQuantity(Long userId, Long productId) {
+        cartStore.mutate(userId, cart -> {
+            CartLine line = requireLine(cart, productId);
+            if (line.getQuantity() > 1) {
+                line.setQuantity(line.getQuantity() - 1);
+                cart.markChanged(productId);
+            }
+        });
+        return residentCart(userId);
+    }
+
+    /**
+     * Remove a line from the cart
+     * 
+     * @param userId User ID
+     * @param productId Product ID
+     * @return Updated cart
+     */
+    public CartResponse removeItem(Long userId, Long productId) {
+        cartStore.mutate(userId, cart -> {
+            if (!cart.removeLine(productId)) {
+                throw new ResourceNotFoundException("Cart item for product", productId);
+            }
+        });
+        return residentCart(userId);
+    }
+
+    /**
+     * Remove all lines from the cart
+     * 
+     * @param userId User ID
+     */
+    public void clearCart(Long userId) {
+        cartStore.mutate(userId, UserCart::clear);
+    }
+
+    /**
+     * Cart as held in memory, without the stock query (mutation responses)
+     */
+    private CartResponse residentCart(Long userId) {
+        return cartStore.read(userId, cart -> toResponse(cart, PricingContext.NONE));
+    }
+
+    private CartLine requireLine(UserCart cart, Long productId) {
+        CartLine line = cart.getLine(productId);
+        if (line == null) {
+            throw new ResourceNotFoundException("Cart item for product", productId);
+        }
+        return line;
+    }
+
+    private int checkQuantity(int quantity) {
+        if (quantity < 1 || quantity > MAX_LINE_QUANTITY) {
+            throw new BusinessException("Quantity must be between 1 and " + MAX_LINE_QUANTITY);
+        }
+        return quantity;
+    }
+
+    private void attachStock(List<CartLineResponse> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        Map<Long, ProductStockView> stock = productRepository.findStockViewsByIds(
+                        lines.stream().map(CartLineResponse::getProductId).toList())
+                .stream()
+                .collect(Collectors.toMap(ProductStockView::getId, Function.identity()));
+        for (CartLineResponse line : lines) {
+            ProductStockView product = stock.get(line.getProductId());
+            if (product != null) {
+                line.setCurrentPrice(product.getPrice());
+                line.setStockQuantity(product.getStockQuantity());
+                line.setMaxOrderQuantity(product.getMaxOrderQuantity());
+                line.setProductStatus(product.getStatus());
+            }
+        }
+    }
+
+    private CartResponse toResponse(UserCart cart, PricingContext context) {
+        List<CartLineResponse> lines = new ArrayList<>(cart.size());
+        OrderTotals totals = totalsEngine.newTotals(context, cart.size());
+        for (CartLine line : cart.getLines()) {
+            CartLineResponse response = new CartLineResponse();
+            response.setProductId(line.getProductId());
+            response.setProductName(line.getProductName());
+            response.setProductSlug(line.getProductSlug());
+            response.setPrimaryImageUrl(line.getPrimaryImageUrl());
+            response.setUnit(line.getUnit());
+            response.setQuantity(line.getQuantity());
+            response.setUnitPrice(line.getUnitPrice());
+            lines.add(response);
+            totals.addLine(line.getProductId(), line.getUnitPrice(), line.getQuantity());
+        }
+        return totalsEngine.toCartResponse(lines, totals);
+    }
+}
@@ -0,0 +1,118 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.CartValidationResponse;
+import com.freshcart.backend.dto.response.CartValidationResponse.LineStatus;
+import com.freshcart.backend.dto.response.CartValidationResponse.LineValidation;
+import com.freshcart.backend.dto.response.ProductStockView;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.repository.ProductRepository;
+import com.freshcart.backend.service.cart.CartLine;
+import com.freshcart.backend.service.cart.CartStore;
+import com.freshcart.backend.util.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cart validation service
+ * 
+ * Features:
+ * - Validates every line of a cart with a single IN query over products
+ * - Per-line availability and maximum purchasable quantity, honoring
+ *   the product's max order quantity
+ * - Price drift between the cart's unit price and the current price
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CartValidationService {
+
+    private final CartStore cartStore;
+    private final ProductRepository productRepository;
+
+    @Value("${freshcart.business.default-currency:USD}")
+    private Currency currency;
+
+    /**
+     * Validate a user's cart against current stock and prices
+     * 
+     * @param userId User ID
+     * @return Validation result with one entry per cart line
+     */
+    public CartValidationResponse validateCart(Long userId) {
+        List<CartLine> lines = cartStore.read(userId,
+                cart -> cart.getLines().stream().map(CartLine::copy).toList());
+        return validate(lines);
+    }
+
+    /**
+     * Validate cart lines against current stock and prices
+     * 
+     * @param lines Cart lines
+     * @return Validation result with one entry per line
+     */
+    public CartValidationResponse validate(Collection<CartLine> lines) {
+        Map<Long, ProductStockView> stock = loadStock(lines.stream().map(CartLine::getProductId).toList());
+
+        List<LineValidation> results = new ArrayList<>(lines.size());
+        Money cartSubtotal = Money.zero(currency);
+        Money currentSubtotal = Money.zero(currency);
+        boolean valid = true;
+        for (CartLine line : lines) {
+            LineValidation result = validateLine(line, stock.get(line.getProductId()));
+            results.add(result);
+            valid &= result.getStatus() == LineStatus.AVAILABLE;
+            cartSubtotal = cartSubtotal.plus(line.getLineTotal());
+            if (result.getCurrentPrice() != null) {
+                currentSubtotal = currentSubtotal.plus(result.getCurrentPrice().times(line.getQuantity()));
+            }
+        }
+        return new CartValidationResponse(valid, results, cartSubtotal, currentSubtotal);
+    }
+
+    /**
+     * Load stock views for a set of products in one query
+     * 
+     * @param productIds Product IDs
+     * @return Stock views keyed by product ID
+     */
+    public Map<Long, ProductStockView> loadStock(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findStockViewsByIds(productIds).stream()
+                .collect(Collectors.toMap(ProductStockView::getId, Function.identity()));
+    }
+
+    private LineValidation validateLine(CartLine line, ProductStockView product) {
+        if (product == null) {
+            return new LineValidation(line.getProductId(), line.getProductName(), line.getQuantity(),
+                    LineStatus.UNAVAILABLE, 0, line.getUnitPrice(), null, null);
+        }
+
+        int maxQuantity = product.getMaxPurchasableQuantity(CartService.MAX_LINE_QUANTITY);
+        LineStatus status;
+        if (maxQuantity == 0) {
+            status = product.getStatus() == Product.ProductStatus.ACTIVE
+                    ? LineStatus.OUT_OF_STOCK
+                    : LineStatus.UNAVAILABLE;
+        } else if (line.getQuantity() > maxQuantity) {
+            status = LineStatus.INSUFFICIENT_STOCK;
+        } else {
+            status = LineStatus.AVAILABLE;
+        }
+        return new LineValidation(line.getProductId(), product.getName(), line.getQuantity(), status, maxQuantity,
+                line.getUnitPrice(), product.getPrice(), product.getPrice().minus(line.getUnitPrice()));
+    }
+}
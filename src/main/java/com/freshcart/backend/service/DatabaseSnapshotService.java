@@ -0,0 +1,106 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.SnapshotResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Online snapshots of the file-backed H2 database
+ * 
+ * Features:
+ * - Consistent online backup with H2's BACKUP TO while the application serves traffic
+ * - Snapshot listing for operators
+ * - Snapshots are restored on startup by
+ *   {@link com.freshcart.backend.config.SnapshotRestoreEnvironmentPostProcessor}
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseSnapshotService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String SNAPSHOT_PREFIX = "freshcart-";
+    private static final String SNAPSHOT_SUFFIX = ".zip";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url}")
+    private String datasourceUrl;
+
+    @Value("${freshcart.persistence.snapshot.dir}")
+    private String snapshotDir;
+
+    /**
+     * Create an online snapshot of the database
+     * 
+     * @return Created snapshot
+     */
+    public SnapshotResponse createSnapshot() {
+        if (!datasourceUrl.startsWith("jdbc:h2:file:")) {
+            throw new IllegalStateException("Snapshots require the file-backed database (persistent profile)");
+        }
+        try {
+            Path directory = Paths.get(snapshotDir).toAbsolutePath();
+            Files.createDirectories(directory);
+            Path target = directory.resolve(SNAPSHOT_PREFIX + LocalDateTime.now().format(FILE_TIMESTAMP) + SNAPSHOT_SUFFIX);
+
+            long start = System.nanoTime();
+            jdbcTemplate.execute("BACKUP TO '" + target.toString().replace("'", "''") + "'");
+            log.info("Created database snapshot {} in {} ms", target, (System.nanoTime() - start) / 1_000_000);
+            return toResponse(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create snapshot directory " + snapshotDir, e);
+        }
+    }
+
+    /**
+     * List available snapshots, newest first
+     * 
+     * @return Snapshots
+     */
+    public List<SnapshotResponse> listSnapshots() {
+        Path directory = Paths.get(snapshotDir).toAbsolutePath();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .map(this::toResponse)
+                    .sorted(Comparator.comparing(SnapshotResponse::getCreatedAt).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list snapshots in " + snapshotDir, e);
+        }
+    }
+
+    private SnapshotResponse toResponse(Path file) {
+        try {
+            LocalDateTime modified = LocalDateTime.ofInstant(
+                    Files.getLastModifiedTime(file).toInstant(), ZoneId.systemDefault());
+            return new SnapshotResponse(file.getFileName().toString(), file.toString(), Files.size(file), modified);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read snapshot " + file, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Evicts second-level cache entries for rows changed outside Hibernate
+ * 
+ * Set-based SQL and JDBC batch updates bypass the persistence context, so
+ * callers that modify cached tables that way must evict the affected rows
+ * after commit.
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictProducts(Collection<Long> productIds) {
+        jakarta.persistence.Cache cache = entityManagerFactory.getCache();
+        for (Long productId : productIds) {
+            cache.evict(Product.class, productId);
+        }
+    }
+
+    public void evictUser(Long userId) {
+        entityManagerFactory.getCache().evict(User.class, userId);
+    }
+}
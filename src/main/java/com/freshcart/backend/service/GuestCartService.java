@@ -0,0 +1,148 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.CartLineResponse;
+import com.freshcart.backend.dto.response.CartResponse;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.repository.ProductRepository;
+import com.freshcart.backend.service.cart.GuestCartTokenCodec;
+import com.freshcart.backend.service.pricing.OrderTotals;
+import com.freshcart.backend.service.pricing.PricingContext;
+import com.freshcart.backend.service.pricing.TotalsEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Anonymous guest cart service
+ * 
+ * Features:
+ * - The cart lives entirely in a signed token held by the client; guest cart
+ *   operations never write to the database
+ * - Product data comes from the second-level cache
+ * - Guest lines are priced at the current product price
+ * - Same per-line quantity limit as the user cart
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GuestCartService {
+
+    private final GuestCartTokenCodec tokenCodec;
+    private final ProductRepository productRepository;
+    private final TotalsEngine totalsEngine;
+
+    /**
+     * Guest cart with its re-issued token
+     * 
+     * @param token Token to send with the next request
+     * @param cart Cart contents
+     */
+    public record GuestCart(String token, CartResponse cart) {
+    }
+
+    /**
+     * Read a guest cart
+     * 
+     * @param token Guest cart token
+     * @return Guest cart
+     */
+    public GuestCart getCart(String token) {
+        return toGuestCart(tokenCodec.decode(token));
+    }
+
+    /**
+     * Add a product to a guest cart, or increase its quantity if already present
+     * 
+     * @param token Guest cart token
+     * @param productId Product ID
+     * @param quantity Quantity to add
+     * @return Updated guest cart
+     */
+    public GuestCart addItem(String token, Long productId, int quantity) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", productId));
+        if (!product.isInStock()) {
+            throw new BusinessException("Product is not available: " + product.getName());
+        }
+        Map<Long, Integer> lines = tokenCodec.decode(token);
+        lines.put(productId, checkQuantity(lines.getOrDefault(productId, 0) + quantity));
+        return toGuestCart(lines);
+    }
+
+    /**
+     * Set the quantity of a guest cart line
+     * 
+     * @param token Guest cart token
+     * @param productId Product ID
+     * @param quantity New quantity
+     * @return Updated guest cart
+     */
+    public GuestCart updateQuantity(String token, Long productId, int quantity) {
+        Map<Long, Integer> lines = tokenCodec.decode(token);
+        if (!lines.containsKey(productId)) {
+            throw new ResourceNotFoundException("Cart item for product", productId);
+        }
+        lines.put(productId, checkQuantity(quantity));
+        return toGuestCart(lines);
+    }
+
+    /**
+     * Remove a line from a guest cart
+     * 
+     * @param token Guest cart token
+     * @param productId Product ID
+     * @return Updated guest cart
+     */
+    public GuestCart removeItem(String token, Long productId) {
+        Map<Long, Integer> lines = tokenCodec.decode(token);
+        if (lines.remove(productId) == null) {
+            throw new ResourceNotFoundException("Cart item for product", productId);
+        }
+        return toGuestCart(lines);
+    }
+
+    private GuestCart toGuestCart(Map<Long, Integer> lines) {
+        Map<Long, Product> products = productRepository.findAllByIdCached(lines.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        // Products deleted since the token was issued are dropped from the cart
+        lines.keySet().retainAll(products.keySet());
+
+        List<CartLineResponse> responses = new ArrayList<>(lines.size());
+        OrderTotals totals = totalsEngine.newTotals(PricingContext.NONE, lines.size());
+        for (Map.Entry<Long, Integer> line : lines.entrySet()) {
+            Product product = products.get(line.getKey());
+            CartLineResponse response = new CartLineResponse();
+            response.setProductId(product.getId());
+            response.setProductName(product.getName());
+            response.setProductSlug(product.getSlug());
+            response.setPrimaryImageUrl(product.getPrimaryImageUrl());
+            response.setUnit(product.getUnit());
+            response.setQuantity(line.getValue());
+            response.setUnitPrice(product.getPrice());
+            response.setCurrentPrice(product.getPrice());
+            response.setStockQuantity(product.getStockQuantity());
+            response.setMaxOrderQuantity(product.getMaxOrderQuantity());
+            response.setProductStatus(product.getStatus());
+            responses.add(response);
+            totals.addLine(product.getId(), product.getPrice(), line.getValue());
+        }
+        return new GuestCart(tokenCodec.encode(lines), totalsEngine.toCartResponse(responses, totals));
+    }
+
+    private int checkQuantity(int quantity) {
+        if (quantity < 1 || quantity > CartService.MAX_LINE_QUANTITY) {
+            throw new BusinessException("Quantity must be between 1 and " + CartService.MAX_LINE_QUANTITY);
+        }
+        return quantity;
+    }
+}
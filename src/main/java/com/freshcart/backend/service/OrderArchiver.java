@@ -0,0 +1,207 @@
+package com.freshcart.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freshcart.backend.dto.response.OrderDetailResponse;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.mapper.OrderMapper;
+import com.freshcart.backend.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves closed orders out of the hot order tables
+ * 
+ * Features:
+ * - Delivered, cancelled and refunded orders older than the archive age are
+ *   moved to {@code archived_orders} as gzip-compressed order details
+ * - Orders with undelivered outbox events, pending or failed, are left until
+ *   those are delivered or requeued and delivered
+ * - Moves run in chunks, one short transaction per chunk (copy, then delete
+ *   items and order), with a pause between chunks
+ * - {@link #findDetail} serves archived orders to the order detail API
+ * 
+ * The order history read model keeps its rows, so archived orders still
+ * appear in a customer's history.
+ * 
+ * Metric: freshcart.orders.archived
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class OrderArchiver {
+
+    private static final String FIND_CANDIDATES_SQL =
+            "SELECT o.id FROM orders o WHERE o.order_date < :cutoff " +
+            "AND o.status IN ('DELIVERED', 'CANCELLED', 'REFUNDED') " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events e WHERE e.aggregate_id = o.id AND e.status <> 'DONE') " +
+            "ORDER BY o.order_date LIMIT :limit";
+
+    private static final String INSERT_ARCHIVE_SQL =
+            "INSERT INTO archived_orders (order_id, user_id, order_number, order_date, status, total_amount, " +
+            "partition_month, archived_at, payload, created_at, updated_at, version) " +
+            "VALUES (:orderId, :userId, :orderNumber, :orderDate, :status, :totalAmount, " +
+            ":partitionMonth, :archivedAt, :payload, :archivedAt, :archivedAt, 0)";
+
+    private static final String DELETE_ITEMS_SQL = "DELETE FROM order_items WHERE order_id IN (:orderIds)";
+
+    private static final String DELETE_ORDERS_SQL = "DELETE FROM orders WHERE id IN (:orderIds)";
+
+    private static final String FIND_PAYLOAD_SQL =
+            "SELECT payload FROM archived_orders WHERE order_id = :orderId AND user_id = :userId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+    private final Duration archiveAfter;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration pause;
+    private final Counter archived;
+
+    public OrderArchiver(NamedParameterJdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         OrderRepository orderRepository,
+                         OrderMapper orderMapper,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${freshcart.archive.after-days:${freshcart.business.order-expiry-days:30}}") int afterDays,
+                         @Value("${freshcart.archive.chunk-size:200}") int chunkSize,
+                         @Value("${freshcart.archive.max-chunks:500}") int maxChunks,
+                         @Value("${freshcart.archive.pause:100ms}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.objectMapper = objectMapper;
+        this.archiveAfter = Duration.ofDays(afterDays);
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.pause = pause;
+        this.archived = meterRegistry.counter("freshcart.orders.archived");
+    }
+
+    /**
+     * Archive closed orders older than the archive age
+     * 
+     * @return Number of orders archived
+     */
+    @Scheduled(cron = "${freshcart.archive.cron:0 30 3 * * *}")
+    public int archive() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(archiveAfter));
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            Integer moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            int count = moved != null ? moved : 0;
+            total += count;
+            archived.increment(count);
+            if (count < chunkSize || !throttle()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} closed orders older than {}", total, cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * Look up an archived order of a customer
+     * 
+     * @param userId Owner
+     * @param orderId Order ID
+     * @return Order detail as it was when archived, if the order is archived
+     */
+    public Optional<OrderDetailResponse> findDetail(Long userId, Long orderId) {
+        List<byte[]> payloads = jdbcTemplate.query(FIND_PAYLOAD_SQL,
+                new MapSqlParameterSource("orderId", orderId).addValue("userId", userId),
+                (rs, rowNum) -> rs.getBytes("payload"));
+        return payloads.stream().findFirst().map(this::decompress);
+    }
+
+    private int archiveChunk(Timestamp cutoff) {
+        List<Long> orderIds = jdbcTemplate.queryForList(FIND_CANDIDATES_SQL,
+                new MapSqlParameterSource("cutoff", cutoff).addValue("limit", chunkSize), Long.class);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Order> orders = orderRepository.findByIdIn(orderIds);
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] rows = new SqlParameterSource[orders.size()];
+        for (int i = 0; i < rows.length; i++) {
+            Order order = orders.get(i);
+            LocalDateTime orderDate = order.getOrderDate();
+            rows[i] = new MapSqlParameterSource("orderId", order.getId())
+                    .addValue("userId", order.getUser().getId())
+                    .addValue("orderNumber", order.getOrderNumber())
+                    .addValue("orderDate", Timestamp.valueOf(orderDate))
+                    .addValue("status", order.getStatus().name())
+                    .addValue("totalAmount", order.getTotalAmount().toBigDecimal())
+                    .addValue("partitionMonth", orderDate.getYear() * 100 + orderDate.getMonthValue())
+                    .addValue("archivedAt", archivedAt)
+                    .addValue("payload", compress(orderMapper.toDetailResponse(order)));
+        }
+        jdbcTemplate.batchUpdate(INSERT_ARCHIVE_SQL, rows);
+
+        MapSqlParameterSource ids = new MapSqlParameterSource("orderIds", orderIds);
+        jdbcTemplate.update(DELETE_ITEMS_SQL, ids);
+        jdbcTemplate.update(DELETE_ORDERS_SQL, ids);
+        return orders.size();
+    }
+
+    private byte[] compress(OrderDetailResponse detail) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, detail);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot archive order " + detail.getId(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private OrderDetailResponse decompress(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, OrderDetailResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read archived order", e);
+        }
+    }
+
+    private boolean throttle() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.request.BulkOrderStatusRequest;
+import com.freshcart.backend.dto.request.OrderStatusUpdateRequest;
+import com.freshcart.backend.dto.response.BulkOrderStatusResponse;
+import com.freshcart.backend.dto.response.OrderDetailResponse;
+import com.freshcart.backend.dto.response.OrderHistoryResponse;
+import com.freshcart.backend.dto.response.OrderSummaryResponse;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.OrderSummary;
+import com.freshcart.backend.event.OrderStatusBatchChangedEvent;
+import com.freshcart.backend.event.OrderStatusChangedEvent;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.mapper.OrderMapper;
+import com.freshcart.backend.repository.OrderRepository;
+import com.freshcart.backend.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Order service
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderService {
+
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    private static final String LOAD_STATES_SQL =
+            "SELECT id, user_id, status, payment_status FROM orders WHERE id IN (:orderIds)";
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE orders SET status = :status, " +
+            "shipped_date = CASE WHEN :status = 'SHIPPED' THEN COALESCE(shipped_date, :now) ELSE shipped_date END, " +
+            "delivered_date = CASE WHEN :status = 'DELIVERED' THEN COALESCE(delivered_date, :now) ELSE delivered_date END, " +
+            "tracking_number = COALESCE(CAST(:trackingNumber AS VARCHAR(255)), tracking_number), " +
+            "updated_at = :now, version = version + 1 " +
+            "WHERE id = :id AND status = :expectedStatus AND payment_status = :expectedPaymentStatus";
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderMapper orderMapper;
+    private final OrderArchiver orderArchiver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * List a customer's orders without loading order items
+     * 
+     * @param userId User ID
+     * @param pageable Page request
+     * @return Page of order summaries
+     */
+    public Page<OrderSummaryResponse> getOrderSummaries(Long userId, Pageable pageable) {
+        return orderRepository.findSummariesByUserId(userId, pageable);
+    }
+
+    /**
+     * Get one of a customer's orders with its items, loaded with the
+     * order-detail fetch plan in a single statement, falling back to the
+     * order archive for orders that have been archived
+     * 
+     * @param userId User ID of the order owner
+     * @param orderId Order ID
+     * @return Order detail
+     */
+    public OrderDetailResponse getOrderDetail(Long userId, Long orderId) {
+        return orderRepository.findByIdAndUserId(orderId, userId)
+                .map(orderMapper::toDetailResponse)
+                .or(() -> orderArchiver.findDetail(userId, orderId))
+                .orElseThrow(() -> new ResourceNotFoundException("Order", orderId));
+    }
+
+    /**
+     * Page through a customer's order history, newest first, from the
+     * {@code order_summaries} read model
+     * 
+     * @param userId User ID
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size, clamped to 1..100
+     * @return Order history page
+     */
+    public OrderHistoryResponse getOrderHistory(Long userId, String cursor, int size) {
+        size = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        Limit limit = Limit.of(size + 1);
+        List<OrderSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = orderSummaryRepository.findFirstPage(userId, limit);
+        } else {
+            int separator = cursor.indexOf('_');
+            LocalDateTime orderDate;
+            long orderId;
+            try {
+                orderDate = LocalDateTime.parse(cursor.substring(0, separator));
+                orderId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BusinessException("Invalid order history cursor");
+            }
+            rows = orderSummaryRepository.findPageBefore(userId, orderDate, orderId, limit);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<OrderSummary> page = hasMore ? rows.subList(0, size) : rows;
+        List<OrderHistoryResponse.Entry> entries = new ArrayList<>(page.size());
+        for (OrderSummary summary : page) {
+            entries.add(toHistoryEntry(summary));
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            OrderSummary last = page.get(page.size() - 1);
+            nextCursor = last.getOrderDate() + "_" + last.getOrderId();
+        }
+        return new OrderHistoryResponse(entries, nextCursor);
+    }
+
+    /**
+     * Move an order to a new status, keeping the history read model in step
+     * 
+     * @param orderId Order ID
+     * @param request New status and, optionally, payment status and tracking number
+     * @throws BusinessException if the order cannot move to the requested status
+     */
+    @Transactional
+    public void updateOrderStatus(Long orderId, OrderStatusUpdateRequest request) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order", orderId));
+        Order.OrderStatus previousStatus = order.getStatus();
+        Order.PaymentStatus previousPaymentStatus = order.getPaymentStatus();
+        if (request.getPaymentStatus() != null) {
+            order.setPaymentStatus(request.getPaymentStatus());
+        }
+        if (request.getStatus() != previousStatus && !order.canTransitionTo(request.getStatus())) {
+            throw new BusinessException("Order " + orderId + " cannot move from " + previousStatus
+                    + " to " + request.getStatus());
+        }
+        order.setStatus(request.getStatus());
+        if (request.getTrackingNumber() != null) {
+            order.setTrackingNumber(request.getTrackingNumber());
+        }
+        if (previousStatus == order.getStatus() && previousPaymentStatus == order.getPaymentStatus()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (request.getStatus() == Order.OrderStatus.SHIPPED && order.getShippedDate() == null) {
+            order.setShippedDate(now);
+        } else if (request.getStatus() == Order.OrderStatus.DELIVERED && order.getDeliveredDate() == null) {
+            order.setDeliveredDate(now);
+        }
+        if (previousPaymentStatus != Order.PaymentStatus.PAID && order.getPaymentStatus() == Order.PaymentStatus.PAID) {
+            order.setPaymentDate(now);
+        }
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, order.getUser().getId(),
+                previousStatus, order.getStatus(), previousPaymentStatus, order.getPaymentStatus()));
+    }
+
+    /**
+     * Move many orders to the same status in one transaction
+     * 
+     * All orders are read and checked in one query, the legal transitions are
+     * applied in one JDBC batch of conditional UPDATEs, and the changes are
+     * published as one {@link OrderStatusBatchChangedEvent}. An UPDATE only
+     * applies if the order still has the status and payment status it was
+     * checked with; otherwise the order is reported as a conflict.
+     * 
+     * @param request Target status and orders
+     * @return Outcome per order, in request order
+     */
+    @Transactional
+    public BulkOrderStatusResponse updateOrderStatuses(BulkOrderStatusRequest request) {
+        Order.OrderStatus target = request.getStatus();
+        Map<Long, String> trackingNumbers = new LinkedHashMap<>();
+        for (BulkOrderStatusRequest.Item item : request.getOrders()) {
+            trackingNumbers.put(item.getOrderId(), item.getTrackingNumber());
+        }
+
+        Map<Long, OrderState> states = new HashMap<>();
+        jdbcTemplate.query(LOAD_STATES_SQL, new MapSqlParameterSource("orderIds", trackingNumbers.keySet()), rs -> {
+            states.put(rs.getLong("id"), new OrderState(rs.getLong("user_id"),
+                    Order.OrderStatus.valueOf(rs.getString("status")),
+                    Order.PaymentStatus.valueOf(rs.getString("payment_status"))));
+        });
+
+        Map<Long, BulkOrderStatusResponse.Result> results = new LinkedHashMap<>();
+        List<Long> candidates = new ArrayList<>();
+        for (Long orderId : trackingNumbers.keySet()) {
+            OrderState state = states.get(orderId);
+            BulkOrderStatusResponse.Outcome outcome;
+            if (state == null) {
+                outcome = BulkOrderStatusResponse.Outcome.NOT_FOUND;
+            } else if (state.status() == target) {
+                outcome = BulkOrderStatusResponse.Outcome.UNCHANGED;
+            } else if (!Order.isLegalTransition(state.status(), state.paymentStatus(), target)) {
+                outcome = BulkOrderStatusResponse.Outcome.ILLEGAL_TRANSITION;
+            } else {
+                outcome = BulkOrderStatusResponse.Outcome.UPDATED;
+                candidates.add(orderId);
+            }
+            results.put(orderId, new BulkOrderStatusResponse.Result(orderId, outcome,
+                    state != null ? state.status() : null));
+        }
+
+        List<OrderStatusChangedEvent> changes = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            SqlParameterSource[] updates = new SqlParameterSource[candidates.size()];
+            for (int i = 0; i < updates.length; i++) {
+                Long orderId = candidates.get(i);
+                OrderState state = states.get(orderId);
+                updates[i] = new MapSqlParameterSource("id", orderId)
+                        .addValue("status", target.name())
+                        .addValue("trackingNumber", trackingNumbers.get(orderId))
+                        .addValue("now", now)
+                        .addValue("expectedStatus", state.status().name())
+                        .addValue("expectedPaymentStatus", state.paymentStatus().name());
+            }
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, updates);
+            for (int i = 0; i < counts.length; i++) {
+                Long orderId = candidates.get(i);
+                OrderState state = states.get(orderId);
+                if (counts[i] == 0) {
+                    results.get(orderId).setOutcome(BulkOrderStatusResponse.Outcome.CONFLICT);
+                } else {
+                    changes.add(new OrderStatusChangedEvent(orderId, state.userId(), state.status(), target,
+                            state.paymentStatus(), state.paymentStatus()));
+                }
+            }
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new OrderStatusBatchChangedEvent(changes));
+        }
+        return new BulkOrderStatusResponse(changes.size(), new ArrayList<>(results.values()));
+    }
+
+    private OrderHistoryResponse.Entry toHistoryEntry(OrderSummary summary) {
+        List<String> thumbnails = Stream.of(summary.getThumbnail1(), summary.getThumbnail2(), summary.getThumbnail3())
+                .filter(url -> url != null)
+                .toList();
+        return new OrderHistoryResponse.Entry(summary.getOrderId(), summary.getOrderNumber(),
+                summary.getOrderDate(), summary.getStatus(), summary.getPaymentStatus(),
+                summary.getTotalAmount(), summary.getCurrency(), summary.getItemCount(), thumbnails);
+    }
+
+    private record OrderState(Long userId, Order.OrderStatus status, Order.PaymentStatus paymentStatus) {
+    }
+}
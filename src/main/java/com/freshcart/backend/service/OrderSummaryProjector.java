@@ -0,0 +1,103 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.event.OrderPlacedEvent;
+import com.freshcart.backend.event.OrderStatusBatchChangedEvent;
+import com.freshcart.backend.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Maintains the {@code order_summaries} read model
+ * 
+ * Features:
+ * - Summary rows are written in the same transaction as the order change,
+ *   so the history never shows an order that was rolled back
+ * - Item count and thumbnails are copied with one INSERT ... SELECT
+ * - Status changes update the row in place; bulk changes in one JDBC batch
+ * - Orders without a summary (e.g. from before the read model existed) are
+ *   backfilled on startup
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryProjector {
+
+    private static final String THUMBNAIL_SQL =
+            "(SELECT oi.product_image_url FROM order_items oi WHERE oi.order_id = o.id " +
+            "ORDER BY oi.id LIMIT 1 OFFSET %d)";
+
+    private static final String PROJECT_SQL =
+            "INSERT INTO order_summaries (order_id, user_id, order_number, order_date, status, payment_status, " +
+            "total_amount, currency, item_count, thumbnail_1, thumbnail_2, thumbnail_3, " +
+            "created_at, updated_at, version) " +
+            "SELECT o.id, o.user_id, o.order_number, o.order_date, o.status, o.payment_status, " +
+            "o.total_amount, o.currency, " +
+            "(SELECT COALESCE(SUM(oi.quantity), 0) FROM order_items oi WHERE oi.order_id = o.id), " +
+            THUMBNAIL_SQL.formatted(0) + ", " + THUMBNAIL_SQL.formatted(1) + ", " + THUMBNAIL_SQL.formatted(2) + ", " +
+            "LOCALTIMESTAMP, LOCALTIMESTAMP, 0 " +
+            "FROM orders o WHERE %s " +
+            "AND NOT EXISTS (SELECT 1 FROM order_summaries s WHERE s.order_id = o.id)";
+
+    private static final String PROJECT_ORDER_SQL = PROJECT_SQL.formatted("o.id = :orderId");
+
+    private static final String BACKFILL_SQL = PROJECT_SQL.formatted("1 = 1");
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE order_summaries SET status = :status, payment_status = :paymentStatus, " +
+            "updated_at = LOCALTIMESTAMP, version = version + 1 WHERE order_id = :orderId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        jdbcTemplate.update(PROJECT_ORDER_SQL, new MapSqlParameterSource("orderId", event.orderId()));
+    }
+
+    @EventListener
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        updateStatuses(List.of(event));
+    }
+
+    @EventListener
+    public void onStatusesChanged(OrderStatusBatchChangedEvent event) {
+        updateStatuses(event.changes());
+    }
+
+    private void updateStatuses(List<OrderStatusChangedEvent> changes) {
+        SqlParameterSource[] rows = new SqlParameterSource[changes.size()];
+        for (int i = 0; i < rows.length; i++) {
+            OrderStatusChangedEvent change = changes.get(i);
+            rows[i] = new MapSqlParameterSource("orderId", change.orderId())
+                    .addValue("status", change.status().name())
+                    .addValue("paymentStatus", change.paymentStatus().name());
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, rows);
+    }
+
+    /**
+     * Create summaries for all orders that lack one
+     * 
+     * @return Number of summaries created
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfill() {
+        Integer created = transactionTemplate.execute(status ->
+                jdbcTemplate.update(BACKFILL_SQL, new MapSqlParameterSource()));
+        if (created != null && created > 0) {
+            log.info("Backfilled {} order summaries", created);
+        }
+        return created != null ? created : 0;
+    }
+}
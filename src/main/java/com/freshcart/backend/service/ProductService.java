@@ -0,0 +1,145 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.request.PriceUpdateRequest;
+import com.freshcart.backend.dto.response.ProductCardResponse;
+import com.freshcart.backend.dto.response.ProductDetailResponse;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.event.ProductPriceChangedEvent;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Product service
+ * 
+ * Features:
+ * - Catalog listings served from narrow card projections
+ * - Product detail served from a detail projection
+ * - Gallery images attached with one batched IN query per page
+ * - Bulk price updates publish a price-change event per changed product
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductService {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * List active products as cards
+     * 
+     * @param categoryId Optional category filter
+     * @param includeImages Whether to attach gallery images
+     * @param pageable Page request
+     * @return Page of product cards
+     */
+    public Page<ProductCardResponse> getProductCards(Long categoryId, boolean includeImages, Pageable pageable) {
+        Page<ProductCardResponse> page = categoryId == null
+                ? productRepository.findCardsByStatus(Product.ProductStatus.ACTIVE, pageable)
+                : productRepository.findCardsByStatusAndCategory(Product.ProductStatus.ACTIVE, categoryId, pageable);
+        if (includeImages) {
+            attachImages(page.getContent());
+        }
+        return page;
+    }
+
+    /**
+     * List featured products as cards
+     * 
+     * @param pageable Page request
+     * @return Page of product cards
+     */
+    public Page<ProductCardResponse> getFeaturedCards(Pageable pageable) {
+        return productRepository.findFeaturedCards(Product.ProductStatus.ACTIVE, pageable);
+    }
+
+    /**
+     * Search active products by name
+     * 
+     * @param term Search term
+     * @param pageable Page request
+     * @return Page of product cards
+     */
+    public Page<ProductCardResponse> searchProductCards(String term, Pageable pageable) {
+        return productRepository.searchCards(Product.ProductStatus.ACTIVE, term, pageable);
+    }
+
+    /**
+     * Get product detail with its gallery images
+     * 
+     * @param productId Product ID
+     * @return Product detail
+     */
+    public ProductDetailResponse getProductDetail(Long productId) {
+        ProductDetailResponse detail = productRepository.findDetailById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", productId));
+        detail.setImageUrls(loadImageUrls(List.of(productId)).getOrDefault(productId, new ArrayList<>()));
+        return detail;
+    }
+
+    /**
+     * Update the prices of several products
+     * 
+     * Carts holding a repriced product pick up the new price once the
+     * transaction commits.
+     * 
+     * @param updates Price updates
+     * @return Number of products whose price changed
+     */
+    @Transactional
+    public int updatePrices(Collection<PriceUpdateRequest> updates) {
+        Map<Long, Product> products = productRepository.findAllById(
+                        updates.stream().map(PriceUpdateRequest::getProductId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        int changed = 0;
+        for (PriceUpdateRequest update : updates) {
+            Product product = products.get(update.getProductId());
+            if (product == null) {
+                throw new ResourceNotFoundException("Product", update.getProductId());
+            }
+            if (product.getPrice().compareTo(update.getPrice()) != 0) {
+                eventPublisher.publishEvent(new ProductPriceChangedEvent(
+                        product.getId(), product.getPrice(), update.getPrice()));
+                product.setPrice(update.getPrice());
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private void attachImages(List<ProductCardResponse> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> images = loadImageUrls(cards.stream().map(ProductCardResponse::getId).toList());
+        for (ProductCardResponse card : cards) {
+            card.setImageUrls(images.getOrDefault(card.getId(), new ArrayList<>()));
+        }
+    }
+
+    private Map<Long, List<String>> loadImageUrls(List<Long> productIds) {
+        Map<Long, List<String>> images = new HashMap<>();
+        for (Object[] row : productRepository.findImageUrlsByProductIds(productIds)) {
+            images.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return images;
+    }
+}
@@ -0,0 +1,87 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.ReviewPageResponse;
+import com.freshcart.backend.dto.response.ReviewResponse;
+import com.freshcart.backend.entity.Review;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Product review service
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewVoteBuffer reviewVoteBuffer;
+
+    /**
+     * List approved reviews of a product, most helpful first
+     * 
+     * Pages are addressed by a keyset cursor of the last review's
+     * helpfulness score and ID, so deep pages cost the same as the first.
+     * 
+     * @param productId Product ID
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Page size, clamped to 1..50
+     * @return Page of reviews with the cursor of the next page
+     */
+    public ReviewPageResponse getProductReviews(Long productId, String cursor, int size) {
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Limit limit = Limit.of(size + 1);
+        List<ReviewResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = reviewRepository.findFirstPage(productId, Review.ReviewStatus.APPROVED, limit);
+        } else {
+            int separator = cursor.indexOf('_');
+            double score;
+            long reviewId;
+            try {
+                score = Double.parseDouble(cursor.substring(0, separator));
+                reviewId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new BusinessException("Invalid review cursor");
+            }
+            rows = reviewRepository.findPageAfter(productId, Review.ReviewStatus.APPROVED, score, reviewId, limit);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<ReviewResponse> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ReviewResponse last = page.get(page.size() - 1);
+            nextCursor = last.getHelpfulnessScore() + "_" + last.getId();
+        }
+        return new ReviewPageResponse(page, nextCursor);
+    }
+
+    /**
+     * Record a customer's helpful / not helpful vote, replacing their earlier
+     * vote on the review; the vote, counts and the review's score are written
+     * by the next {@link ReviewVoteBuffer} flush, so the request path only
+     * reads whether the review exists
+     * 
+     * @param reviewId Review ID
+     * @param userId Voter
+     * @param helpful Whether the review was helpful
+     */
+    public void vote(Long reviewId, Long userId, boolean helpful) {
+        if (!reviewRepository.existsByIdAndStatus(reviewId, Review.ReviewStatus.APPROVED)) {
+            throw new ResourceNotFoundException("Review", reviewId);
+        }
+        reviewVoteBuffer.record(reviewId, userId, helpful);
+    }
+}
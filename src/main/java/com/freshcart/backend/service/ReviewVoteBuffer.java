@@ -0,0 +1,242 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.entity.Review;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Write-behind buffer of helpful / not helpful votes on reviews
+ * 
+ * Features:
+ * - One vote per customer and review: votes are kept in memory per review
+ *   and voter, the latest vote wins, and flushed votes are recorded in
+ *   {@code review_votes}, so a repeated vote is not counted twice and a
+ *   changed vote moves the review's counts
+ * - Votes are not written on the request path; {@link ReviewService} only
+ *   checks that the review exists before buffering
+ * - A scheduled flush reads the previous votes of a chunk, writes the new
+ *   ones and the review count deltas in JDBC batches, and recomputes the
+ *   persisted Wilson score of every changed review in the same transaction
+ * - Count updates bump the review's version, so a concurrent JPA update of
+ *   the review fails its optimistic lock instead of overwriting the counts
+ * - Votes of a failed flush, including one that lost a race with another
+ *   instance for the same voter, are put back and retried on the next pass
+ *   unless a newer vote of the same voter has arrived
+ * - Pending votes are flushed on graceful shutdown
+ * 
+ * Metrics: freshcart.reviews.votes.pending (buffered votes),
+ * freshcart.reviews.votes.flushed (votes written)
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class ReviewVoteBuffer {
+
+    private static final String LOAD_PREVIOUS_SQL =
+            "SELECT review_id, user_id, helpful FROM review_votes " +
+            "WHERE review_id IN (:reviewIds) AND user_id IN (:userIds)";
+
+    // Inserts nothing if the review has been deleted since the vote was buffered
+    private static final String INSERT_VOTE_SQL =
+            "INSERT INTO review_votes (review_id, user_id, helpful, created_at, updated_at, version) " +
+            "SELECT id, :userId, :helpful, :now, :now, 0 FROM reviews WHERE id = :reviewId";
+
+    private static final String CHANGE_VOTE_SQL =
+            "UPDATE review_votes SET helpful = :helpful, updated_at = :now, version = version + 1 " +
+            "WHERE review_id = :reviewId AND user_id = :userId AND helpful = :previous";
+
+    private static final String ADD_VOTES_SQL =
+            "UPDATE reviews SET helpful_votes = helpful_votes + :helpful, " +
+            "not_helpful_votes = not_helpful_votes + :notHelpful, version = version + 1 WHERE id = :id";
+
+    private static final String LOAD_VOTES_SQL =
+            "SELECT id, helpful_votes, not_helpful_votes FROM reviews WHERE id IN (:ids)";
+
+    private static final String UPDATE_SCORE_SQL =
+            "UPDATE reviews SET helpfulness_score = :score WHERE id = :id";
+
+    private final ConcurrentMap<VoteKey, Boolean> pending = new ConcurrentHashMap<>();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter flushedVotes;
+
+    public ReviewVoteBuffer(NamedParameterJdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${freshcart.reviews.votes.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.flushedVotes = meterRegistry.counter("freshcart.reviews.votes.flushed");
+        Gauge.builder("freshcart.reviews.votes.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Buffer one vote, replacing a buffered vote of the same voter
+     * 
+     * @param reviewId Review ID
+     * @param userId Voter
+     * @param helpful Whether the voter found the review helpful
+     */
+    public void record(Long reviewId, Long userId, boolean helpful) {
+        pending.put(new VoteKey(reviewId, userId), helpful);
+    }
+
+    @Scheduled(fixedDelayString = "${freshcart.reviews.votes.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<VoteKey, Boolean>> drained = new ArrayList<>();
+        for (VoteKey key : new ArrayList<>(pending.keySet())) {
+            Boolean helpful = pending.remove(key);
+            if (helpful != null) {
+                drained.add(Map.entry(key, helpful));
+            }
+        }
+
+        int votes = 0;
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Map.Entry<VoteKey, Boolean>> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+                votes += batch.size();
+                flushedVotes.increment(batch.size());
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} review votes: {}", batch.size(), e.getMessage());
+                batch.forEach(entry -> pending.putIfAbsent(entry.getKey(), entry.getValue()));
+            }
+        }
+        log.debug("Flushed {} review votes", votes);
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flush();
+    }
+
+    private void write(List<Map.Entry<VoteKey, Boolean>> batch) {
+        Set<Long> reviewIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (Map.Entry<VoteKey, Boolean> entry : batch) {
+            reviewIds.add(entry.getKey().reviewId());
+            userIds.add(entry.getKey().userId());
+        }
+        Map<VoteKey, Boolean> previous = new HashMap<>();
+        jdbcTemplate.query(LOAD_PREVIOUS_SQL,
+                new MapSqlParameterSource("reviewIds", reviewIds).addValue("userIds", userIds),
+                rs -> {
+                    previous.put(new VoteKey(rs.getLong("review_id"), rs.getLong("user_id")),
+                            rs.getBoolean("helpful"));
+                });
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<VoteKey, Boolean>> inserted = new ArrayList<>();
+        List<SqlParameterSource> inserts = new ArrayList<>();
+        List<SqlParameterSource> changes = new ArrayList<>();
+        Map<Long, VoteDelta> deltas = new LinkedHashMap<>();
+        for (Map.Entry<VoteKey, Boolean> entry : batch) {
+            VoteKey key = entry.getKey();
+            boolean helpful = entry.getValue();
+            Boolean before = previous.get(key);
+            if (before != null && before == helpful) {
+                continue;
+            }
+            MapSqlParameterSource vote = new MapSqlParameterSource("reviewId", key.reviewId())
+                    .addValue("userId", key.userId())
+                    .addValue("helpful", helpful)
+                    .addValue("now", now);
+            if (before == null) {
+                inserted.add(entry);
+                inserts.add(vote);
+            } else {
+                changes.add(vote.addValue("previous", before));
+                deltas.merge(key.reviewId(), VoteDelta.of(helpful).minus(VoteDelta.of(before)), VoteDelta::plus);
+            }
+        }
+
+        // A vote of the same voter inserted by another instance fails the batch; the retry sees it as a change
+        int[] insertCounts = jdbcTemplate.batchUpdate(INSERT_VOTE_SQL, inserts.toArray(new SqlParameterSource[0]));
+        for (int i = 0; i < insertCounts.length; i++) {
+            if (insertCounts[i] > 0) {
+                Map.Entry<VoteKey, Boolean> entry = inserted.get(i);
+                deltas.merge(entry.getKey().reviewId(), VoteDelta.of(entry.getValue()), VoteDelta::plus);
+            }
+        }
+        int[] changeCounts = jdbcTemplate.batchUpdate(CHANGE_VOTE_SQL, changes.toArray(new SqlParameterSource[0]));
+        for (int count : changeCounts) {
+            if (count == 0) {
+                throw new ConcurrencyFailureException("Review vote changed by another flush");
+            }
+        }
+
+        deltas.values().removeIf(VoteDelta::isZero);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] increments = deltas.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource("id", entry.getKey())
+                        .addValue("helpful", entry.getValue().helpful())
+                        .addValue("notHelpful", entry.getValue().notHelpful()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ADD_VOTES_SQL, increments);
+
+        // The increments hold the row locks, so these counts are final for this transaction
+        List<SqlParameterSource> scores = new ArrayList<>(deltas.size());
+        jdbcTemplate.query(LOAD_VOTES_SQL, new MapSqlParameterSource("ids", deltas.keySet()), rs -> {
+            scores.add(new MapSqlParameterSource("id", rs.getLong("id"))
+                    .addValue("score", Review.wilsonLowerBound(rs.getLong("helpful_votes"),
+                            rs.getLong("not_helpful_votes"))));
+        });
+        jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, scores.toArray(new SqlParameterSource[0]));
+    }
+
+    private record VoteKey(long reviewId, long userId) {
+    }
+
+    private record VoteDelta(long helpful, long notHelpful) {
+
+        static VoteDelta of(boolean helpful) {
+            return helpful ? new VoteDelta(1, 0) : new VoteDelta(0, 1);
+        }
+
+        VoteDelta plus(VoteDelta other) {
+            return new VoteDelta(helpful + other.helpful, notHelpful + other.notHelpful);
+        }
+
+        VoteDelta minus(VoteDelta other) {
+            return new VoteDelta(helpful - other.helpful, notHelpful - other.notHelpful);
+        }
+
+        boolean isZero() {
+            return helpful == 0 && notHelpful == 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.freshcart.backend.service.analytics;
+
+import com.freshcart.backend.event.OrderPlacedEvent;
+import com.freshcart.backend.service.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds placed orders to the sales rollups
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupPlacedHandler implements OutboxHandler<OrderPlacedEvent> {
+
+    private final SalesRollupService rollupService;
+
+    @Override
+    public Class<OrderPlacedEvent> eventType() {
+        return OrderPlacedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderPlacedEvent event) {
+        rollupService.applyPlaced(event.orderId());
+    }
+}
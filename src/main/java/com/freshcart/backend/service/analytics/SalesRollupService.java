@@ -0,0 +1,395 @@
+package com.freshcart.backend.service.analytics;
+
+import com.freshcart.backend.dto.response.SalesDashboardResponse;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.SalesRollup;
+import com.freshcart.backend.event.OrderStatusChangedEvent;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.service.outbox.OutboxWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Maintains and reads the {@code sales_rollups} tables behind the admin dashboard
+ * 
+ * Features:
+ * - Placed orders and status changes are applied as deltas with one MERGE
+ *   upsert per granularity; deltas commute, so outbox retries arriving out
+ *   of order still add up
+ * - Placed orders count under the status they were placed with; status
+ *   changes move the order's count and revenue from the old status to the new
+ * - Orders, items and revenue count only orders that are not cancelled or
+ *   refunded; an order is subtracted when it moves to either status. The
+ *   status breakdown still shows every order under its current status
+ * - A rebuild recomputes the rollups from one snapshot of order history and
+ *   settles the pending rollup deliveries it already covers, up to an outbox
+ *   ID watermark; buckets of archived orders are kept
+ * - The dashboard reads only rollup rows for the requested range, so its cost
+ *   depends on the range, not on the size of the order history
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class SalesRollupService {
+
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_RANGE = Duration.ofDays(731);
+    private static final int TOP_CATEGORIES = 10;
+
+    private static final String MERGE_SQL =
+            "MERGE INTO sales_rollups r USING (%s) s " +
+            "ON (r.granularity = s.granularity AND r.bucket_start = s.bucket_start " +
+            "AND r.dimension = s.dimension AND r.dimension_key = s.dimension_key) " +
+            "WHEN MATCHED THEN UPDATE SET order_count = r.order_count + s.order_count, " +
+            "item_count = r.item_count + s.item_count, revenue = r.revenue + s.revenue, " +
+            "updated_at = LOCALTIMESTAMP, version = r.version + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, dimension, dimension_key, " +
+            "order_count, item_count, revenue, created_at, updated_at, version) " +
+            "VALUES (s.granularity, s.bucket_start, s.dimension, s.dimension_key, " +
+            "s.order_count, s.item_count, s.revenue, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)";
+
+    /**
+     * Orders, items and revenue of the orders matching filter %2$s in every
+     * dimension except STATUS, bucketed by unit %1$s and multiplied by {@code :sign}
+     */
+    private static final String SALES_ROWS_SQL =
+            "SELECT DATE_TRUNC('%1$s', o.order_date) bucket_start, 'TOTAL' dimension, 'ALL' dimension_key, " +
+            "CAST(:sign AS INTEGER) order_count, 0 item_count, CAST(:sign AS INTEGER) * o.total_amount revenue " +
+            "FROM orders o WHERE %2$s " +
+            "UNION ALL " +
+            "SELECT DATE_TRUNC('%1$s', o.order_date), 'TOTAL', 'ALL', 0, CAST(:sign AS INTEGER) * oi.quantity, 0 " +
+            "FROM orders o JOIN order_items oi ON oi.order_id = o.id WHERE %2$s " +
+            "UNION ALL " +
+            "SELECT DATE_TRUNC('%1$s', o.order_date), 'PAYMENT_METHOD', COALESCE(o.payment_method, 'UNKNOWN'), " +
+            "CAST(:sign AS INTEGER), 0, CAST(:sign AS INTEGER) * o.total_amount FROM orders o WHERE %2$s " +
+            "UNION ALL " +
+            "SELECT DATE_TRUNC('%1$s', o.order_date), 'CUSTOMER', " +
+            "CASE WHEN EXISTS (SELECT 1 FROM orders e WHERE e.user_id = o.user_id AND e.id < o.id) " +
+            "THEN 'RETURNING' ELSE 'NEW' END, CAST(:sign AS INTEGER), 0, CAST(:sign AS INTEGER) * o.total_amount " +
+            "FROM orders o WHERE %2$s " +
+            "UNION ALL " +
+            "SELECT DATE_TRUNC('%1$s', o.order_date), 'CATEGORY', COALESCE(CAST(p.category_id AS VARCHAR(20)), 'NONE'), " +
+            "CAST(:sign AS INTEGER), CAST(:sign AS INTEGER) * SUM(oi.quantity), " +
+            "CAST(:sign AS INTEGER) * SUM(oi.total_price) " +
+            "FROM orders o JOIN order_items oi ON oi.order_id = o.id JOIN products p ON p.id = oi.product_id " +
+            "WHERE %2$s GROUP BY o.id, DATE_TRUNC('%1$s', o.order_date), p.category_id";
+
+    /**
+     * The orders matching filter %2$s in the STATUS dimension under key %3$s
+     */
+    private static final String STATUS_ROWS_SQL =
+            "SELECT DATE_TRUNC('%1$s', o.order_date), 'STATUS', %3$s, 1, 0, o.total_amount " +
+            "FROM orders o WHERE %2$s";
+
+    private static final String STATUS_DELTAS_SQL =
+            "SELECT '%1$s' granularity, DATE_TRUNC('%1$s', o.order_date) bucket_start, 'STATUS' dimension, " +
+            "CAST(:previousStatus AS VARCHAR(30)) dimension_key, -1 order_count, 0 item_count, " +
+            "-o.total_amount revenue FROM orders o WHERE o.id = :orderId " +
+            "UNION ALL " +
+            "SELECT '%1$s', DATE_TRUNC('%1$s', o.order_date), 'STATUS', CAST(:status AS VARCHAR(30)), 1, 0, " +
+            "o.total_amount FROM orders o WHERE o.id = :orderId";
+
+    private static final String LIVE = "o.status NOT IN ('CANCELLED', 'REFUNDED')";
+
+    private static final String REBUILT_ORDERS = "o.order_date >= :since";
+
+    private static final Map<SalesRollup.Granularity, String> PLACED_SQL = mergeSql(unit -> deltas(unit,
+            SALES_ROWS_SQL.formatted(unit, "o.id = :orderId") + " UNION ALL " +
+            STATUS_ROWS_SQL.formatted(unit, "o.id = :orderId", "CAST(:placedStatus AS VARCHAR(30))")));
+
+    private static final Map<SalesRollup.Granularity, String> STATUS_CHANGED_SQL = mergeSql(
+            unit -> STATUS_DELTAS_SQL.formatted(unit));
+
+    private static final Map<SalesRollup.Granularity, String> SALES_CHANGED_SQL = mergeSql(
+            unit -> deltas(unit, SALES_ROWS_SQL.formatted(unit, "o.id = :orderId")));
+
+    private static final Map<SalesRollup.Granularity, String> REBUILD_SQL = mergeSql(unit -> deltas(unit,
+            SALES_ROWS_SQL.formatted(unit, REBUILT_ORDERS + " AND " + LIVE) + " UNION ALL " +
+            STATUS_ROWS_SQL.formatted(unit, REBUILT_ORDERS, "o.status")));
+
+    private static final Set<Order.OrderStatus> UNSOLD =
+            EnumSet.of(Order.OrderStatus.CANCELLED, Order.OrderStatus.REFUNDED);
+
+    private static final String MAX_ORDER_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM orders";
+
+    private static final String ROLLUP_DELIVERIES =
+            "FROM outbox_events WHERE status = 'PENDING' AND handler IN (:handlers) AND id <= :watermark " +
+            "AND aggregate_id IN (SELECT id FROM orders WHERE order_date >= :since)";
+
+    private static final String WATERMARK_SQL = "SELECT COALESCE(MAX(id), 0) FROM outbox_events";
+
+    private static final String COUNT_PENDING_SQL = "SELECT COUNT(*) " + ROLLUP_DELIVERIES;
+
+    private static final String SETTLE_PENDING_SQL =
+            "UPDATE outbox_events SET status = 'DONE', processed_at = LOCALTIMESTAMP, claim_token = NULL, " +
+            "locked_until = NULL, updated_at = LOCALTIMESTAMP, version = version + 1 " +
+            "WHERE id IN (SELECT id " + ROLLUP_DELIVERIES + ")";
+
+    private static final String CLEAR_SQL = "DELETE FROM sales_rollups WHERE bucket_start >= :since";
+
+    private static final String ARCHIVE_HORIZON_SQL = "SELECT MAX(order_date) FROM archived_orders";
+
+    private static final LocalDateTime NO_ARCHIVE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String IS_EMPTY_SQL =
+            "SELECT CASE WHEN EXISTS (SELECT 1 FROM sales_rollups) OR NOT EXISTS (SELECT 1 FROM orders) " +
+            "THEN FALSE ELSE TRUE END";
+
+    private static final String RANGE_SQL =
+            "SELECT bucket_start, dimension, dimension_key, order_count, item_count, revenue FROM sales_rollups " +
+            "WHERE granularity = :granularity AND bucket_start >= :from AND bucket_start < :to " +
+            "ORDER BY bucket_start";
+
+    private static final String CATEGORY_NAMES_SQL = "SELECT id, name FROM categories WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate rebuildTransaction;
+
+    public SalesRollupService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // One snapshot of orders and outbox rows; writes that race with the rebuild make it fail instead of drift
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Add a newly placed order to every rollup
+     * 
+     * @param orderId Order ID
+     */
+    @Transactional
+    public void applyPlaced(Long orderId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("orderId", orderId)
+                .addValue("placedStatus", Order.OrderStatus.PENDING.name())
+                .addValue("sign", 1);
+        PLACED_SQL.values().forEach(sql -> jdbcTemplate.update(sql, params));
+    }
+
+    /**
+     * Move an order from its previous status to its new status in the status
+     * rollups, and take it out of (or put it back into) the sales figures when
+     * it becomes cancelled or refunded
+     * 
+     * @param event Status change
+     */
+    @Transactional
+    public void applyStatusChange(OrderStatusChangedEvent event) {
+        if (!event.isStatusChange()) {
+            return;
+        }
+        int sign = (UNSOLD.contains(event.previousStatus()) ? 1 : 0) - (UNSOLD.contains(event.status()) ? 1 : 0);
+        MapSqlParameterSource params = new MapSqlParameterSource("orderId", event.orderId())
+                .addValue("previousStatus", event.previousStatus().name())
+                .addValue("status", event.status().name())
+                .addValue("sign", sign);
+        STATUS_CHANGED_SQL.values().forEach(sql -> jdbcTemplate.update(sql, params));
+        if (sign != 0) {
+            SALES_CHANGED_SQL.values().forEach(sql -> jdbcTemplate.update(sql, params));
+        }
+    }
+
+    /**
+     * Recompute the rollups from order history
+     * 
+     * Buckets up to the day of the newest archived order are kept as they are,
+     * since their orders may no longer be in the order tables; all later
+     * buckets are recomputed.
+     * 
+     * The rebuild runs in one repeatable-read transaction. It clears the
+     * buckets first, takes the highest outbox ID as a watermark and settles
+     * the pending rollup deliveries at or below it, then recomputes from the
+     * same snapshot of the orders. Deliveries committed later stay pending
+     * and are applied on top. If a delivery below the watermark commits late,
+     * or a relay settles or applies one concurrently, the settled count or the
+     * touched rows no longer match the snapshot. The rebuild then fails with a
+     * {@link ConcurrencyFailureException} and changes nothing, and can simply
+     * be run again.
+     * 
+     * @return Highest order ID included
+     * @throws ConcurrencyFailureException if order or rollup changes raced with the rebuild
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild() {
+        Timestamp archiveHorizon = jdbcTemplate.getJdbcTemplate().queryForObject(ARCHIVE_HORIZON_SQL, Timestamp.class);
+        LocalDateTime since = archiveHorizon == null ? NO_ARCHIVE
+                : archiveHorizon.toLocalDateTime().truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        MapSqlParameterSource params = new MapSqlParameterSource("since", Timestamp.valueOf(since))
+                .addValue("sign", 1)
+                .addValue("handlers", List.of(
+                        OutboxWriter.handlerName(SalesRollupPlacedHandler.class),
+                        OutboxWriter.handlerName(SalesRollupStatusHandler.class)));
+        Long maxOrderId = rebuildTransaction.execute(status -> {
+            // The first statement starts the snapshot; buckets written after it survive the clear
+            jdbcTemplate.update(CLEAR_SQL, params);
+            params.addValue("watermark", jdbcTemplate.getJdbcTemplate().queryForObject(WATERMARK_SQL, Long.class));
+            long pending = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, params, Long.class);
+            int settled = jdbcTemplate.update(SETTLE_PENDING_SQL, params);
+            if (settled != pending) {
+                throw new ConcurrencyFailureException("Sales rollup deliveries changed during the rebuild: "
+                        + pending + " pending in the snapshot, " + settled + " settled");
+            }
+            REBUILD_SQL.values().forEach(sql -> jdbcTemplate.update(sql, params));
+            return jdbcTemplate.getJdbcTemplate().queryForObject(MAX_ORDER_ID_SQL, Long.class);
+        });
+        log.info("Rebuilt sales rollups from {} for orders up to {}", since, maxOrderId);
+        return maxOrderId != null ? maxOrderId : 0;
+    }
+
+    /**
+     * Backfill the rollups from history when they are empty but orders exist
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.getJdbcTemplate().queryForObject(IS_EMPTY_SQL, Boolean.class))) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (ConcurrencyFailureException e) {
+            // Typically another node backfilling at the same time
+            log.warn("Sales rollup backfill skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Dashboard figures for a time range
+     * 
+     * @param granularity Bucket size of the series
+     * @param from Range start (inclusive), defaults to 24 hours or 30 days before {@code to}
+     * @param to Range end (exclusive), defaults to the end of the current bucket
+     * @return Dashboard figures
+     */
+    public SalesDashboardResponse getDashboard(SalesRollup.Granularity granularity,
+                                               LocalDateTime from, LocalDateTime to) {
+        ChronoUnit unit = granularity == SalesRollup.Granularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        if (to == null) {
+            to = LocalDateTime.now().truncatedTo(unit).plus(1, unit);
+        }
+        if (from == null) {
+            from = granularity == SalesRollup.Granularity.HOUR ? to.minusHours(24) : to.minusDays(30);
+        }
+        Duration maxRange = granularity == SalesRollup.Granularity.HOUR ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(maxRange) > 0) {
+            throw new BusinessException("Range must be positive and at most " + maxRange.toDays()
+                    + " days for " + granularity + " buckets");
+        }
+
+        Map<LocalDateTime, SalesDashboardResponse.Point> series = new LinkedHashMap<>();
+        Map<SalesRollup.Dimension, Map<String, SalesDashboardResponse.Breakdown>> breakdowns = new HashMap<>();
+        jdbcTemplate.query(RANGE_SQL, new MapSqlParameterSource("granularity", granularity.name())
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to)), rs -> {
+            SalesRollup.Dimension dimension = SalesRollup.Dimension.valueOf(rs.getString("dimension"));
+            String key = rs.getString("dimension_key");
+            long orders = rs.getLong("order_count");
+            long items = rs.getLong("item_count");
+            BigDecimal revenue = rs.getBigDecimal("revenue");
+            if (dimension == SalesRollup.Dimension.TOTAL) {
+                LocalDateTime bucket = rs.getTimestamp("bucket_start").toLocalDateTime();
+                series.put(bucket, new SalesDashboardResponse.Point(bucket, orders, items, revenue));
+            } else {
+                SalesDashboardResponse.Breakdown breakdown = breakdowns
+                        .computeIfAbsent(dimension, d -> new HashMap<>())
+                        .computeIfAbsent(key, k -> new SalesDashboardResponse.Breakdown(k, k, 0, 0, BigDecimal.ZERO));
+                breakdown.setOrders(breakdown.getOrders() + orders);
+                breakdown.setItems(breakdown.getItems() + items);
+                breakdown.setRevenue(breakdown.getRevenue().add(revenue));
+            }
+        });
+
+        SalesDashboardResponse.Figures totals = new SalesDashboardResponse.Figures(0, 0, BigDecimal.ZERO);
+        for (SalesDashboardResponse.Point point : series.values()) {
+            totals.setOrders(totals.getOrders() + point.getOrders());
+            totals.setItems(totals.getItems() + point.getItems());
+            totals.setRevenue(totals.getRevenue().add(point.getRevenue()));
+        }
+        BigDecimal averageOrderValue = totals.getOrders() == 0 ? BigDecimal.ZERO
+                : totals.getRevenue().divide(BigDecimal.valueOf(totals.getOrders()), 2, RoundingMode.HALF_UP);
+
+        List<SalesDashboardResponse.Breakdown> topCategories = sorted(breakdowns, SalesRollup.Dimension.CATEGORY);
+        if (topCategories.size() > TOP_CATEGORIES) {
+            topCategories = new ArrayList<>(topCategories.subList(0, TOP_CATEGORIES));
+        }
+        labelCategories(topCategories);
+
+        return new SalesDashboardResponse(granularity, from, to, totals, averageOrderValue,
+                new ArrayList<>(series.values()), topCategories,
+                sorted(breakdowns, SalesRollup.Dimension.PAYMENT_METHOD),
+                sorted(breakdowns, SalesRollup.Dimension.STATUS),
+                sorted(breakdowns, SalesRollup.Dimension.CUSTOMER));
+    }
+
+    private void labelCategories(List<SalesDashboardResponse.Breakdown> categories) {
+        List<Long> ids = new ArrayList<>();
+        for (SalesDashboardResponse.Breakdown category : categories) {
+            if (!"NONE".equals(category.getKey())) {
+                ids.add(Long.valueOf(category.getKey()));
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<String, String> names = new HashMap<>();
+        jdbcTemplate.query(CATEGORY_NAMES_SQL, new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    names.put(String.valueOf(rs.getLong("id")), rs.getString("name"));
+                });
+        for (SalesDashboardResponse.Breakdown category : categories) {
+            category.setLabel(names.getOrDefault(category.getKey(), category.getKey()));
+        }
+    }
+
+    private static List<SalesDashboardResponse.Breakdown> sorted(
+            Map<SalesRollup.Dimension, Map<String, SalesDashboardResponse.Breakdown>> breakdowns,
+            SalesRollup.Dimension dimension) {
+        List<SalesDashboardResponse.Breakdown> rows =
+                new ArrayList<>(breakdowns.getOrDefault(dimension, Map.of()).values());
+        rows.sort(Comparator.comparing(SalesDashboardResponse.Breakdown::getRevenue).reversed());
+        return rows;
+    }
+
+    private static String deltas(String unit, String rows) {
+        return "SELECT '" + unit + "' granularity, bucket_start, dimension, dimension_key, " +
+                "SUM(order_count) order_count, SUM(item_count) item_count, SUM(revenue) revenue " +
+                "FROM (" + rows + ") d GROUP BY bucket_start, dimension, dimension_key";
+    }
+
+    private static Map<SalesRollup.Granularity, String> mergeSql(
+            Function<String, String> source) {
+        Map<SalesRollup.Granularity, String> sql = new EnumMap<>(SalesRollup.Granularity.class);
+        for (SalesRollup.Granularity granularity : SalesRollup.Granularity.values()) {
+            sql.put(granularity, MERGE_SQL.formatted(source.apply(granularity.name())));
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,28 @@
+package com.freshcart.backend.service.analytics;
+
+import com.freshcart.backend.event.OrderStatusChangedEvent;
+import com.freshcart.backend.service.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves orders between statuses in the sales rollups
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupStatusHandler implements OutboxHandler<OrderStatusChangedEvent> {
+
+    private final SalesRollupService rollupService;
+
+    @Override
+    public Class<OrderStatusChangedEvent> eventType() {
+        return OrderStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderStatusChangedEvent event) {
+        rollupService.applyStatusChange(event);
+    }
+}
@@ -0,0 +1,115 @@
+package com.freshcart.backend.service.analytics.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Fixed-capacity block of fact rows stored column by column
+ * 
+ * Features:
+ * - Open segments keep one {@code long[]} per column on the heap and are
+ *   appended to by a single writer; the row count is published after the
+ *   values, so readers only see complete rows
+ * - Full segments are sealed and may be spilled to a memory-mapped file,
+ *   leaving the heap and letting the OS page them in on demand
+ * - Readers copy column ranges into caller-owned vectors, the same way for
+ *   heap and mapped segments
+ * 
+ * @author FreshCart Development Team
+ */
+final class ColumnSegment {
+
+    private final int capacity;
+    private final long[][] heapColumns;
+    private final LongBuffer[] mappedColumns;
+    private volatile int rows;
+
+    private ColumnSegment(int capacity, long[][] heapColumns, LongBuffer[] mappedColumns, int rows) {
+        this.capacity = capacity;
+        this.heapColumns = heapColumns;
+        this.mappedColumns = mappedColumns;
+        this.rows = rows;
+    }
+
+    static ColumnSegment open(int capacity) {
+        return new ColumnSegment(capacity, new long[FactColumn.COUNT][capacity], null, 0);
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    boolean isFull() {
+        return rows == capacity;
+    }
+
+    boolean isMapped() {
+        return mappedColumns != null;
+    }
+
+    long heapBytes() {
+        return heapColumns == null ? 0 : (long) FactColumn.COUNT * capacity * Long.BYTES;
+    }
+
+    /**
+     * Append one row; only the ingesting thread may call this
+     * 
+     * @param values One value per {@link FactColumn}, in ordinal order
+     */
+    void append(long[] values) {
+        int row = rows;
+        for (int column = 0; column < FactColumn.COUNT; column++) {
+            heapColumns[column][row] = values[column];
+        }
+        rows = row + 1;
+    }
+
+    /**
+     * Copy a range of a column into a vector
+     */
+    void load(FactColumn column, int start, int length, long[] vector) {
+        if (heapColumns != null) {
+            System.arraycopy(heapColumns[column.ordinal()], start, vector, 0, length);
+        } else {
+            mappedColumns[column.ordinal()].get(start, vector, 0, length);
+        }
+    }
+
+    /**
+     * Write this full segment to a file and return a read-only segment mapped from it
+     * 
+     * @param file Segment file, overwritten if it exists
+     * @return Memory-mapped copy of this segment
+     * @throws IOException if the file cannot be written or mapped
+     */
+    ColumnSegment spill(Path file) throws IOException {
+        int count = rows;
+        long columnBytes = (long) count * Long.BYTES;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) columnBytes).order(ByteOrder.nativeOrder());
+            for (long[] column : heapColumns) {
+                buffer.clear();
+                buffer.asLongBuffer().put(column, 0, count);
+                buffer.limit((int) columnBytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, columnBytes * FactColumn.COUNT);
+            LongBuffer[] columns = new LongBuffer[FactColumn.COUNT];
+            for (int column = 0; column < FactColumn.COUNT; column++) {
+                columns[column] = mapped.slice((int) (column * columnBytes), (int) columnBytes)
+                        .order(ByteOrder.nativeOrder())
+                        .asLongBuffer();
+            }
+            return new ColumnSegment(capacity, null, columns, count);
+        }
+    }
+}
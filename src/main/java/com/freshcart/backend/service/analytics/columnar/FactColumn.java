@@ -0,0 +1,27 @@
+package com.freshcart.backend.service.analytics.columnar;
+
+/**
+ * Physical columns of the order item fact table; every column holds longs
+ * 
+ * Strings are stored as dictionary codes, booleans as 0/1, dates as epoch
+ * days and money as minor units. Unknown values are {@link #NULL}.
+ * 
+ * @author FreshCart Development Team
+ */
+enum FactColumn {
+    ORDER_ID,
+    ORDER_DAY,
+    USER_ID,
+    PRODUCT_ID,
+    CATEGORY_ID,
+    BRAND,
+    ORGANIC,
+    QUANTITY,
+    UNIT_PRICE,
+    LINE_TOTAL,
+    COST_PRICE;
+
+    static final long NULL = Long.MIN_VALUE;
+
+    static final int COUNT = values().length;
+}
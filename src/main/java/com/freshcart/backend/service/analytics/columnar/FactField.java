@@ -0,0 +1,84 @@
+package com.freshcart.backend.service.analytics.columnar;
+
+import com.freshcart.backend.util.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+/**
+ * Fields of the order item facts that reports can filter and group by
+ * 
+ * @author FreshCart Development Team
+ */
+public enum FactField {
+    ORDER(FactColumn.ORDER_ID),
+    USER(FactColumn.USER_ID),
+    PRODUCT(FactColumn.PRODUCT_ID),
+    CATEGORY(FactColumn.CATEGORY_ID),
+    BRAND(FactColumn.BRAND),
+    ORGANIC(FactColumn.ORGANIC),
+    DAY(FactColumn.ORDER_DAY),
+    WEEK(FactColumn.ORDER_DAY),
+    MONTH(FactColumn.ORDER_DAY),
+    QUANTITY(FactColumn.QUANTITY),
+    UNIT_PRICE(FactColumn.UNIT_PRICE);
+
+    private final FactColumn column;
+
+    FactField(FactColumn column) {
+        this.column = column;
+    }
+
+    FactColumn column() {
+        return column;
+    }
+
+    /**
+     * Map a raw column value to this field's value; weeks start on Monday
+     */
+    long transform(long raw) {
+        if (raw == FactColumn.NULL) {
+            return raw;
+        }
+        return switch (this) {
+            // 1970-01-01 (epoch day 0) was a Thursday
+            case WEEK -> raw - Math.floorMod(raw + 3, 7);
+            case MONTH -> LocalDate.ofEpochDay(raw).withDayOfMonth(1).toEpochDay();
+            default -> raw;
+        };
+    }
+
+    boolean isTransformed() {
+        return this == WEEK || this == MONTH;
+    }
+
+    /**
+     * Parse a request value into this field's encoding
+     */
+    long parse(String value, StringDictionary brands, Currency currency) {
+        return switch (this) {
+            case BRAND -> brands.lookup(value);
+            case ORGANIC -> Boolean.parseBoolean(value) ? 1 : 0;
+            case DAY, WEEK, MONTH -> transform(LocalDate.parse(value).toEpochDay());
+            case UNIT_PRICE -> Money.of(new BigDecimal(value), currency).getMinorUnits();
+            default -> Long.parseLong(value);
+        };
+    }
+
+    /**
+     * Render a value of this field for a report
+     */
+    Object format(long value, StringDictionary brands, Currency currency) {
+        if (value == FactColumn.NULL) {
+            return null;
+        }
+        return switch (this) {
+            case BRAND -> brands.decode(value);
+            case ORGANIC -> value == 1;
+            case DAY, WEEK, MONTH -> LocalDate.ofEpochDay(value);
+            case UNIT_PRICE -> Money.ofMinor(value, currency).toBigDecimal();
+            default -> value;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.freshcart.backend.service.analytics.columnar;
+
+/**
+ * Aggregates a report can compute per group
+ * 
+ * Cost, margin and margin percent only include rows whose product has a cost price.
+ * 
+ * @author FreshCart Development Team
+ */
+public enum FactMeasure {
+    ROWS,
+    ORDERS,
+    QUANTITY,
+    REVENUE,
+    COST,
+    MARGIN,
+    MARGIN_PERCENT
+}
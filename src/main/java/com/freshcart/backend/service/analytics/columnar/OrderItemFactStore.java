@@ -0,0 +1,538 @@
+package com.freshcart.backend.service.analytics.columnar;
+
+import com.freshcart.backend.dto.request.AnalyticsQueryRequest;
+import com.freshcart.backend.dto.response.AnalyticsQueryResponse;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.util.Money;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process columnar copy of order item facts for ad-hoc admin reports
+ * 
+ * Features:
+ * - One row per order item with order date, customer, product, category,
+ *   brand, organic flag, quantity, prices and the product's cost price
+ * - Columns are primitive long vectors in fixed-size segments; brands are
+ *   dictionary encoded
+ * - New order items are appended incrementally by id watermark, read in a
+ *   read-only transaction (served by the read replica when one is configured);
+ *   a trailing window of ids below the watermark is read again, so items
+ *   whose transactions commit late are still picked up, once
+ * - Full segments can be spilled to memory-mapped files to keep the heap small
+ * - Reports filter, group and aggregate vector by vector (1024 rows at a time)
+ *   with a selection vector; they never touch the database
+ * 
+ * Facts are append-only: later status changes and cancellations are not
+ * reflected, and cost prices are the product's cost when the item was ingested.
+ * The store is rebuilt from the database on startup.
+ * 
+ * Metrics: freshcart.analytics.facts.rows, freshcart.analytics.query
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class OrderItemFactStore {
+
+    private static final int VECTOR_SIZE = 1024;
+
+    private static final String INGEST_SQL =
+            "SELECT oi.id, oi.order_id, o.order_date, o.user_id, oi.product_id, p.category_id, p.brand, " +
+            "p.is_organic, oi.quantity, oi.unit_price, oi.total_price, p.cost_price " +
+            "FROM order_items oi JOIN orders o ON o.id = oi.order_id JOIN products p ON p.id = oi.product_id " +
+            "WHERE oi.id > :after ORDER BY oi.id LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int segmentRows;
+    private final int ingestBatchSize;
+    private final int rescanIds;
+    private final Path mmapDir;
+    private final Currency currency;
+    private final Timer queryTimer;
+
+    private final List<ColumnSegment> segments = new CopyOnWriteArrayList<>();
+    private final StringDictionary brands = new StringDictionary();
+    private ColumnSegment open;
+    // IDs ingested within the rescan window below the watermark, so rescans skip them
+    private final Set<Long> recentIds = new HashSet<>();
+    private volatile long watermark;
+    private volatile long rowCount;
+
+    public OrderItemFactStore(NamedParameterJdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${freshcart.analytics.columnar.segment-rows:65536}") int segmentRows,
+                              @Value("${freshcart.analytics.columnar.ingest-batch-size:5000}") int ingestBatchSize,
+                              @Value("${freshcart.analytics.columnar.rescan-ids:10000}") int rescanIds,
+                              @Value("${freshcart.analytics.columnar.mmap-dir:}") String mmapDir,
+                              @Value("${freshcart.business.default-currency:USD}") Currency currency) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.segmentRows = segmentRows;
+        this.ingestBatchSize = ingestBatchSize;
+        this.rescanIds = rescanIds;
+        this.mmapDir = mmapDir.isBlank() ? null : Path.of(mmapDir);
+        this.currency = currency;
+        this.queryTimer = meterRegistry.timer("freshcart.analytics.query");
+        Gauge.builder("freshcart.analytics.facts.rows", this, store -> store.rowCount).register(meterRegistry);
+        if (this.mmapDir != null) {
+            clearSpilledSegments();
+        }
+    }
+
+    /**
+     * Append order items added since the last run
+     * 
+     * IDs are assigned when an item is inserted but become visible when its
+     * transaction commits, so an item can appear after items with higher IDs.
+     * Each run therefore reads again from {@code rescan-ids} below the
+     * watermark and skips the items it already holds.
+     */
+    @Scheduled(fixedDelayString = "${freshcart.analytics.columnar.ingest-interval-ms:10000}")
+    public synchronized void ingest() {
+        long[] row = new long[FactColumn.COUNT];
+        long floor = Math.max(0, watermark - rescanIds);
+        long[] after = {floor};
+        int read;
+        do {
+            MapSqlParameterSource params = new MapSqlParameterSource("after", after[0])
+                    .addValue("limit", ingestBatchSize);
+            Integer count = readOnlyTransaction.execute(status -> {
+                int[] rows = {0};
+                jdbcTemplate.query(INGEST_SQL, params, rs -> {
+                    long id = rs.getLong("id");
+                    after[0] = id;
+                    rows[0]++;
+                    if (id > watermark || !recentIds.contains(id)) {
+                        append(rs, row);
+                        recentIds.add(id);
+                        watermark = Math.max(watermark, id);
+                    }
+                });
+                return rows[0];
+            });
+            read = count != null ? count : 0;
+        } while (read == ingestBatchSize);
+
+        long newFloor = watermark - rescanIds;
+        if (newFloor > floor) {
+            recentIds.removeIf(id -> id <= newFloor);
+        }
+    }
+
+    /**
+     * Run an ad-hoc report
+     * 
+     * @param request Filters, group-by fields, measures and limit
+     * @return Report rows sorted by the first measure, largest first
+     */
+    public AnalyticsQueryResponse query(AnalyticsQueryRequest request) {
+        long started = System.nanoTime();
+        List<CompiledFilter> filters = compile(request.getFilters());
+        FactField[] groupBy = request.getGroupBy().toArray(FactField[]::new);
+        boolean distinctOrders = request.getMeasures().contains(FactMeasure.ORDERS);
+
+        Set<FactColumn> columns = EnumSet.of(FactColumn.QUANTITY, FactColumn.LINE_TOTAL, FactColumn.COST_PRICE);
+        filters.forEach(filter -> columns.add(filter.field.column()));
+        Arrays.stream(groupBy).forEach(field -> columns.add(field.column()));
+        if (distinctOrders) {
+            columns.add(FactColumn.ORDER_ID);
+        }
+
+        Map<GroupKey, Accumulator> groups = new HashMap<>();
+        long[] counts = scan(filters, columns, (vectors, selection, selected) -> {
+            long[] quantity = vectors[FactColumn.QUANTITY.ordinal()];
+            long[] lineTotal = vectors[FactColumn.LINE_TOTAL.ordinal()];
+            long[] costPrice = vectors[FactColumn.COST_PRICE.ordinal()];
+            long[] orderId = distinctOrders ? vectors[FactColumn.ORDER_ID.ordinal()] : null;
+            Accumulator single = groupBy.length == 0
+                    ? groups.computeIfAbsent(GroupKey.NONE, key -> new Accumulator(distinctOrders)) : null;
+            for (int i = 0; i < selected; i++) {
+                int row = selection[i];
+                Accumulator accumulator = single != null ? single
+                        : groups.computeIfAbsent(GroupKey.of(groupBy, vectors, row),
+                                key -> new Accumulator(distinctOrders));
+                accumulator.add(quantity[row], lineTotal[row], costPrice[row], orderId != null ? orderId[row] : 0);
+            }
+        });
+
+        List<Map<String, Object>> rows = new ArrayList<>(groups.size());
+        for (Map.Entry<GroupKey, Accumulator> group : groups.entrySet()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < groupBy.length; i++) {
+                row.put(groupBy[i].name(), groupBy[i].format(group.getKey().value(i), brands, currency));
+            }
+            for (FactMeasure measure : request.getMeasures()) {
+                row.put(measure.name(), group.getValue().value(measure, currency));
+            }
+            rows.add(row);
+        }
+        String sortKey = request.getMeasures().get(0).name();
+        rows.sort(Comparator.comparingDouble((Map<String, Object> row) -> sortValue(row.get(sortKey))).reversed());
+        int groupCount = rows.size();
+        if (rows.size() > request.getLimit()) {
+            rows = new ArrayList<>(rows.subList(0, request.getLimit()));
+        }
+
+        long elapsed = System.nanoTime() - started;
+        queryTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        return new AnalyticsQueryResponse(counts[0], counts[1], groupCount,
+                TimeUnit.NANOSECONDS.toMicros(elapsed), rows);
+    }
+
+    /**
+     * Distribution of basket sizes (units per order) among the orders with a matching item
+     * 
+     * @param filterList Filters on the order items
+     * @return One row per basket size with the number of orders of that size
+     */
+    public AnalyticsQueryResponse basketSizes(List<AnalyticsQueryRequest.Filter> filterList) {
+        long started = System.nanoTime();
+        List<CompiledFilter> filters = compile(filterList);
+        Set<FactColumn> columns = EnumSet.of(FactColumn.ORDER_ID, FactColumn.QUANTITY);
+        filters.forEach(filter -> columns.add(filter.field.column()));
+
+        Map<Long, long[]> unitsByOrder = new HashMap<>();
+        long[] counts = scan(filters, columns, (vectors, selection, selected) -> {
+            long[] orderId = vectors[FactColumn.ORDER_ID.ordinal()];
+            long[] quantity = vectors[FactColumn.QUANTITY.ordinal()];
+            for (int i = 0; i < selected; i++) {
+                int row = selection[i];
+                unitsByOrder.computeIfAbsent(orderId[row], id -> new long[1])[0] += quantity[row];
+            }
+        });
+
+        Map<Long, Long> histogram = new TreeMap<>();
+        for (long[] units : unitsByOrder.values()) {
+            histogram.merge(units[0], 1L, Long::sum);
+        }
+        List<Map<String, Object>> rows = new ArrayList<>(histogram.size());
+        histogram.forEach((size, orders) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("BASKET_SIZE", size);
+            row.put(FactMeasure.ORDERS.name(), orders);
+            rows.add(row);
+        });
+
+        long elapsed = System.nanoTime() - started;
+        queryTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        return new AnalyticsQueryResponse(counts[0], counts[1], rows.size(),
+                TimeUnit.NANOSECONDS.toMicros(elapsed), rows);
+    }
+
+    public Map<String, Object> status() {
+        long heapBytes = 0;
+        int mapped = 0;
+        for (ColumnSegment segment : segments) {
+            heapBytes += segment.heapBytes();
+            mapped += segment.isMapped() ? 1 : 0;
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("rows", rowCount);
+        status.put("watermark", watermark);
+        status.put("segments", segments.size());
+        status.put("mappedSegments", mapped);
+        status.put("heapBytes", heapBytes);
+        status.put("brands", brands.size());
+        return status;
+    }
+
+    @FunctionalInterface
+    private interface VectorConsumer {
+        void accept(long[][] vectors, int[] selection, int selected);
+    }
+
+    /**
+     * Load the needed columns vector by vector, apply the filters and hand the
+     * selected rows to the consumer
+     * 
+     * @return Scanned and matched row counts
+     */
+    private long[] scan(List<CompiledFilter> filters, Set<FactColumn> columns, VectorConsumer consumer) {
+        long[][] vectors = new long[FactColumn.COUNT][];
+        for (FactColumn column : columns) {
+            vectors[column.ordinal()] = new long[VECTOR_SIZE];
+        }
+        int[] selection = new int[VECTOR_SIZE];
+        long scanned = 0;
+        long matched = 0;
+        for (ColumnSegment segment : segments) {
+            int rows = segment.rows();
+            for (int start = 0; start < rows; start += VECTOR_SIZE) {
+                int length = Math.min(VECTOR_SIZE, rows - start);
+                for (FactColumn column : columns) {
+                    segment.load(column, start, length, vectors[column.ordinal()]);
+                }
+                int selected = length;
+                for (int i = 0; i < length; i++) {
+                    selection[i] = i;
+                }
+                for (CompiledFilter filter : filters) {
+                    selected = filter.apply(vectors[filter.field.column().ordinal()], selection, selected);
+                }
+                scanned += length;
+                matched += selected;
+                if (selected > 0) {
+                    consumer.accept(vectors, selection, selected);
+                }
+            }
+        }
+        return new long[] {scanned, matched};
+    }
+
+    private List<CompiledFilter> compile(List<AnalyticsQueryRequest.Filter> filters) {
+        List<CompiledFilter> compiled = new ArrayList<>();
+        if (filters == null) {
+            return compiled;
+        }
+        for (AnalyticsQueryRequest.Filter filter : filters) {
+            if (filter.getField() == null || filter.getOp() == null
+                    || filter.getValues() == null || filter.getValues().isEmpty()) {
+                throw new BusinessException("Filters need a field, an operator and at least one value");
+            }
+            long[] values;
+            try {
+                values = filter.getValues().stream()
+                        .mapToLong(value -> filter.getField().parse(value, brands, currency))
+                        .filter(value -> value != FactColumn.NULL)
+                        .sorted()
+                        .toArray();
+            } catch (RuntimeException e) {
+                throw new BusinessException("Invalid value for " + filter.getField() + ": " + e.getMessage());
+            }
+            if ((filter.getOp() == AnalyticsQueryRequest.Operator.GE || filter.getOp() == AnalyticsQueryRequest.Operator.LT)
+                    && values.length != 1) {
+                throw new BusinessException(filter.getOp() + " takes exactly one value");
+            }
+            compiled.add(new CompiledFilter(filter.getField(), filter.getOp(), values));
+        }
+        return compiled;
+    }
+
+    private void append(ResultSet rs, long[] row) throws SQLException {
+        row[FactColumn.ORDER_ID.ordinal()] = rs.getLong("order_id");
+        row[FactColumn.ORDER_DAY.ordinal()] = rs.getTimestamp("order_date").toLocalDateTime().toLocalDate().toEpochDay();
+        row[FactColumn.USER_ID.ordinal()] = rs.getLong("user_id");
+        row[FactColumn.PRODUCT_ID.ordinal()] = rs.getLong("product_id");
+        long categoryId = rs.getLong("category_id");
+        row[FactColumn.CATEGORY_ID.ordinal()] = rs.wasNull() ? FactColumn.NULL : categoryId;
+        row[FactColumn.BRAND.ordinal()] = brands.encode(rs.getString("brand"));
+        row[FactColumn.ORGANIC.ordinal()] = rs.getBoolean("is_organic") ? 1 : 0;
+        row[FactColumn.QUANTITY.ordinal()] = rs.getInt("quantity");
+        row[FactColumn.UNIT_PRICE.ordinal()] = minorUnits(rs.getBigDecimal("unit_price"));
+        row[FactColumn.LINE_TOTAL.ordinal()] = minorUnits(rs.getBigDecimal("total_price"));
+        row[FactColumn.COST_PRICE.ordinal()] = minorUnits(rs.getBigDecimal("cost_price"));
+
+        if (open == null || open.isFull()) {
+            sealAndOpen();
+        }
+        open.append(row);
+        rowCount++;
+    }
+
+    private void sealAndOpen() {
+        if (open != null && mmapDir != null) {
+            int index = segments.size() - 1;
+            try {
+                segments.set(index, open.spill(mmapDir.resolve("segment-" + index + ".col")));
+            } catch (IOException e) {
+                log.warn("Could not spill fact segment {}; keeping it on the heap", index, e);
+            }
+        }
+        open = ColumnSegment.open(segmentRows);
+        segments.add(open);
+    }
+
+    private void clearSpilledSegments() {
+        try {
+            Files.createDirectories(mmapDir);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(mmapDir, "segment-*.col")) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare fact segment directory " + mmapDir, e);
+        }
+    }
+
+    private long minorUnits(BigDecimal amount) {
+        return amount == null ? FactColumn.NULL : Money.of(amount, currency).getMinorUnits();
+    }
+
+    private static double sortValue(Object value) {
+        return value instanceof Number number ? number.doubleValue() : Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Filter compiled to a sorted set of encoded values (or a single bound)
+     */
+    private static final class CompiledFilter {
+
+        private final FactField field;
+        private final AnalyticsQueryRequest.Operator op;
+        private final long[] values;
+
+        private CompiledFilter(FactField field, AnalyticsQueryRequest.Operator op, long[] values) {
+            this.field = field;
+            this.op = op;
+            this.values = values;
+        }
+
+        /**
+         * Keep the selected rows that pass this filter; rows with no value never pass
+         * 
+         * @return Number of rows still selected, at the front of the selection vector
+         */
+        int apply(long[] vector, int[] selection, int selected) {
+            int kept = 0;
+            switch (op) {
+                case EQ, IN -> {
+                    for (int i = 0; i < selected; i++) {
+                        int row = selection[i];
+                        long value = vector[row];
+                        if (value != FactColumn.NULL && contains(field.transform(value))) {
+                            selection[kept++] = row;
+                        }
+                    }
+                }
+                case NE -> {
+                    for (int i = 0; i < selected; i++) {
+                        int row = selection[i];
+                        long value = vector[row];
+                        if (value != FactColumn.NULL && !contains(field.transform(value))) {
+                            selection[kept++] = row;
+                        }
+                    }
+                }
+                case GE -> {
+                    long bound = values[0];
+                    for (int i = 0; i < selected; i++) {
+                        int row = selection[i];
+                        long value = vector[row];
+                        if (value != FactColumn.NULL && field.transform(value) >= bound) {
+                            selection[kept++] = row;
+                        }
+                    }
+                }
+                case LT -> {
+                    long bound = values[0];
+                    for (int i = 0; i < selected; i++) {
+                        int row = selection[i];
+                        long value = vector[row];
+                        if (value != FactColumn.NULL && field.transform(value) < bound) {
+                            selection[kept++] = row;
+                        }
+                    }
+                }
+            }
+            return kept;
+        }
+
+        private boolean contains(long value) {
+            return values.length == 1 ? values[0] == value : Arrays.binarySearch(values, value) >= 0;
+        }
+    }
+
+    /**
+     * Values of up to three group-by fields
+     */
+    private record GroupKey(long first, long second, long third) {
+
+        static final GroupKey NONE = new GroupKey(0, 0, 0);
+
+        static GroupKey of(FactField[] fields, long[][] vectors, int row) {
+            long[] key = new long[3];
+            for (int i = 0; i < fields.length; i++) {
+                key[i] = fields[i].transform(vectors[fields[i].column().ordinal()][row]);
+            }
+            return new GroupKey(key[0], key[1], key[2]);
+        }
+
+        long value(int index) {
+            return index == 0 ? first : index == 1 ? second : third;
+        }
+    }
+
+    private static final class Accumulator {
+
+        private long rows;
+        private long quantity;
+        private long revenue;
+        private long costedRevenue;
+        private long cost;
+        private final Set<Long> orders;
+
+        private Accumulator(boolean distinctOrders) {
+            this.orders = distinctOrders ? new HashSet<>() : null;
+        }
+
+        void add(long quantity, long lineTotal, long costPrice, long orderId) {
+            rows++;
+            this.quantity += quantity;
+            revenue += lineTotal;
+            if (costPrice != FactColumn.NULL) {
+                costedRevenue += lineTotal;
+                cost += costPrice * quantity;
+            }
+            if (orders != null) {
+                orders.add(orderId);
+            }
+        }
+
+        Object value(FactMeasure measure, Currency currency) {
+            return switch (measure) {
+                case ROWS -> rows;
+                case ORDERS -> orders.size();
+                case QUANTITY -> quantity;
+                case REVENUE -> money(revenue, currency);
+                case COST -> money(cost, currency);
+                case MARGIN -> money(costedRevenue - cost, currency);
+                case MARGIN_PERCENT -> costedRevenue == 0 ? null
+                        : BigDecimal.valueOf(costedRevenue - cost)
+                                .multiply(BigDecimal.valueOf(100))
+                                .divide(BigDecimal.valueOf(costedRevenue), 2, RoundingMode.HALF_UP);
+            };
+        }
+
+        private static BigDecimal money(long minorUnits, Currency currency) {
+            return Money.ofMinor(minorUnits, currency).toBigDecimal();
+        }
+    }
+}
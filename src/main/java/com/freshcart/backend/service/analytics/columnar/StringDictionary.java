@@ -0,0 +1,57 @@
+package com.freshcart.backend.service.analytics.columnar;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Append-only string dictionary
+ * 
+ * Codes are assigned by the single ingesting thread; readers may look up and
+ * decode concurrently. A code is published before any row that uses it.
+ * 
+ * @author FreshCart Development Team
+ */
+final class StringDictionary {
+
+    private final ConcurrentMap<String, Long> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[64];
+    private int size;
+
+    /**
+     * Code of a value, assigning the next code to new values
+     */
+    long encode(String value) {
+        if (value == null) {
+            return FactColumn.NULL;
+        }
+        Long code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        String[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = value;
+        values = current;
+        codes.put(value, (long) size);
+        return size++;
+    }
+
+    /**
+     * Code of an existing value, or {@link FactColumn#NULL} if the value has never been seen
+     */
+    long lookup(String value) {
+        Long code = value == null ? null : codes.get(value);
+        return code != null ? code : FactColumn.NULL;
+    }
+
+    String decode(long code) {
+        return code == FactColumn.NULL ? null : values[(int) code];
+    }
+
+    int size() {
+        return codes.size();
+    }
+}
@@ -0,0 +1,215 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.event.AbandonedCartEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes carts that have not changed for longer than the expiry period
+ * 
+ * Features:
+ * - Idle carts are found through the {@code idx_cart_updated} index; a cart is
+ *   idle only when none of its lines changed within the expiry period
+ * - Deletes run in small chunks, one short transaction per chunk, with a pause
+ *   between chunks so the sweep never holds locks for long
+ * - Carts resident in memory with unflushed changes are skipped; resident clean
+ *   carts are evicted before their rows are deleted. A cart reloaded during the
+ *   delete is evicted again only if still clean; if it was edited, its lines are
+ *   written back in full by the next flush
+ * - Optionally publishes an {@link AbandonedCartEvent} for each cart before it is deleted
+ * 
+ * Metrics: freshcart.cart.expiry.carts, freshcart.cart.expiry.rows,
+ * freshcart.cart.expiry.backlog, freshcart.cart.expiry.sweep
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class AbandonedCartSweeper {
+
+    private static final String BACKLOG_SQL =
+            "SELECT COUNT(DISTINCT user_id) FROM cart_items WHERE updated_at < :cutoff";
+
+    private static final String FIND_IDLE_CARTS_SQL =
+            "SELECT c.user_id FROM cart_items c " +
+            "WHERE c.updated_at < :cutoff AND c.user_id NOT IN (:skip) " +
+            "AND NOT EXISTS (SELECT 1 FROM cart_items n WHERE n.user_id = c.user_id AND n.updated_at >= :cutoff) " +
+            "GROUP BY c.user_id ORDER BY MIN(c.updated_at) LIMIT :limit";
+
+    private static final String LOAD_LINES_SQL =
+            "SELECT user_id, product_id, quantity, unit_price, updated_at FROM cart_items " +
+            "WHERE user_id IN (:userIds) ORDER BY user_id, id";
+
+    private static final String DELETE_CARTS_SQL =
+            "DELETE FROM cart_items c WHERE c.user_id IN (:userIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM cart_items n WHERE n.user_id = c.user_id AND n.updated_at >= :cutoff)";
+
+    private final CartStore cartStore;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Duration expiry;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Duration pause;
+    private final boolean publishEvents;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter cartsDeleted;
+    private final Counter rowsDeleted;
+    private final Timer sweepTimer;
+
+    public AbandonedCartSweeper(CartStore cartStore,
+                                NamedParameterJdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry,
+                                @Value("${freshcart.cart.expiry.after:30d}") Duration expiry,
+                                @Value("${freshcart.cart.expiry.chunk-size:200}") int chunkSize,
+                                @Value("${freshcart.cart.expiry.max-chunks:500}") int maxChunks,
+                                @Value("${freshcart.cart.expiry.pause:100ms}") Duration pause,
+                                @Value("${freshcart.cart.expiry.publish-events:true}") boolean publishEvents) {
+        this.cartStore = cartStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.expiry = expiry;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.pause = pause;
+        this.publishEvents = publishEvents;
+        this.cartsDeleted = meterRegistry.counter("freshcart.cart.expiry.carts");
+        this.rowsDeleted = meterRegistry.counter("freshcart.cart.expiry.rows");
+        this.sweepTimer = meterRegistry.timer("freshcart.cart.expiry.sweep");
+        Gauge.builder("freshcart.cart.expiry.backlog", backlog, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${freshcart.cart.expiry.cron:0 15 * * * *}")
+    public void sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sweepTimer.record(this::sweepChunks);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void sweepChunks() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(expiry));
+        MapSqlParameterSource params = new MapSqlParameterSource("cutoff", cutoff);
+        Long stale = jdbcTemplate.queryForObject(BACKLOG_SQL, params, Long.class);
+        backlog.set(stale != null ? stale : 0);
+
+        // Carts skipped this sweep because they hold unflushed changes; -1 keeps the IN list non-empty
+        List<Long> skipped = new ArrayList<>(List.of(-1L));
+        int totalCarts = 0;
+        int totalRows = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> candidates = jdbcTemplate.queryForList(FIND_IDLE_CARTS_SQL,
+                    new MapSqlParameterSource("cutoff", cutoff)
+                            .addValue("skip", skipped)
+                            .addValue("limit", chunkSize),
+                    Long.class);
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            List<Long> userIds = new ArrayList<>(candidates.size());
+            for (Long userId : candidates) {
+                if (cartStore.evictIfClean(userId)) {
+                    userIds.add(userId);
+                } else {
+                    skipped.add(userId);
+                }
+            }
+            if (!userIds.isEmpty()) {
+                int rows = deleteChunk(userIds, cutoff);
+                // A request may have reloaded (and edited) one of these carts between eviction and delete
+                userIds.forEach(cartStore::rowsDeleted);
+                totalCarts += userIds.size();
+                totalRows += rows;
+                cartsDeleted.increment(userIds.size());
+                rowsDeleted.increment(rows);
+                backlog.set(Math.max(0, backlog.get() - userIds.size()));
+            }
+
+            if (candidates.size() < chunkSize || !throttle()) {
+                break;
+            }
+        }
+        if (totalCarts > 0) {
+            log.info("Expired {} abandoned carts ({} rows), {} skipped with unflushed changes",
+                    totalCarts, totalRows, skipped.size() - 1);
+        }
+    }
+
+    private int deleteChunk(List<Long> userIds, Timestamp cutoff) {
+        Integer rows = transactionTemplate.execute(status -> {
+            MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds).addValue("cutoff", cutoff);
+            if (publishEvents) {
+                loadCarts(params).forEach(eventPublisher::publishEvent);
+            }
+            return jdbcTemplate.update(DELETE_CARTS_SQL, params);
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private List<AbandonedCartEvent> loadCarts(MapSqlParameterSource params) {
+        Map<Long, List<AbandonedCartEvent.Line>> lines = new LinkedHashMap<>();
+        Map<Long, LocalDateTime> lastUpdated = new LinkedHashMap<>();
+        jdbcTemplate.query(LOAD_LINES_SQL, params, rs -> {
+            Long userId = rs.getLong("user_id");
+            lines.computeIfAbsent(userId, id -> new ArrayList<>()).add(new AbandonedCartEvent.Line(
+                    rs.getLong("product_id"), rs.getInt("quantity"), rs.getBigDecimal("unit_price")));
+            LocalDateTime updatedAt = rs.getTimestamp("updated_at").toLocalDateTime();
+            lastUpdated.merge(userId, updatedAt, (a, b) -> a.isAfter(b) ? a : b);
+        });
+
+        List<AbandonedCartEvent> events = new ArrayList<>(lines.size());
+        lines.forEach((userId, cartLines) -> {
+            BigDecimal subtotal = cartLines.stream()
+                    .map(line -> line.unitPrice().multiply(BigDecimal.valueOf(line.quantity())))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            events.add(new AbandonedCartEvent(userId, cartLines, subtotal, lastUpdated.get(userId)));
+        });
+        return events;
+    }
+
+    private boolean throttle() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
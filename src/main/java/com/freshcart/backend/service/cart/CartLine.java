@@ -0,0 +1,36 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.util.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * In-memory cart line with the product snapshot the cart page renders
+ * 
+ * Instances are owned by a {@link UserCart} and only modified while holding
+ * that cart's lock; flushes work on copies.
+ * 
+ * @author FreshCart Development Team
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class CartLine {
+
+    private final Long productId;
+    private String productName;
+    private String productSlug;
+    private String primaryImageUrl;
+    private String unit;
+    private int quantity;
+    private Money unitPrice;
+
+    public CartLine copy() {
+        return new CartLine(productId, productName, productSlug, primaryImageUrl, unit, quantity, unitPrice);
+    }
+
+    public Money getLineTotal() {
+        return unitPrice.times(quantity);
+    }
+}
@@ -0,0 +1,86 @@
+package com.freshcart.backend.service.cart;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Writes coalesced cart changes to {@code cart_items} with JDBC batches
+ * 
+ * One flush of one user's cart is a single short transaction: an optional
+ * delete of the whole cart, one batched delete for removed lines and one
+ * batched MERGE for changed lines, however many clicks produced them.
+ * Lines repriced by the system only get their unit price updated; their
+ * {@code updated_at} is left alone, as it records customer activity.
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class CartPersistence {
+
+    private static final String DELETE_CART_SQL = "DELETE FROM cart_items WHERE user_id = ?";
+
+    private static final String DELETE_LINE_SQL = "DELETE FROM cart_items WHERE user_id = ? AND product_id = ?";
+
+    private static final String UPSERT_LINE_SQL =
+            "MERGE INTO cart_items t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS INTEGER), CAST(? AS DECIMAL(10, 2)))) " +
+            "s(user_id, product_id, quantity, unit_price) " +
+            "ON t.user_id = s.user_id AND t.product_id = s.product_id " +
+            "WHEN MATCHED THEN UPDATE SET quantity = s.quantity, unit_price = s.unit_price, " +
+            "updated_at = LOCALTIMESTAMP, version = t.version + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, product_id, quantity, unit_price, created_at, updated_at, version) " +
+            "VALUES (s.user_id, s.product_id, s.quantity, s.unit_price, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)";
+
+    // Only the price: a system price change is not customer activity
+    private static final String REPRICE_LINE_SQL =
+            "UPDATE cart_items SET unit_price = ?, version = version + 1 WHERE user_id = ? AND product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Apply one user's pending changes in a single transaction
+     * 
+     * @param pending Changes drained from the in-memory cart
+     */
+    public void write(UserCart.PendingFlush pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Long userId = pending.userId();
+            if (pending.cleared()) {
+                jdbcTemplate.update(DELETE_CART_SQL, userId);
+            }
+            if (!pending.deletes().isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_LINE_SQL, pending.deletes(), pending.deletes().size(),
+                        (ps, productId) -> {
+                            ps.setLong(1, userId);
+                            ps.setLong(2, productId);
+                        });
+            }
+            List<CartLine> upserts = pending.upserts();
+            if (!upserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_LINE_SQL, upserts, upserts.size(), (ps, line) -> {
+                    ps.setLong(1, userId);
+                    ps.setLong(2, line.getProductId());
+                    ps.setInt(3, line.getQuantity());
+                    ps.setBigDecimal(4, line.getUnitPrice().toBigDecimal());
+                });
+            }
+            List<CartLine> reprices = pending.reprices();
+            if (!reprices.isEmpty()) {
+                jdbcTemplate.batchUpdate(REPRICE_LINE_SQL, reprices, reprices.size(), (ps, line) -> {
+                    ps.setBigDecimal(1, line.getUnitPrice().toBigDecimal());
+                    ps.setLong(2, userId);
+                    ps.setLong(3, line.getProductId());
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.freshcart.backend.service.cart;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reverse index from product to the users whose resident carts contain it
+ * 
+ * Maintained by {@link UserCart} as lines are added and removed, so price
+ * changes can be applied to in-memory carts without scanning every cart.
+ * Carts that are not resident are reached through the
+ * {@code idx_cart_product} database index instead.
+ * 
+ * @author FreshCart Development Team
+ */
+public class CartProductIndex {
+
+    private final ConcurrentMap<Long, Set<Long>> usersByProduct = new ConcurrentHashMap<>();
+
+    void add(Long productId, Long userId) {
+        usersByProduct.computeIfAbsent(productId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+    }
+
+    void remove(Long productId, Long userId) {
+        usersByProduct.computeIfPresent(productId, (id, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    /**
+     * Users whose resident carts contain a product
+     * 
+     * @param productId Product ID
+     * @return User IDs (live view)
+     */
+    public Set<Long> usersWithProduct(Long productId) {
+        return usersByProduct.getOrDefault(productId, Collections.emptySet());
+    }
+}
@@ -0,0 +1,214 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.event.ProductPriceChangedEvent;
+import com.freshcart.backend.util.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Propagates product price changes to the unit prices of carts
+ * 
+ * Features:
+ * - Price changes are queued after commit and coalesced per product (latest price wins)
+ * - A background pass drains the queue every interval, so lag is bounded by
+ *   the interval plus one pass
+ * - Persisted carts are repriced first with batched set-based UPDATEs driven
+ *   by the {@code idx_cart_product} index; resident carts are repriced in
+ *   memory only after that transaction commits, found through the in-memory
+ *   reverse index
+ * - Repricing leaves {@code cart_items.updated_at} alone: it records customer
+ *   activity, which decides when {@link AbandonedCartSweeper} expires a cart
+ * - Each pass reports how many carts actually changed price
+ * - The queue is drained one batch at a time; prices of a failed batch are
+ *   put back (unless a newer price arrived) and retried on the next pass
+ * 
+ * Metrics: freshcart.cart.repricing.pending, freshcart.cart.repricing.carts,
+ * freshcart.cart.repricing.lag
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class CartRepricingEngine {
+
+    private static final String REPRICE_SQL =
+            "UPDATE cart_items SET unit_price = ?, version = version + 1 WHERE product_id = ? AND unit_price <> ?";
+
+    private static final String AFFECTED_LINES_SQL =
+            "SELECT user_id, product_id, unit_price FROM cart_items WHERE product_id IN (:productIds)";
+
+    private final ConcurrentMap<Long, PendingPrice> pending = new ConcurrentHashMap<>();
+    private final AtomicReference<RepricingReport> lastReport = new AtomicReference<>();
+
+    private final CartStore cartStore;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter repricedCarts;
+    private final Timer lag;
+
+    public CartRepricingEngine(CartStore cartStore,
+                               NamedParameterJdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${freshcart.cart.repricing.batch-size:500}") int batchSize) {
+        this.cartStore = cartStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.repricedCarts = meterRegistry.counter("freshcart.cart.repricing.carts");
+        this.lag = meterRegistry.timer("freshcart.cart.repricing.lag");
+        Gauge.builder("freshcart.cart.repricing.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onPriceChanged(ProductPriceChangedEvent event) {
+        pending.merge(event.productId(), new PendingPrice(event.newPrice(), System.nanoTime()),
+                (previous, latest) -> new PendingPrice(latest.price(), previous.queuedAtNanos()));
+    }
+
+    @Scheduled(fixedDelayString = "${freshcart.cart.repricing.interval-ms:1000}")
+    public void reprice() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Long> productIds = new ArrayList<>(pending.keySet());
+
+        Set<Long> cartsRepriced = new HashSet<>();
+        int products = 0;
+        int rowsUpdated = 0;
+        for (int from = 0; from < productIds.size(); from += batchSize) {
+            // Drained per batch, so a failed batch leaves the later ones queued
+            List<Map.Entry<Long, PendingPrice>> batch = new ArrayList<>(batchSize);
+            for (Long productId : productIds.subList(from, Math.min(from + batchSize, productIds.size()))) {
+                PendingPrice price = pending.remove(productId);
+                if (price != null) {
+                    batch.add(Map.entry(productId, price));
+                }
+            }
+            try {
+                BatchResult result = repricePersistedCarts(batch);
+                cartsRepriced.addAll(result.userIds());
+                rowsUpdated += result.rowsUpdated();
+                cartsRepriced.addAll(repriceResidentCarts(batch));
+            } catch (RuntimeException e) {
+                log.error("Failed to reprice carts for {} products: {}", batch.size(), e.getMessage());
+                // A newer price queued in the meantime wins
+                batch.forEach(entry -> pending.putIfAbsent(entry.getKey(), entry.getValue()));
+                break;
+            }
+            products += batch.size();
+            long now = System.nanoTime();
+            batch.forEach(entry -> lag.record(Duration.ofNanos(now - entry.getValue().queuedAtNanos())));
+        }
+        repricedCarts.increment(cartsRepriced.size());
+
+        RepricingReport report = new RepricingReport(LocalDateTime.now(), products, cartsRepriced.size(),
+                rowsUpdated, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        lastReport.set(report);
+        log.info("Repriced {} carts ({} rows) for {} products in {} ms",
+                report.cartsRepriced(), report.rowsUpdated(), report.products(), report.durationMillis());
+    }
+
+    /**
+     * Outcome of the most recent repricing pass
+     * 
+     * @return Last report, or null if no pass has run
+     */
+    public RepricingReport getLastReport() {
+        return lastReport.get();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private Set<Long> repriceResidentCarts(List<Map.Entry<Long, PendingPrice>> batch) {
+        Set<Long> userIds = new HashSet<>();
+        for (Map.Entry<Long, PendingPrice> entry : batch) {
+            Long productId = entry.getKey();
+            Money price = entry.getValue().price();
+            for (Long userId : new ArrayList<>(cartStore.getProductIndex().usersWithProduct(productId))) {
+                boolean[] changed = new boolean[1];
+                cartStore.mutateIfResident(userId, cart -> {
+                    CartLine line = cart.getLine(productId);
+                    if (line != null && !line.getUnitPrice().equals(price)) {
+                        line.setUnitPrice(price);
+                        // Re-flushed so a flush that raced with the set-based update cannot keep the old price
+                        cart.markRepriced(productId);
+                        changed[0] = true;
+                    }
+                });
+                if (changed[0]) {
+                    userIds.add(userId);
+                }
+            }
+        }
+        return userIds;
+    }
+
+    private BatchResult repricePersistedCarts(List<Map.Entry<Long, PendingPrice>> batch) {
+        return transactionTemplate.execute(status -> {
+            Map<Long, Money> prices = new HashMap<>();
+            batch.forEach(entry -> prices.put(entry.getKey(), entry.getValue().price()));
+            // Same predicate as REPRICE_SQL, so only carts whose price really changes are reported
+            Set<Long> userIds = new HashSet<>();
+            jdbcTemplate.query(AFFECTED_LINES_SQL, new MapSqlParameterSource("productIds", prices.keySet()), rs -> {
+                if (rs.getBigDecimal("unit_price").compareTo(prices.get(rs.getLong("product_id")).toBigDecimal()) != 0) {
+                    userIds.add(rs.getLong("user_id"));
+                }
+            });
+
+            int[][] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(REPRICE_SQL, batch, batch.size(),
+                    (ps, entry) -> {
+                        ps.setBigDecimal(1, entry.getValue().price().toBigDecimal());
+                        ps.setLong(2, entry.getKey());
+                        ps.setBigDecimal(3, entry.getValue().price().toBigDecimal());
+                    });
+            int rows = 0;
+            for (int[] chunk : counts) {
+                for (int count : chunk) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            return new BatchResult(userIds, rows);
+        });
+    }
+
+    private record PendingPrice(Money price, long queuedAtNanos) {
+    }
+
+    private record BatchResult(Set<Long> userIds, int rowsUpdated) {
+    }
+
+    /**
+     * Summary of one repricing pass
+     */
+    public record RepricingReport(LocalDateTime completedAt, int products, int cartsRepriced,
+                                  int rowsUpdated, long durationMillis) {
+    }
+}
@@ -0,0 +1,307 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.dto.response.CartLineResponse;
+import com.freshcart.backend.repository.CartItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Write-behind store of user carts
+ * 
+ * Features:
+ * - Carts are loaded once per user with a single projection query and then
+ *   served from memory; reads never hit the database while the cart is resident
+ * - Mutations are applied in memory immediately under a per-user lock
+ * - Changes are coalesced and written as one batched flush per user after a
+ *   quiet period (or after a maximum delay for carts that never go quiet)
+ * - Checkout forces a flush with {@link #flush(Long)}
+ * - All pending changes are flushed on graceful shutdown
+ * - Idle, clean carts are evicted from memory
+ * - A product-to-users reverse index over resident carts
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class CartStore {
+
+    private final ConcurrentMap<Long, UserCart> carts = new ConcurrentHashMap<>();
+    private final CartProductIndex productIndex = new CartProductIndex();
+    private final CartItemRepository cartItemRepository;
+    private final CartPersistence cartPersistence;
+
+    private final long quietPeriodNanos;
+    private final long maxDelayNanos;
+    private final long idleEvictionNanos;
+
+    public CartStore(CartItemRepository cartItemRepository,
+                     CartPersistence cartPersistence,
+                     @Value("${freshcart.cart.write-behind.quiet-period:2s}") Duration quietPeriod,
+                     @Value("${freshcart.cart.write-behind.max-delay:10s}") Duration maxDelay,
+                     @Value("${freshcart.cart.write-behind.idle-eviction:30m}") Duration idleEviction) {
+        this.cartItemRepository = cartItemRepository;
+        this.cartPersistence = cartPersistence;
+        this.quietPeriodNanos = quietPeriod.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.idleEvictionNanos = idleEviction.toNanos();
+    }
+
+    /**
+     * Read a user's cart under its lock
+     * 
+     * @param userId User ID
+     * @param reader Function reading the cart
+     * @param <T> Result type
+     * @return Result of the reader
+     */
+    public <T> T read(Long userId, Function<UserCart, T> reader) {
+        while (true) {
+            UserCart cart = residentCart(userId);
+            synchronized (cart) {
+                if (!cart.isDetached()) {
+                    cart.touchAccess();
+                    return reader.apply(cart);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mutate a user's cart under its lock; the change is persisted by a later flush
+     * 
+     * @param userId User ID
+     * @param mutation Mutation to apply
+     */
+    public void mutate(Long userId, Consumer<UserCart> mutation) {
+        while (true) {
+            UserCart cart = residentCart(userId);
+            synchronized (cart) {
+                if (!cart.isDetached()) {
+                    mutation.accept(cart);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush a user's pending changes now (used by checkout)
+     * 
+     * A failed write is rethrown so the caller does not go on to read a stale
+     * cart from the database; the pending changes stay queued for the next flush.
+     * 
+     * @param userId User ID
+     */
+    public void flush(Long userId) {
+        UserCart cart = carts.get(userId);
+        if (cart != null) {
+            writePending(cart);
+        }
+    }
+
+    /**
+     * Drop a cart from memory without flushing (its rows were removed or
+     * replaced in the database by the caller)
+     * 
+     * @param userId User ID
+     */
+    public void invalidate(Long userId) {
+        UserCart cart = carts.remove(userId);
+        if (cart != null) {
+            synchronized (cart) {
+                cart.detach();
+            }
+        }
+    }
+
+    /**
+     * Reconcile a resident cart after the caller deleted its rows: a clean
+     * cart is evicted (its lines may have been loaded before the delete), a
+     * cart with unflushed changes is kept and all of its lines are written
+     * back by its next flush
+     * 
+     * @param userId User ID
+     */
+    public void rowsDeleted(Long userId) {
+        UserCart cart = carts.get(userId);
+        if (cart == null) {
+            return;
+        }
+        // Holding the flush lock means no flush of an older snapshot is still in flight
+        synchronized (cart.getFlushLock()) {
+            synchronized (cart) {
+                if (cart.isDetached()) {
+                    return;
+                }
+                if (cart.isDirty()) {
+                    cart.markAllChanged();
+                    return;
+                }
+                cart.detach();
+            }
+            carts.remove(userId, cart);
+        }
+    }
+
+    /**
+     * Drop a cart from memory unless it holds unflushed changes; waits for a
+     * flush that is still writing
+     * 
+     * @param userId User ID
+     * @return True if the cart is no longer resident (or never was)
+     */
+    public boolean evictIfClean(Long userId) {
+        UserCart cart = carts.get(userId);
+        if (cart == null) {
+            return true;
+        }
+        // A flush in flight has already drained its changes, so the cart only looks clean once it committed
+        synchronized (cart.getFlushLock()) {
+            synchronized (cart) {
+                if (cart.isDirty()) {
+                    return false;
+                }
+                cart.detach();
+            }
+            carts.remove(userId, cart);
+        }
+        return true;
+    }
+
+    /**
+     * Check whether a user's cart is resident in memory
+     * 
+     * @param userId User ID
+     * @return True if resident
+     */
+    public boolean isResident(Long userId) {
+        return carts.containsKey(userId);
+    }
+
+    /**
+     * Apply a mutation to a resident cart only; non-resident carts are left alone
+     * 
+     * @param userId User ID
+     * @param mutation Mutation to apply
+     * @return True if the cart was resident and mutated
+     */
+    public boolean mutateIfResident(Long userId, Consumer<UserCart> mutation) {
+        UserCart cart = carts.get(userId);
+        if (cart == null) {
+            return false;
+        }
+        synchronized (cart) {
+            if (cart.isDetached()) {
+                return false;
+            }
+            mutation.accept(cart);
+            return true;
+        }
+    }
+
+    public CartProductIndex getProductIndex() {
+        return productIndex;
+    }
+
+    @Scheduled(fixedDelayString = "${freshcart.cart.write-behind.flush-interval-ms:500}")
+    public void flushDueCarts() {
+        long now = System.nanoTime();
+        for (UserCart cart : carts.values()) {
+            boolean due;
+            boolean idle;
+            synchronized (cart) {
+                due = cart.isFlushDue(now, quietPeriodNanos, maxDelayNanos);
+                idle = cart.isIdle(now, idleEvictionNanos);
+                if (idle) {
+                    cart.detach();
+                }
+            }
+            if (idle) {
+                carts.remove(cart.getUserId(), cart);
+            } else if (due) {
+                flushCart(cart);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        int flushed = 0;
+        for (UserCart cart : carts.values()) {
+            if (flushCart(cart)) {
+                flushed++;
+            }
+        }
+        log.info("Flushed {} carts on shutdown", flushed);
+    }
+
+    /**
+     * Background flush: a failure is logged and retried on a later pass
+     */
+    private boolean flushCart(UserCart cart) {
+        try {
+            return writePending(cart);
+        } catch (RuntimeException e) {
+            log.error("Failed to flush cart of user {}: {}", cart.getUserId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean writePending(UserCart cart) {
+        synchronized (cart.getFlushLock()) {
+            UserCart.PendingFlush pending;
+            synchronized (cart) {
+                if (!cart.isDirty()) {
+                    return false;
+                }
+                pending = cart.drainPending();
+            }
+            try {
+                cartPersistence.write(pending);
+                return true;
+            } catch (RuntimeException e) {
+                synchronized (cart) {
+                    cart.restorePending(pending);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private UserCart residentCart(Long userId) {
+        UserCart cart = carts.get(userId);
+        if (cart != null) {
+            return cart;
+        }
+        UserCart loaded = new UserCart(userId, loadLines(userId), productIndex);
+        UserCart existing = carts.putIfAbsent(userId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (loaded) {
+            loaded.attach();
+        }
+        return loaded;
+    }
+
+    private List<CartLine> loadLines(Long userId) {
+        return cartItemRepository.findCartLinesByUserId(userId).stream()
+                .map(this::toCartLine)
+                .toList();
+    }
+
+    private CartLine toCartLine(CartLineResponse row) {
+        return new CartLine(row.getProductId(), row.getProductName(), row.getProductSlug(),
+                row.getPrimaryImageUrl(), row.getUnit(), row.getQuantity(), row.getUnitPrice());
+    }
+}
@@ -0,0 +1,179 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Encodes guest carts as compact signed tokens
+ * 
+ * Layout (before URL-safe Base64):
+ * <pre>
+ * version(1) | issuedAt minutes(varint) | lineCount(varint) |
+ * [productId delta(varint) quantity(varint)]* | HMAC-SHA256 truncated to 16 bytes
+ * </pre>
+ * Product IDs are written in ascending order as deltas, so a typical line
+ * costs two or three bytes. Tokens are bounded by line count and length and
+ * expire after the configured time to live.
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+public class GuestCartTokenCodec {
+
+    private static final byte VERSION = 1;
+    private static final int MAC_LENGTH = 16;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final int maxLines;
+    private final int maxTokenLength;
+    private final Duration timeToLive;
+
+    public GuestCartTokenCodec(@Value("${freshcart.cart.guest.secret:${freshcart.security.jwt.secret}}") String secret,
+                               @Value("${freshcart.cart.guest.max-lines:50}") int maxLines,
+                               @Value("${freshcart.cart.guest.time-to-live:30d}") Duration timeToLive) {
+        this.key = new SecretKeySpec(("guest-cart:" + secret).getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        this.maxLines = maxLines;
+        this.timeToLive = timeToLive;
+        // version + issuedAt + count + widest varints per line + MAC, Base64 encoded
+        this.maxTokenLength = (1 + 10 + 10 + maxLines * 15 + MAC_LENGTH) * 4 / 3 + 4;
+    }
+
+    /**
+     * Encode cart lines as a signed token
+     * 
+     * @param lines Quantity by product ID
+     * @return Token, or an empty string for an empty cart
+     */
+    public String encode(Map<Long, Integer> lines) {
+        if (lines.isEmpty()) {
+            return "";
+        }
+        if (lines.size() > maxLines) {
+            throw new BusinessException("Guest cart cannot contain more than " + maxLines + " items");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + lines.size() * 4 + MAC_LENGTH);
+        out.write(VERSION);
+        writeVarint(out, Instant.now().getEpochSecond() / 60);
+        writeVarint(out, lines.size());
+        long previous = 0;
+        for (Map.Entry<Long, Integer> line : new TreeMap<>(lines).entrySet()) {
+            writeVarint(out, line.getKey() - previous);
+            writeVarint(out, line.getValue());
+            previous = line.getKey();
+        }
+        byte[] payload = out.toByteArray();
+        out.write(sign(payload), 0, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    /**
+     * Decode and verify a token
+     * 
+     * @param token Token from the client; null or blank means an empty cart
+     * @return Quantity by product ID in ascending product order; empty if the token expired
+     * @throws BusinessException if the token is malformed, oversized or its signature does not match
+     */
+    public Map<Long, Integer> decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        if (token.length() > maxTokenLength) {
+            throw invalid();
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (bytes.length <= MAC_LENGTH + 1) {
+            throw invalid();
+        }
+        byte[] payload = Arrays.copyOf(bytes, bytes.length - MAC_LENGTH);
+        byte[] mac = Arrays.copyOfRange(bytes, bytes.length - MAC_LENGTH, bytes.length);
+        if (!MessageDigest.isEqual(mac, Arrays.copyOf(sign(payload), MAC_LENGTH)) || payload[0] != VERSION) {
+            throw invalid();
+        }
+
+        int[] position = {1};
+        long issuedAtMinutes = readVarint(payload, position);
+        if (Instant.ofEpochSecond(issuedAtMinutes * 60).plus(timeToLive).isBefore(Instant.now())) {
+            return new LinkedHashMap<>();
+        }
+        long count = readVarint(payload, position);
+        if (count > maxLines) {
+            throw invalid();
+        }
+        Map<Long, Integer> lines = new LinkedHashMap<>();
+        long productId = 0;
+        for (int i = 0; i < count; i++) {
+            productId += readVarint(payload, position);
+            long quantity = readVarint(payload, position);
+            if (quantity < 1 || quantity > Integer.MAX_VALUE) {
+                throw invalid();
+            }
+            lines.put(productId, (int) quantity);
+        }
+        if (position[0] != payload.length) {
+            throw invalid();
+        }
+        return lines;
+    }
+
+    public int getMaxLines() {
+        return maxLines;
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign guest cart token", e);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] bytes, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw invalid();
+            }
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw invalid();
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException("Invalid guest cart token");
+    }
+}
@@ -0,0 +1,250 @@
+package com.freshcart.backend.service.cart;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One user's cart held in memory by {@link CartStore}
+ * 
+ * Mutations are applied immediately and recorded as pending changes
+ * (changed lines, removed lines, cleared) until the next flush. All access
+ * must hold the monitor of this object.
+ * 
+ * Price changes made by the system are recorded apart from customer changes:
+ * they are flushed without touching the line's {@code updated_at}, so they do
+ * not count as customer activity, and do not keep the cart resident.
+ * 
+ * @author FreshCart Development Team
+ */
+public class UserCart {
+
+    private final Long userId;
+    private final CartProductIndex productIndex;
+    private final Object flushLock = new Object();
+    private final Map<Long, CartLine> lines = new LinkedHashMap<>();
+    private final Set<Long> changedProductIds = new HashSet<>();
+    private final Set<Long> removedProductIds = new HashSet<>();
+    private final Set<Long> repricedProductIds = new HashSet<>();
+    private boolean cleared;
+
+    private long firstPendingNanos;
+    private long lastMutationNanos;
+    private long lastAccessNanos;
+    private boolean detached;
+
+    UserCart(Long userId, Collection<CartLine> persistedLines, CartProductIndex productIndex) {
+        this.userId = userId;
+        this.productIndex = productIndex;
+        for (CartLine line : persistedLines) {
+            lines.put(line.getProductId(), line);
+        }
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Lock serializing flushes of this cart so an older snapshot can never be
+     * written after a newer one. Mutations do not take it.
+     */
+    Object getFlushLock() {
+        return flushLock;
+    }
+
+    public CartLine getLine(Long productId) {
+        return lines.get(productId);
+    }
+
+    public Collection<CartLine> getLines() {
+        return lines.values();
+    }
+
+    public int size() {
+        return lines.size();
+    }
+
+    // Mutations
+
+    public void putLine(CartLine line) {
+        if (lines.put(line.getProductId(), line) == null && !detached) {
+            productIndex.add(line.getProductId(), userId);
+        }
+        removedProductIds.remove(line.getProductId());
+        repricedProductIds.remove(line.getProductId());
+        changedProductIds.add(line.getProductId());
+        touchMutation();
+    }
+
+    public void markChanged(Long productId) {
+        changedProductIds.add(productId);
+        repricedProductIds.remove(productId);
+        touchMutation();
+    }
+
+    /**
+     * Queue a line whose unit price was changed by the system (not the
+     * customer) for the next flush
+     */
+    public void markRepriced(Long productId) {
+        if (!changedProductIds.contains(productId)) {
+            repricedProductIds.add(productId);
+        }
+        touchPending(System.nanoTime());
+    }
+
+    public boolean removeLine(Long productId) {
+        if (lines.remove(productId) == null) {
+            return false;
+        }
+        productIndex.remove(productId, userId);
+        changedProductIds.remove(productId);
+        repricedProductIds.remove(productId);
+        removedProductIds.add(productId);
+        touchMutation();
+        return true;
+    }
+
+    public void clear() {
+        if (lines.isEmpty() && !isDirty()) {
+            return;
+        }
+        lines.keySet().forEach(productId -> productIndex.remove(productId, userId));
+        lines.clear();
+        changedProductIds.clear();
+        removedProductIds.clear();
+        repricedProductIds.clear();
+        cleared = true;
+        touchMutation();
+    }
+
+    /**
+     * Queue every line for the next flush (the persisted rows are gone)
+     */
+    void markAllChanged() {
+        removedProductIds.clear();
+        repricedProductIds.clear();
+        changedProductIds.addAll(lines.keySet());
+        touchMutation();
+    }
+
+    private void touchMutation() {
+        long now = System.nanoTime();
+        touchPending(now);
+        lastAccessNanos = now;
+    }
+
+    private void touchPending(long now) {
+        if (firstPendingNanos == 0) {
+            firstPendingNanos = now;
+        }
+        lastMutationNanos = now;
+    }
+
+    void touchAccess() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    // Flush bookkeeping
+
+    public boolean isDirty() {
+        return cleared || !changedProductIds.isEmpty() || !removedProductIds.isEmpty()
+                || !repricedProductIds.isEmpty();
+    }
+
+    boolean isFlushDue(long now, long quietPeriodNanos, long maxDelayNanos) {
+        return isDirty()
+                && (now - lastMutationNanos >= quietPeriodNanos || now - firstPendingNanos >= maxDelayNanos);
+    }
+
+    boolean isIdle(long now, long idleNanos) {
+        return !isDirty() && now - lastAccessNanos >= idleNanos;
+    }
+
+    /**
+     * Take the pending changes for a flush and reset them
+     */
+    PendingFlush drainPending() {
+        List<CartLine> upserts = new ArrayList<>(changedProductIds.size());
+        for (Long productId : changedProductIds) {
+            CartLine line = lines.get(productId);
+            if (line != null) {
+                upserts.add(line.copy());
+            }
+        }
+        List<CartLine> reprices = new ArrayList<>(repricedProductIds.size());
+        for (Long productId : repricedProductIds) {
+            CartLine line = lines.get(productId);
+            if (line != null) {
+                reprices.add(line.copy());
+            }
+        }
+        PendingFlush pending = new PendingFlush(userId, cleared, new ArrayList<>(removedProductIds), upserts,
+                reprices);
+        changedProductIds.clear();
+        removedProductIds.clear();
+        repricedProductIds.clear();
+        cleared = false;
+        firstPendingNanos = 0;
+        return pending;
+    }
+
+    /**
+     * Put back changes of a failed flush so the next flush retries them
+     */
+    void restorePending(PendingFlush pending) {
+        cleared |= pending.cleared();
+        for (CartLine line : pending.upserts()) {
+            if (lines.containsKey(line.getProductId())) {
+                changedProductIds.add(line.getProductId());
+            }
+        }
+        for (CartLine line : pending.reprices()) {
+            if (lines.containsKey(line.getProductId()) && !changedProductIds.contains(line.getProductId())) {
+                repricedProductIds.add(line.getProductId());
+            }
+        }
+        for (Long productId : pending.deletes()) {
+            if (!lines.containsKey(productId)) {
+                removedProductIds.add(productId);
+            }
+        }
+        if (isDirty() && firstPendingNanos == 0) {
+            firstPendingNanos = System.nanoTime();
+        }
+    }
+
+    boolean isDetached() {
+        return detached;
+    }
+
+    /**
+     * Register the resident lines in the product index (called once the cart
+     * becomes resident in the store)
+     */
+    void attach() {
+        lines.keySet().forEach(productId -> productIndex.add(productId, userId));
+    }
+
+    void detach() {
+        detached = true;
+        lines.keySet().forEach(productId -> productIndex.remove(productId, userId));
+    }
+
+    /**
+     * Changes captured for one flush of one user's cart
+     */
+    public record PendingFlush(Long userId, boolean cleared, List<Long> deletes, List<CartLine> upserts,
+                               List<CartLine> reprices) {
+
+        public boolean isEmpty() {
+            return !cleared && deletes.isEmpty() && upserts.isEmpty() && reprices.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.freshcart.backend.service.checkout;
+
+import com.freshcart.backend.dto.request.PlaceOrderRequest;
+import com.freshcart.backend.dto.response.PlaceOrderResponse;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.event.OrderPlacedEvent;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.repository.OrderRepository;
+import com.freshcart.backend.service.EntityCacheEvictor;
+import com.freshcart.backend.service.cart.CartStore;
+import com.freshcart.backend.service.inventory.InventoryReservation;
+import com.freshcart.backend.service.inventory.InventoryReservationEngine;
+import com.freshcart.backend.service.pricing.OrderTotals;
+import com.freshcart.backend.service.pricing.PricingContext;
+import com.freshcart.backend.service.pricing.TotalsEngine;
+import com.freshcart.backend.util.Money;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Checkout pipeline turning a user's cart into an order
+ * 
+ * Features:
+ * - Idempotent: an Idempotency-Key is answered from {@link IdempotencyCache},
+ *   and a unique (user_id, idempotency_key) constraint catches retries that
+ *   reach another node or arrive after the cache expired
+ * - Pending cart changes are flushed first, then stock decrement, order
+ *   insert, item snapshot and cart clearing run in one short transaction
+ * - Totals, promotions and tax for the shipping destination come from the
+ *   same {@link TotalsEngine} as the cart summary
+ * - Order numbers come from {@link OrderNumberGenerator} without touching the database
+ * - Order items are copied from cart and product rows with one INSERT ... SELECT;
+ *   with {@code freshcart.checkout.verify-totals} the order is reloaded and its
+ *   totals checked against the copied items before the transaction commits
+ * - Stock is decremented with one conditional UPDATE for all lines; hot
+ *   products are reserved from the in-memory ledger instead, held inside the
+ *   order transaction and confirmed or released when it completes
+ * - Every line, hot or not, must be for an active product within its
+ *   maximum order quantity
+ * - Returns as soon as the transaction commits; follow-up work listens for
+ *   {@link OrderPlacedEvent}
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@Slf4j
+public class CheckoutService {
+
+    private static final String CART_LINES_SQL =
+            "SELECT ci.product_id, ci.quantity FROM cart_items ci WHERE ci.user_id = :userId";
+
+    private static final String PRICED_LINES_SQL =
+            "SELECT ci.product_id, ci.quantity, p.price FROM cart_items ci " +
+            "JOIN products p ON p.id = ci.product_id WHERE ci.user_id = :userId";
+
+    private static final String DECREMENT_STOCK_SQL =
+            "UPDATE products p SET stock_quantity = p.stock_quantity - " +
+            "(SELECT ci.quantity FROM cart_items ci WHERE ci.user_id = :userId AND ci.product_id = p.id), " +
+            "updated_at = LOCALTIMESTAMP, version = p.version + 1 " +
+            "WHERE p.id IN (:productIds) AND p.status = 'ACTIVE' AND EXISTS (" +
+            "SELECT 1 FROM cart_items ci WHERE ci.user_id = :userId AND ci.product_id = p.id " +
+            "AND p.stock_quantity >= ci.quantity " +
+            "AND (p.max_order_quantity IS NULL OR p.max_order_quantity >= ci.quantity))";
+
+    private static final String ORDERABLE_LINES_SQL =
+            "SELECT COUNT(*) FROM cart_items ci JOIN products p ON p.id = ci.product_id " +
+            "WHERE ci.user_id = :userId AND p.id IN (:productIds) AND p.status = 'ACTIVE' " +
+            "AND (p.max_order_quantity IS NULL OR p.max_order_quantity >= ci.quantity)";
+
+    private static final String COPY_ITEMS_SQL =
+            "INSERT INTO order_items (order_id, product_id, quantity, unit_price, total_price, product_name, " +
+            "product_sku, product_image_url, unit, weight, weight_unit, created_at, updated_at, version) " +
+            "SELECT :orderId, p.id, ci.quantity, p.price, p.price * ci.quantity, p.name, p.sku, " +
+            "p.primary_image_url, p.unit, p.weight, p.weight_unit, LOCALTIMESTAMP, LOCALTIMESTAMP, 0 " +
+            "FROM cart_items ci JOIN products p ON p.id = ci.product_id WHERE ci.user_id = :userId";
+
+    private static final String CLEAR_CART_SQL = "DELETE FROM cart_items WHERE user_id = :userId";
+
+    private final CartStore cartStore;
+    private final OrderRepository orderRepository;
+    private final IdempotencyCache idempotencyCache;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final TotalsEngine totalsEngine;
+    private final InventoryReservationEngine reservationEngine;
+    private final EntityCacheEvictor cacheEvictor;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${freshcart.business.default-currency:USD}")
+    private Currency currency;
+
+    @Value("${freshcart.checkout.verify-totals:false}")
+    private boolean verifyTotals;
+
+    public CheckoutService(CartStore cartStore,
+                           OrderRepository orderRepository,
+                           IdempotencyCache idempotencyCache,
+                           OrderNumberGenerator orderNumberGenerator,
+                           TotalsEngine totalsEngine,
+                           InventoryReservationEngine reservationEngine,
+                           EntityCacheEvictor cacheEvictor,
+                           NamedParameterJdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher) {
+        this.cartStore = cartStore;
+        this.orderRepository = orderRepository;
+        this.idempotencyCache = idempotencyCache;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.totalsEngine = totalsEngine;
+        this.reservationEngine = reservationEngine;
+        this.cacheEvictor = cacheEvictor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Place an order from the user's cart
+     * 
+     * @param userId User ID
+     * @param idempotencyKey Client-chosen key identifying this attempt, or null
+     * @param request Order details
+     * @return Placed order (the original one when the key was seen before)
+     */
+    public PlaceOrderResponse placeOrder(Long userId, String idempotencyKey, PlaceOrderRequest request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return doPlaceOrder(userId, null, request);
+        }
+        if (idempotencyKey.length() > 100) {
+            throw new BusinessException("Idempotency-Key must not exceed 100 characters");
+        }
+        return idempotencyCache.execute(userId + ":" + idempotencyKey, () ->
+                orderRepository.findPlacedOrder(userId, idempotencyKey)
+                        .orElseGet(() -> placeOrRecover(userId, idempotencyKey, request)));
+    }
+
+    private PlaceOrderResponse placeOrRecover(Long userId, String idempotencyKey, PlaceOrderRequest request) {
+        try {
+            return doPlaceOrder(userId, idempotencyKey, request);
+        } catch (DataIntegrityViolationException | PersistenceException e) {
+            // A concurrent attempt with the same key on another node won the unique constraint;
+            // the entity manager reports it as a PersistenceException, plain JDBC as DataIntegrityViolationException
+            return orderRepository.findPlacedOrder(userId, idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
+    private PlaceOrderResponse doPlaceOrder(Long userId, String idempotencyKey, PlaceOrderRequest request) {
+        try {
+            cartStore.flush(userId);
+        } catch (RuntimeException e) {
+            log.warn("Could not save pending cart changes of user {} before checkout: {}", userId, e.getMessage());
+            throw new BusinessException("Your cart could not be saved; please try again", e);
+        }
+
+        MapSqlParameterSource cartParams = new MapSqlParameterSource("userId", userId);
+        List<Long> productIds = new ArrayList<>();
+        List<InventoryReservation> reservations = new ArrayList<>();
+        try {
+            jdbcTemplate.query(CART_LINES_SQL, cartParams, rs -> {
+                long productId = rs.getLong("product_id");
+                productIds.add(productId);
+                if (reservationEngine.isHot(productId)) {
+                    reservations.add(reservationEngine.reserve(productId, rs.getInt("quantity")));
+                }
+            });
+            if (productIds.isEmpty()) {
+                throw new BusinessException("Cart is empty");
+            }
+
+            PlaceOrderResponse placed = transactionTemplate.execute(status ->
+                    insertOrder(userId, idempotencyKey, request, productIds, reservations));
+
+            cartStore.invalidate(userId);
+            cacheEvictor.evictProducts(productIds);
+            return placed;
+        } finally {
+            // No-op for reservations already confirmed or released by the order transaction
+            reservations.forEach(reservation -> reservationEngine.release(reservation.id()));
+        }
+    }
+
+    private PlaceOrderResponse insertOrder(Long userId, String idempotencyKey, PlaceOrderRequest request,
+                                           List<Long> productIds, List<InventoryReservation> reservations) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+
+        if (!reservations.isEmpty()) {
+            holdUntilCompletion(reservations);
+            // Lines of hot products were reserved from the ledger, which writes their stock back itself,
+            // but must pass the same product checks as the conditional UPDATE below
+            List<Long> hotIds = reservations.stream().map(InventoryReservation::productId).toList();
+            Long orderable = jdbcTemplate.queryForObject(ORDERABLE_LINES_SQL,
+                    new MapSqlParameterSource("userId", userId).addValue("productIds", hotIds), Long.class);
+            if (orderable == null || orderable != hotIds.size()) {
+                throw new BusinessException("Some items in the cart are no longer available; please review the cart");
+            }
+        }
+
+        List<Long> databaseStockIds = productIds.stream().filter(id -> !reservationEngine.isHot(id)).toList();
+        if (!databaseStockIds.isEmpty()) {
+            int updated = jdbcTemplate.update(DECREMENT_STOCK_SQL,
+                    new MapSqlParameterSource("userId", userId).addValue("productIds", databaseStockIds));
+            if (updated != databaseStockIds.size()) {
+                throw new BusinessException("Some items in the cart are no longer available; please review the cart");
+            }
+        }
+
+        OrderTotals totals = totalsEngine.newTotals(new PricingContext(
+                request.getShippingCountry(), request.getShippingState(), request.getCouponCode()), productIds.size());
+        jdbcTemplate.query(PRICED_LINES_SQL, params, rs -> {
+            totals.addLine(rs.getLong("product_id"), Money.of(rs.getBigDecimal("price"), currency), rs.getInt("quantity"));
+        });
+
+        Order order = Order.builder()
+                .orderNumber(orderNumberGenerator.next())
+                .orderDate(LocalDateTime.now())
+                .idempotencyKey(idempotencyKey)
+                .user(entityManager.getReference(User.class, userId))
+                .currency(currency.getCurrencyCode())
+                .paymentMethod(request.getPaymentMethod())
+                .shippingAddressLine1(request.getShippingAddressLine1())
+                .shippingAddressLine2(request.getShippingAddressLine2())
+                .shippingCity(request.getShippingCity())
+                .shippingState(request.getShippingState())
+                .shippingPostalCode(request.getShippingPostalCode())
+                .shippingCountry(request.getShippingCountry())
+                .billingAddressLine1(orDefault(request.getBillingAddressLine1(), request.getShippingAddressLine1()))
+                .billingAddressLine2(request.getBillingAddressLine1() != null
+                        ? request.getBillingAddressLine2() : request.getShippingAddressLine2())
+                .billingCity(orDefault(request.getBillingCity(), request.getShippingCity()))
+                .billingState(orDefault(request.getBillingState(), request.getShippingState()))
+                .billingPostalCode(orDefault(request.getBillingPostalCode(), request.getShippingPostalCode()))
+                .billingCountry(orDefault(request.getBillingCountry(), request.getShippingCountry()))
+                .notes(request.getNotes())
+                .build();
+        totalsEngine.applyTo(totals, order);
+        entityManager.persist(order);
+        entityManager.flush();
+
+        jdbcTemplate.update(COPY_ITEMS_SQL, params.addValue("orderId", order.getId()));
+        jdbcTemplate.update(CLEAR_CART_SQL, params);
+        if (verifyTotals) {
+            // The items were written by SQL; load them into the order and reprice them
+            entityManager.refresh(order);
+            totalsEngine.verify(totals, order);
+        }
+
+        eventPublisher.publishEvent(new OrderPlacedEvent(order.getId(), order.getOrderNumber(), userId,
+                List.copyOf(productIds), order.getTotalAmount()));
+        return new PlaceOrderResponse(order.getId(), order.getOrderNumber(), order.getOrderDate(),
+                order.getStatus(), order.getTotalAmount(), order.getCurrency());
+    }
+
+    /**
+     * Keep the reservations from expiring while the order commits, then
+     * confirm them if it committed and release them otherwise
+     */
+    private void holdUntilCompletion(List<InventoryReservation> reservations) {
+        reservations.forEach(reservation -> reservationEngine.hold(reservation.id()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (InventoryReservation reservation : reservations) {
+                    if (status == STATUS_COMMITTED) {
+                        reservationEngine.confirm(reservation.id());
+                    } else {
+                        reservationEngine.release(reservation.id());
+                    }
+                }
+            }
+        });
+    }
+
+    private static String orDefault(String value, String fallback) {
+        return value != null && !value.isBlank() ? value : fallback;
+    }
+}
@@ -0,0 +1,77 @@
+package com.freshcart.backend.service.checkout;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Results of idempotent requests, keyed by caller and Idempotency-Key
+ * 
+ * The first request with a key runs the operation; concurrent duplicates
+ * wait for its result and later duplicates get the cached result until it
+ * expires. Failed operations are not cached, so the client may retry.
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+public class IdempotencyCache {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long timeToLiveNanos;
+
+    public IdempotencyCache(@Value("${freshcart.checkout.idempotency-ttl:24h}") Duration timeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    /**
+     * Run an operation at most once per key while its result is cached
+     * 
+     * @param key Cache key (caller-scoped)
+     * @param operation Operation to run
+     * @param <T> Result type
+     * @return Result of the first run
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> operation) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        Entry entry = entries.compute(key, (k, existing) ->
+                existing != null && !existing.isExpired(System.nanoTime()) ? existing
+                        : new Entry(mine, System.nanoTime() + timeToLiveNanos));
+        if (entry.result() != mine) {
+            try {
+                return (T) entry.result().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            T result = operation.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${freshcart.checkout.idempotency-cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private record Entry(CompletableFuture<Object> result, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return result.isDone() && now - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.freshcart.backend.service.checkout;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates unique, time-ordered order numbers without a database round trip
+ * 
+ * Features:
+ * - 63-bit value: 41 bits of milliseconds since 2024-01-01, 10 bits of node ID
+ *   and a 12-bit per-millisecond counter (4096 numbers per millisecond per node)
+ * - Rendered as {@code FC-} plus 13 Crockford Base32 characters, which sort
+ *   in generation order and avoid ambiguous letters
+ * - Node ID from {@code freshcart.order-number.node-id}, or claimed by locking
+ *   a file under {@code freshcart.order-number.node-dir} so several JVMs on
+ *   one machine never share an ID
+ * - Never goes backwards: when the clock steps back, numbers keep counting
+ *   from the last issued timestamp until the clock catches up
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class OrderNumberGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long CLOCK_SKEW_WARN_MILLIS = 1000;
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final String PREFIX = "FC-";
+
+    // Last issued (timestamp << SEQUENCE_BITS | sequence); incrementing it rolls into the next millisecond
+    private final AtomicLong lastIssued = new AtomicLong();
+    private final int nodeId;
+    private FileChannel nodeLockChannel;
+    private FileLock nodeLock;
+
+    public OrderNumberGenerator(@Value("${freshcart.order-number.node-id:-1}") int configuredNodeId,
+                                @Value("${freshcart.order-number.node-dir:${freshcart.persistence.data-dir:./data}/nodes}") Path nodeDir) {
+        if (configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalStateException("Order number node ID must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = configuredNodeId >= 0 ? configuredNodeId : claimNodeId(nodeDir);
+        log.info("Order numbers are generated with node ID {}", nodeId);
+    }
+
+    /**
+     * Next order number
+     * 
+     * @return Order number such as {@code FC-0B3R9WQ4M0A1Z}
+     */
+    public String next() {
+        return format(nextId());
+    }
+
+    /**
+     * Next raw 63-bit ID
+     * 
+     * @return ID
+     */
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        while (true) {
+            long last = lastIssued.get();
+            long next = Math.max(now, last + 1);
+            if (lastIssued.compareAndSet(last, next)) {
+                long drift = (next >>> SEQUENCE_BITS) - (now >>> SEQUENCE_BITS);
+                if (drift > CLOCK_SKEW_WARN_MILLIS && (next & ((1 << SEQUENCE_BITS) - 1)) == 0) {
+                    log.warn("System clock is {} ms behind the last issued order number", drift);
+                }
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1 << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    static String format(long id) {
+        char[] digits = new char[13];
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = CROCKFORD[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return PREFIX + new String(digits);
+    }
+
+    @PreDestroy
+    public void releaseNodeId() throws IOException {
+        if (nodeLock != null) {
+            nodeLock.release();
+            nodeLockChannel.close();
+        }
+    }
+
+    private int claimNodeId(Path nodeDir) {
+        try {
+            Files.createDirectories(nodeDir);
+            for (int candidate = 0; candidate <= MAX_NODE_ID; candidate++) {
+                FileChannel channel = FileChannel.open(nodeDir.resolve("node-" + candidate + ".lock"),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock lock;
+                try {
+                    lock = channel.tryLock();
+                } catch (OverlappingFileLockException e) {
+                    lock = null;
+                }
+                if (lock != null) {
+                    // Held until shutdown; the OS releases it if the JVM dies
+                    this.nodeLockChannel = channel;
+                    this.nodeLock = lock;
+                    return candidate;
+                }
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot claim an order number node ID in " + nodeDir, e);
+        }
+        throw new IllegalStateException("All order number node IDs in " + nodeDir + " are in use");
+    }
+}
@@ -0,0 +1,19 @@
+package com.freshcart.backend.service.inventory;
+
+import java.time.Instant;
+
+/**
+ * Units of a product held for a checkout until it is confirmed, released or expires
+ * 
+ * @param id Reservation ID
+ * @param productId Product ID
+ * @param quantity Units held
+ * @param expiresAt Time after which the units return to stock
+ * @author FreshCart Development Team
+ */
+public record InventoryReservation(String id, Long productId, int quantity, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,321 @@
+package com.freshcart.backend.service.inventory;
+
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.service.EntityCacheEvictor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory inventory reservation ledger
+ * 
+ * Features:
+ * - Available stock is loaded once per product and split across shards;
+ *   configured hot products get many shards, all others one
+ * - Reservations take units without locks and hold them for a time to live
+ * - Confirmed reservations are written back to {@code products.stock_quantity}
+ *   in batched conditional UPDATEs, so the database never goes negative
+ *   even if the ledger drifts
+ * - Released and expired reservations return their units to the shards
+ * - Products whose reconciliation fails are reloaded from the database
+ * - If the write-back itself fails, the drained units are put back and
+ *   retried on the next pass
+ * 
+ * Stock changed directly in the database is picked up when a product is
+ * reloaded ({@link #reload(Long)}). A replaced ledger entry is retired rather
+ * than dropped: confirmations that still reach it are written back by later
+ * passes until it stays empty for a full pass.
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class InventoryReservationEngine {
+
+    private static final String LOAD_STOCK_SQL = "SELECT stock_quantity FROM products WHERE id = ?";
+
+    private static final String DECREMENT_STOCK_SQL =
+            "UPDATE products SET stock_quantity = stock_quantity - ?, updated_at = LOCALTIMESTAMP, " +
+            "version = version + 1 WHERE id = ? AND stock_quantity >= ?";
+
+    private final ConcurrentMap<Long, ShardedStock> stock = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, InventoryReservation> reservations = new ConcurrentHashMap<>();
+    private final Set<ShardedStock> retired = ConcurrentHashMap.newKeySet();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityCacheEvictor cacheEvictor;
+    private final Set<Long> hotProductIds;
+    private final int hotShards;
+    private final Duration reservationTtl;
+
+    private final Counter rejected;
+    private final Counter expired;
+    private final Counter reconcileFailures;
+
+    public InventoryReservationEngine(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      EntityCacheEvictor cacheEvictor,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${freshcart.inventory.hot-product-ids:}") Set<Long> hotProductIds,
+                                      @Value("${freshcart.inventory.hot-shards:16}") int hotShards,
+                                      @Value("${freshcart.inventory.reservation-ttl:10m}") Duration reservationTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheEvictor = cacheEvictor;
+        this.hotProductIds = Set.copyOf(hotProductIds);
+        this.hotShards = hotShards;
+        this.reservationTtl = reservationTtl;
+        this.rejected = meterRegistry.counter("freshcart.inventory.reservations.rejected");
+        this.expired = meterRegistry.counter("freshcart.inventory.reservations.expired");
+        this.reconcileFailures = meterRegistry.counter("freshcart.inventory.reconcile.failures");
+        Gauge.builder("freshcart.inventory.reservations.active", reservations, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Reserve units of a product
+     * 
+     * @param productId Product ID
+     * @param quantity Units to reserve
+     * @return Reservation holding the units
+     * @throws BusinessException if not enough units are available
+     */
+    public InventoryReservation reserve(Long productId, int quantity) {
+        if (quantity < 1) {
+            throw new BusinessException("Quantity must be at least 1");
+        }
+        if (!stockOf(productId).take(quantity)) {
+            rejected.increment();
+            throw new BusinessException("Insufficient stock for product " + productId);
+        }
+        InventoryReservation reservation = new InventoryReservation(
+                UUID.randomUUID().toString(), productId, quantity, Instant.now().plus(reservationTtl));
+        reservations.put(reservation.id(), reservation);
+        return reservation;
+    }
+
+    /**
+     * Confirm a reservation; its units are deducted from the database by the next reconciliation
+     * 
+     * @param reservationId Reservation ID
+     * @throws BusinessException if the reservation does not exist or has expired
+     */
+    public void confirm(String reservationId) {
+        InventoryReservation reservation = reservations.get(reservationId);
+        if (reservation == null) {
+            throw new BusinessException("Reservation not found or expired: " + reservationId);
+        }
+        // Resolve the entry while the reservation is still held, so a fresh load counts it as taken
+        ShardedStock entry = stockOf(reservation.productId());
+        if (!reservations.remove(reservationId, reservation)) {
+            throw new BusinessException("Reservation not found or expired: " + reservationId);
+        }
+        entry.confirm(reservation.quantity());
+    }
+
+    /**
+     * Keep a reservation from expiring, e.g. while the order that uses it commits
+     * 
+     * @param reservationId Reservation ID
+     * @throws BusinessException if the reservation does not exist or has expired
+     */
+    public void hold(String reservationId) {
+        InventoryReservation reservation = reservations.get(reservationId);
+        if (reservation == null || !reservations.replace(reservationId, reservation, new InventoryReservation(
+                reservation.id(), reservation.productId(), reservation.quantity(), Instant.MAX))) {
+            throw new BusinessException("Reservation not found or expired: " + reservationId);
+        }
+    }
+
+    /**
+     * Release a reservation and return its units to stock
+     * 
+     * @param reservationId Reservation ID
+     * @return True if the reservation was still held
+     */
+    public boolean release(String reservationId) {
+        InventoryReservation reservation = reservations.remove(reservationId);
+        if (reservation == null) {
+            return false;
+        }
+        stockOf(reservation.productId()).put(reservation.quantity());
+        return true;
+    }
+
+    /**
+     * Units currently available for reservation
+     * 
+     * @param productId Product ID
+     * @return Available units
+     */
+    public long available(Long productId) {
+        return stockOf(productId).available();
+    }
+
+    public boolean isHot(Long productId) {
+        return hotProductIds.contains(productId);
+    }
+
+    /**
+     * Replace a product's in-memory stock so the next reservation reloads it from the database
+     * 
+     * Confirmed units not yet reconciled are written first, so the reload
+     * sees them already deducted.
+     * 
+     * @param productId Product ID
+     */
+    public void reload(Long productId) {
+        ShardedStock current = stock.get(productId);
+        if (current != null) {
+            reconcile(List.of(current));
+            retire(current);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${freshcart.inventory.expiry-interval-ms:5000}")
+    public void expireReservations() {
+        Instant now = Instant.now();
+        for (InventoryReservation reservation : reservations.values()) {
+            if (reservation.isExpired(now) && reservations.remove(reservation.id(), reservation)) {
+                stockOf(reservation.productId()).put(reservation.quantity());
+                expired.increment();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${freshcart.inventory.reconcile-interval-ms:1000}")
+    public void reconcileAll() {
+        List<ShardedStock> retiredBefore = new ArrayList<>(retired);
+        List<ShardedStock> products = new ArrayList<>(stock.values());
+        products.addAll(retiredBefore);
+        Set<ShardedStock> drained;
+        try {
+            drained = reconcile(products);
+        } catch (DataAccessException e) {
+            log.error("Stock reconciliation failed, retrying on the next pass: {}", e.getMessage());
+            return;
+        }
+        // Entries retired before this pass that received nothing during it are no longer referenced
+        for (ShardedStock entry : retiredBefore) {
+            if (!drained.contains(entry)) {
+                retired.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Write confirmed units back to the database
+     * 
+     * @return Entries that had confirmed units
+     * @throws DataAccessException if the write fails; the units are put back first
+     */
+    private Set<ShardedStock> reconcile(List<ShardedStock> products) {
+        List<ShardedStock> entries = new ArrayList<>();
+        List<Long> quantities = new ArrayList<>();
+        for (ShardedStock product : products) {
+            long confirmed = product.drainConfirmed();
+            if (confirmed > 0) {
+                entries.add(product);
+                quantities.add(confirmed);
+            }
+        }
+        if (entries.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> ids = entries.stream().map(ShardedStock::getProductId).toList();
+
+        int[] counts;
+        try {
+            counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(DECREMENT_STOCK_SQL,
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, quantities.get(i));
+                            ps.setLong(2, ids.get(i));
+                            ps.setLong(3, quantities.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return ids.size();
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            for (int i = 0; i < entries.size(); i++) {
+                entries.get(i).confirm(quantities.get(i));
+            }
+            throw e;
+        }
+        cacheEvictor.evictProducts(ids);
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (counts != null && counts[i] == 0) {
+                // The database holds fewer units than the ledger sold; resynchronize from the database
+                reconcileFailures.increment();
+                log.error("Stock for product {} is short by up to {} units; reloading from the database",
+                        ids.get(i), quantities.get(i));
+                retire(entries.get(i));
+            }
+        }
+        return Set.copyOf(entries);
+    }
+
+    /**
+     * Swap an entry out of the ledger; it keeps accepting confirmations that
+     * were already on their way to it and is drained by later passes
+     */
+    private void retire(ShardedStock entry) {
+        if (stock.remove(entry.getProductId(), entry)) {
+            retired.add(entry);
+        }
+    }
+
+    private ShardedStock stockOf(Long productId) {
+        ShardedStock current = stock.get(productId);
+        if (current != null) {
+            return current;
+        }
+        ShardedStock loaded = load(productId);
+        ShardedStock existing = stock.putIfAbsent(productId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private ShardedStock load(Long productId) {
+        List<Long> rows = jdbcTemplate.queryForList(LOAD_STOCK_SQL, Long.class, productId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Product", productId);
+        }
+        long held = reservations.values().stream()
+                .filter(reservation -> reservation.productId().equals(productId))
+                .mapToLong(InventoryReservation::quantity)
+                .sum();
+        // Sold through a retired entry but not yet written back
+        held += retired.stream()
+                .filter(entry -> entry.getProductId().equals(productId))
+                .mapToLong(ShardedStock::pendingConfirmed)
+                .sum();
+        int shards = hotProductIds.contains(productId) ? hotShards : 1;
+        return new ShardedStock(productId, shards, Math.max(0, rows.get(0) - held));
+    }
+}
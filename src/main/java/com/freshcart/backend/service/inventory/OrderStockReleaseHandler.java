@@ -0,0 +1,72 @@
+package com.freshcart.backend.service.inventory;
+
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.event.OrderStatusChangedEvent;
+import com.freshcart.backend.service.EntityCacheEvictor;
+import com.freshcart.backend.service.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Returns the stock of cancelled orders to the catalog
+ * 
+ * Features:
+ * - Runs from the outbox when an order moves to CANCELLED, in the relay's
+ *   transaction, so the units are returned exactly once
+ * - One UPDATE restocks every product on the order
+ * - Hot products are reloaded into the reservation ledger after commit
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStockReleaseHandler implements OutboxHandler<OrderStatusChangedEvent> {
+
+    private static final String PRODUCT_IDS_SQL =
+            "SELECT DISTINCT product_id FROM order_items WHERE order_id = ?";
+
+    private static final String RESTOCK_SQL =
+            "UPDATE products p SET stock_quantity = stock_quantity + " +
+            "(SELECT SUM(oi.quantity) FROM order_items oi WHERE oi.order_id = ? AND oi.product_id = p.id), " +
+            "updated_at = LOCALTIMESTAMP, version = version + 1 " +
+            "WHERE p.id IN (SELECT product_id FROM order_items WHERE order_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryReservationEngine reservationEngine;
+    private final EntityCacheEvictor cacheEvictor;
+
+    @Override
+    public Class<OrderStatusChangedEvent> eventType() {
+        return OrderStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderStatusChangedEvent event) {
+        if (!event.isStatusChange() || event.status() != Order.OrderStatus.CANCELLED
+                || event.previousStatus() == Order.OrderStatus.REFUNDED) {
+            return;
+        }
+        List<Long> productIds = jdbcTemplate.queryForList(PRODUCT_IDS_SQL, Long.class, event.orderId());
+        if (productIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(RESTOCK_SQL, event.orderId(), event.orderId());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (Long productId : productIds) {
+                    if (reservationEngine.isHot(productId)) {
+                        reservationEngine.reload(productId);
+                    }
+                }
+                cacheEvictor.evictProducts(productIds);
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.freshcart.backend.service.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Available units of one product split across lock-free shards
+ * 
+ * Each shard is a CAS-updated counter in its own cache line. A reservation
+ * starts at a random shard and only visits the others when that shard runs
+ * short, so concurrent checkouts of the same product rarely touch the same
+ * counter.
+ * 
+ * @author FreshCart Development Team
+ */
+class ShardedStock {
+
+    // Longs per shard; 16 longs = 128 bytes keeps neighbouring shards off each other's cache line
+    private static final int STRIDE = 16;
+
+    private final Long productId;
+    private final int shardCount;
+    private final AtomicLongArray shards;
+    private final LongAdder confirmedUnreconciled = new LongAdder();
+
+    ShardedStock(Long productId, int shardCount, long available) {
+        this.productId = productId;
+        this.shardCount = shardCount;
+        this.shards = new AtomicLongArray(shardCount * STRIDE);
+        for (int i = 0; i < shardCount; i++) {
+            shards.set(i * STRIDE, available / shardCount + (i < available % shardCount ? 1 : 0));
+        }
+    }
+
+    Long getProductId() {
+        return productId;
+    }
+
+    int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Take units, visiting shards starting from a random one
+     * 
+     * @param quantity Units to take
+     * @return True if all units were taken; on false nothing is taken
+     */
+    boolean take(long quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        long remaining = quantity;
+        for (int i = 0; i < shardCount && remaining > 0; i++) {
+            remaining -= takeUpTo((start + i) % shardCount, remaining);
+        }
+        if (remaining > 0) {
+            put(quantity - remaining);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Return units to a random shard
+     * 
+     * @param quantity Units to return
+     */
+    void put(long quantity) {
+        if (quantity > 0) {
+            shards.addAndGet(ThreadLocalRandom.current().nextInt(shardCount) * STRIDE, quantity);
+        }
+    }
+
+    long available() {
+        long total = 0;
+        for (int i = 0; i < shardCount; i++) {
+            total += shards.get(i * STRIDE);
+        }
+        return total;
+    }
+
+    void confirm(long quantity) {
+        confirmedUnreconciled.add(quantity);
+    }
+
+    long drainConfirmed() {
+        return confirmedUnreconciled.sumThenReset();
+    }
+
+    long pendingConfirmed() {
+        return confirmedUnreconciled.sum();
+    }
+
+    private long takeUpTo(int shard, long wanted) {
+        int index = shard * STRIDE;
+        while (true) {
+            long current = shards.get(index);
+            if (current <= 0) {
+                return 0;
+            }
+            long taken = Math.min(current, wanted);
+            if (shards.compareAndSet(index, current, current - taken)) {
+                return taken;
+            }
+        }
+    }
+}
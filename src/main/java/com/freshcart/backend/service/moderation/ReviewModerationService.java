@@ -0,0 +1,358 @@
+package com.freshcart.backend.service.moderation;
+
+import com.freshcart.backend.dto.request.BulkReviewModerationRequest;
+import com.freshcart.backend.dto.response.BulkReviewModerationResponse;
+import com.freshcart.backend.dto.response.PendingReviewResponse;
+import com.freshcart.backend.entity.Review;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.repository.ReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Review moderation pipeline
+ * 
+ * Features:
+ * - New reviews are scored in the background by an in-process naive Bayes
+ *   {@link SpamClassifier}; the score is stored on the review
+ * - Clear cases are decided automatically: very likely spam is marked SPAM,
+ *   very likely legitimate reviews are approved. Everything in between stays
+ *   PENDING for a moderator. Automatic decisions only start once the model
+ *   has seen enough moderator decisions of both kinds
+ * - Moderators approve, reject or mark as spam many reviews at once; the
+ *   changes are one JDBC batch of conditional UPDATEs
+ * - The classifier is trained from moderator decisions only (never from its
+ *   own), on startup from past decisions and then incrementally after each
+ *   committed bulk moderation; a moderator changing a label retracts the old one
+ * - Bulk moderations commit either before the startup training reads the
+ *   decisions, and are learned from the database, or after it has finished,
+ *   and are learned incrementally; never both
+ * 
+ * Metrics: freshcart.reviews.moderation.scored, freshcart.reviews.moderation.auto
+ * (tagged by decision), freshcart.reviews.moderation.vocabulary
+ * 
+ * @author FreshCart Development Team
+ */
+@Service
+@Slf4j
+public class ReviewModerationService {
+
+    private static final int MAX_QUEUE_PAGE_SIZE = 100;
+
+    private static final String LOAD_TRAINING_SQL =
+            "SELECT title, comment, rating, status FROM reviews " +
+            "WHERE status IN ('SPAM', 'APPROVED') AND auto_moderated = FALSE";
+
+    private static final String LOAD_UNSCORED_SQL =
+            "SELECT id, title, comment, rating FROM reviews " +
+            "WHERE status = 'PENDING' AND spam_score IS NULL ORDER BY id LIMIT :limit";
+
+    private static final String APPLY_SCORE_SQL =
+            "UPDATE reviews SET spam_score = :score, status = :status, auto_moderated = :autoModerated, " +
+            "admin_notes = COALESCE(CAST(:notes AS VARCHAR(500)), admin_notes), " +
+            "updated_at = :now, version = version + 1 " +
+            "WHERE id = :id AND status = 'PENDING' AND spam_score IS NULL";
+
+    private static final String LOAD_FOR_MODERATION_SQL =
+            "SELECT id, title, comment, rating, status, auto_moderated FROM reviews WHERE id IN (:reviewIds)";
+
+    private static final String MODERATE_SQL =
+            "UPDATE reviews SET status = :status, auto_moderated = FALSE, " +
+            "admin_notes = COALESCE(CAST(:notes AS VARCHAR(500)), admin_notes), " +
+            "updated_at = :now, version = version + 1 " +
+            "WHERE id = :id AND status = :expectedStatus AND auto_moderated = :expectedAutoModerated";
+
+    private final SpamClassifier classifier = new SpamClassifier();
+    // Held shared by committing bulk moderations and exclusively by the startup training
+    private final ReadWriteLock trainingLock = new ReentrantReadWriteLock();
+    private volatile boolean trained;
+
+    private final ReviewRepository reviewRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final double autoApproveBelow;
+    private final double autoSpamAbove;
+    private final long minTrainingDocuments;
+
+    private final Counter scored;
+    private final Counter autoApproved;
+    private final Counter autoSpam;
+
+    public ReviewModerationService(ReviewRepository reviewRepository,
+                                   NamedParameterJdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${freshcart.reviews.moderation.batch-size:200}") int batchSize,
+                                   @Value("${freshcart.reviews.moderation.auto-approve-below:0.02}") double autoApproveBelow,
+                                   @Value("${freshcart.reviews.moderation.auto-spam-above:0.98}") double autoSpamAbove,
+                                   @Value("${freshcart.reviews.moderation.min-training-documents:50}") long minTrainingDocuments) {
+        this.reviewRepository = reviewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.autoApproveBelow = autoApproveBelow;
+        this.autoSpamAbove = autoSpamAbove;
+        this.minTrainingDocuments = minTrainingDocuments;
+        this.scored = meterRegistry.counter("freshcart.reviews.moderation.scored");
+        this.autoApproved = meterRegistry.counter("freshcart.reviews.moderation.auto", "decision", "approved");
+        this.autoSpam = meterRegistry.counter("freshcart.reviews.moderation.auto", "decision", "spam");
+        Gauge.builder("freshcart.reviews.moderation.vocabulary", classifier, SpamClassifier::vocabularySize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Train the classifier from all past moderator decisions
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void train() {
+        trainingLock.writeLock().lock();
+        try {
+            if (trained) {
+                return;
+            }
+            jdbcTemplate.query(LOAD_TRAINING_SQL, rs -> {
+                classifier.learn(rs.getString("title"), rs.getString("comment"), rs.getBigDecimal("rating"),
+                        Review.ReviewStatus.SPAM.name().equals(rs.getString("status")));
+            });
+            trained = true;
+        } finally {
+            trainingLock.writeLock().unlock();
+        }
+        log.info("Review classifier trained on {} spam and {} approved reviews ({} features)",
+                classifier.spamDocuments(), classifier.hamDocuments(), classifier.vocabularySize());
+    }
+
+    /**
+     * Score unscored pending reviews and apply automatic decisions, one
+     * batch per transaction until none are left
+     */
+    @Scheduled(fixedDelayString = "${freshcart.reviews.moderation.score-interval-ms:2000}")
+    public void scorePending() {
+        if (!trained) {
+            return;
+        }
+        int count;
+        do {
+            count = transactionTemplate.execute(status -> scoreBatch());
+        } while (count == batchSize);
+    }
+
+    /**
+     * Moderate many reviews at once
+     * 
+     * All reviews are read in one query and the changes are applied in one
+     * JDBC batch of conditional UPDATEs; a review that changed in between is
+     * reported as a conflict. The classifier learns from the decisions once
+     * the transaction commits, or from the database if it has not been
+     * trained yet.
+     * 
+     * @param request Target status, reviews and optional reason
+     * @return Outcome per review, in request order
+     * @throws BusinessException if the target status is PENDING
+     */
+    @Transactional
+    public BulkReviewModerationResponse moderate(BulkReviewModerationRequest request) {
+        Review.ReviewStatus target = request.getStatus();
+        if (target == Review.ReviewStatus.PENDING) {
+            throw new BusinessException("Reviews can only be approved, rejected or marked as spam");
+        }
+        Set<Long> reviewIds = new LinkedHashSet<>(request.getReviewIds());
+
+        Map<Long, ModerationRow> rows = new HashMap<>();
+        jdbcTemplate.query(LOAD_FOR_MODERATION_SQL, new MapSqlParameterSource("reviewIds", reviewIds), rs -> {
+            rows.put(rs.getLong("id"), new ModerationRow(rs.getString("title"), rs.getString("comment"),
+                    rs.getBigDecimal("rating"), Review.ReviewStatus.valueOf(rs.getString("status")),
+                    rs.getBoolean("auto_moderated")));
+        });
+
+        Map<Long, BulkReviewModerationResponse.Result> results = new LinkedHashMap<>();
+        List<Long> candidates = new ArrayList<>();
+        for (Long reviewId : reviewIds) {
+            ModerationRow row = rows.get(reviewId);
+            BulkReviewModerationResponse.Outcome outcome;
+            if (row == null) {
+                outcome = BulkReviewModerationResponse.Outcome.NOT_FOUND;
+            } else if (row.status() == target && !row.autoModerated()) {
+                outcome = BulkReviewModerationResponse.Outcome.UNCHANGED;
+            } else {
+                outcome = BulkReviewModerationResponse.Outcome.UPDATED;
+                candidates.add(reviewId);
+            }
+            results.put(reviewId, new BulkReviewModerationResponse.Result(reviewId, outcome,
+                    row != null ? row.status() : null));
+        }
+
+        List<ModerationRow> decided = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            String notes = target == Review.ReviewStatus.REJECTED ? request.getReason() : null;
+            SqlParameterSource[] updates = new SqlParameterSource[candidates.size()];
+            for (int i = 0; i < updates.length; i++) {
+                ModerationRow row = rows.get(candidates.get(i));
+                updates[i] = new MapSqlParameterSource("id", candidates.get(i))
+                        .addValue("status", target.name())
+                        .addValue("notes", notes)
+                        .addValue("now", now)
+                        .addValue("expectedStatus", row.status().name())
+                        .addValue("expectedAutoModerated", row.autoModerated());
+            }
+            int[] counts = jdbcTemplate.batchUpdate(MODERATE_SQL, updates);
+            for (int i = 0; i < counts.length; i++) {
+                Long reviewId = candidates.get(i);
+                if (counts[i] == 0) {
+                    results.get(reviewId).setOutcome(BulkReviewModerationResponse.Outcome.CONFLICT);
+                } else {
+                    decided.add(rows.get(reviewId));
+                }
+            }
+        }
+        if (!decided.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean locked;
+
+                @Override
+                public void beforeCompletion() {
+                    // Keeps the startup training from reading the decisions between commit and retrain
+                    trainingLock.readLock().lock();
+                    locked = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (!locked) {
+                        return;
+                    }
+                    try {
+                        // Before training, the committed decisions are read from the database instead
+                        if (status == STATUS_COMMITTED && trained) {
+                            decided.forEach(row -> retrain(row, target));
+                        }
+                    } finally {
+                        trainingLock.readLock().unlock();
+                    }
+                }
+            });
+        }
+        return new BulkReviewModerationResponse(decided.size(), new ArrayList<>(results.values()));
+    }
+
+    /**
+     * Page through reviews waiting for a moderator, oldest first
+     * 
+     * @param afterId ID of the last review of the previous page, or null
+     * @param size Page size, clamped to 1..100
+     * @return Pending reviews with their spam scores
+     */
+    @Transactional(readOnly = true)
+    public List<PendingReviewResponse> getModerationQueue(Long afterId, int size) {
+        size = Math.max(1, Math.min(size, MAX_QUEUE_PAGE_SIZE));
+        return reviewRepository.findModerationQueue(Review.ReviewStatus.PENDING,
+                afterId != null ? afterId : 0L, Limit.of(size));
+    }
+
+    /**
+     * Size of the classifier's training set and the automatic decision thresholds
+     * 
+     * @return Classifier statistics
+     */
+    public Map<String, Object> getClassifierStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("spamDocuments", classifier.spamDocuments());
+        status.put("approvedDocuments", classifier.hamDocuments());
+        status.put("vocabulary", classifier.vocabularySize());
+        status.put("autoModeration", isConfident());
+        status.put("autoApproveBelow", autoApproveBelow);
+        status.put("autoSpamAbove", autoSpamAbove);
+        return status;
+    }
+
+    private int scoreBatch() {
+        List<SqlParameterSource> updates = new ArrayList<>();
+        boolean confident = isConfident();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.query(LOAD_UNSCORED_SQL, new MapSqlParameterSource("limit", batchSize), rs -> {
+            double score = classifier.score(rs.getString("title"), rs.getString("comment"),
+                    rs.getBigDecimal("rating"));
+            Review.ReviewStatus decision = Review.ReviewStatus.PENDING;
+            if (confident && score >= autoSpamAbove) {
+                decision = Review.ReviewStatus.SPAM;
+            } else if (confident && score <= autoApproveBelow) {
+                decision = Review.ReviewStatus.APPROVED;
+            }
+            boolean auto = decision != Review.ReviewStatus.PENDING;
+            updates.add(new MapSqlParameterSource("id", rs.getLong("id"))
+                    .addValue("score", score)
+                    .addValue("status", decision.name())
+                    .addValue("autoModerated", auto)
+                    .addValue("notes", auto ? String.format("Auto-moderated (spam score %.3f)", score) : null)
+                    .addValue("now", now));
+        });
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(APPLY_SCORE_SQL, updates.toArray(new SqlParameterSource[0]));
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            Object decision = updates.get(i).getValue("status");
+            if (Review.ReviewStatus.SPAM.name().equals(decision)) {
+                autoSpam.increment();
+            } else if (Review.ReviewStatus.APPROVED.name().equals(decision)) {
+                autoApproved.increment();
+            }
+        }
+        scored.increment(updates.size());
+        return updates.size();
+    }
+
+    private boolean isConfident() {
+        return classifier.minClassDocuments() >= minTrainingDocuments;
+    }
+
+    private void retrain(ModerationRow row, Review.ReviewStatus target) {
+        if (!row.autoModerated() && isLabel(row.status())) {
+            classifier.forget(row.title(), row.comment(), row.rating(), row.status() == Review.ReviewStatus.SPAM);
+        }
+        if (isLabel(target)) {
+            classifier.learn(row.title(), row.comment(), row.rating(), target == Review.ReviewStatus.SPAM);
+        }
+    }
+
+    private static boolean isLabel(Review.ReviewStatus status) {
+        return status == Review.ReviewStatus.SPAM || status == Review.ReviewStatus.APPROVED;
+    }
+
+    private record ModerationRow(String title, String comment, BigDecimal rating,
+                                 Review.ReviewStatus status, boolean autoModerated) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.freshcart.backend.service.moderation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Multinomial naive Bayes classifier of review text as spam or legitimate
+ * 
+ * Features:
+ * - Word tokens of title and comment plus a few shape features (links,
+ *   shouting, very short text, star rating)
+ * - Laplace smoothing; scores combine log probabilities, so long texts do
+ *   not underflow
+ * - Incremental: {@link #learn} and {@link #forget} adjust the counts in
+ *   place, no retraining pass is needed
+ * - Many concurrent scorers, one writer at a time
+ * 
+ * @author FreshCart Development Team
+ */
+public class SpamClassifier {
+
+    private static final int SPAM = 0;
+    private static final int HAM = 1;
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 30;
+
+    private final Map<String, long[]> tokenCounts = new HashMap<>();
+    private final long[] documents = new long[2];
+    private final long[] tokens = new long[2];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Probability that a review is spam
+     * 
+     * With no training data both classes are equally likely and the result is 0.5.
+     * 
+     * @param title Review title, may be null
+     * @param comment Review comment, may be null
+     * @param rating Star rating, may be null
+     * @return Spam probability between 0 and 1
+     */
+    public double score(String title, String comment, Number rating) {
+        List<String> features = features(title, comment, rating);
+        lock.readLock().lock();
+        try {
+            double vocabulary = Math.max(1, tokenCounts.size());
+            double spamLog = Math.log((documents[SPAM] + 1.0) / (documents[SPAM] + documents[HAM] + 2.0));
+            double hamLog = Math.log((documents[HAM] + 1.0) / (documents[SPAM] + documents[HAM] + 2.0));
+            for (String feature : features) {
+                long[] counts = tokenCounts.get(feature);
+                long spamCount = counts != null ? counts[SPAM] : 0;
+                long hamCount = counts != null ? counts[HAM] : 0;
+                spamLog += Math.log((spamCount + 1.0) / (tokens[SPAM] + vocabulary));
+                hamLog += Math.log((hamCount + 1.0) / (tokens[HAM] + vocabulary));
+            }
+            return 1.0 / (1.0 + Math.exp(hamLog - spamLog));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add one labelled review to the model
+     * 
+     * @param spam Whether the review is spam
+     */
+    public void learn(String title, String comment, Number rating, boolean spam) {
+        adjust(features(title, comment, rating), spam ? SPAM : HAM, 1);
+    }
+
+    /**
+     * Remove a review previously added with {@link #learn}, e.g. when a
+     * moderator changes its label
+     * 
+     * @param spam Label it was learned with
+     */
+    public void forget(String title, String comment, Number rating, boolean spam) {
+        adjust(features(title, comment, rating), spam ? SPAM : HAM, -1);
+    }
+
+    /**
+     * Number of training documents of the smaller class; auto-moderation
+     * should only trust the model once both classes are well represented
+     */
+    public long minClassDocuments() {
+        lock.readLock().lock();
+        try {
+            return Math.min(documents[SPAM], documents[HAM]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long spamDocuments() {
+        lock.readLock().lock();
+        try {
+            return documents[SPAM];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long hamDocuments() {
+        lock.readLock().lock();
+        try {
+            return documents[HAM];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int vocabularySize() {
+        lock.readLock().lock();
+        try {
+            return tokenCounts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void adjust(List<String> features, int label, int delta) {
+        lock.writeLock().lock();
+        try {
+            documents[label] = Math.max(0, documents[label] + delta);
+            for (String feature : features) {
+                long[] counts = tokenCounts.computeIfAbsent(feature, key -> new long[2]);
+                long before = counts[label];
+                counts[label] = Math.max(0, before + delta);
+                // Forgetting a token that was never learned must not shrink the total
+                tokens[label] += counts[label] - before;
+                if (counts[SPAM] == 0 && counts[HAM] == 0) {
+                    tokenCounts.remove(feature);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static List<String> features(String title, String comment, Number rating) {
+        List<String> features = new ArrayList<>();
+        String text = (title != null ? title : "") + " " + (comment != null ? comment : "");
+        int letters = 0;
+        int upper = 0;
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (Character.isLetter(c)) {
+                    letters++;
+                    if (Character.isUpperCase(c)) {
+                        upper++;
+                    }
+                }
+                token.append(c);
+            } else if (!token.isEmpty()) {
+                if (token.length() >= MIN_TOKEN_LENGTH && token.length() <= MAX_TOKEN_LENGTH) {
+                    features.add(token.toString().toLowerCase(Locale.ROOT));
+                }
+                token.setLength(0);
+            }
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.contains("http") || lower.contains("www.")) {
+            features.add("#link");
+        }
+        if (letters >= 10 && upper * 2 > letters) {
+            features.add("#shouting");
+        }
+        if (text.trim().length() < 20) {
+            features.add("#short");
+        }
+        if (rating != null) {
+            features.add("#rating" + Math.round(rating.doubleValue()));
+        }
+        return features;
+    }
+}
@@ -0,0 +1,219 @@
+package com.freshcart.backend.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal SMTP server that accepts every mail and keeps it in memory
+ * 
+ * Features:
+ * - Stands in for a real mail server in development, tests and load runs
+ *   (see the {@code local-mail} profile)
+ * - Speaks just enough SMTP for JavaMail: EHLO/HELO, MAIL, RCPT, DATA, RSET,
+ *   NOOP and QUIT, with pipelined sessions carrying many mails
+ * - Listens on the loopback interface only
+ * - Keeps the most recent mails up to a capacity
+ * 
+ * Metric: freshcart.mail.sink.received
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@ConditionalOnProperty(name = "freshcart.mail.sink.enabled", havingValue = "true")
+@Slf4j
+public class LocalSmtpSink implements SmartLifecycle {
+
+    /**
+     * Mail received by the sink
+     * 
+     * @param from Envelope sender
+     * @param recipients Envelope recipients
+     * @param data Message headers and body
+     * @param receivedAt Time the mail was accepted
+     */
+    public record ReceivedMail(String from, List<String> recipients, String data, Instant receivedAt) {
+    }
+
+    private final int port;
+    private final int capacity;
+    private final Deque<ReceivedMail> received = new ArrayDeque<>();
+    private final Counter receivedCounter;
+
+    private volatile boolean running;
+    private ServerSocket serverSocket;
+    private ExecutorService sessions;
+
+    public LocalSmtpSink(MeterRegistry meterRegistry,
+                         @Value("${freshcart.mail.sink.port:2525}") int port,
+                         @Value("${freshcart.mail.sink.capacity:1000}") int capacity) {
+        this.port = port;
+        this.capacity = capacity;
+        this.receivedCounter = meterRegistry.counter("freshcart.mail.sink.received");
+    }
+
+    public synchronized List<ReceivedMail> received() {
+        return new ArrayList<>(received);
+    }
+
+    public synchronized void clear() {
+        received.clear();
+    }
+
+    @Override
+    public void start() {
+        try {
+            serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot start local SMTP sink on port " + port, e);
+        }
+        sessions = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "smtp-sink-session");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        Thread acceptor = new Thread(this::accept, "smtp-sink");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("Local SMTP sink listening on port {}", port);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("Error closing SMTP sink socket", e);
+        }
+        sessions.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start before and stop after the mailer
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1;
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                sessions.execute(() -> session(socket));
+            } catch (SocketException e) {
+                // Socket closed by stop()
+                return;
+            } catch (IOException e) {
+                log.warn("SMTP sink accept failed", e);
+            }
+        }
+    }
+
+    private void session(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            socket.setSoTimeout(30_000);
+            reply(out, "220 freshcart-sink ESMTP");
+            String from = null;
+            List<String> recipients = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase(Locale.ROOT) : line;
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-freshcart-sink\r\n250-8BITMIME\r\n250 PIPELINING");
+                    case "HELO", "NOOP" -> reply(out, "250 OK");
+                    case "MAIL" -> {
+                        from = address(line);
+                        recipients = new ArrayList<>();
+                        reply(out, "250 OK");
+                    }
+                    case "RCPT" -> {
+                        recipients.add(address(line));
+                        reply(out, "250 OK");
+                    }
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        String data = readData(in);
+                        store(new ReceivedMail(from, List.copyOf(recipients), data, Instant.now()));
+                        reply(out, "250 OK");
+                    }
+                    case "RSET" -> {
+                        from = null;
+                        recipients = new ArrayList<>();
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            log.debug("SMTP sink session ended", e);
+        }
+    }
+
+    private static String readData(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            // Undo dot-stuffing
+            data.append(line.startsWith(".") ? line.substring(1) : line).append("\r\n");
+        }
+        return data.toString();
+    }
+
+    private static String address(String line) {
+        int open = line.indexOf('<');
+        int close = line.indexOf('>', open + 1);
+        return open >= 0 && close > open ? line.substring(open + 1, close) : line.substring(line.indexOf(':') + 1).trim();
+    }
+
+    private synchronized void store(ReceivedMail mail) {
+        if (received.size() >= capacity) {
+            received.removeFirst();
+        }
+        received.addLast(mail);
+        receivedCounter.increment();
+    }
+
+    private static void reply(Writer out, String reply) throws IOException {
+        out.write(reply);
+        out.write("\r\n");
+        out.flush();
+    }
+}
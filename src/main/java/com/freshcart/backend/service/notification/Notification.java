@@ -0,0 +1,17 @@
+package com.freshcart.backend.service.notification;
+
+import java.util.Map;
+
+/**
+ * Claimed email: template, recipient and model, plus its delivery attempts
+ * 
+ * @param id Row ID in {@code queued_notifications}
+ * @param template Template to render
+ * @param recipient Email address
+ * @param model Placeholder values
+ * @param attempts Failed delivery attempts so far
+ * @author FreshCart Development Team
+ */
+record Notification(long id, NotificationTemplate template, String recipient, Map<String, String> model,
+                    int attempts) {
+}
@@ -0,0 +1,417 @@
+package com.freshcart.backend.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freshcart.backend.entity.NotificationDeadLetter;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.repository.NotificationDeadLetterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous, batched email sender
+ * 
+ * Features:
+ * - {@link #enqueue} writes the mail to the {@code queued_notifications} table
+ *   in the caller's transaction, so rolled-back work sends nothing and
+ *   committed work is not lost if the application stops before sending
+ * - A single worker thread claims due mails in batches (claim token plus
+ *   lease, as the outbox relay does), renders them and sends each batch over
+ *   one SMTP connection instead of one connection per mail
+ * - A mail is deleted from the queue only after the server accepted it; a
+ *   mailer that dies mid-batch leaves its claims to expire, and the mails are
+ *   sent again (at least once, never silently dropped)
+ * - Sending is rate limited to a configured number of mails per second
+ * - Failed mails are retried with exponential backoff; mails that keep
+ *   failing or cannot be rendered go to the {@code notification_dead_letters}
+ *   table and can be requeued from there
+ * 
+ * The worker starts with the application unless scheduled jobs are turned
+ * off ({@code freshcart.scheduling.enabled=false}); {@link #sendDue()} sends
+ * one batch by hand.
+ * 
+ * Metrics: freshcart.mail.sent, freshcart.mail.retries, freshcart.mail.dead,
+ * freshcart.mail.queue, freshcart.mail.batch
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class NotificationMailer implements SmartLifecycle {
+
+    private static final TypeReference<Map<String, String>> MODEL_TYPE = new TypeReference<>() {
+    };
+
+    private static final String INSERT_SQL =
+            "INSERT INTO queued_notifications (template, recipient, model, attempts, available_at, " +
+            "created_at, updated_at, version) " +
+            "VALUES (:template, :recipient, :model, 0, LOCALTIMESTAMP, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)";
+
+    private static final String CLAIMABLE =
+            "available_at <= :now AND (locked_until IS NULL OR locked_until < :now)";
+
+    private static final String CLAIM_SQL =
+            "UPDATE queued_notifications SET claim_token = :token, locked_until = :lockedUntil " +
+            "WHERE id IN (SELECT id FROM queued_notifications WHERE " + CLAIMABLE + " ORDER BY id LIMIT :limit) " +
+            "AND " + CLAIMABLE;
+
+    private static final String LOAD_CLAIMED_SQL =
+            "SELECT id, template, recipient, model, attempts FROM queued_notifications " +
+            "WHERE claim_token = :token ORDER BY id";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM queued_notifications WHERE id IN (:ids) AND claim_token = :token";
+
+    private static final String MARK_RETRY_SQL =
+            "UPDATE queued_notifications SET attempts = :attempts, available_at = :availableAt, " +
+            "last_error = :error, claim_token = NULL, locked_until = NULL, updated_at = :now, " +
+            "version = version + 1 WHERE id = :id AND claim_token = :token";
+
+    private static final String DEAD_LETTER_SQL =
+            "INSERT INTO notification_dead_letters (template, recipient, model, attempts, last_error, " +
+            "created_at, updated_at, version) " +
+            "SELECT template, recipient, model, :attempts, :error, LOCALTIMESTAMP, LOCALTIMESTAMP, 0 " +
+            "FROM queued_notifications WHERE id = :id AND claim_token = :token";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM queued_notifications";
+
+    private final JavaMailSender mailSender;
+    private final NotificationDeadLetterRepository deadLetterRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final String from;
+    private final int batchSize;
+    private final long nanosPerMail;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration lease;
+    private final long pollIntervalMillis;
+    private final boolean autoStartup;
+
+    private final Semaphore wakeup = new Semaphore(0);
+    private final AtomicLong queued = new AtomicLong();
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationMailer(JavaMailSender mailSender,
+                              NotificationDeadLetterRepository deadLetterRepository,
+                              NamedParameterJdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${freshcart.mail.from:${spring.mail.username:noreply@freshcart.local}}") String from,
+                              @Value("${freshcart.mail.batch-size:50}") int batchSize,
+                              @Value("${freshcart.mail.rate-per-second:20}") int ratePerSecond,
+                              @Value("${freshcart.mail.max-attempts:5}") int maxAttempts,
+                              @Value("${freshcart.mail.backoff-base:5s}") Duration backoffBase,
+                              @Value("${freshcart.mail.lease:2m}") Duration lease,
+                              @Value("${freshcart.mail.poll-interval-ms:1000}") long pollIntervalMillis,
+                              @Value("${freshcart.scheduling.enabled:true}") boolean autoStartup) {
+        this.mailSender = mailSender;
+        this.deadLetterRepository = deadLetterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.nanosPerMail = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = backoffBase;
+        this.lease = lease;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.autoStartup = autoStartup;
+        this.sent = meterRegistry.counter("freshcart.mail.sent");
+        this.retried = meterRegistry.counter("freshcart.mail.retries");
+        this.dead = meterRegistry.counter("freshcart.mail.dead");
+        this.batchTimer = meterRegistry.timer("freshcart.mail.batch");
+        Gauge.builder("freshcart.mail.queue", queued, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * Queue an email; returns without sending
+     * 
+     * Inside a transaction the mail is queued only if the transaction commits.
+     * 
+     * @param template Template
+     * @param recipient Email address
+     * @param model Placeholder values
+     */
+    public void enqueue(NotificationTemplate template, String recipient, Map<String, String> model) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(model);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize notification model", e);
+        }
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource("template", template.name())
+                .addValue("recipient", recipient)
+                .addValue("model", json));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeup.release();
+                }
+            });
+        } else {
+            wakeup.release();
+        }
+    }
+
+    /**
+     * Move a dead letter back onto the queue
+     * 
+     * @param deadLetterId Dead letter ID
+     */
+    public void requeue(Long deadLetterId) {
+        NotificationDeadLetter deadLetter = deadLetterRepository.findById(deadLetterId)
+                .orElseThrow(() -> new ResourceNotFoundException("NotificationDeadLetter", deadLetterId));
+        transactionTemplate.executeWithoutResult(status -> {
+            deadLetterRepository.delete(deadLetter);
+            jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource("template", deadLetter.getTemplate())
+                    .addValue("recipient", deadLetter.getRecipient())
+                    .addValue("model", deadLetter.getModel()));
+        });
+        wakeup.release();
+    }
+
+    public List<NotificationDeadLetter> recentDeadLetters() {
+        return deadLetterRepository.findTop100ByOrderByIdDesc();
+    }
+
+    /**
+     * Mails waiting to be sent, including those waiting for a retry
+     */
+    public long queued() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, new MapSqlParameterSource(), Long.class);
+        queued.set(count != null ? count : 0);
+        return queued.get();
+    }
+
+    /**
+     * Claim and send one batch of due mails
+     * 
+     * @return Number of mails claimed
+     */
+    public int sendDue() {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource claim = new MapSqlParameterSource("token", token)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("lockedUntil", Timestamp.valueOf(now.plus(lease)))
+                .addValue("limit", batchSize);
+        Integer claimed = transactionTemplate.execute(status -> jdbcTemplate.update(CLAIM_SQL, claim));
+        if (claimed == null || claimed == 0) {
+            return 0;
+        }
+
+        List<Notification> batch = new ArrayList<>(claimed);
+        Map<Long, String> unreadable = new LinkedHashMap<>();
+        jdbcTemplate.query(LOAD_CLAIMED_SQL, new MapSqlParameterSource("token", token), rs -> {
+            long id = rs.getLong("id");
+            try {
+                batch.add(new Notification(id, NotificationTemplate.valueOf(rs.getString("template")),
+                        rs.getString("recipient"), objectMapper.readValue(rs.getString("model"), MODEL_TYPE),
+                        rs.getInt("attempts")));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                unreadable.put(id, "Unreadable notification: " + e.getMessage());
+            }
+        });
+        // Neither the template nor the model will read better on retry
+        unreadable.forEach((id, error) -> deadLetter(id, token, 0, error));
+        batchTimer.record(() -> send(batch, token));
+        return claimed;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "notification-mailer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                long started = System.nanoTime();
+                int claimed = sendDue();
+                if (claimed > 0) {
+                    long remaining = claimed * nanosPerMail - (System.nanoTime() - started);
+                    if (remaining > 0) {
+                        TimeUnit.NANOSECONDS.sleep(remaining);
+                    }
+                }
+                if (claimed < batchSize) {
+                    queued();
+                    // Sleep until the next poll unless a commit queued new mail
+                    wakeup.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    wakeup.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Notification mailer batch failed", e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void send(List<Notification> batch, String token) {
+        Map<MimeMessage, Notification> messages = new IdentityHashMap<>();
+        for (Notification notification : batch) {
+            try {
+                messages.put(render(notification), notification);
+            } catch (MessagingException | RuntimeException e) {
+                // A mail that cannot be rendered will not render on retry either
+                deadLetter(notification.id(), token, notification.attempts(), "Rendering failed: " + e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Long> delivered = new ArrayList<>(messages.size());
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            messages.values().forEach(notification -> delivered.add(notification.id()));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            for (Map.Entry<MimeMessage, Notification> message : messages.entrySet()) {
+                Exception cause = failed.isEmpty() ? e : failed.get(message.getKey());
+                if (cause == null) {
+                    delivered.add(message.getValue().id());
+                } else {
+                    retryOrDeadLetter(message.getValue(), token, cause);
+                }
+            }
+        } catch (MailException e) {
+            for (Notification notification : messages.values()) {
+                retryOrDeadLetter(notification, token, e);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DELETE_SQL,
+                    new MapSqlParameterSource("ids", delivered).addValue("token", token)));
+            sent.increment(delivered.size());
+        }
+    }
+
+    private MimeMessage render(Notification notification) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(notification.recipient());
+        helper.setSubject(notification.template().renderSubject(notification.model()));
+        helper.setText(notification.template().renderBody(notification.model()));
+        return message;
+    }
+
+    private void retryOrDeadLetter(Notification notification, String token, Exception cause) {
+        int attempts = notification.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            deadLetter(notification.id(), token, attempts, cause.getMessage());
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long delay = backoffBase.toMillis() << Math.min(notification.attempts(), 16);
+        MapSqlParameterSource params = new MapSqlParameterSource("id", notification.id())
+                .addValue("token", token)
+                .addValue("attempts", attempts)
+                .addValue("availableAt", Timestamp.valueOf(now.plus(Duration.ofMillis(delay))))
+                .addValue("error", truncate(cause.getMessage()))
+                .addValue("now", Timestamp.valueOf(now));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(MARK_RETRY_SQL, params));
+        retried.increment();
+    }
+
+    /**
+     * Move a claimed mail to the dead-letter table in one transaction
+     */
+    private void deadLetter(long id, String token, int attempts, String error) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id)
+                .addValue("token", token)
+                .addValue("attempts", attempts)
+                .addValue("error", truncate(error));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (jdbcTemplate.update(DEAD_LETTER_SQL, params) > 0) {
+                    jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", List.of(id))
+                            .addValue("token", token));
+                }
+            });
+            dead.increment();
+        } catch (RuntimeException e) {
+            // The row stays queued and is claimed again once the lease runs out
+            log.error("Could not dead-letter queued notification {}", id, e);
+        }
+    }
+
+    private static String truncate(String error) {
+        return error == null ? null : error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
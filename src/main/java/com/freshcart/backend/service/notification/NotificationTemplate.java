@@ -0,0 +1,115 @@
+package com.freshcart.backend.service.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain-text email templates
+ * 
+ * Placeholders are written as {@code {{name}}} and parsed once when the enum
+ * is loaded; rendering only concatenates literals and model values. Missing
+ * values render as empty text.
+ * 
+ * @author FreshCart Development Team
+ */
+public enum NotificationTemplate {
+
+    WELCOME(
+            "Welcome to FreshCart, {{firstName}}",
+            """
+            Hi {{firstName}},
+
+            Thanks for joining FreshCart. Please confirm your email address:
+            {{verificationUrl}}
+
+            The FreshCart Team
+            """),
+
+    PASSWORD_RESET(
+            "Reset your FreshCart password",
+            """
+            Hi {{firstName}},
+
+            Use the link below to choose a new password. It expires at {{expiresAt}}.
+            {{resetUrl}}
+
+            If you did not ask for a new password, you can ignore this email.
+
+            The FreshCart Team
+            """),
+
+    ORDER_CONFIRMATION(
+            "Your FreshCart order {{orderNumber}}",
+            """
+            Hi {{firstName}},
+
+            Thanks for your order {{orderNumber}}.
+            Order total: {{totalAmount}}
+
+            We will let you know when it ships.
+
+            The FreshCart Team
+            """),
+
+    ORDER_STATUS(
+            "Your FreshCart order {{orderNumber}} is {{status}}",
+            """
+            Hi {{firstName}},
+
+            Your order {{orderNumber}} is now {{status}}.
+
+            The FreshCart Team
+            """);
+
+    private final String[] subject;
+    private final String[] body;
+
+    NotificationTemplate(String subject, String body) {
+        this.subject = compile(subject);
+        this.body = compile(body);
+    }
+
+    public String renderSubject(Map<String, String> model) {
+        return render(subject, model);
+    }
+
+    public String renderBody(Map<String, String> model) {
+        return render(body, model);
+    }
+
+    /**
+     * Split a template into alternating literal and placeholder parts;
+     * even indexes are literals, odd indexes are model keys
+     */
+    private static String[] compile(String template) {
+        List<String> parts = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = template.indexOf("{{", position);
+            int close = open < 0 ? -1 : template.indexOf("}}", open + 2);
+            if (close < 0) {
+                parts.add(template.substring(position));
+                return parts.toArray(String[]::new);
+            }
+            parts.add(template.substring(position, open));
+            parts.add(template.substring(open + 2, close).trim());
+            position = close + 2;
+        }
+    }
+
+    private static String render(String[] parts, Map<String, String> model) {
+        StringBuilder text = new StringBuilder(256);
+        for (int i = 0; i < parts.length; i++) {
+            if (i % 2 == 0) {
+                text.append(parts[i]);
+            } else {
+                String value = model.get(parts[i]);
+                if (value != null) {
+                    text.append(value);
+                }
+            }
+        }
+        return text.toString();
+    }
+}
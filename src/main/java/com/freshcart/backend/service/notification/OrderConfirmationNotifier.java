@@ -0,0 +1,37 @@
+package com.freshcart.backend.service.notification;
+
+import com.freshcart.backend.event.OrderPlacedEvent;
+import com.freshcart.backend.service.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Emails an order confirmation to customers who have order notifications enabled
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderConfirmationNotifier implements OutboxHandler<OrderPlacedEvent> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationMailer mailer;
+
+    @Override
+    public Class<OrderPlacedEvent> eventType() {
+        return OrderPlacedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderPlacedEvent event) {
+        OrderRecipient.load(jdbcTemplate, event.orderId())
+                .filter(OrderRecipient::notificationsEnabled)
+                .ifPresent(recipient -> mailer.enqueue(NotificationTemplate.ORDER_CONFIRMATION, recipient.email(),
+                        Map.of("firstName", recipient.firstName(),
+                                "orderNumber", recipient.orderNumber(),
+                                "totalAmount", event.totalAmount().toBigDecimal().toPlainString())));
+    }
+}
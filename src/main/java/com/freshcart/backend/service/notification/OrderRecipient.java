@@ -0,0 +1,24 @@
+package com.freshcart.backend.service.notification;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Order number and customer contact details for order emails
+ * 
+ * @author FreshCart Development Team
+ */
+record OrderRecipient(String orderNumber, String email, String firstName, boolean notificationsEnabled) {
+
+    private static final String LOAD_SQL =
+            "SELECT o.order_number, u.email, u.first_name, u.order_notifications_enabled " +
+            "FROM orders o JOIN users u ON u.id = o.user_id WHERE o.id = ?";
+
+    static Optional<OrderRecipient> load(JdbcTemplate jdbcTemplate, Long orderId) {
+        List<OrderRecipient> rows = jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> new OrderRecipient(
+                rs.getString(1), rs.getString(2), rs.getString(3), rs.getBoolean(4)), orderId);
+        return rows.stream().findFirst();
+    }
+}
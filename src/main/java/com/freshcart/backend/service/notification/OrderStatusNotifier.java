@@ -0,0 +1,48 @@
+package com.freshcart.backend.service.notification;
+
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.event.OrderStatusChangedEvent;
+import com.freshcart.backend.service.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Emails customers when their order ships, is delivered, is cancelled or is refunded
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusNotifier implements OutboxHandler<OrderStatusChangedEvent> {
+
+    private static final Set<Order.OrderStatus> NOTIFIED = EnumSet.of(
+            Order.OrderStatus.SHIPPED, Order.OrderStatus.DELIVERED,
+            Order.OrderStatus.CANCELLED, Order.OrderStatus.REFUNDED);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationMailer mailer;
+
+    @Override
+    public Class<OrderStatusChangedEvent> eventType() {
+        return OrderStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderStatusChangedEvent event) {
+        if (!event.isStatusChange() || !NOTIFIED.contains(event.status())) {
+            return;
+        }
+        OrderRecipient.load(jdbcTemplate, event.orderId())
+                .filter(OrderRecipient::notificationsEnabled)
+                .ifPresent(recipient -> mailer.enqueue(NotificationTemplate.ORDER_STATUS, recipient.email(),
+                        Map.of("firstName", recipient.firstName(),
+                                "orderNumber", recipient.orderNumber(),
+                                "status", event.status().name().toLowerCase(Locale.ROOT))));
+    }
+}
@@ -0,0 +1,29 @@
+package com.freshcart.backend.service.outbox;
+
+/**
+ * In-process consumer of an outboxed domain event
+ * 
+ * Every handler bean receives its own copy of each event of its type. Handlers
+ * run inside the relay's transaction, which also marks the delivery done, so
+ * database work done by a handler is applied exactly once. Other side effects
+ * (mail, remote calls) may be repeated if the transaction fails afterwards and
+ * should tolerate that.
+ * 
+ * @param <E> Event type
+ * @author FreshCart Development Team
+ */
+public interface OutboxHandler<E> {
+
+    /**
+     * Event class this handler consumes
+     */
+    Class<E> eventType();
+
+    /**
+     * Handle one event; throwing schedules a retry with backoff
+     * 
+     * @param event Event
+     * @throws Exception if the event could not be handled
+     */
+    void handle(E event) throws Exception;
+}
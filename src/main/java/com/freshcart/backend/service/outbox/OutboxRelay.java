@@ -0,0 +1,259 @@
+package com.freshcart.backend.service.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers outboxed events to their in-process handlers
+ * 
+ * Features:
+ * - Claims a batch of due rows with one conditional UPDATE that stamps a claim
+ *   token and a lease, the portable equivalent of {@code SELECT ... FOR UPDATE
+ *   SKIP LOCKED}: concurrent relays (or nodes) never claim the same row, and
+ *   rows of a relay that died become claimable when the lease runs out
+ * - Each delivery runs the handler and marks the row done in one transaction
+ * - Failures are retried with exponential backoff and jitter; after the
+ *   attempt limit the row is parked as FAILED
+ * - Delivered rows are purged after the retention period
+ * 
+ * Metrics: freshcart.outbox.pending, freshcart.outbox.lag (age of the oldest
+ * pending row), freshcart.outbox.delivered, freshcart.outbox.retries,
+ * freshcart.outbox.failed, freshcart.outbox.delivery (enqueue to delivery)
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final String CLAIMABLE =
+            "status = 'PENDING' AND available_at <= :now AND (locked_until IS NULL OR locked_until < :now)";
+
+    private static final String CLAIM_SQL =
+            "UPDATE outbox_events SET claim_token = :token, locked_until = :lockedUntil " +
+            "WHERE id IN (SELECT id FROM outbox_events WHERE " + CLAIMABLE + " ORDER BY id LIMIT :limit) " +
+            "AND " + CLAIMABLE;
+
+    private static final String LOAD_CLAIMED_SQL =
+            "SELECT id, event_type, handler, payload, attempts, created_at FROM outbox_events " +
+            "WHERE claim_token = :token ORDER BY id";
+
+    private static final String MARK_DONE_SQL =
+            "UPDATE outbox_events SET status = 'DONE', processed_at = :now, claim_token = NULL, " +
+            "locked_until = NULL, updated_at = :now, version = version + 1 " +
+            "WHERE id = :id AND claim_token = :token AND status = 'PENDING'";
+
+    private static final String MARK_RETRY_SQL =
+            "UPDATE outbox_events SET status = :status, attempts = :attempts, available_at = :availableAt, " +
+            "last_error = :error, claim_token = NULL, locked_until = NULL, updated_at = :now, " +
+            "version = version + 1 WHERE id = :id AND claim_token = :token";
+
+    private static final String STATS_SQL =
+            "SELECT COUNT(*), MIN(created_at) FROM outbox_events WHERE status = 'PENDING'";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM outbox_events WHERE status = 'DONE' AND processed_at < :cutoff";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxWriter writer;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration retention;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter delivered;
+    private final Counter retries;
+    private final Counter failed;
+    private final Timer deliveryLatency;
+
+    public OutboxRelay(NamedParameterJdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       OutboxWriter writer,
+                       MeterRegistry meterRegistry,
+                       @Value("${freshcart.outbox.batch-size:100}") int batchSize,
+                       @Value("${freshcart.outbox.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                       @Value("${freshcart.outbox.lease:60s}") Duration lease,
+                       @Value("${freshcart.outbox.max-attempts:8}") int maxAttempts,
+                       @Value("${freshcart.outbox.backoff-base:1s}") Duration backoffBase,
+                       @Value("${freshcart.outbox.backoff-max:10m}") Duration backoffMax,
+                       @Value("${freshcart.outbox.retention:7d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.retention = retention;
+        this.delivered = meterRegistry.counter("freshcart.outbox.delivered");
+        this.retries = meterRegistry.counter("freshcart.outbox.retries");
+        this.failed = meterRegistry.counter("freshcart.outbox.failed");
+        this.deliveryLatency = meterRegistry.timer("freshcart.outbox.delivery");
+        Gauge.builder("freshcart.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("freshcart.outbox.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deliver due events until a batch comes back short or the per-poll limit is reached
+     */
+    @Scheduled(fixedDelayString = "${freshcart.outbox.poll-interval-ms:500}")
+    public void poll() {
+        for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+            if (dispatchBatch() < batchSize) {
+                break;
+            }
+        }
+        updateStats();
+    }
+
+    @Scheduled(cron = "${freshcart.outbox.purge-cron:0 45 * * * *}")
+    public void purge() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        Integer purged = transactionTemplate.execute(status ->
+                jdbcTemplate.update(PURGE_SQL, new MapSqlParameterSource("cutoff", cutoff)));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} delivered outbox events", purged);
+        }
+    }
+
+    private int dispatchBatch() {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource claim = new MapSqlParameterSource("token", token)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("lockedUntil", Timestamp.valueOf(now.plus(lease)))
+                .addValue("limit", batchSize);
+        Integer claimed = transactionTemplate.execute(status -> jdbcTemplate.update(CLAIM_SQL, claim));
+        if (claimed == null || claimed == 0) {
+            return 0;
+        }
+
+        List<Claimed> rows = jdbcTemplate.query(LOAD_CLAIMED_SQL, new MapSqlParameterSource("token", token),
+                (rs, rowNum) -> new Claimed(rs.getLong("id"), rs.getString("event_type"), rs.getString("handler"),
+                        rs.getString("payload"), rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+        for (Claimed row : rows) {
+            deliver(row, token);
+        }
+        return claimed;
+    }
+
+    private void deliver(Claimed row, String token) {
+        try {
+            Boolean handled = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int marked = jdbcTemplate.update(MARK_DONE_SQL, new MapSqlParameterSource("id", row.id())
+                        .addValue("token", token)
+                        .addValue("now", Timestamp.valueOf(now)));
+                if (marked == 0) {
+                    // The lease ran out and another relay owns the row now, or the row was settled elsewhere
+                    return false;
+                }
+                invoke(row);
+                return true;
+            });
+            if (Boolean.TRUE.equals(handled)) {
+                delivered.increment();
+                deliveryLatency.record(Duration.between(row.createdAt(), LocalDateTime.now()));
+            }
+        } catch (RuntimeException e) {
+            scheduleRetry(row, token, e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void invoke(Claimed row) {
+        OutboxHandler handler = writer.handler(row.handler());
+        if (handler == null) {
+            throw new IllegalStateException("Unknown outbox handler " + row.handler());
+        }
+        try {
+            handler.handle(writer.readPayload(row.eventType(), row.payload()));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private void scheduleRetry(Claimed row, String token, RuntimeException cause) {
+        int attempts = row.attempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        LocalDateTime now = LocalDateTime.now();
+        String error = String.valueOf(cause.getMessage());
+        if (error.length() > 1000) {
+            error = error.substring(0, 1000);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("id", row.id())
+                .addValue("token", token)
+                .addValue("status", exhausted ? "FAILED" : "PENDING")
+                .addValue("attempts", attempts)
+                .addValue("availableAt", Timestamp.valueOf(now.plus(backoff(attempts))))
+                .addValue("error", error)
+                .addValue("now", Timestamp.valueOf(now));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(MARK_RETRY_SQL, params));
+
+        if (exhausted) {
+            failed.increment();
+            log.error("Outbox event {} ({} for {}) failed after {} attempts",
+                    row.id(), row.eventType(), row.handler(), attempts, cause);
+        } else {
+            retries.increment();
+            log.warn("Outbox event {} ({} for {}) failed, attempt {}: {}",
+                    row.id(), row.eventType(), row.handler(), attempts, cause.getMessage());
+        }
+    }
+
+    /**
+     * Exponential backoff from the base delay, capped at the maximum, with up to 20% jitter
+     * so rows that failed together do not retry together
+     */
+    private Duration backoff(int attempts) {
+        long base = backoffBase.toMillis();
+        long max = backoffMax.toMillis();
+        long delay = attempts >= 31 ? max : Math.min(max, base << (attempts - 1));
+        long jitter = ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+        return Duration.ofMillis(delay + jitter);
+    }
+
+    private void updateStats() {
+        jdbcTemplate.query(STATS_SQL, rs -> {
+            pending.set(rs.getLong(1));
+            Timestamp oldest = rs.getTimestamp(2);
+            lagMillis.set(oldest != null
+                    ? Math.max(0, Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toMillis())
+                    : 0);
+        });
+    }
+
+    private record Claimed(long id, String eventType, String handler, String payload, int attempts,
+                           LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.freshcart.backend.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freshcart.backend.event.OrderPlacedEvent;
+import com.freshcart.backend.event.OrderStatusBatchChangedEvent;
+import com.freshcart.backend.event.OrderStatusChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes order lifecycle events to the {@code outbox_events} table
+ * 
+ * Features:
+ * - Listens synchronously, so rows are inserted in the transaction that
+ *   raised the event and commit or roll back with it
+ * - One row per registered {@link OutboxHandler} for the event type, inserted
+ *   in a single batch (one batch for all changes of a bulk status update);
+ *   events nobody handles are not written
+ * - Payloads are stored as JSON and read back as the event record
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+public class OutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (event_type, handler, aggregate_id, payload, status, attempts, " +
+            "available_at, created_at, updated_at, version) " +
+            "VALUES (:eventType, :handler, :aggregateId, :payload, 'PENDING', 0, " +
+            "LOCALTIMESTAMP, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, OutboxHandler<?>> handlersByName = new HashMap<>();
+    private final Map<String, List<String>> handlerNamesByEventType = new HashMap<>();
+    private final Map<String, Class<?>> eventTypes = new HashMap<>();
+
+    public OutboxWriter(NamedParameterJdbcTemplate jdbcTemplate,
+                        ObjectMapper objectMapper,
+                        List<OutboxHandler<?>> handlers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        for (OutboxHandler<?> handler : handlers) {
+            String name = handlerName(ClassUtils.getUserClass(handler));
+            String eventType = handler.eventType().getSimpleName();
+            if (handlersByName.putIfAbsent(name, handler) != null) {
+                throw new IllegalStateException("Duplicate outbox handler name: " + name);
+            }
+            handlerNamesByEventType.computeIfAbsent(eventType, type -> new ArrayList<>()).add(name);
+            eventTypes.put(eventType, handler.eventType());
+        }
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        write(event, event.orderId());
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        write(event, event.orderId());
+    }
+
+    @EventListener
+    public void onOrderStatusesChanged(OrderStatusBatchChangedEvent event) {
+        List<SqlParameterSource> rows = new ArrayList<>();
+        for (OrderStatusChangedEvent change : event.changes()) {
+            addRows(rows, change, change.orderId());
+        }
+        insert(rows);
+    }
+
+    /**
+     * Queue an event for every handler of its type
+     * 
+     * @param event Event record
+     * @param aggregateId ID of the entity the event is about
+     * @throws IllegalStateException if called outside a transaction
+     */
+    public void write(Object event, Long aggregateId) {
+        List<SqlParameterSource> rows = new ArrayList<>();
+        addRows(rows, event, aggregateId);
+        insert(rows);
+    }
+
+    private void addRows(List<SqlParameterSource> rows, Object event, Long aggregateId) {
+        String eventType = event.getClass().getSimpleName();
+        List<String> handlerNames = handlerNamesByEventType.getOrDefault(eventType, Collections.emptyList());
+        if (handlerNames.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + eventType, e);
+        }
+        for (String handlerName : handlerNames) {
+            rows.add(new MapSqlParameterSource("eventType", eventType)
+                    .addValue("handler", handlerName)
+                    .addValue("aggregateId", aggregateId)
+                    .addValue("payload", payload));
+        }
+    }
+
+    private void insert(List<SqlParameterSource> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written inside the originating transaction");
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows.toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Name under which a handler's deliveries are stored in {@code outbox_events.handler}
+     * 
+     * @param handlerClass Handler class
+     * @return Handler name
+     */
+    public static String handlerName(Class<?> handlerClass) {
+        return handlerClass.getSimpleName();
+    }
+
+    OutboxHandler<?> handler(String name) {
+        return handlersByName.get(name);
+    }
+
+    Object readPayload(String eventType, String payload) throws JsonProcessingException {
+        Class<?> type = eventTypes.get(eventType);
+        if (type == null) {
+            throw new IllegalStateException("No outbox handler for event type " + eventType);
+        }
+        return objectMapper.readValue(payload, type);
+    }
+}
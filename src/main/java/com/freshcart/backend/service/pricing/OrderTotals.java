@@ -0,0 +1,151 @@
+package com.freshcart.backend.service.pricing;
+
+import com.freshcart.backend.util.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Running totals of a cart or order, priced by one {@link PricingPlan}
+ * 
+ * Adding or removing a line adjusts the running subtotal in O(1). Promotions,
+ * tax, shipping and total are evaluated against the plan on first read and
+ * cached until the lines change. Lines are kept in primitive arrays, so a
+ * 100-line cart is priced without per-line allocations.
+ * 
+ * Not thread-safe; use one instance per computation.
+ * 
+ * @author FreshCart Development Team
+ */
+public class OrderTotals {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    private final PricingPlan plan;
+    private final PricingContext context;
+
+    private long[] productIds;
+    private long[] unitMinor;
+    private int[] quantities;
+    private int lineCount;
+
+    private long subtotalMinor;
+    private int itemCount;
+
+    private boolean evaluated;
+    private long discountMinor;
+    private BigDecimal taxRate;
+    private final List<String> appliedPromotions = new ArrayList<>(2);
+
+    OrderTotals(PricingPlan plan, PricingContext context) {
+        this(plan, context, DEFAULT_CAPACITY);
+    }
+
+    OrderTotals(PricingPlan plan, PricingContext context, int capacity) {
+        this.plan = plan;
+        this.context = context;
+        int size = Math.max(1, capacity);
+        this.productIds = new long[size];
+        this.unitMinor = new long[size];
+        this.quantities = new int[size];
+    }
+
+    public OrderTotals addLine(long productId, Money unitPrice, int quantity) {
+        if (lineCount == productIds.length) {
+            int capacity = lineCount * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            unitMinor = Arrays.copyOf(unitMinor, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+        }
+        productIds[lineCount] = productId;
+        unitMinor[lineCount] = unitPrice.getMinorUnits();
+        quantities[lineCount] = quantity;
+        lineCount++;
+        subtotalMinor = Math.addExact(subtotalMinor, Math.multiplyExact(unitPrice.getMinorUnits(), (long) quantity));
+        itemCount += quantity;
+        evaluated = false;
+        return this;
+    }
+
+    public OrderTotals removeLine(long productId) {
+        for (int i = 0; i < lineCount; i++) {
+            if (productIds[i] == productId) {
+                subtotalMinor -= unitMinor[i] * quantities[i];
+                itemCount -= quantities[i];
+                lineCount--;
+                productIds[i] = productIds[lineCount];
+                unitMinor[i] = unitMinor[lineCount];
+                quantities[i] = quantities[lineCount];
+                evaluated = false;
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Empty totals priced by the same plan and context, e.g. to recompute these
+     * 
+     * @param capacity Expected lines
+     * @return Empty totals
+     */
+    OrderTotals emptyCopy(int capacity) {
+        return new OrderTotals(plan, context, capacity);
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public Money getSubtotal() {
+        return Money.ofMinor(subtotalMinor, plan.getCurrency());
+    }
+
+    public Money getDiscount() {
+        evaluate();
+        return Money.ofMinor(discountMinor, plan.getCurrency());
+    }
+
+    public List<String> getAppliedPromotions() {
+        evaluate();
+        return List.copyOf(appliedPromotions);
+    }
+
+    public Money getTax() {
+        evaluate();
+        return Money.ofMinor(subtotalMinor - discountMinor, plan.getCurrency())
+                .times(getTaxRate(), RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal getTaxRate() {
+        if (taxRate == null) {
+            taxRate = plan.taxRate(context.country(), context.state());
+        }
+        return taxRate;
+    }
+
+    public Money getShippingCost() {
+        evaluate();
+        return Money.ofMinor(plan.shippingMinor(subtotalMinor - discountMinor), plan.getCurrency());
+    }
+
+    public Money getTotal() {
+        return getSubtotal().minus(getDiscount()).plus(getTax()).plus(getShippingCost());
+    }
+
+    public long getPlanVersion() {
+        return plan.getVersion();
+    }
+
+    private void evaluate() {
+        if (!evaluated) {
+            appliedPromotions.clear();
+            discountMinor = plan.discountMinor(productIds, unitMinor, quantities, lineCount,
+                    context.couponCode(), appliedPromotions);
+            evaluated = true;
+        }
+    }
+}
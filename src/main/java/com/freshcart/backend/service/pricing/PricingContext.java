@@ -0,0 +1,14 @@
+package com.freshcart.backend.service.pricing;
+
+/**
+ * Inputs of a price calculation beyond the cart lines
+ * 
+ * @param country Shipping country, or null for the default tax rate
+ * @param state Shipping state, or null
+ * @param couponCode Coupon entered by the customer, or null
+ * @author FreshCart Development Team
+ */
+public record PricingContext(String country, String state, String couponCode) {
+
+    public static final PricingContext NONE = new PricingContext(null, null, null);
+}
@@ -0,0 +1,183 @@
+package com.freshcart.backend.service.pricing;
+
+import com.freshcart.backend.config.PricingRules;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.util.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Compiles pricing rules into a {@link PricingPlan} and hot-swaps it
+ * 
+ * Features:
+ * - The current plan is published through an {@link AtomicReference}; readers
+ *   never lock and always see one complete plan
+ * - Rules can be replaced at runtime; the new plan is compiled fully before
+ *   it is swapped in, and invalid rules leave the current plan in place
+ * - Plans are recompiled periodically so category promotions pick up
+ *   products that moved between categories
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@Slf4j
+public class PricingEngine {
+
+    private static final String CATEGORY_PRODUCTS_SQL =
+            "SELECT id, category_id FROM products WHERE category_id IN (:categoryIds)";
+
+    private final AtomicReference<PricingPlan> plan = new AtomicReference<>();
+    private final AtomicReference<PricingRules> rules;
+    private final AtomicLong versions = new AtomicLong();
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Currency currency;
+
+    public PricingEngine(PricingRules rules, NamedParameterJdbcTemplate jdbcTemplate,
+                         @Value("${freshcart.business.default-currency:USD}") Currency currency) {
+        this.rules = new AtomicReference<>(rules);
+        this.jdbcTemplate = jdbcTemplate;
+        this.currency = currency;
+    }
+
+    /**
+     * Plan in effect right now
+     * 
+     * @return Current plan
+     */
+    public PricingPlan currentPlan() {
+        PricingPlan current = plan.get();
+        if (current == null) {
+            // First use before the application finished starting
+            plan.compareAndSet(null, compile(rules.get()));
+            current = plan.get();
+        }
+        return current;
+    }
+
+    public PricingRules getRules() {
+        return rules.get();
+    }
+
+    /**
+     * Replace the pricing rules and swap in their compiled plan
+     * 
+     * @param newRules New rules
+     * @return Compiled plan now in effect
+     * @throws BusinessException if the rules are invalid
+     */
+    public synchronized PricingPlan replaceRules(PricingRules newRules) {
+        PricingPlan compiled = compile(newRules);
+        rules.set(newRules);
+        plan.set(compiled);
+        log.info("Pricing plan v{} compiled from updated rules", compiled.getVersion());
+        return compiled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${freshcart.pricing.recompile-interval-ms:300000}",
+               initialDelayString = "${freshcart.pricing.recompile-interval-ms:300000}")
+    public synchronized void recompile() {
+        plan.set(compile(rules.get()));
+    }
+
+    private PricingPlan compile(PricingRules source) {
+        Map<String, BigDecimal> taxRates = new HashMap<>();
+        for (PricingRules.TaxRule rule : source.getTaxRules()) {
+            if (rule.getCountry() == null || rule.getRate() == null || rule.getRate().signum() < 0) {
+                throw new BusinessException("Tax rules need a country and a non-negative rate");
+            }
+            taxRates.put(PricingPlan.taxKey(rule.getCountry(), rule.getState()), rule.getRate());
+        }
+
+        List<PricingRules.ShippingTier> tiers = new ArrayList<>(source.getShippingTiers());
+        tiers.sort(Comparator.comparing(PricingRules.ShippingTier::getMinSubtotal));
+        long[] tierMinimums = new long[tiers.size()];
+        long[] tierCosts = new long[tiers.size()];
+        for (int i = 0; i < tiers.size(); i++) {
+            tierMinimums[i] = Money.of(tiers.get(i).getMinSubtotal(), currency).getMinorUnits();
+            tierCosts[i] = Money.of(tiers.get(i).getCost(), currency).getMinorUnits();
+        }
+
+        Map<Long, PricingPlan.PercentOff> categoryPercent = new HashMap<>();
+        Map<Long, PricingPlan.BuyXGetY> buyXGetY = new HashMap<>();
+        Map<String, PricingPlan.Coupon> coupons = new HashMap<>();
+        for (PricingRules.Promotion promotion : source.getPromotions()) {
+            if (!promotion.isEnabled() || promotion.getType() == null) {
+                continue;
+            }
+            String name = promotion.getName() != null ? promotion.getName() : promotion.getType().name();
+            switch (promotion.getType()) {
+                case CATEGORY_PERCENT_OFF -> {
+                    require(promotion.getCategoryId() != null && promotion.getPercentOff() != null,
+                            name + ": category and percent off are required");
+                    categoryPercent.merge(promotion.getCategoryId(),
+                            new PricingPlan.PercentOff(name, basisPoints(promotion.getPercentOff())),
+                            (a, b) -> a.basisPoints() >= b.basisPoints() ? a : b);
+                }
+                case BUY_X_GET_Y -> {
+                    require(promotion.getProductId() != null && promotion.getBuyQuantity() != null
+                                    && promotion.getBuyQuantity() > 0 && promotion.getFreeQuantity() != null
+                                    && promotion.getFreeQuantity() > 0,
+                            name + ": product, buy quantity and free quantity are required");
+                    buyXGetY.put(promotion.getProductId(), new PricingPlan.BuyXGetY(
+                            name, promotion.getBuyQuantity(), promotion.getFreeQuantity()));
+                }
+                case COUPON -> {
+                    require(promotion.getCouponCode() != null
+                                    && (promotion.getPercentOff() != null) != (promotion.getAmountOff() != null),
+                            name + ": coupon code and either percent or amount off are required");
+                    require(promotion.getAmountOff() == null || promotion.getAmountOff().signum() > 0,
+                            name + ": amount off must be positive");
+                    coupons.put(PricingPlan.couponKey(promotion.getCouponCode()), new PricingPlan.Coupon(name,
+                            promotion.getPercentOff() != null ? basisPoints(promotion.getPercentOff()) : 0,
+                            promotion.getAmountOff() != null ? Money.of(promotion.getAmountOff(), currency).getMinorUnits() : 0,
+                            promotion.getMinSubtotal() != null ? Money.of(promotion.getMinSubtotal(), currency).getMinorUnits() : 0));
+                }
+            }
+        }
+
+        return new PricingPlan(versions.incrementAndGet(), currency, source.getDefaultTaxRate(), taxRates,
+                tierMinimums, tierCosts, expandCategories(categoryPercent), buyXGetY, coupons);
+    }
+
+    private Map<Long, PricingPlan.PercentOff> expandCategories(Map<Long, PricingPlan.PercentOff> byCategory) {
+        Map<Long, PricingPlan.PercentOff> byProduct = new HashMap<>();
+        if (byCategory.isEmpty()) {
+            return byProduct;
+        }
+        jdbcTemplate.query(CATEGORY_PRODUCTS_SQL, new MapSqlParameterSource("categoryIds", byCategory.keySet()),
+                rs -> {
+                    byProduct.put(rs.getLong("id"), byCategory.get(rs.getLong("category_id")));
+                });
+        return byProduct;
+    }
+
+    private static long basisPoints(BigDecimal percent) {
+        if (percent.signum() <= 0 || percent.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new BusinessException("Percent off must be between 0 and 100");
+        }
+        return percent.movePointRight(2).longValue();
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new BusinessException("Invalid promotion " + message);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.freshcart.backend.service.pricing;
+
+import com.freshcart.backend.util.Money;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, compiled form of the pricing rules
+ * 
+ * Features:
+ * - Tax rates resolved with one map lookup per destination (state, then country, then default)
+ * - Shipping tiers held in sorted arrays and found by binary search
+ * - Category promotions expanded to product IDs at compile time, so
+ *   evaluation needs no category lookups and no database access
+ * - Each product's line promotions sit in one map entry, so a cart line
+ *   costs a single lookup
+ * - All amounts in long minor units of the plan's currency
+ * 
+ * Built by {@link PricingEngine}; never modified after construction.
+ * 
+ * @author FreshCart Development Team
+ */
+public final class PricingPlan {
+
+    private final long version;
+    private final Instant compiledAt;
+    private final Currency currency;
+    private final BigDecimal defaultTaxRate;
+    private final Map<String, BigDecimal> taxRates;
+    private final long[] tierMinimums;
+    private final long[] tierCosts;
+    private final Map<Long, LineRules> lineRules;
+    private final int discountedProducts;
+    private final int buyXGetYProducts;
+    private final Map<String, Coupon> coupons;
+
+    record PercentOff(String name, long basisPoints) {
+    }
+
+    record BuyXGetY(String name, int buy, int free) {
+    }
+
+    record Coupon(String name, long basisPoints, long amountOffMinor, long minSubtotalMinor) {
+    }
+
+    private record LineRules(PercentOff percentOff, BuyXGetY buyXGetY) {
+    }
+
+    PricingPlan(long version, Currency currency, BigDecimal defaultTaxRate, Map<String, BigDecimal> taxRates,
+                long[] tierMinimums, long[] tierCosts, Map<Long, PercentOff> productPercentOff,
+                Map<Long, BuyXGetY> buyXGetY, Map<String, Coupon> coupons) {
+        this.version = version;
+        this.compiledAt = Instant.now();
+        this.currency = currency;
+        this.defaultTaxRate = defaultTaxRate;
+        this.taxRates = Map.copyOf(taxRates);
+        this.tierMinimums = tierMinimums.clone();
+        this.tierCosts = tierCosts.clone();
+        Map<Long, LineRules> rules = new HashMap<>();
+        productPercentOff.forEach((productId, rule) -> rules.put(productId, new LineRules(rule, null)));
+        buyXGetY.forEach((productId, rule) -> rules.merge(productId, new LineRules(null, rule),
+                (existing, added) -> new LineRules(existing.percentOff(), rule)));
+        this.lineRules = Map.copyOf(rules);
+        this.discountedProducts = productPercentOff.size();
+        this.buyXGetYProducts = buyXGetY.size();
+        this.coupons = Map.copyOf(coupons);
+    }
+
+    static String taxKey(String country, String state) {
+        return (country == null ? "" : country.trim().toUpperCase(Locale.ROOT)) + "|"
+                + (state == null ? "" : state.trim().toUpperCase(Locale.ROOT));
+    }
+
+    static String couponKey(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCompiledAt() {
+        return compiledAt;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Tax rate for a destination
+     * 
+     * @param country Country, or null
+     * @param state State, or null
+     * @return Rate of the state rule, else the country rule, else the default
+     */
+    public BigDecimal taxRate(String country, String state) {
+        if (country == null) {
+            return defaultTaxRate;
+        }
+        BigDecimal rate = state != null ? taxRates.get(taxKey(country, state)) : null;
+        if (rate == null) {
+            rate = taxRates.get(taxKey(country, null));
+        }
+        return rate != null ? rate : defaultTaxRate;
+    }
+
+    /**
+     * Shipping cost for a (discounted) subtotal
+     * 
+     * @param subtotalMinor Subtotal in minor units
+     * @return Cost of the highest tier whose minimum the subtotal reaches, zero for an empty cart
+     */
+    public long shippingMinor(long subtotalMinor) {
+        if (subtotalMinor <= 0 || tierMinimums.length == 0) {
+            return 0;
+        }
+        int index = Arrays.binarySearch(tierMinimums, subtotalMinor);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index >= 0 ? tierCosts[index] : tierCosts[0];
+    }
+
+    /**
+     * Evaluate promotions over cart lines
+     * 
+     * Each line gets the better of its category discount and its buy-X-get-Y
+     * offer; a coupon then applies to the remaining subtotal.
+     * 
+     * @param productIds Product ID per line
+     * @param unitMinor Unit price per line in minor units
+     * @param quantities Quantity per line
+     * @param lineCount Number of lines in the arrays
+     * @param couponCode Coupon code, or null
+     * @param applied Receives the names of applied promotions, may be null
+     * @return Total discount in minor units
+     */
+    public long discountMinor(long[] productIds, long[] unitMinor, int[] quantities, int lineCount,
+                              String couponCode, List<String> applied) {
+        long subtotal = 0;
+        long discount = 0;
+        for (int i = 0; i < lineCount; i++) {
+            long lineTotal = unitMinor[i] * quantities[i];
+            subtotal += lineTotal;
+
+            LineRules rules = lineRules.get(productIds[i]);
+            if (rules == null) {
+                continue;
+            }
+            long best = 0;
+            String bestName = null;
+            PercentOff percentOff = rules.percentOff();
+            if (percentOff != null) {
+                best = (lineTotal * percentOff.basisPoints() + 5_000) / 10_000;
+                bestName = percentOff.name();
+            }
+            BuyXGetY offer = rules.buyXGetY();
+            if (offer != null) {
+                long freeUnits = (long) (quantities[i] / (offer.buy() + offer.free())) * offer.free();
+                long offerDiscount = freeUnits * unitMinor[i];
+                if (offerDiscount > best) {
+                    best = offerDiscount;
+                    bestName = offer.name();
+                }
+            }
+            if (best > 0) {
+                discount += best;
+                if (applied != null && !applied.contains(bestName)) {
+                    applied.add(bestName);
+                }
+            }
+        }
+
+        if (couponCode != null && !couponCode.isBlank()) {
+            Coupon coupon = coupons.get(couponKey(couponCode));
+            long remaining = subtotal - discount;
+            if (coupon != null && remaining >= coupon.minSubtotalMinor() && remaining > 0) {
+                long couponDiscount = coupon.basisPoints() > 0
+                        ? (remaining * coupon.basisPoints() + 5_000) / 10_000
+                        : Math.min(coupon.amountOffMinor(), remaining);
+                discount += couponDiscount;
+                if (applied != null) {
+                    applied.add(coupon.name());
+                }
+            }
+        }
+        return discount;
+    }
+
+    /**
+     * Check whether a coupon code exists in this plan
+     * 
+     * @param couponCode Coupon code
+     * @return True if known
+     */
+    public boolean hasCoupon(String couponCode) {
+        return couponCode != null && coupons.containsKey(couponKey(couponCode));
+    }
+
+    /**
+     * Summary of the compiled plan for diagnostics
+     * 
+     * @return Rule counts by kind
+     */
+    public Map<String, Object> describe() {
+        List<String> tiers = new ArrayList<>(tierMinimums.length);
+        for (int i = 0; i < tierMinimums.length; i++) {
+            tiers.add(Money.ofMinor(tierMinimums[i], currency) + " -> " + Money.ofMinor(tierCosts[i], currency));
+        }
+        return Map.of(
+                "version", version,
+                "compiledAt", compiledAt,
+                "defaultTaxRate", defaultTaxRate,
+                "taxRules", taxRates.size(),
+                "shippingTiers", tiers,
+                "discountedProducts", discountedProducts,
+                "buyXGetYProducts", buyXGetYProducts,
+                "coupons", coupons.size());
+    }
+}
@@ -0,0 +1,110 @@
+package com.freshcart.backend.service.pricing;
+
+import com.freshcart.backend.dto.response.CartLineResponse;
+import com.freshcart.backend.dto.response.CartResponse;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.OrderItem;
+import com.freshcart.backend.util.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single source of cart and order totals
+ * 
+ * Features:
+ * - Tax, shipping and promotions are evaluated against the current compiled
+ *   {@link PricingPlan}, so the cart summary and the placed order always agree
+ * - Totals are accumulated incrementally with {@link OrderTotals}
+ * - Orders take their totals from the engine only; {@link #verify} reprices
+ *   an order's items with the same plan and checks every stored amount
+ * 
+ * @author FreshCart Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class TotalsEngine {
+
+    private final PricingEngine pricingEngine;
+
+    /**
+     * Start a new set of running totals priced by the current plan
+     * 
+     * @param context Destination and coupon
+     * @return Empty totals
+     */
+    public OrderTotals newTotals(PricingContext context) {
+        return newTotals(context, OrderTotals.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Start a new set of running totals sized for a known number of lines
+     * 
+     * @param context Destination and coupon
+     * @param expectedLines Lines the caller is about to add
+     * @return Empty totals
+     */
+    public OrderTotals newTotals(PricingContext context, int expectedLines) {
+        return new OrderTotals(pricingEngine.currentPlan(), context, expectedLines);
+    }
+
+    /**
+     * Build a cart summary from its lines and totals
+     * 
+     * @param lines Cart lines
+     * @param totals Totals accumulated over the lines
+     * @return Cart response
+     */
+    public CartResponse toCartResponse(List<CartLineResponse> lines, OrderTotals totals) {
+        return new CartResponse(lines, totals.getItemCount(), totals.getSubtotal(), totals.getDiscount(),
+                totals.getAppliedPromotions(), totals.getTax(), totals.getShippingCost(), totals.getTotal());
+    }
+
+    /**
+     * Copy totals onto an order
+     * 
+     * @param totals Totals
+     * @param order Order to update
+     */
+    public void applyTo(OrderTotals totals, Order order) {
+        order.setSubtotal(totals.getSubtotal());
+        order.setDiscountAmount(totals.getDiscount());
+        order.setTaxAmount(totals.getTax());
+        order.setShippingCost(totals.getShippingCost());
+        order.setTotalAmount(totals.getTotal());
+    }
+
+    /**
+     * Reprice an order's items with the plan and context of its totals and
+     * fail if any stored amount differs
+     * 
+     * @param totals Totals the order was priced with
+     * @param order Order with its items loaded
+     * @throws IllegalStateException if subtotal, discount, tax, shipping or total drifted
+     */
+    public void verify(OrderTotals totals, Order order) {
+        OrderTotals expected = totals.emptyCopy(order.getOrderItems().size());
+        for (OrderItem item : order.getOrderItems()) {
+            expected.addLine(item.getProduct().getId(), item.getUnitPrice(), item.getQuantity());
+        }
+        List<String> drift = new ArrayList<>();
+        compare(drift, "subtotal", order.getSubtotal(), expected.getSubtotal());
+        compare(drift, "discount", order.getDiscountAmount(), expected.getDiscount());
+        compare(drift, "tax", order.getTaxAmount(), expected.getTax());
+        compare(drift, "shipping", order.getShippingCost(), expected.getShippingCost());
+        compare(drift, "total", order.getTotalAmount(), expected.getTotal());
+        if (!drift.isEmpty()) {
+            throw new IllegalStateException("Order " + order.getOrderNumber() + " totals drifted: "
+                    + String.join(", ", drift));
+        }
+    }
+
+    private static void compare(List<String> drift, String name, Money stored, Money expected) {
+        if (!expected.equals(stored)) {
+            drift.add(name + " " + (stored != null ? stored.toBigDecimal() : null)
+                    + " (expected " + expected.toBigDecimal() + ")");
+        }
+    }
+}
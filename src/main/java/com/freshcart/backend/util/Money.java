@@ -0,0 +1,150 @@
+package com.freshcart.backend.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Immutable amount of money held as a count of minor units (cents)
+ * 
+ * Features:
+ * - Addition, subtraction and multiplication by a quantity are plain
+ *   {@code long} arithmetic with overflow checks, without BigDecimal
+ *   intermediates
+ * - Rates (tax, discounts) are applied once with an explicit rounding mode
+ * - Amounts of different currencies cannot be combined
+ * - Stored in DECIMAL columns through {@link MoneyAttributeConverter} and
+ *   written to JSON as a plain decimal by {@code MoneyJsonModule}
+ * 
+ * Money has no default currency; services take the store's from
+ * {@code freshcart.business.default-currency}.
+ * 
+ * @author FreshCart Development Team
+ */
+public final class Money implements Comparable<Money> {
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    public static Money zero(Currency currency) {
+        return ofMinor(0, currency);
+    }
+
+    /**
+     * Convert a decimal amount, rounding half up to the currency's minor unit
+     * 
+     * @param amount Decimal amount
+     * @param currency Currency
+     * @return Money, or null if amount is null
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            return null;
+        }
+        BigDecimal scaled = amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.HALF_UP);
+        return ofMinor(scaled.unscaledValue().longValueExact(), currency);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        checkCurrency(other);
+        return other.minorUnits == 0 ? this : ofMinor(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        checkCurrency(other);
+        return other.minorUnits == 0 ? this : ofMinor(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money times(long quantity) {
+        return quantity == 1 ? this : ofMinor(Math.multiplyExact(minorUnits, quantity), currency);
+    }
+
+    /**
+     * Multiply by a rate such as a tax rate
+     * 
+     * @param rate Rate
+     * @param rounding Rounding applied to the minor-unit result
+     * @return Product rounded to minor units
+     */
+    public Money times(BigDecimal rate, RoundingMode rounding) {
+        BigDecimal result = BigDecimal.valueOf(minorUnits).multiply(rate).setScale(0, rounding);
+        return ofMinor(result.longValueExact(), currency);
+    }
+
+    /**
+     * This amount as a percentage of another, e.g. a discount relative to the original price
+     * 
+     * @param whole Reference amount
+     * @param scale Decimal places of the result
+     * @return Percentage, or zero if whole is zero
+     */
+    public BigDecimal percentOf(Money whole, int scale) {
+        checkCurrency(whole);
+        if (whole.minorUnits == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(minorUnits * 100)
+                .divide(BigDecimal.valueOf(whole.minorUnits), scale, RoundingMode.HALF_UP);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return compareTo(other) > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits) * 31 + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + " " + toBigDecimal().toPlainString();
+    }
+
+    private void checkCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+}
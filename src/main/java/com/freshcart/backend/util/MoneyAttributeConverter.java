@@ -0,0 +1,38 @@
+package com.freshcart.backend.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Maps {@link Money} attributes to DECIMAL columns in the store currency
+ * 
+ * Apply per attribute with {@code @Convert(converter = MoneyAttributeConverter.class)};
+ * the column keeps its existing precision and scale. Hibernate creates the
+ * converter through Spring, which supplies
+ * {@code freshcart.business.default-currency}.
+ * 
+ * @author FreshCart Development Team
+ */
+@Converter
+public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+    private final Currency currency;
+
+    public MoneyAttributeConverter(@Value("${freshcart.business.default-currency:USD}") Currency currency) {
+        this.currency = currency;
+    }
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return Money.of(amount, currency);
+    }
+}
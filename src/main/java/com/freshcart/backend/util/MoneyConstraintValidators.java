@@ -0,0 +1,67 @@
+package com.freshcart.backend.util;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+
+import java.math.BigDecimal;
+
+/**
+ * Bean Validation support for {@link Money} fields
+ * 
+ * Lets the standard {@code @DecimalMin} and {@code @Digits} constraints stay
+ * on money columns and request fields. Registered with Hibernate Validator
+ * through {@code META-INF/services/jakarta.validation.ConstraintValidator}.
+ * 
+ * @author FreshCart Development Team
+ */
+public final class MoneyConstraintValidators {
+
+    private MoneyConstraintValidators() {
+    }
+
+    public static class DecimalMinValidator implements ConstraintValidator<DecimalMin, Money> {
+
+        private BigDecimal min;
+        private boolean inclusive;
+
+        @Override
+        public void initialize(DecimalMin constraint) {
+            this.min = new BigDecimal(constraint.value());
+            this.inclusive = constraint.inclusive();
+        }
+
+        @Override
+        public boolean isValid(Money value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return true;
+            }
+            int comparison = value.toBigDecimal().compareTo(min);
+            return inclusive ? comparison >= 0 : comparison > 0;
+        }
+    }
+
+    public static class DigitsValidator implements ConstraintValidator<Digits, Money> {
+
+        private int maxIntegerDigits;
+        private int maxFractionDigits;
+
+        @Override
+        public void initialize(Digits constraint) {
+            this.maxIntegerDigits = constraint.integer();
+            this.maxFractionDigits = constraint.fraction();
+        }
+
+        @Override
+        public boolean isValid(Money value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return true;
+            }
+            BigDecimal amount = value.toBigDecimal().stripTrailingZeros();
+            int fractionDigits = Math.max(amount.scale(), 0);
+            int integerDigits = amount.precision() - amount.scale();
+            return integerDigits <= maxIntegerDigits && fractionDigits <= maxFractionDigits;
+        }
+    }
+}
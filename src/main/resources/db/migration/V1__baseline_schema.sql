@@ -0,0 +1,331 @@
+-- Baseline schema for the file-backed (persistent) profile.
+-- Must match the JPA mappings: the profile runs with ddl-auto=validate.
+
+CREATE TABLE archived_orders (
+    partition_month integer not null,
+    total_amount numeric(10,2) not null,
+    archived_at timestamp(6) not null,
+    order_date timestamp(6) not null,
+    order_id bigint not null,
+    user_id bigint not null,
+    status varchar(30) not null check (status in ('PENDING','CONFIRMED','PROCESSING','SHIPPED','DELIVERED','CANCELLED','REFUNDED')),
+    order_number varchar(50) not null,
+    payload blob not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (order_id)
+);
+
+CREATE TABLE cart_items (
+    id bigint generated by default as identity,
+    quantity integer not null,
+    unit_price numeric(10,2) not null,
+    product_id bigint not null,
+    user_id bigint not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id),
+    unique (user_id, product_id)
+);
+
+CREATE TABLE categories (
+    id bigint generated by default as identity,
+    display_order integer not null,
+    is_featured boolean not null,
+    parent_id bigint,
+    status varchar(20) not null check (status in ('ACTIVE','INACTIVE','ARCHIVED')),
+    name varchar(100) not null unique,
+    slug varchar(100) not null unique,
+    description varchar(500),
+    image_url varchar(255),
+    meta_description varchar(255),
+    meta_keywords varchar(255),
+    meta_title varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE notification_dead_letters (
+    id bigint generated by default as identity,
+    attempts integer not null,
+    template varchar(50) not null,
+    recipient varchar(100) not null,
+    last_error varchar(1000),
+    model varchar(4000) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE order_items (
+    id bigint generated by default as identity,
+    quantity integer not null,
+    total_price numeric(10,2) not null,
+    unit_price numeric(10,2) not null,
+    weight numeric(8,3),
+    order_id bigint not null,
+    product_id bigint not null,
+    product_sku varchar(50),
+    unit varchar(50),
+    weight_unit varchar(50),
+    product_name varchar(200) not null,
+    product_image_url varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE order_summaries (
+    item_count integer not null,
+    total_amount numeric(10,2) not null,
+    order_date timestamp(6) not null,
+    order_id bigint not null,
+    user_id bigint not null,
+    payment_status varchar(30) not null check (payment_status in ('PENDING','PAID','FAILED','CANCELLED','REFUNDED','PARTIALLY_REFUNDED')),
+    status varchar(30) not null check (status in ('PENDING','CONFIRMED','PROCESSING','SHIPPED','DELIVERED','CANCELLED','REFUNDED')),
+    currency varchar(50),
+    order_number varchar(50) not null,
+    thumbnail_1 varchar(255),
+    thumbnail_2 varchar(255),
+    thumbnail_3 varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (order_id)
+);
+
+CREATE TABLE orders (
+    id bigint generated by default as identity,
+    discount_amount numeric(10,2),
+    shipping_cost numeric(10,2) not null,
+    subtotal numeric(10,2) not null,
+    tax_amount numeric(10,2) not null,
+    total_amount numeric(10,2) not null,
+    delivered_date timestamp(6),
+    expected_delivery_date timestamp(6),
+    order_date timestamp(6) not null,
+    payment_date timestamp(6),
+    shipped_date timestamp(6),
+    user_id bigint not null,
+    payment_method varchar(30) check (payment_method in ('CREDIT_CARD','DEBIT_CARD','PAYPAL','STRIPE','BANK_TRANSFER','CASH_ON_DELIVERY')),
+    payment_status varchar(30) not null check (payment_status in ('PENDING','PAID','FAILED','CANCELLED','REFUNDED','PARTIALLY_REFUNDED')),
+    status varchar(30) not null check (status in ('PENDING','CONFIRMED','PROCESSING','SHIPPED','DELIVERED','CANCELLED','REFUNDED')),
+    currency varchar(50),
+    order_number varchar(50) not null unique,
+    idempotency_key varchar(100),
+    notes varchar(1000),
+    billing_address_line_1 varchar(255),
+    billing_address_line_2 varchar(255),
+    billing_city varchar(255),
+    billing_country varchar(255),
+    billing_postal_code varchar(255),
+    billing_state varchar(255),
+    payment_reference varchar(255),
+    shipping_address_line_1 varchar(255),
+    shipping_address_line_2 varchar(255),
+    shipping_city varchar(255),
+    shipping_country varchar(255),
+    shipping_postal_code varchar(255),
+    shipping_state varchar(255),
+    tracking_number varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id),
+    constraint uk_order_user_idempotency_key unique (user_id, idempotency_key)
+);
+
+CREATE TABLE outbox_events (
+    id bigint generated by default as identity,
+    attempts integer not null,
+    aggregate_id bigint,
+    available_at timestamp(6) not null,
+    locked_until timestamp(6),
+    processed_at timestamp(6),
+    status varchar(20) not null check (status in ('PENDING','DONE','FAILED')),
+    claim_token varchar(36),
+    event_type varchar(100) not null,
+    handler varchar(100) not null,
+    last_error varchar(1000),
+    payload varchar(4000) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE product_images (
+    product_id bigint not null,
+    image_url varchar(255)
+);
+
+CREATE TABLE products (
+    id bigint generated by default as identity,
+    average_rating numeric(3,2),
+    calories numeric(8,2),
+    carbohydrates numeric(7,2),
+    cost_price numeric(10,2),
+    expiry_date date,
+    fat numeric(7,2),
+    fiber numeric(7,2),
+    is_featured boolean not null,
+    is_gluten_free boolean not null,
+    is_organic boolean not null,
+    is_vegan boolean not null,
+    is_vegetarian boolean not null,
+    manufacturing_date date,
+    max_order_quantity integer,
+    min_stock_level integer not null,
+    original_price numeric(10,2),
+    price numeric(10,2) not null,
+    protein numeric(7,2),
+    purchase_count integer not null,
+    review_count integer not null,
+    sodium numeric(9,2),
+    stock_quantity integer not null,
+    sugar numeric(7,2),
+    view_count integer not null,
+    weight numeric(8,3),
+    category_id bigint,
+    status varchar(20) not null check (status in ('ACTIVE','INACTIVE','OUT_OF_STOCK','DISCONTINUED','DRAFT')),
+    sku varchar(50) not null unique,
+    unit varchar(50),
+    weight_unit varchar(50),
+    brand varchar(100),
+    dimensions varchar(100),
+    manufacturer varchar(100),
+    name varchar(200) not null,
+    slug varchar(200) not null unique,
+    short_description varchar(1000),
+    description varchar(5000),
+    meta_description varchar(255),
+    meta_keywords varchar(255),
+    meta_title varchar(255),
+    primary_image_url varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE reviews (
+    id bigint generated by default as identity,
+    auto_moderated boolean not null,
+    helpful_votes integer not null,
+    helpfulness_score float(53) not null,
+    not_helpful_votes integer not null,
+    rating numeric(2,1) not null,
+    spam_score float(53),
+    verified_purchase boolean not null,
+    product_id bigint not null,
+    user_id bigint not null,
+    status varchar(20) not null check (status in ('PENDING','APPROVED','REJECTED','SPAM')),
+    title varchar(100),
+    admin_notes varchar(500),
+    comment varchar(2000),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id),
+    unique (user_id, product_id)
+);
+
+CREATE TABLE sales_rollups (
+    id bigint generated by default as identity,
+    revenue numeric(14,2) not null,
+    bucket_start timestamp(6) not null,
+    item_count bigint not null,
+    order_count bigint not null,
+    granularity varchar(10) not null check (granularity in ('HOUR','DAY')),
+    dimension varchar(20) not null check (dimension in ('TOTAL','CATEGORY','PAYMENT_METHOD','STATUS','CUSTOMER')),
+    dimension_key varchar(50) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id),
+    constraint uk_sales_rollup unique (granularity, bucket_start, dimension, dimension_key)
+);
+
+CREATE TABLE users (
+    id bigint generated by default as identity,
+    email_verified boolean not null,
+    failed_login_attempts integer not null,
+    marketing_emails_enabled boolean not null,
+    newsletter_subscribed boolean not null,
+    order_notifications_enabled boolean not null,
+    email_verification_expires_at timestamp(6),
+    last_login_at timestamp(6),
+    last_password_change_at timestamp(6),
+    locked_until timestamp(6),
+    password_reset_expires_at timestamp(6),
+    postal_code varchar(10),
+    phone_number varchar(20),
+    role varchar(20) not null check (role in ('CUSTOMER','ADMIN')),
+    status varchar(20) not null check (status in ('ACTIVE','INACTIVE','LOCKED','SUSPENDED','EXPIRED')),
+    first_name varchar(50) not null,
+    last_name varchar(50) not null,
+    username varchar(50) not null unique,
+    email varchar(100) not null unique,
+    address_line_1 varchar(255),
+    address_line_2 varchar(255),
+    city varchar(255),
+    country varchar(255),
+    email_verification_token varchar(255),
+    password varchar(255) not null,
+    password_reset_token varchar(255),
+    state varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id)
+);
+
+CREATE INDEX idx_archived_order_user on archived_orders (user_id);
+CREATE INDEX idx_archived_order_partition on archived_orders (partition_month);
+CREATE INDEX idx_cart_user on cart_items (user_id);
+CREATE INDEX idx_cart_product on cart_items (product_id);
+CREATE INDEX idx_cart_updated on cart_items (updated_at);
+CREATE INDEX idx_category_slug on categories (slug);
+CREATE INDEX idx_category_status on categories (status);
+CREATE INDEX idx_category_display_order on categories (display_order);
+CREATE INDEX idx_order_item_order on order_items (order_id);
+CREATE INDEX idx_order_item_product on order_items (product_id);
+CREATE INDEX idx_order_summary_user_date on order_summaries (user_id, order_date, order_id);
+CREATE INDEX idx_order_number on orders (order_number);
+CREATE INDEX idx_order_status on orders (status);
+CREATE INDEX idx_order_user on orders (user_id);
+CREATE INDEX idx_order_date on orders (order_date);
+CREATE INDEX idx_outbox_status_available on outbox_events (status, available_at);
+CREATE INDEX idx_outbox_claim_token on outbox_events (claim_token);
+CREATE INDEX idx_product_sku on products (sku);
+CREATE INDEX idx_product_slug on products (slug);
+CREATE INDEX idx_product_status on products (status);
+CREATE INDEX idx_product_category on products (category_id);
+CREATE INDEX idx_product_price on products (price);
+CREATE INDEX idx_product_featured on products (is_featured);
+CREATE INDEX idx_review_user on reviews (user_id);
+CREATE INDEX idx_review_product on reviews (product_id);
+CREATE INDEX idx_review_rating on reviews (rating);
+CREATE INDEX idx_review_status on reviews (status);
+CREATE INDEX idx_review_product_score on reviews (product_id, status, helpfulness_score, id);
+CREATE INDEX idx_review_moderation on reviews (status, spam_score, id);
+CREATE INDEX idx_user_email on users (email);
+CREATE INDEX idx_user_username on users (username);
+CREATE INDEX idx_user_role on users (role);
+
+ALTER TABLE cart_items add constraint fk_cart_item_product foreign key (product_id) references products;
+ALTER TABLE cart_items add constraint fk_cart_item_user foreign key (user_id) references users;
+ALTER TABLE categories add constraint fk_category_parent foreign key (parent_id) references categories;
+ALTER TABLE order_items add constraint fk_order_item_order foreign key (order_id) references orders;
+ALTER TABLE order_items add constraint fk_order_item_product foreign key (product_id) references products;
+ALTER TABLE orders add constraint fk_order_user foreign key (user_id) references users;
+ALTER TABLE product_images add constraint fk_product_image_product foreign key (product_id) references products;
+ALTER TABLE products add constraint fk_product_category foreign key (category_id) references categories;
+ALTER TABLE reviews add constraint fk_review_product foreign key (product_id) references products;
+ALTER TABLE reviews add constraint fk_review_user foreign key (user_id) references users;
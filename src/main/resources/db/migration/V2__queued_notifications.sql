@@ -0,0 +1,21 @@
+-- Notification mail is queued in the database instead of in memory,
+-- so mail decided by a committed transaction survives a restart.
+
+CREATE TABLE queued_notifications (
+    id bigint generated by default as identity,
+    attempts integer not null,
+    available_at timestamp(6) not null,
+    locked_until timestamp(6),
+    claim_token varchar(36),
+    template varchar(50) not null,
+    recipient varchar(100) not null,
+    last_error varchar(1000),
+    model varchar(4000) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id)
+);
+
+CREATE INDEX idx_queued_notification_available on queued_notifications (available_at);
+CREATE INDEX idx_queued_notification_claim_token on queued_notifications (claim_token);
@@ -0,0 +1,19 @@
+-- One helpful / not helpful vote per customer and review.
+-- Votes cast before this table existed stay in the review counts without voters.
+
+CREATE TABLE review_votes (
+    id bigint generated by default as identity,
+    helpful boolean not null,
+    review_id bigint not null,
+    user_id bigint not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    primary key (id),
+    unique (review_id, user_id)
+);
+
+CREATE INDEX idx_review_vote_user on review_votes (user_id);
+
+ALTER TABLE review_votes add constraint fk_review_vote_review foreign key (review_id) references reviews;
+ALTER TABLE review_votes add constraint fk_review_vote_user foreign key (user_id) references users;
@@ -0,0 +1,4 @@
+-- The order archiver skips orders that still have undelivered outbox rows
+-- (aggregate_id = order id, status <> 'DONE') for every candidate order.
+
+CREATE INDEX idx_outbox_aggregate_status on outbox_events (aggregate_id, status);
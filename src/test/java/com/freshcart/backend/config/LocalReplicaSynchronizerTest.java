@@ -0,0 +1,61 @@
+package com.freshcart.backend.config;
+
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:freshcart-routed;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "freshcart.datasource.replica.enabled=true",
+        "freshcart.datasource.replica.hikari.jdbc-url=jdbc:h2:mem:freshcart-routed-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "freshcart.datasource.replica.local-sync.enabled=true",
+        "freshcart.mail.sink.enabled=false"
+})
+class LocalReplicaSynchronizerTest extends IntegrationTest {
+
+    @Autowired
+    private LocalReplicaSynchronizer synchronizer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void readOnlyTransactionsSeeWritesOnlyAfterTheReplicaCatchesUp() {
+        Product product = data.product("6.75", 12);
+
+        assertThat(replicaRows(product.getId())).isZero();
+        assertThat(data.stockOf(product.getId())).isEqualTo(12);
+
+        synchronizer.sync();
+
+        assertThat(replicaRows(product.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void replicaReflectsDeletesOnTheNextSync() {
+        Product product = data.product("1.00", 1);
+        synchronizer.sync();
+
+        data.sql("DELETE FROM products WHERE id = ?", product.getId());
+        synchronizer.sync();
+
+        assertThat(replicaRows(product.getId())).isZero();
+    }
+
+    private long replicaRows(Long productId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM products WHERE id = ?", Long.class, productId));
+    }
+}
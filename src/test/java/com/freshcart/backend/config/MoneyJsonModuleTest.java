@@ -0,0 +1,44 @@
+package com.freshcart.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.freshcart.backend.dto.request.PriceUpdateRequest;
+import com.freshcart.backend.util.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyJsonModuleTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new MoneyJsonModule(USD));
+
+    @Test
+    void writesAmountsAsPlainDecimals() throws Exception {
+        PriceUpdateRequest request = new PriceUpdateRequest(7L, Money.of(new BigDecimal("12.5"), USD));
+
+        assertThat(objectMapper.writeValueAsString(request)).isEqualTo("{\"productId\":7,\"price\":12.50}");
+    }
+
+    @Test
+    void readsNumbersInTheStoreCurrencyAndObjectsInTheirOwn() throws Exception {
+        PriceUpdateRequest number = objectMapper.readValue("{\"productId\":7,\"price\":3.99}", PriceUpdateRequest.class);
+        PriceUpdateRequest object = objectMapper.readValue(
+                "{\"productId\":7,\"price\":{\"amount\":3.99,\"currency\":\"EUR\"}}", PriceUpdateRequest.class);
+
+        assertThat(number.getPrice()).isEqualTo(Money.ofMinor(399, USD));
+        assertThat(object.getPrice()).isEqualTo(Money.ofMinor(399, Currency.getInstance("EUR")));
+    }
+
+    @Test
+    void rejectsObjectsWithoutAnAmount() {
+        assertThatThrownBy(() -> objectMapper.readValue("{\"productId\":7,\"price\":{\"currency\":\"USD\"}}",
+                PriceUpdateRequest.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.freshcart.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofMillis(300);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void createRoutes() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(new ReadYourWritesTracker(MAX_LAG));
+        routing.setTargetDataSources(Map.<Object, Object>of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, database("PRIMARY"),
+                ReadWriteRoutingDataSource.Route.REPLICA, database("REPLICA")));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readsFollowTheUsersOwnWriteToThePrimaryUntilTheLagWindowEnds() throws InterruptedException {
+        signIn("alice");
+        assertThat(read()).isEqualTo("REPLICA");
+
+        assertThat(write()).isEqualTo("PRIMARY");
+        assertThat(read()).isEqualTo("PRIMARY");
+
+        signIn("bob");
+        assertThat(read()).isEqualTo("REPLICA");
+
+        Thread.sleep(MAX_LAG.toMillis() + 100);
+        signIn("alice");
+        assertThat(read()).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinReadsToThePrimary() {
+        signIn("carol");
+
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE route SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(read()).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void anonymousReadsAlwaysGoToTheReplica() {
+        assertThat(write()).isEqualTo("PRIMARY");
+        assertThat(read()).isEqualTo("REPLICA");
+    }
+
+    private String read() {
+        return readOnlyTransaction.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM route", String.class));
+    }
+
+    private String write() {
+        return writeTransaction.execute(status -> {
+            jdbcTemplate.update("UPDATE route SET writes = writes + 1");
+            return jdbcTemplate.queryForObject("SELECT name FROM route", String.class);
+        });
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                user, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:route-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE route (name VARCHAR(10), writes INT)");
+        jdbcTemplate.update("INSERT INTO route VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
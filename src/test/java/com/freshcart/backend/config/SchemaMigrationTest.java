@@ -0,0 +1,50 @@
+package com.freshcart.backend.config;
+
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application on a database built only by the Flyway migrations,
+ * with Hibernate validating the mappings against it (as the persistent
+ * profile does)
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:freshcart-migrated;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "freshcart.mail.sink.enabled=false"
+})
+class SchemaMigrationTest extends IntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsCreateTheSchemaTheEntitiesExpect() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" ORDER BY \"installed_rank\"", String.class);
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT LOWER(table_name) FROM information_schema.tables WHERE table_schema = 'PUBLIC'", String.class);
+
+        assertThat(versions).contains("1", "2", "3", "4");
+        assertThat(tables).contains("outbox_events", "order_summaries", "sales_rollups", "archived_orders",
+                "notification_dead_letters", "queued_notifications", "review_votes");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes WHERE LOWER(table_name) = 'outbox_events'",
+                String.class)).contains("idx_outbox_aggregate_status");
+    }
+
+    @Test
+    void migratedSchemaAcceptsWrites() {
+        data.placeOrder(data.user(), data.product("4.20", 3));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class)).isPositive();
+    }
+}
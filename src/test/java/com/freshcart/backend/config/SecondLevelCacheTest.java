@@ -0,0 +1,108 @@
+package com.freshcart.backend.config;
+
+import com.freshcart.backend.entity.CacheRegions;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.repository.ProductRepository;
+import com.freshcart.backend.repository.UserRepository;
+import com.freshcart.backend.service.EntityCacheEvictor;
+import com.freshcart.backend.support.IntegrationTest;
+import com.freshcart.backend.support.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondLevelCacheTest extends IntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void productIsServedFromItsRegionAfterTheFirstLoad() {
+        Product product = data.product("1.99", 5);
+        entityManagerFactory.getCache().evict(Product.class, product.getId());
+        CacheRegionStatistics region = regionStatistics(CacheRegions.PRODUCT);
+        long hitsBefore = region.getHitCount();
+
+        SqlStatementCounter.expect(1, () -> productRepository.findById(product.getId()));
+        SqlStatementCounter.expect(0, () -> productRepository.findById(product.getId()));
+
+        assertThat(region.getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void evictorForcesTheNextLoadToTheDatabase() {
+        Product product = data.product("1.99", 5);
+        productRepository.findById(product.getId());
+        data.sql("UPDATE products SET stock_quantity = 99 WHERE id = ?", product.getId());
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(5);
+
+        entityCacheEvictor.evictProducts(List.of(product.getId()));
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(99);
+    }
+
+    @Test
+    void naturalIdLookupsSkipTheDatabaseOnceCached() {
+        Product product = data.product("2.49", 5);
+        User user = data.user();
+        productRepository.findBySku(product.getSku());
+        userRepository.findByUsername(user.getUsername());
+
+        Product bySku = SqlStatementCounter.expect(0, () -> productRepository.findBySku(product.getSku())).orElseThrow();
+        User byUsername = SqlStatementCounter.expect(0, () -> userRepository.findByUsername(user.getUsername())).orElseThrow();
+
+        assertThat(bySku.getId()).isEqualTo(product.getId());
+        assertThat(byUsername.getId()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void queryCacheIsInvalidatedOnlyByTheTablesItReads() {
+        User user = data.user();
+        userRepository.findByEmail(user.getEmail());
+        SqlStatementCounter.expect(0, () -> userRepository.findByEmail(user.getEmail()));
+
+        data.product("0.99", 1);
+        SqlStatementCounter.expect(0, () -> userRepository.findByEmail(user.getEmail()));
+
+        data.user();
+        SqlStatementCounter.expect(1, () -> userRepository.findByEmail(user.getEmail()));
+    }
+
+    @Test
+    void regionStatisticsAreExportedPerRegion() {
+        Product product = data.product("3.10", 5);
+        productRepository.findById(product.getId());
+        productRepository.findById(product.getId());
+
+        assertThat(meterRegistry.find("freshcart.cache.l2.hits").tag("region", CacheRegions.PRODUCT).functionCounter())
+                .isNotNull()
+                .satisfies(counter -> assertThat(counter.count()).isPositive());
+        assertThat(meterRegistry.find("freshcart.cache.l2.size").tag("region", CacheRegions.CATEGORY).gauge())
+                .isNotNull();
+    }
+
+    private CacheRegionStatistics regionStatistics(String region) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getDomainDataRegionStatistics(region);
+    }
+}
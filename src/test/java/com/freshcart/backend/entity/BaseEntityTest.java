@@ -0,0 +1,46 @@
+package com.freshcart.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaseEntityTest {
+
+    @Test
+    void entitiesWithTheSameIdAreEqual() {
+        User first = User.builder().id(7L).username("first").build();
+        User second = User.builder().id(7L).username("renamed").build();
+
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    }
+
+    @Test
+    void transientEntitiesAreOnlyEqualToThemselves() {
+        Product first = Product.builder().name("Apples").build();
+        Product second = Product.builder().name("Apples").build();
+
+        assertThat(first).isEqualTo(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void entitiesOfDifferentClassesAreNotEqual() {
+        Category category = Category.builder().id(3L).build();
+        Product product = Product.builder().id(3L).build();
+
+        assertThat(category).isNotEqualTo(product);
+    }
+
+    @Test
+    void hashCodeSurvivesIdAssignment() {
+        Product product = Product.builder().name("Pears").build();
+        Set<Product> products = new HashSet<>();
+        products.add(product);
+
+        product.setId(42L);
+
+        assertThat(products).contains(product);
+    }
+}
@@ -0,0 +1,127 @@
+package com.freshcart.backend.repository;
+
+import com.freshcart.backend.dto.response.OrderDetailResponse;
+import com.freshcart.backend.dto.response.PlaceOrderResponse;
+import com.freshcart.backend.dto.response.ReviewPageResponse;
+import com.freshcart.backend.entity.CartItem;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.Review;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.CartService;
+import com.freshcart.backend.service.OrderService;
+import com.freshcart.backend.service.ReviewService;
+import com.freshcart.backend.service.cart.CartStore;
+import com.freshcart.backend.support.IntegrationTest;
+import com.freshcart.backend.support.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement-count regression tests for the fetch plans: each read path must
+ * stay a single SQL statement however many rows it returns
+ */
+class FetchPlanStatementCountTest extends IntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void orderDetailLoadsItemsInOneStatement() {
+        User user = data.user();
+        PlaceOrderResponse placed = data.placeOrder(user,
+                data.product("2.50", 10), data.product("4.00", 10), data.product("1.25", 10));
+
+        OrderDetailResponse detail = SqlStatementCounter.expect(1,
+                () -> orderService.getOrderDetail(user.getId(), placed.getOrderId()));
+
+        assertThat(detail.getItems()).hasSize(3);
+    }
+
+    @Test
+    void cartViewLoadsProductsInOneStatement() {
+        User user = data.user();
+        for (int i = 0; i < 4; i++) {
+            cartService.addItem(user.getId(), data.product("3.00", 10).getId(), 1);
+        }
+        cartStore.flush(user.getId());
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        List<String> names = transactionTemplate.execute(status -> SqlStatementCounter.expect(1,
+                () -> cartItemRepository.findByUserIdOrderByIdAsc(user.getId()).stream()
+                        .map(CartItem::getProduct)
+                        .map(Product::getName)
+                        .toList()));
+
+        assertThat(names).hasSize(4).allMatch(name -> name.startsWith("Product "));
+        assertThat(SqlStatementCounter.count(() -> cartItemRepository.findCartLinesByUserId(user.getId())))
+                .satisfies(counted -> {
+                    assertThat(counted.statements()).isEqualTo(1);
+                    assertThat(counted.result()).hasSize(4);
+                });
+    }
+
+    @Test
+    void reviewPageLoadsAuthorsInOneStatement() {
+        Product product = data.product("5.00", 10);
+        for (int i = 0; i < 3; i++) {
+            data.persist(Review.builder()
+                    .user(data.user())
+                    .product(product)
+                    .rating(new BigDecimal("4.0"))
+                    .title("Fresh")
+                    .comment("Arrived in good shape")
+                    .status(Review.ReviewStatus.APPROVED)
+                    .build());
+        }
+
+        ReviewPageResponse page = SqlStatementCounter.expect(1,
+                () -> reviewService.getProductReviews(product.getId(), null, 10));
+
+        assertThat(page.getReviews()).hasSize(3);
+    }
+
+    @Test
+    void hashingAnEntityLeavesLazyCollectionsUninitialized() {
+        User created = data.user();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = entityManager.find(User.class, created.getId());
+            Set<User> users = new HashSet<>();
+            users.add(user);
+
+            assertThat(users).contains(created);
+            assertThat(Hibernate.isInitialized(user.getOrders())).isFalse();
+            assertThat(Hibernate.isInitialized(user.getCartItems())).isFalse();
+            assertThat(Hibernate.isInitialized(user.getReviews())).isFalse();
+        });
+    }
+}
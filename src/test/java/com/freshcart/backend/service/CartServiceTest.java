@@ -0,0 +1,98 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.CartResponse;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.service.cart.GuestCartTokenCodec;
+import com.freshcart.backend.support.IntegrationTest;
+import com.freshcart.backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CartServiceTest extends IntegrationTest {
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private GuestCartTokenCodec guestCartTokenCodec;
+
+    @Test
+    void mutationsOnAResidentCartIssueNoSql() {
+        User user = data.user();
+        Product product = data.product("3.00", 40);
+        cartService.addItem(user.getId(), product.getId(), 1);
+
+        CartResponse response = SqlStatementCounter.expect(0, () -> {
+            cartService.incrementQuantity(user.getId(), product.getId());
+            cartService.addItem(user.getId(), product.getId(), 2);
+            return cartService.decrementQuantity(user.getId(), product.getId());
+        });
+
+        assertThat(response.getLines()).singleElement().satisfies(line -> {
+            assertThat(line.getQuantity()).isEqualTo(3);
+            assertThat(line.getStockQuantity()).isNull();
+        });
+        assertThat(response.getSubtotal().toBigDecimal()).isEqualByComparingTo("9.00");
+    }
+
+    @Test
+    void cartPageAttachesLiveStockInOneQuery() {
+        User user = data.user();
+        Product apples = data.product("1.20", 7);
+        Product pears = data.product("2.40", 9);
+        cartService.addItem(user.getId(), apples.getId(), 1);
+        cartService.addItem(user.getId(), pears.getId(), 1);
+        data.sql("UPDATE products SET stock_quantity = 4, price = ? WHERE id = ?", new BigDecimal("1.50"), apples.getId());
+
+        CartResponse page = SqlStatementCounter.expect(1, () -> cartService.getCart(user.getId()));
+
+        assertThat(page.getLines()).hasSize(2).anySatisfy(line -> {
+            assertThat(line.getProductId()).isEqualTo(apples.getId());
+            assertThat(line.getStockQuantity()).isEqualTo(4);
+            assertThat(line.getCurrentPrice().toBigDecimal()).isEqualByComparingTo("1.50");
+            assertThat(line.getUnitPrice().toBigDecimal()).isEqualByComparingTo("1.20");
+        });
+    }
+
+    @Test
+    void rejectsQuantitiesOutsideTheLineLimit() {
+        User user = data.user();
+        Product product = data.product("1.00", 500);
+
+        assertThatThrownBy(() -> cartService.addItem(user.getId(), product.getId(), 0))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> cartService.addItem(user.getId(), product.getId(), CartService.MAX_LINE_QUANTITY + 1))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void mergesAGuestCartIntoTheUsersCart() {
+        User user = data.user();
+        Product owned = data.product("1.00", 500);
+        Product fresh = data.product("2.00", 500);
+        Product soldOut = data.product("3.00", 0);
+        cartService.addItem(user.getId(), owned.getId(), 95);
+        String token = guestCartTokenCodec.encode(Map.of(owned.getId(), 10, fresh.getId(), 2, soldOut.getId(), 1));
+
+        CartResponse merged = cartService.mergeGuestCart(user.getId(), token);
+
+        assertThat(merged.getLines()).hasSize(2)
+                .anySatisfy(line -> {
+                    assertThat(line.getProductId()).isEqualTo(owned.getId());
+                    assertThat(line.getQuantity()).isEqualTo(CartService.MAX_LINE_QUANTITY);
+                })
+                .anySatisfy(line -> {
+                    assertThat(line.getProductId()).isEqualTo(fresh.getId());
+                    assertThat(line.getQuantity()).isEqualTo(2);
+                });
+        assertThat(data.cartQuantities(user.getId())).containsExactlyInAnyOrder(100, 2);
+    }
+}
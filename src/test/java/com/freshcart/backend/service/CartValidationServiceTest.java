@@ -0,0 +1,51 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.CartValidationResponse;
+import com.freshcart.backend.dto.response.CartValidationResponse.LineStatus;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.support.IntegrationTest;
+import com.freshcart.backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartValidationServiceTest extends IntegrationTest {
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartValidationService cartValidationService;
+
+    @Test
+    void validatesEveryLineWithOneQuery() {
+        User user = data.user();
+        Product available = data.product("1.00", 10);
+        Product scarce = data.product("2.00", 10);
+        Product soldOut = data.product("3.00", 10);
+        Product withdrawn = data.product("4.00", 10);
+        for (Product product : new Product[] {available, scarce, soldOut, withdrawn}) {
+            cartService.addItem(user.getId(), product.getId(), 3);
+        }
+        data.sql("UPDATE products SET stock_quantity = 2 WHERE id = ?", scarce.getId());
+        data.sql("UPDATE products SET stock_quantity = 0 WHERE id = ?", soldOut.getId());
+        data.sql("UPDATE products SET status = 'INACTIVE' WHERE id = ?", withdrawn.getId());
+        data.sql("UPDATE products SET price = ? WHERE id = ?", new BigDecimal("1.25"), available.getId());
+
+        CartValidationResponse result = SqlStatementCounter.expect(1,
+                () -> cartValidationService.validateCart(user.getId()));
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getLines()).extracting(CartValidationResponse.LineValidation::getStatus)
+                .containsExactlyInAnyOrder(LineStatus.AVAILABLE, LineStatus.INSUFFICIENT_STOCK,
+                        LineStatus.OUT_OF_STOCK, LineStatus.UNAVAILABLE);
+        assertThat(result.getLines()).filteredOn(line -> line.getProductId().equals(available.getId()))
+                .singleElement()
+                .satisfies(line -> assertThat(line.getPriceDrift().toBigDecimal()).isEqualByComparingTo("0.25"));
+        assertThat(result.getCartSubtotal().toBigDecimal()).isEqualByComparingTo("30.00");
+    }
+}
@@ -0,0 +1,109 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.OrderDetailResponse;
+import com.freshcart.backend.dto.response.PlaceOrderResponse;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.outbox.OutboxRelay;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderArchiverTest extends IntegrationTest {
+
+    @Autowired
+    private OrderArchiver archiver;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = data.user();
+    }
+
+    @Test
+    void oldClosedOrdersMoveToTheArchiveAndStayReadable() {
+        LocalDateTime orderDate = LocalDateTime.now().minusDays(60);
+        PlaceOrderResponse delivered = placeOrder("DELIVERED", orderDate);
+        Long recent = placeOrder("DELIVERED", LocalDateTime.now().minusDays(1)).getOrderId();
+        Long open = placeOrder("CONFIRMED", orderDate).getOrderId();
+        relay.poll();
+
+        assertThat(archiver.archive()).isGreaterThanOrEqualTo(1);
+
+        assertThat(inOrders(delivered.getOrderId())).isFalse();
+        assertThat(countOf("order_items", delivered.getOrderId())).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT partition_month FROM archived_orders WHERE order_id = ?",
+                Integer.class, delivered.getOrderId()))
+                .isEqualTo(orderDate.getYear() * 100 + orderDate.getMonthValue());
+        OrderDetailResponse detail = orderService.getOrderDetail(user.getId(), delivered.getOrderId());
+        assertThat(detail.getOrderNumber()).isEqualTo(delivered.getOrderNumber());
+        assertThat(detail.getItems()).hasSize(1);
+
+        assertThat(inOrders(recent)).isTrue();
+        assertThat(inOrders(open)).isTrue();
+    }
+
+    @Test
+    void ordersWithPendingOrFailedOutboxEventsAreKept() {
+        LocalDateTime orderDate = LocalDateTime.now().minusDays(60);
+        Long failed = placeOrder("CANCELLED", orderDate).getOrderId();
+        Long pending = placeOrder("REFUNDED", orderDate).getOrderId();
+        relay.poll();
+        insertEvent(failed, "FAILED");
+        insertEvent(pending, "PENDING");
+
+        archiver.archive();
+
+        assertThat(inOrders(failed)).isTrue();
+        assertThat(inOrders(pending)).isTrue();
+        assertThat(countOf("archived_orders", failed)).isZero();
+        assertThat(countOf("archived_orders", pending)).isZero();
+
+        data.sql("DELETE FROM outbox_events WHERE handler = 'RetiredHandler' AND aggregate_id IN (?, ?)",
+                failed, pending);
+        archiver.archive();
+
+        assertThat(inOrders(failed)).isFalse();
+        assertThat(inOrders(pending)).isFalse();
+    }
+
+    private PlaceOrderResponse placeOrder(String status, LocalDateTime orderDate) {
+        PlaceOrderResponse placed = data.placeOrder(user, data.product("4.00", 10));
+        data.sql("UPDATE orders SET status = ?, order_date = ? WHERE id = ?", status, orderDate, placed.getOrderId());
+        return placed;
+    }
+
+    private void insertEvent(Long orderId, String status) {
+        // Not due for a day, so the relay leaves it alone
+        data.sql("INSERT INTO outbox_events (event_type, handler, aggregate_id, payload, status, attempts, " +
+                        "available_at, created_at, updated_at, version) " +
+                        "VALUES ('OrderStatusChangedEvent', 'RetiredHandler', ?, '{}', ?, 1, ?, " +
+                        "LOCALTIMESTAMP, LOCALTIMESTAMP, 0)",
+                orderId, status, LocalDateTime.now().plusDays(1));
+    }
+
+    private boolean inOrders(Long orderId) {
+        return countOf("orders", orderId) == 1;
+    }
+
+    private int countOf(String table, Long orderId) {
+        String column = table.equals("orders") ? "id" : "order_id";
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?",
+                Integer.class, orderId);
+    }
+}
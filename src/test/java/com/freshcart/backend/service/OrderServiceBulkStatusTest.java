@@ -0,0 +1,184 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.request.BulkOrderStatusRequest;
+import com.freshcart.backend.dto.response.BulkOrderStatusResponse;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.event.OrderStatusBatchChangedEvent;
+import com.freshcart.backend.event.OrderStatusChangedEvent;
+import com.freshcart.backend.mapper.OrderMapper;
+import com.freshcart.backend.repository.OrderRepository;
+import com.freshcart.backend.repository.OrderSummaryRepository;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+@RecordApplicationEvents
+class OrderServiceBulkStatusTest extends IntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Test
+    void eachOrderGetsItsOutcomeAndLegalChangesArePublishedOnce() {
+        User user = data.user();
+        Product product = data.product("2.00", 50);
+        Long pending = data.placeOrder(user, product).getOrderId();
+        Long alsoPending = data.placeOrder(user, product).getOrderId();
+        Long confirmed = data.placeOrder(user, product).getOrderId();
+        data.sql("UPDATE orders SET status = 'CONFIRMED' WHERE id = ?", confirmed);
+        Long delivered = data.placeOrder(user, product).getOrderId();
+        data.sql("UPDATE orders SET status = 'DELIVERED' WHERE id = ?", delivered);
+        long missing = -System.nanoTime();
+
+        BulkOrderStatusResponse response = orderService.updateOrderStatuses(request(Order.OrderStatus.CONFIRMED,
+                pending, confirmed, delivered, missing, alsoPending));
+
+        assertThat(response.getUpdated()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(BulkOrderStatusResponse.Result::getOrderId, BulkOrderStatusResponse.Result::getOutcome,
+                        BulkOrderStatusResponse.Result::getPreviousStatus)
+                .containsExactly(
+                        tuple(pending, BulkOrderStatusResponse.Outcome.UPDATED, Order.OrderStatus.PENDING),
+                        tuple(confirmed, BulkOrderStatusResponse.Outcome.UNCHANGED, Order.OrderStatus.CONFIRMED),
+                        tuple(delivered, BulkOrderStatusResponse.Outcome.ILLEGAL_TRANSITION,
+                                Order.OrderStatus.DELIVERED),
+                        tuple(missing, BulkOrderStatusResponse.Outcome.NOT_FOUND, null),
+                        tuple(alsoPending, BulkOrderStatusResponse.Outcome.UPDATED, Order.OrderStatus.PENDING));
+
+        assertThat(statusOf(pending)).isEqualTo("CONFIRMED");
+        assertThat(statusOf(alsoPending)).isEqualTo("CONFIRMED");
+        assertThat(statusOf(delivered)).isEqualTo("DELIVERED");
+        assertThat(orderSummaryRepository.findById(pending).orElseThrow().getStatus())
+                .isEqualTo(Order.OrderStatus.CONFIRMED);
+
+        List<OrderStatusBatchChangedEvent> published = events.stream(OrderStatusBatchChangedEvent.class).toList();
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).changes())
+                .extracting(OrderStatusChangedEvent::orderId, OrderStatusChangedEvent::previousStatus,
+                        OrderStatusChangedEvent::status)
+                .containsExactly(
+                        tuple(pending, Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED),
+                        tuple(alsoPending, Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED));
+    }
+
+    @Test
+    void trackingNumbersAreSetOnlyWhenGiven() {
+        User user = data.user();
+        Product product = data.product("2.00", 50);
+        Long tracked = data.placeOrder(user, product).getOrderId();
+        Long untracked = data.placeOrder(user, product).getOrderId();
+        data.sql("UPDATE orders SET status = 'CONFIRMED', payment_status = 'PAID', tracking_number = 'OLD' " +
+                "WHERE id IN (?, ?)", tracked, untracked);
+
+        BulkOrderStatusRequest request = new BulkOrderStatusRequest(Order.OrderStatus.SHIPPED, List.of(
+                new BulkOrderStatusRequest.Item(tracked, "TRK-1"),
+                new BulkOrderStatusRequest.Item(untracked, null)));
+        assertThat(orderService.updateOrderStatuses(request).getUpdated()).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForList("SELECT tracking_number FROM orders WHERE id IN (?, ?) ORDER BY id",
+                String.class, tracked, untracked)).containsExactly("TRK-1", "OLD");
+        assertThat(jdbcTemplate.queryForObject("SELECT shipped_date FROM orders WHERE id = ?", Object.class, tracked))
+                .isNotNull();
+    }
+
+    @Test
+    void nothingIsPublishedWhenNoOrderChanges() {
+        Long delivered = data.placeOrder(data.user(), data.product("2.00", 50)).getOrderId();
+        data.sql("UPDATE orders SET status = 'DELIVERED' WHERE id = ?", delivered);
+
+        BulkOrderStatusResponse response = orderService.updateOrderStatuses(
+                request(Order.OrderStatus.CANCELLED, delivered));
+
+        assertThat(response.getUpdated()).isZero();
+        assertThat(events.stream(OrderStatusBatchChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    void orderChangedAfterItWasCheckedIsAConflict() {
+        User user = data.user();
+        Product product = data.product("2.00", 50);
+        Long raced = data.placeOrder(user, product).getOrderId();
+        Long other = data.placeOrder(user, product).getOrderId();
+
+        // Another request cancels the order between the read and the batch UPDATE
+        NamedParameterJdbcTemplate racingJdbcTemplate = spy(namedJdbcTemplate);
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            data.sql("UPDATE orders SET status = 'CANCELLED' WHERE id = ?", raced);
+            return null;
+        }).when(racingJdbcTemplate).query(argThat((String sql) -> sql.contains("FROM orders WHERE id IN")),
+                any(SqlParameterSource.class), any(RowCallbackHandler.class));
+        List<Object> published = new ArrayList<>();
+        OrderService service = new OrderService(orderRepository, orderSummaryRepository, orderMapper,
+                orderArchiver, published::add, racingJdbcTemplate);
+
+        BulkOrderStatusResponse response = transactionTemplate.execute(status ->
+                service.updateOrderStatuses(request(Order.OrderStatus.CONFIRMED, raced, other)));
+
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(BulkOrderStatusResponse.Result::getOrderId, BulkOrderStatusResponse.Result::getOutcome)
+                .containsExactly(tuple(raced, BulkOrderStatusResponse.Outcome.CONFLICT),
+                        tuple(other, BulkOrderStatusResponse.Outcome.UPDATED));
+        assertThat(statusOf(raced)).isEqualTo("CANCELLED");
+        assertThat(published).singleElement()
+                .isInstanceOfSatisfying(OrderStatusBatchChangedEvent.class, event ->
+                        assertThat(event.changes()).extracting(OrderStatusChangedEvent::orderId)
+                                .containsExactly(other));
+    }
+
+    private static BulkOrderStatusRequest request(Order.OrderStatus status, Long... orderIds) {
+        List<BulkOrderStatusRequest.Item> items = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            items.add(new BulkOrderStatusRequest.Item(orderId, null));
+        }
+        return new BulkOrderStatusRequest(status, items);
+    }
+
+    private String statusOf(Long orderId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId);
+    }
+}
@@ -0,0 +1,161 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.request.OrderStatusUpdateRequest;
+import com.freshcart.backend.dto.response.OrderHistoryResponse;
+import com.freshcart.backend.dto.response.PlaceOrderResponse;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.service.checkout.CheckoutService;
+import com.freshcart.backend.support.IntegrationTest;
+import com.freshcart.backend.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderSummaryProjectorTest extends IntegrationTest {
+
+    @Autowired
+    private OrderSummaryProjector projector;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void placingAnOrderProjectsItsSummary() {
+        User user = data.user();
+        List<Product> products = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Product product = data.product("2.00", 50);
+            data.sql("UPDATE products SET primary_image_url = ? WHERE id = ?", "https://img/" + i + ".png", product.getId());
+            products.add(product);
+        }
+        cartService.addItem(user.getId(), products.get(0).getId(), 3);
+        for (Product product : products.subList(1, 4)) {
+            cartService.addItem(user.getId(), product.getId(), 1);
+        }
+        PlaceOrderResponse placed = checkoutService.placeOrder(user.getId(), UUID.randomUUID().toString(),
+                TestData.orderRequest());
+
+        OrderHistoryResponse history = orderService.getOrderHistory(user.getId(), null, 10);
+
+        assertThat(history.getOrders()).hasSize(1);
+        assertThat(history.getNextCursor()).isNull();
+        OrderHistoryResponse.Entry entry = history.getOrders().get(0);
+        assertThat(entry.getOrderId()).isEqualTo(placed.getOrderId());
+        assertThat(entry.getOrderNumber()).isEqualTo(placed.getOrderNumber());
+        assertThat(entry.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+        assertThat(entry.getTotalAmount()).isEqualByComparingTo(placed.getTotalAmount());
+        assertThat(entry.getCurrency()).isEqualTo(placed.getCurrency());
+        assertThat(entry.getItemCount()).isEqualTo(6);
+        // Cart lines are copied in no particular order; thumbnails follow the order items
+        assertThat(entry.getThumbnails()).containsExactlyElementsOf(jdbcTemplate.queryForList(
+                "SELECT product_image_url FROM order_items WHERE order_id = ? ORDER BY id LIMIT 3",
+                String.class, placed.getOrderId()));
+    }
+
+    @Test
+    void historyPagesNewestFirstWithoutGapsOrRepeats() {
+        User user = data.user();
+        Product product = data.product("1.00", 100);
+        List<Long> placed = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            placed.add(data.placeOrder(user, product).getOrderId());
+        }
+        // Two orders in the same instant must still be ordered by id across a page boundary
+        data.sql("UPDATE order_summaries SET order_date = (SELECT order_date FROM order_summaries WHERE order_id = ?) " +
+                "WHERE order_id = ?", placed.get(3), placed.get(4));
+        data.placeOrder(data.user(), product);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            OrderHistoryResponse page = orderService.getOrderHistory(user.getId(), cursor, 3);
+            assertThat(page.getOrders()).hasSizeLessThanOrEqualTo(3);
+            page.getOrders().forEach(entry -> seen.add(entry.getOrderId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(placed).doesNotHaveDuplicates();
+        List<Map<String, Object>> expected = jdbcTemplate.queryForList(
+                "SELECT order_id FROM order_summaries WHERE user_id = ? ORDER BY order_date DESC, order_id DESC",
+                user.getId());
+        assertThat(seen).containsExactlyElementsOf(expected.stream()
+                .map(row -> ((Number) row.get("ORDER_ID")).longValue())
+                .toList());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        User user = data.user();
+
+        assertThatThrownBy(() -> orderService.getOrderHistory(user.getId(), "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void statusChangesReachTheSummary() {
+        User user = data.user();
+        Long orderId = data.placeOrder(user, data.product("3.00", 10)).getOrderId();
+
+        OrderStatusUpdateRequest request = new OrderStatusUpdateRequest();
+        request.setStatus(Order.OrderStatus.CONFIRMED);
+        request.setPaymentStatus(Order.PaymentStatus.PAID);
+        orderService.updateOrderStatus(orderId, request);
+
+        OrderHistoryResponse.Entry entry = orderService.getOrderHistory(user.getId(), null, 10).getOrders().get(0);
+        assertThat(entry.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(entry.getPaymentStatus()).isEqualTo(Order.PaymentStatus.PAID);
+    }
+
+    @Test
+    void illegalStatusChangeLeavesTheSummaryAlone() {
+        User user = data.user();
+        Long orderId = data.placeOrder(user, data.product("3.00", 10)).getOrderId();
+
+        OrderStatusUpdateRequest request = new OrderStatusUpdateRequest();
+        request.setStatus(Order.OrderStatus.DELIVERED);
+
+        assertThatThrownBy(() -> orderService.updateOrderStatus(orderId, request))
+                .isInstanceOf(BusinessException.class);
+        assertThat(orderService.getOrderHistory(user.getId(), null, 10).getOrders().get(0).getStatus())
+                .isEqualTo(Order.OrderStatus.PENDING);
+    }
+
+    @Test
+    void backfillCreatesOnlyMissingSummaries() {
+        User user = data.user();
+        Product product = data.product("4.00", 10);
+        Long missing = data.placeOrder(user, product).getOrderId();
+        Long present = data.placeOrder(user, product).getOrderId();
+        data.sql("DELETE FROM order_summaries WHERE order_id = ?", missing);
+
+        assertThat(projector.backfill()).isGreaterThanOrEqualTo(1);
+        assertThat(projector.backfill()).isZero();
+
+        assertThat(orderService.getOrderHistory(user.getId(), null, 10).getOrders())
+                .extracting(OrderHistoryResponse.Entry::getOrderId)
+                .containsExactlyInAnyOrder(missing, present);
+    }
+}
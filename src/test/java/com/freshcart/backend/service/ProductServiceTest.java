@@ -0,0 +1,80 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.dto.response.ProductCardResponse;
+import com.freshcart.backend.dto.response.ProductDetailResponse;
+import com.freshcart.backend.entity.Category;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductServiceTest extends IntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void listsActiveProductsOfACategoryAsCards() {
+        Category category = data.category();
+        Product active = data.product(category, "2.50", 10);
+        Product inactive = data.product(category, "3.00", 10);
+        data.sql("UPDATE products SET status = 'INACTIVE' WHERE id = ?", inactive.getId());
+        data.sql("INSERT INTO product_images (product_id, image_url) VALUES (?, ?)", active.getId(), "a.jpg");
+
+        Page<ProductCardResponse> page = productService.getProductCards(category.getId(), true, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(ProductCardResponse::getId).containsExactly(active.getId());
+        ProductCardResponse card = page.getContent().get(0);
+        assertThat(card.getCategoryName()).isEqualTo(category.getName());
+        assertThat(card.getPrice().toBigDecimal()).isEqualByComparingTo("2.50");
+        assertThat(card.getImageUrls()).containsExactly("a.jpg");
+    }
+
+    @Test
+    void leavesImagesOffCardsUnlessAsked() {
+        Category category = data.category();
+        Product product = data.product(category, "1.00", 1);
+        data.sql("INSERT INTO product_images (product_id, image_url) VALUES (?, ?)", product.getId(), "b.jpg");
+
+        Page<ProductCardResponse> page = productService.getProductCards(category.getId(), false, PageRequest.of(0, 10));
+
+        assertThat(page.getContent().get(0).getImageUrls()).isNullOrEmpty();
+    }
+
+    @Test
+    void searchesByNameCaseInsensitively() {
+        Product product = data.product("4.00", 5);
+
+        Page<ProductCardResponse> page = productService.searchProductCards(
+                product.getName().toUpperCase(), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(ProductCardResponse::getId).containsExactly(product.getId());
+    }
+
+    @Test
+    void returnsDetailWithCategoryAndGallery() {
+        Category category = data.category();
+        Product product = data.product(category, "9.99", 3);
+        data.sql("INSERT INTO product_images (product_id, image_url) VALUES (?, ?)", product.getId(), "1.jpg");
+        data.sql("INSERT INTO product_images (product_id, image_url) VALUES (?, ?)", product.getId(), "2.jpg");
+
+        ProductDetailResponse detail = productService.getProductDetail(product.getId());
+
+        assertThat(detail.getSku()).isEqualTo(product.getSku());
+        assertThat(detail.getCategoryId()).isEqualTo(category.getId());
+        assertThat(detail.getStockQuantity()).isEqualTo(3);
+        assertThat(detail.getImageUrls()).containsExactlyInAnyOrder("1.jpg", "2.jpg");
+    }
+
+    @Test
+    void rejectsUnknownProduct() {
+        assertThatThrownBy(() -> productService.getProductDetail(-1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package com.freshcart.backend.service;
+
+import com.freshcart.backend.entity.Review;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.exception.ResourceNotFoundException;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ReviewVoteBufferTest extends IntegrationTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewVoteBuffer buffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Review review;
+
+    @BeforeEach
+    void createReview() {
+        buffer.flush();
+        review = data.persist(Review.builder()
+                .rating(new BigDecimal("4.0"))
+                .title("Crisp")
+                .status(Review.ReviewStatus.APPROVED)
+                .user(data.user())
+                .product(data.product("1.50", 10))
+                .build());
+    }
+
+    @Test
+    void eachCustomerCountsOnceHoweverOftenTheyVote() {
+        User first = data.user();
+        User second = data.user();
+
+        reviewService.vote(review.getId(), first.getId(), true);
+        reviewService.vote(review.getId(), first.getId(), true);
+        reviewService.vote(review.getId(), second.getId(), false);
+        buffer.flush();
+        reviewService.vote(review.getId(), first.getId(), true);
+        buffer.flush();
+
+        assertThat(counts()).containsEntry("HELPFUL_VOTES", 1).containsEntry("NOT_HELPFUL_VOTES", 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review_votes WHERE review_id = ?",
+                Integer.class, review.getId())).isEqualTo(2);
+        assertThat((Double) counts().get("HELPFULNESS_SCORE")).isCloseTo(Review.wilsonLowerBound(1, 1), within(1e-9));
+    }
+
+    @Test
+    void changedVoteMovesTheCounts() {
+        User voter = data.user();
+        reviewService.vote(review.getId(), voter.getId(), true);
+        buffer.flush();
+        long version = ((Number) counts().get("VERSION")).longValue();
+
+        reviewService.vote(review.getId(), voter.getId(), false);
+        buffer.flush();
+
+        assertThat(counts()).containsEntry("HELPFUL_VOTES", 0).containsEntry("NOT_HELPFUL_VOTES", 1);
+        assertThat(((Number) counts().get("VERSION")).longValue()).isGreaterThan(version);
+        assertThat(jdbcTemplate.queryForObject("SELECT helpful FROM review_votes WHERE review_id = ? AND user_id = ?",
+                Boolean.class, review.getId(), voter.getId())).isFalse();
+    }
+
+    @Test
+    void latestBufferedVoteOfACustomerWins() {
+        User voter = data.user();
+
+        reviewService.vote(review.getId(), voter.getId(), true);
+        reviewService.vote(review.getId(), voter.getId(), false);
+        buffer.flush();
+
+        assertThat(counts()).containsEntry("HELPFUL_VOTES", 0).containsEntry("NOT_HELPFUL_VOTES", 1);
+    }
+
+    @Test
+    void voteForAnUnknownReviewIsRejected() {
+        assertThatThrownBy(() -> reviewService.vote(-review.getId(), data.user().getId(), true))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private Map<String, Object> counts() {
+        return jdbcTemplate.queryForMap("SELECT helpful_votes, not_helpful_votes, helpfulness_score, version " +
+                "FROM reviews WHERE id = ?", review.getId());
+    }
+}
@@ -0,0 +1,167 @@
+package com.freshcart.backend.service.analytics;
+
+import com.freshcart.backend.dto.request.OrderStatusUpdateRequest;
+import com.freshcart.backend.entity.Category;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.service.OrderService;
+import com.freshcart.backend.service.outbox.OutboxRelay;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalesRollupServiceTest extends IntegrationTest {
+
+    @Autowired
+    private SalesRollupService rollupService;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void deliverEarlierEvents() {
+        relay.poll();
+    }
+
+    @Test
+    void cancelledOrderLeavesTheSalesFiguresButStaysInTheStatusBreakdown() {
+        Category category = data.category();
+        placeOrder(category, "10.00");
+        Long cancelled = placeOrder(category, "4.00");
+        relay.poll();
+        Figures totalBefore = figures("TOTAL", "ALL");
+        Figures cardBefore = figures("PAYMENT_METHOD", "CREDIT_CARD");
+        Figures cancelledBefore = figures("STATUS", "CANCELLED");
+        BigDecimal cancelledAmount = totalOf(cancelled);
+
+        assertThat(figures("CATEGORY", category.getId().toString()).orders()).isEqualTo(2);
+
+        changeStatus(cancelled, Order.OrderStatus.CANCELLED, null);
+        relay.poll();
+
+        assertThat(figures("CATEGORY", category.getId().toString()))
+                .isEqualTo(new Figures(1, 1, new BigDecimal("10.00")));
+        assertThat(figures("TOTAL", "ALL")).isEqualTo(totalBefore.minus(1, 1, cancelledAmount));
+        assertThat(figures("PAYMENT_METHOD", "CREDIT_CARD")).isEqualTo(cardBefore.minus(1, 0, cancelledAmount));
+        assertThat(figures("STATUS", "CANCELLED")).isEqualTo(cancelledBefore.minus(-1, 0, cancelledAmount.negate()));
+    }
+
+    @Test
+    void refundAfterCancellationIsSubtractedOnlyOnce() {
+        Category category = data.category();
+        Long cancelledThenRefunded = placeOrder(category, "6.00");
+        Long refunded = placeOrder(category, "8.00");
+        relay.poll();
+
+        changeStatus(cancelledThenRefunded, Order.OrderStatus.CANCELLED, null);
+        changeStatus(cancelledThenRefunded, Order.OrderStatus.REFUNDED, null);
+        changeStatus(refunded, Order.OrderStatus.CONFIRMED, Order.PaymentStatus.PAID);
+        changeStatus(refunded, Order.OrderStatus.SHIPPED, null);
+        changeStatus(refunded, Order.OrderStatus.DELIVERED, null);
+        assertThat(figures("CATEGORY", category.getId().toString()).orders()).isEqualTo(2);
+        changeStatus(refunded, Order.OrderStatus.REFUNDED, Order.PaymentStatus.REFUNDED);
+        relay.poll();
+
+        assertThat(figures("CATEGORY", category.getId().toString())).isEqualTo(new Figures(0, 0, new BigDecimal("0.00")));
+    }
+
+    @Test
+    void rebuildReproducesTheIncrementalRollups() {
+        Category category = data.category();
+        Long cancelled = placeOrder(category, "3.00");
+        placeOrder(category, "5.00");
+        placeOrder(category, "7.00");
+        changeStatus(cancelled, Order.OrderStatus.CANCELLED, null);
+        relay.poll();
+        List<Map<String, Object>> incremental = rollups();
+
+        rollupService.rebuild();
+
+        assertThat(rollups()).isEqualTo(incremental);
+        assertThat(figures("CATEGORY", category.getId().toString()))
+                .isEqualTo(new Figures(2, 2, new BigDecimal("12.00")));
+    }
+
+    @Test
+    void rebuildSettlesTheDeliveriesItAlreadyCounted() {
+        Category category = data.category();
+        Long cancelled = placeOrder(category, "9.00");
+        placeOrder(category, "2.00");
+        changeStatus(cancelled, Order.OrderStatus.CANCELLED, null);
+
+        rollupService.rebuild();
+        relay.poll();
+
+        assertThat(figures("CATEGORY", category.getId().toString()))
+                .isEqualTo(new Figures(1, 1, new BigDecimal("2.00")));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ? " +
+                "AND handler LIKE 'SalesRollup%' AND status <> 'DONE'", Integer.class, cancelled)).isZero();
+    }
+
+    @Test
+    void deliveriesCommittedAfterTheRebuildAreAppliedOnTop() {
+        Category category = data.category();
+        placeOrder(category, "5.00");
+        relay.poll();
+
+        rollupService.rebuild();
+        Long later = placeOrder(category, "6.00");
+        changeStatus(later, Order.OrderStatus.CANCELLED, null);
+        placeOrder(category, "1.00");
+        relay.poll();
+
+        assertThat(figures("CATEGORY", category.getId().toString()))
+                .isEqualTo(new Figures(2, 2, new BigDecimal("6.00")));
+    }
+
+    private Long placeOrder(Category category, String price) {
+        Product product = data.product(category, price, 100);
+        return data.placeOrder(data.user(), product).getOrderId();
+    }
+
+    private void changeStatus(Long orderId, Order.OrderStatus status, Order.PaymentStatus paymentStatus) {
+        OrderStatusUpdateRequest request = new OrderStatusUpdateRequest();
+        request.setStatus(status);
+        request.setPaymentStatus(paymentStatus);
+        orderService.updateOrderStatus(orderId, request);
+    }
+
+    private BigDecimal totalOf(Long orderId) {
+        return jdbcTemplate.queryForObject("SELECT total_amount FROM orders WHERE id = ?", BigDecimal.class, orderId);
+    }
+
+    private Figures figures(String dimension, String key) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(order_count), 0), COALESCE(SUM(item_count), 0), " +
+                        "COALESCE(SUM(revenue), 0) FROM sales_rollups " +
+                        "WHERE granularity = 'DAY' AND dimension = ? AND dimension_key = ?",
+                (rs, rowNum) -> new Figures(rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3).setScale(2)),
+                dimension, key);
+    }
+
+    private List<Map<String, Object>> rollups() {
+        return jdbcTemplate.queryForList("SELECT granularity, bucket_start, dimension, dimension_key, order_count, " +
+                "item_count, revenue FROM sales_rollups WHERE order_count <> 0 OR item_count <> 0 OR revenue <> 0 " +
+                "ORDER BY granularity, bucket_start, dimension, dimension_key");
+    }
+
+    private record Figures(long orders, long items, BigDecimal revenue) {
+
+        Figures minus(long orders, long items, BigDecimal revenue) {
+            return new Figures(this.orders - orders, this.items - items, this.revenue.subtract(revenue));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.freshcart.backend.service.analytics.columnar;
+
+import com.freshcart.backend.dto.request.AnalyticsQueryRequest;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderItemFactStoreTest extends IntegrationTest {
+
+    @Autowired
+    private OrderItemFactStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void itemCommittedAfterAHigherIdIsIngestedOnce() {
+        Product product = data.product("2.50", 100);
+        Long orderId = data.placeOrder(data.user(), product).getOrderId();
+        store.ingest();
+        assertThat(itemsOf(orderId)).isEqualTo(1);
+
+        long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM order_items", Long.class);
+        insertItem(maxId + 10, orderId, product);
+        store.ingest();
+        assertThat(itemsOf(orderId)).isEqualTo(2);
+
+        // A transaction that took id maxId + 5 commits only now
+        insertItem(maxId + 5, orderId, product);
+        jdbcTemplate.execute("ALTER TABLE order_items ALTER COLUMN id RESTART WITH " + (maxId + 11));
+        store.ingest();
+        assertThat(itemsOf(orderId)).isEqualTo(3);
+
+        store.ingest();
+        assertThat(itemsOf(orderId)).isEqualTo(3);
+    }
+
+    @Test
+    void reingestingDoesNotDuplicateItems() {
+        Long orderId = data.placeOrder(data.user(), data.product("1.00", 100), data.product("3.00", 100))
+                .getOrderId();
+
+        store.ingest();
+        store.ingest();
+
+        assertThat(itemsOf(orderId)).isEqualTo(2);
+    }
+
+    private void insertItem(long id, Long orderId, Product product) {
+        data.sql("INSERT INTO order_items (id, quantity, total_price, unit_price, order_id, product_id, product_name, " +
+                        "created_at, updated_at, version) " +
+                        "VALUES (?, 1, ?, ?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)",
+                id, product.getPrice().toBigDecimal(), product.getPrice().toBigDecimal(), orderId, product.getId(), product.getName());
+    }
+
+    private long itemsOf(Long orderId) {
+        AnalyticsQueryRequest request = new AnalyticsQueryRequest();
+        request.setFilters(List.of(new AnalyticsQueryRequest.Filter(FactField.ORDER,
+                AnalyticsQueryRequest.Operator.EQ, List.of(orderId.toString()))));
+        request.setMeasures(List.of(FactMeasure.ROWS));
+        return store.query(request).getMatchedRows();
+    }
+}
@@ -0,0 +1,155 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.event.AbandonedCartEvent;
+import com.freshcart.backend.event.ProductPriceChangedEvent;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.CartService;
+import com.freshcart.backend.support.IntegrationTest;
+import com.freshcart.backend.util.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RecordApplicationEvents
+class AbandonedCartSweeperTest extends IntegrationTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Autowired
+    private AbandonedCartSweeper sweeper;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepricingEngine repricingEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void deletesCartsIdleLongerThanTheExpiryAndPublishesThem() {
+        User user = data.user();
+        Product product = data.product("2.50", 10);
+        storedLine(user, product, 4, 45);
+
+        sweeper.sweep();
+
+        assertThat(lineCount(user)).isZero();
+        assertThat(events.stream(AbandonedCartEvent.class).filter(event -> event.userId().equals(user.getId())))
+                .singleElement()
+                .satisfies(event -> assertThat(event.subtotal()).isEqualByComparingTo("10.00"));
+    }
+
+    @Test
+    void keepsCartsWithARecentLine() {
+        User user = data.user();
+        storedLine(user, data.product("1.00", 10), 1, 45);
+        storedLine(user, data.product("1.00", 10), 1, 1);
+
+        sweeper.sweep();
+
+        assertThat(lineCount(user)).isEqualTo(2);
+    }
+
+    @Test
+    void skipsResidentCartsWithUnflushedChanges() {
+        User user = data.user();
+        storedLine(user, data.product("1.00", 10), 1, 45);
+        cartService.addItem(user.getId(), data.product("3.00", 10).getId(), 1);
+
+        sweeper.sweep();
+
+        assertThat(lineCount(user)).isEqualTo(1);
+        cartStore.flush(user.getId());
+        assertThat(lineCount(user)).isEqualTo(2);
+    }
+
+    @Test
+    void evictsResidentCleanCartsBeforeDeleting() {
+        User user = data.user();
+        storedLine(user, data.product("1.00", 10), 2, 45);
+        cartService.getCart(user.getId());
+
+        sweeper.sweep();
+
+        assertThat(cartStore.isResident(user.getId())).isFalse();
+        assertThat(cartService.getCart(user.getId()).getLines()).isEmpty();
+    }
+
+    @Test
+    void cartEditedAfterItsRowsWereDeletedIsWrittenBackInFull() {
+        User user = data.user();
+        Product kept = data.product("1.00", 10);
+        Product added = data.product("2.00", 10);
+        cartService.addItem(user.getId(), kept.getId(), 2);
+        cartStore.flush(user.getId());
+        cartService.addItem(user.getId(), added.getId(), 1);
+
+        data.sql("DELETE FROM cart_items WHERE user_id = ?", user.getId());
+        cartStore.rowsDeleted(user.getId());
+        cartStore.flush(user.getId());
+
+        assertThat(cartStore.isResident(user.getId())).isTrue();
+        assertThat(lineCount(user)).isEqualTo(2);
+    }
+
+    @Test
+    void cleanCartIsDroppedWhenItsRowsAreDeleted() {
+        User user = data.user();
+        cartService.addItem(user.getId(), data.product("1.00", 10).getId(), 1);
+        cartStore.flush(user.getId());
+
+        cartStore.rowsDeleted(user.getId());
+
+        assertThat(cartStore.isResident(user.getId())).isFalse();
+    }
+
+    @Test
+    void repricedIdleCartIsStillSwept() {
+        User stored = data.user();
+        User resident = data.user();
+        Product product = data.product("4.00", 10);
+        storedLine(stored, product, 1, 45);
+        storedLine(resident, product, 2, 45);
+        cartService.getCart(resident.getId());
+
+        repricingEngine.onPriceChanged(new ProductPriceChangedEvent(product.getId(),
+                Money.of(new BigDecimal("4.00"), USD), Money.of(new BigDecimal("3.50"), USD)));
+        repricingEngine.reprice();
+        cartStore.flush(resident.getId());
+
+        assertThat(jdbcTemplate.queryForList("SELECT unit_price FROM cart_items WHERE product_id = ?",
+                BigDecimal.class, product.getId())).containsOnly(new BigDecimal("3.50"));
+
+        sweeper.sweep();
+
+        assertThat(lineCount(stored)).isZero();
+        assertThat(lineCount(resident)).isZero();
+        assertThat(cartStore.isResident(resident.getId())).isFalse();
+    }
+
+    private void storedLine(User user, Product product, int quantity, int daysAgo) {
+        data.sql("INSERT INTO cart_items (user_id, product_id, quantity, unit_price, created_at, updated_at, version) " +
+                        "VALUES (?, ?, ?, ?, DATEADD('DAY', ?, LOCALTIMESTAMP), DATEADD('DAY', ?, LOCALTIMESTAMP), 0)",
+                user.getId(), product.getId(), quantity, product.getPrice().toBigDecimal(), -daysAgo, -daysAgo);
+    }
+
+    private int lineCount(User user) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_items WHERE user_id = ?", Integer.class, user.getId());
+    }
+}
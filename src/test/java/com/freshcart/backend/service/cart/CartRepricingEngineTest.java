@@ -0,0 +1,148 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.event.ProductPriceChangedEvent;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.CartService;
+import com.freshcart.backend.support.IntegrationTest;
+import com.freshcart.backend.util.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CartRepricingEngineTest extends IntegrationTest {
+
+    @Autowired
+    private CartRepricingEngine repricingEngine;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void repricesPersistedAndResidentCarts() {
+        Product product = data.product("2.00", 50);
+        User persisted = data.user();
+        User resident = data.user();
+        cartService.addItem(persisted.getId(), product.getId(), 1);
+        cartService.addItem(resident.getId(), product.getId(), 2);
+        cartStore.flush(persisted.getId());
+        cartStore.flush(resident.getId());
+        assertThat(cartStore.evictIfClean(persisted.getId())).isTrue();
+
+        changePrice(product, "2.00", "2.60");
+        repricingEngine.reprice();
+
+        assertThat(storedPrices(product)).containsOnly(new BigDecimal("2.60"));
+        Money residentPrice = cartStore.read(resident.getId(), cart -> cart.getLine(product.getId()).getUnitPrice());
+        assertThat(residentPrice).isEqualTo(usd("2.60"));
+        assertThat(repricingEngine.getLastReport().cartsRepriced()).isEqualTo(2);
+        assertThat(repricingEngine.getLastReport().rowsUpdated()).isEqualTo(2);
+    }
+
+    @Test
+    void reportsOnlyCartsWhosePriceChanged() {
+        Product product = data.product("5.00", 50);
+        User user = data.user();
+        cartService.addItem(user.getId(), product.getId(), 1);
+        cartStore.flush(user.getId());
+
+        changePrice(product, "4.00", "5.00");
+        repricingEngine.reprice();
+
+        assertThat(repricingEngine.getLastReport().cartsRepriced()).isZero();
+        assertThat(repricingEngine.getLastReport().rowsUpdated()).isZero();
+    }
+
+    @Test
+    void unflushedResidentCartIsWrittenWithTheNewPrice() {
+        Product product = data.product("1.10", 50);
+        User user = data.user();
+        cartService.addItem(user.getId(), product.getId(), 3);
+
+        changePrice(product, "1.10", "0.90");
+        repricingEngine.reprice();
+        cartStore.flush(user.getId());
+
+        assertThat(storedPrices(product)).containsExactly(new BigDecimal("0.90"));
+    }
+
+    @Test
+    void failedBatchKeepsItsPricesAndTheLaterBatchesQueued() {
+        Product first = data.product("3.00", 50);
+        Product second = data.product("7.00", 50);
+        User user = data.user();
+        cartService.addItem(user.getId(), first.getId(), 1);
+        cartService.addItem(user.getId(), second.getId(), 1);
+        cartStore.flush(user.getId());
+        assertThat(cartStore.evictIfClean(user.getId())).isTrue();
+
+        AtomicInteger failures = new AtomicInteger(1);
+        TransactionTemplate flakyTransaction = new TransactionTemplate(transactionManager) {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new DataAccessResourceFailureException("Database unavailable");
+                }
+                return super.execute(action);
+            }
+        };
+        CartRepricingEngine engine = new CartRepricingEngine(cartStore, namedJdbcTemplate, flakyTransaction,
+                new SimpleMeterRegistry(), 1);
+        engine.onPriceChanged(new ProductPriceChangedEvent(first.getId(), usd("3.00"), usd("3.30")));
+        engine.onPriceChanged(new ProductPriceChangedEvent(second.getId(), usd("7.00"), usd("6.50")));
+
+        engine.reprice();
+
+        assertThat(engine.getPendingCount()).isEqualTo(2);
+        assertThat(storedPrices(first)).containsExactly(new BigDecimal("3.00"));
+        assertThat(storedPrices(second)).containsExactly(new BigDecimal("7.00"));
+
+        // A price queued after the failure replaces the restored one
+        engine.onPriceChanged(new ProductPriceChangedEvent(first.getId(), usd("3.30"), usd("3.40")));
+        engine.reprice();
+
+        assertThat(engine.getPendingCount()).isZero();
+        assertThat(storedPrices(first)).containsExactly(new BigDecimal("3.40"));
+        assertThat(storedPrices(second)).containsExactly(new BigDecimal("6.50"));
+    }
+
+    private void changePrice(Product product, String oldPrice, String newPrice) {
+        data.sql("UPDATE products SET price = ? WHERE id = ?", new BigDecimal(newPrice), product.getId());
+        repricingEngine.onPriceChanged(new ProductPriceChangedEvent(product.getId(),
+                usd(oldPrice), usd(newPrice)));
+    }
+
+    private static Money usd(String amount) {
+        return Money.of(new BigDecimal(amount), Currency.getInstance("USD"));
+    }
+
+    private List<BigDecimal> storedPrices(Product product) {
+        return jdbcTemplate.queryForList("SELECT unit_price FROM cart_items WHERE product_id = ?",
+                BigDecimal.class, product.getId());
+    }
+}
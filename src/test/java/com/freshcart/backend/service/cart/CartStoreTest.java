@@ -0,0 +1,175 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.repository.CartItemRepository;
+import com.freshcart.backend.service.CartService;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CartStoreTest extends IntegrationTest {
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    void changesStayInMemoryUntilFlushed() {
+        User user = data.user();
+        Product product = data.product("2.00", 20);
+
+        cartService.addItem(user.getId(), product.getId(), 2);
+
+        assertThat(cartService.getCart(user.getId()).getLines()).hasSize(1);
+        assertThat(storedQuantities(user)).isEmpty();
+
+        cartStore.flush(user.getId());
+
+        assertThat(storedQuantities(user)).containsExactly(2);
+    }
+
+    @Test
+    void consecutiveChangesAreCoalescedIntoOneWrite() {
+        User user = data.user();
+        Product kept = data.product("1.00", 20);
+        Product removed = data.product("1.50", 20);
+
+        cartService.addItem(user.getId(), kept.getId(), 1);
+        cartService.addItem(user.getId(), removed.getId(), 1);
+        cartService.incrementQuantity(user.getId(), kept.getId());
+        cartService.updateQuantity(user.getId(), kept.getId(), 5);
+        cartService.removeItem(user.getId(), removed.getId());
+        cartStore.flush(user.getId());
+
+        assertThat(storedQuantities(user)).containsExactly(5);
+    }
+
+    @Test
+    void scheduledFlushWaitsForTheQuietPeriod() {
+        User user = data.user();
+        cartService.addItem(user.getId(), data.product("3.00", 5).getId(), 1);
+
+        cartStore.flushDueCarts();
+
+        assertThat(storedQuantities(user)).isEmpty();
+        assertThat(cartStore.read(user.getId(), UserCart::isDirty)).isTrue();
+    }
+
+    @Test
+    void failedFlushIsRethrownAndKeepsThePendingChanges() {
+        User user = data.user();
+        Product product = data.product("4.00", 5);
+        cartService.addItem(user.getId(), product.getId(), 3);
+        data.sql("DELETE FROM products WHERE id = ?", product.getId());
+
+        assertThatThrownBy(() -> cartStore.flush(user.getId())).isInstanceOf(DataAccessException.class);
+
+        Integer quantity = cartStore.read(user.getId(), cart -> cart.getLine(product.getId()).getQuantity());
+        assertThat(cartStore.read(user.getId(), UserCart::isDirty)).isTrue();
+        assertThat(quantity).isEqualTo(3);
+    }
+
+    @Test
+    void backgroundFlushFailureIsRetriedLater() {
+        User user = data.user();
+        Product product = data.product("4.00", 5);
+        cartService.addItem(user.getId(), product.getId(), 1);
+        data.sql("DELETE FROM products WHERE id = ?", product.getId());
+
+        cartStore.flushAll();
+
+        assertThat(cartStore.read(user.getId(), UserCart::isDirty)).isTrue();
+    }
+
+    @Test
+    void residentCartIsServedWithoutReloading() {
+        User user = data.user();
+        Product product = data.product("2.25", 10);
+        cartService.addItem(user.getId(), product.getId(), 1);
+        cartStore.flush(user.getId());
+
+        data.sql("UPDATE cart_items SET quantity = 9 WHERE user_id = ?", user.getId());
+
+        assertThat(cartService.getCart(user.getId()).getLines())
+                .singleElement()
+                .satisfies(item -> assertThat(item.getQuantity()).isEqualTo(1));
+        assertThat(cartStore.isResident(user.getId())).isTrue();
+    }
+
+    @Test
+    void evictionWaitsForAFlushThatIsStillWriting() throws Exception {
+        User user = data.user();
+        Product product = data.product("1.75", 10);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CartPersistence slowPersistence = new CartPersistence(jdbcTemplate, transactionTemplate) {
+            @Override
+            public void write(UserCart.PendingFlush pending) {
+                writing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.write(pending);
+            }
+        };
+        CartStore store = new CartStore(cartItemRepository, slowPersistence, Duration.ofSeconds(2),
+                Duration.ofSeconds(10), Duration.ofMinutes(30));
+        store.mutate(user.getId(), cart -> cart.putLine(new CartLine(product.getId(), product.getName(),
+                product.getSlug(), null, "piece", 2, product.getPrice())));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> flush = executor.submit(() -> store.flush(user.getId()));
+            assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+            // The sweeper deletes the cart's rows once it is evicted, so the flush must have committed by then
+            Future<List<Integer>> evicted = executor.submit(() -> {
+                assertThat(store.evictIfClean(user.getId())).isTrue();
+                return storedQuantities(user);
+            });
+
+            Thread.sleep(200);
+            assertThat(evicted.isDone()).isFalse();
+            release.countDown();
+
+            flush.get(10, TimeUnit.SECONDS);
+            assertThat(evicted.get(10, TimeUnit.SECONDS)).containsExactly(2);
+            assertThat(store.isResident(user.getId())).isFalse();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Integer> storedQuantities(User user) {
+        return jdbcTemplate.queryForList("SELECT quantity FROM cart_items WHERE user_id = ? ORDER BY id",
+                Integer.class, user.getId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.freshcart.backend.service.cart;
+
+import com.freshcart.backend.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GuestCartTokenCodecTest {
+
+    private final GuestCartTokenCodec codec = new GuestCartTokenCodec("test-secret", 50, Duration.ofDays(30));
+
+    @Test
+    void roundTripsLinesInProductOrder() {
+        Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(9_000_001L, 2);
+        lines.put(17L, 1);
+        lines.put(4_242L, 100);
+
+        Map<Long, Integer> decoded = codec.decode(codec.encode(lines));
+
+        assertThat(decoded).containsExactly(Map.entry(17L, 1), Map.entry(4_242L, 100), Map.entry(9_000_001L, 2));
+    }
+
+    @Test
+    void encodesNearbyProductsCompactly() {
+        Map<Long, Integer> lines = new LinkedHashMap<>();
+        for (long productId = 1_000; productId < 1_020; productId++) {
+            lines.put(productId, 1);
+        }
+
+        assertThat(codec.encode(lines)).hasSizeLessThan(100);
+    }
+
+    @Test
+    void emptyCartsEncodeToAnEmptyToken() {
+        assertThat(codec.encode(Map.of())).isEmpty();
+        assertThat(codec.decode(null)).isEmpty();
+        assertThat(codec.decode(" ")).isEmpty();
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(Map.of(5L, 1)));
+        bytes[bytes.length - 20] ^= 0x01;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertThatThrownBy(() -> codec.decode(tampered)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> codec.decode("not a token!")).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherSecret() {
+        GuestCartTokenCodec other = new GuestCartTokenCodec("other-secret", 50, Duration.ofDays(30));
+
+        assertThatThrownBy(() -> codec.decode(other.encode(Map.of(5L, 1)))).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void expiredTokensDecodeToAnEmptyCart() {
+        GuestCartTokenCodec shortLived = new GuestCartTokenCodec("test-secret", 50, Duration.ZERO);
+
+        assertThat(shortLived.decode(shortLived.encode(Map.of(5L, 1)))).isEmpty();
+    }
+
+    @Test
+    void enforcesTheLineLimit() {
+        GuestCartTokenCodec small = new GuestCartTokenCodec("test-secret", 2, Duration.ofDays(30));
+
+        assertThatThrownBy(() -> small.encode(Map.of(1L, 1, 2L, 1, 3L, 1))).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> small.decode(codec.encode(Map.of(1L, 1, 2L, 1, 3L, 1))))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,219 @@
+package com.freshcart.backend.service.checkout;
+
+import com.freshcart.backend.dto.response.PlaceOrderResponse;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.repository.OrderRepository;
+import com.freshcart.backend.service.CartService;
+import com.freshcart.backend.service.EntityCacheEvictor;
+import com.freshcart.backend.service.cart.CartStore;
+import com.freshcart.backend.service.inventory.InventoryReservationEngine;
+import com.freshcart.backend.service.pricing.TotalsEngine;
+import com.freshcart.backend.support.IntegrationTest;
+import com.freshcart.backend.support.TestData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CheckoutServiceTest extends IntegrationTest {
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Autowired
+    private TotalsEngine totalsEngine;
+
+    @Autowired
+    private InventoryReservationEngine reservationEngine;
+
+    @Autowired
+    private EntityCacheEvictor cacheEvictor;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void repeatedKeyReturnsTheOriginalOrder() {
+        User user = data.user();
+        Product product = data.product("2.50", 10);
+        cartService.addItem(user.getId(), product.getId(), 2);
+
+        PlaceOrderResponse first = checkoutService.placeOrder(user.getId(), "key-1", TestData.orderRequest());
+        PlaceOrderResponse second = checkoutService.placeOrder(user.getId(), "key-1", TestData.orderRequest());
+
+        assertThat(second.getOrderId()).isEqualTo(first.getOrderId());
+        assertThat(ordersOf(user)).isEqualTo(1);
+        assertThat(data.stockOf(product.getId())).isEqualTo(8);
+        assertThat(data.cartQuantities(user.getId())).isEmpty();
+    }
+
+    @Test
+    void keyCommittedByAnotherNodeRecoversItsOrder() {
+        User user = data.user();
+        Product product = data.product("2.50", 10);
+        cartService.addItem(user.getId(), product.getId(), 1);
+        PlaceOrderResponse placed = checkoutService.placeOrder(user.getId(), "key-1", TestData.orderRequest());
+        cartService.addItem(user.getId(), product.getId(), 1);
+
+        // Another node whose lookup ran before the first order committed
+        OrderRepository racingLookup = mock(OrderRepository.class);
+        when(racingLookup.findPlacedOrder(anyLong(), any()))
+                .thenReturn(Optional.empty())
+                .thenAnswer(call -> orderRepository.findPlacedOrder(call.getArgument(0), call.getArgument(1)));
+        CheckoutService otherNode = checkoutService(cartStore, racingLookup, reservationEngine);
+
+        PlaceOrderResponse retried = otherNode.placeOrder(user.getId(), "key-1", TestData.orderRequest());
+
+        assertThat(retried.getOrderId()).isEqualTo(placed.getOrderId());
+        assertThat(ordersOf(user)).isEqualTo(1);
+        assertThat(data.stockOf(product.getId())).isEqualTo(9);
+        assertThat(data.cartQuantities(user.getId())).containsExactly(1);
+    }
+
+    @Test
+    void hotProductsAreConfirmedWhenTheOrderCommits() {
+        User user = data.user();
+        Product product = data.product("2.50", 10);
+        InventoryReservationEngine engine = hotEngine(product);
+        cartService.addItem(user.getId(), product.getId(), 3);
+
+        checkoutService(cartStore, orderRepository, engine).placeOrder(user.getId(), "key-1", TestData.orderRequest());
+        engine.reconcileAll();
+
+        assertThat(engine.available(product.getId())).isEqualTo(7);
+        assertThat(data.stockOf(product.getId())).isEqualTo(7);
+    }
+
+    @Test
+    void hotProductsAreReleasedWhenTheOrderRollsBack() {
+        User user = data.user();
+        Product hot = data.product("2.50", 10);
+        Product soldOut = data.product("1.00", 1);
+        InventoryReservationEngine engine = hotEngine(hot);
+        cartService.addItem(user.getId(), hot.getId(), 3);
+        cartService.addItem(user.getId(), soldOut.getId(), 1);
+        data.sql("UPDATE products SET stock_quantity = 0 WHERE id = ?", soldOut.getId());
+
+        CheckoutService service = checkoutService(cartStore, orderRepository, engine);
+        assertThatThrownBy(() -> service.placeOrder(user.getId(), "key-1", TestData.orderRequest()))
+                .isInstanceOf(BusinessException.class);
+        engine.reconcileAll();
+
+        assertThat(engine.available(hot.getId())).isEqualTo(10);
+        assertThat(data.stockOf(hot.getId())).isEqualTo(10);
+        assertThat(ordersOf(user)).isZero();
+    }
+
+    @Test
+    void hotProductsMustBeActiveAndWithinTheirOrderLimit() {
+        User user = data.user();
+        Product inactive = data.product("2.50", 10);
+        Product limited = data.product("2.50", 10);
+        InventoryReservationEngine engine = hotEngine(inactive, limited);
+        CheckoutService service = checkoutService(cartStore, orderRepository, engine);
+
+        cartService.addItem(user.getId(), inactive.getId(), 1);
+        data.sql("UPDATE products SET status = 'INACTIVE' WHERE id = ?", inactive.getId());
+        assertThatThrownBy(() -> service.placeOrder(user.getId(), "key-1", TestData.orderRequest()))
+                .isInstanceOf(BusinessException.class);
+
+        cartService.removeItem(user.getId(), inactive.getId());
+        cartService.addItem(user.getId(), limited.getId(), 3);
+        data.sql("UPDATE products SET max_order_quantity = 2 WHERE id = ?", limited.getId());
+        assertThatThrownBy(() -> service.placeOrder(user.getId(), "key-2", TestData.orderRequest()))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(engine.available(inactive.getId())).isEqualTo(10);
+        assertThat(engine.available(limited.getId())).isEqualTo(10);
+        assertThat(ordersOf(user)).isZero();
+    }
+
+    @Test
+    void failedCartFlushFailsTheCheckout() {
+        User user = data.user();
+        Product product = data.product("2.50", 10);
+        cartService.addItem(user.getId(), product.getId(), 1);
+        cartStore.flush(user.getId());
+        CartStore failingStore = mock(CartStore.class);
+        doThrow(new DataAccessResourceFailureException("Database unavailable")).when(failingStore).flush(anyLong());
+
+        CheckoutService service = checkoutService(failingStore, orderRepository, reservationEngine);
+
+        assertThatThrownBy(() -> service.placeOrder(user.getId(), "key-1", TestData.orderRequest()))
+                .isInstanceOf(BusinessException.class)
+                .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(ordersOf(user)).isZero();
+        assertThat(data.stockOf(product.getId())).isEqualTo(10);
+    }
+
+    private int ordersOf(User user) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?", Integer.class, user.getId());
+    }
+
+    private InventoryReservationEngine hotEngine(Product... products) {
+        Set<Long> ids = Arrays.stream(products).map(Product::getId).collect(Collectors.toSet());
+        return new InventoryReservationEngine(jdbcTemplate, transactionTemplate, cacheEvictor,
+                new SimpleMeterRegistry(), ids, 4, Duration.ofMinutes(10));
+    }
+
+    /**
+     * A second checkout node with its own idempotency cache
+     */
+    private CheckoutService checkoutService(CartStore store, OrderRepository repository,
+                                            InventoryReservationEngine engine) {
+        CheckoutService service = new CheckoutService(store, repository, new IdempotencyCache(Duration.ofHours(1)),
+                orderNumberGenerator, totalsEngine, engine, cacheEvictor, namedParameterJdbcTemplate,
+                transactionTemplate, eventPublisher);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        ReflectionTestUtils.setField(service, "currency", Currency.getInstance("USD"));
+        return service;
+    }
+}
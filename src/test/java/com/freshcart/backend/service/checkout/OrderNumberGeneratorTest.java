@@ -0,0 +1,201 @@
+package com.freshcart.backend.service.checkout;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderNumberGeneratorTest {
+
+    private static final int NODES = 4;
+    private static final int THREADS_PER_NODE = 4;
+    private static final int NUMBERS_PER_THREAD = 20_000;
+    private static final int JVMS = 3;
+    private static final int NUMBERS_PER_JVM = 50_000;
+
+    @TempDir
+    private Path nodeDir;
+
+    @Test
+    void nodesWithDistinctIdsNeverIssueTheSameNumber() throws Exception {
+        List<OrderNumberGenerator> generators = new ArrayList<>();
+        for (int node = 0; node < NODES; node++) {
+            generators.add(new OrderNumberGenerator(node + 1, nodeDir));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(NODES * THREADS_PER_NODE);
+        List<Future<List<Long>>> batches = new ArrayList<>();
+        for (OrderNumberGenerator generator : generators) {
+            for (int thread = 0; thread < THREADS_PER_NODE; thread++) {
+                batches.add(executor.submit(() -> {
+                    List<Long> ids = new ArrayList<>(NUMBERS_PER_THREAD);
+                    for (int i = 0; i < NUMBERS_PER_THREAD; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return ids;
+                }));
+            }
+        }
+        Set<Long> all = new HashSet<>();
+        for (int i = 0; i < batches.size(); i++) {
+            List<Long> ids = batches.get(i).get(60, TimeUnit.SECONDS);
+            int expectedNode = generators.get(i / THREADS_PER_NODE).getNodeId();
+            // Each thread sees its node's numbers strictly increasing
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+            assertThat(ids).allSatisfy(id -> assertThat(nodeOf(id)).isEqualTo(expectedNode));
+            all.addAll(ids);
+        }
+        executor.shutdown();
+
+        assertThat(all).hasSize(NODES * THREADS_PER_NODE * NUMBERS_PER_THREAD);
+    }
+
+    @Test
+    void numbersSortAcrossNodesByIssueTime() throws Exception {
+        OrderNumberGenerator first = new OrderNumberGenerator(7, nodeDir);
+        OrderNumberGenerator second = new OrderNumberGenerator(3, nodeDir);
+
+        List<String> issued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            issued.add(first.next());
+            Thread.sleep(2);
+            issued.add(second.next());
+            Thread.sleep(2);
+        }
+
+        assertThat(issued).isSorted().doesNotHaveDuplicates();
+        assertThat(issued).allSatisfy(number -> assertThat(number).matches("FC-[0-9A-HJKMNP-TV-Z]{13}"));
+    }
+
+    @Test
+    void formattedNumbersSortLikeTheirIds() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, nodeDir);
+        long earlier = generator.nextId();
+        long later = generator.nextId();
+
+        assertThat(OrderNumberGenerator.format(earlier)).isLessThan(OrderNumberGenerator.format(later));
+        assertThat(OrderNumberGenerator.format(Long.MAX_VALUE)).isEqualTo("FC-7ZZZZZZZZZZZZ");
+    }
+
+    @Test
+    void generatorsSharingANodeDirectoryClaimDistinctIds() throws Exception {
+        OrderNumberGenerator first = new OrderNumberGenerator(-1, nodeDir);
+        OrderNumberGenerator second = new OrderNumberGenerator(-1, nodeDir);
+        try {
+            assertThat(first.getNodeId()).isNotEqualTo(second.getNodeId());
+            assertThat(nodeOf(first.nextId())).isEqualTo(first.getNodeId());
+            assertThat(nodeOf(second.nextId())).isEqualTo(second.getNodeId());
+        } finally {
+            first.releaseNodeId();
+            second.releaseNodeId();
+        }
+
+        // A released ID can be claimed again
+        OrderNumberGenerator third = new OrderNumberGenerator(-1, nodeDir);
+        assertThat(third.getNodeId()).isEqualTo(Math.min(first.getNodeId(), second.getNodeId()));
+        third.releaseNodeId();
+    }
+
+    @Test
+    void separateJvmsSharingANodeDirectoryNeverIssueTheSameNumber(@TempDir Path workDir) throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Process> processes = new ArrayList<>();
+        try {
+            for (int jvm = 0; jvm < JVMS; jvm++) {
+                processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                        ChildJvm.class.getName(), nodeDir.toString(), workDir.toString(),
+                        String.valueOf(jvm), String.valueOf(NUMBERS_PER_JVM))
+                        .redirectErrorStream(true)
+                        .redirectOutput(workDir.resolve("jvm-" + jvm + ".log").toFile())
+                        .start());
+            }
+
+            // Every child holds its node lock before any of them issues a number
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            for (int jvm = 0; jvm < JVMS; jvm++) {
+                while (!Files.exists(workDir.resolve("ready-" + jvm))) {
+                    assertThat(processes.get(jvm).isAlive())
+                            .as("JVM %d exited early: %s", jvm, childLog(workDir, jvm)).isTrue();
+                    assertThat(System.nanoTime()).as("JVM %d never became ready", jvm).isLessThan(deadline);
+                    Thread.sleep(20);
+                }
+            }
+            Files.createFile(workDir.resolve("go"));
+
+            for (int jvm = 0; jvm < JVMS; jvm++) {
+                assertThat(processes.get(jvm).waitFor(60, TimeUnit.SECONDS)).isTrue();
+                assertThat(processes.get(jvm).exitValue()).as(childLog(workDir, jvm)).isZero();
+            }
+        } finally {
+            processes.forEach(Process::destroyForcibly);
+        }
+
+        Set<Long> nodeIds = new HashSet<>();
+        Set<Long> all = new HashSet<>();
+        for (int jvm = 0; jvm < JVMS; jvm++) {
+            List<Long> ids = Files.readAllLines(workDir.resolve("ids-" + jvm)).stream().map(Long::valueOf).toList();
+            assertThat(ids).hasSize(NUMBERS_PER_JVM).isSorted().doesNotHaveDuplicates();
+            long node = nodeOf(ids.get(0));
+            assertThat(ids).allSatisfy(id -> assertThat(nodeOf(id)).isEqualTo(node));
+            nodeIds.add(node);
+            all.addAll(ids);
+        }
+        assertThat(nodeIds).hasSize(JVMS);
+        assertThat(all).hasSize(JVMS * NUMBERS_PER_JVM);
+    }
+
+    @Test
+    void rejectsNodeIdsThatDoNotFitTenBits() {
+        assertThatThrownBy(() -> new OrderNumberGenerator(1024, nodeDir))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> 12) & 1023;
+    }
+
+    private static String childLog(Path workDir, int jvm) throws IOException {
+        Path log = workDir.resolve("jvm-" + jvm + ".log");
+        return Files.exists(log) ? Files.readString(log) : "";
+    }
+
+    /**
+     * Claims a node ID from the shared directory, waits for the go file,
+     * then writes a block of IDs to {@code ids-<index>}
+     */
+    static class ChildJvm {
+
+        public static void main(String[] args) throws Exception {
+            Path nodeDir = Path.of(args[0]);
+            Path workDir = Path.of(args[1]);
+            String index = args[2];
+            int count = Integer.parseInt(args[3]);
+
+            OrderNumberGenerator generator = new OrderNumberGenerator(-1, nodeDir);
+            Files.writeString(workDir.resolve("ready-" + index), String.valueOf(generator.getNodeId()));
+            while (!Files.exists(workDir.resolve("go"))) {
+                Thread.sleep(5);
+            }
+
+            StringBuilder ids = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                ids.append(generator.nextId()).append('\n');
+            }
+            Files.writeString(workDir.resolve("ids-" + index), ids);
+            generator.releaseNodeId();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.freshcart.backend.service.inventory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark for the reservation ledger: many threads reserving and
+ * returning units of one hot product
+ * 
+ * {@code shards=1} is the single-counter layout every product used to have;
+ * {@code lockedCounter} approximates a row lock on {@code products.stock_quantity}.
+ * 
+ * Run with {@code mvn -Pbenchmark -DskipTests test -Djmh.args=InventoryReservationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class InventoryReservationBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    public int shards;
+
+    private ShardedStock stock;
+    private final Object lock = new Object();
+    private long lockedStock;
+
+    @Setup
+    public void setUp() {
+        stock = new ShardedStock(1L, shards, 1_000_000);
+        lockedStock = 1_000_000;
+    }
+
+    @Benchmark
+    public boolean reserveAndRelease() {
+        boolean taken = stock.take(1);
+        if (taken) {
+            stock.put(1);
+        }
+        return taken;
+    }
+
+    @Benchmark
+    public boolean lockedCounter() {
+        synchronized (lock) {
+            if (lockedStock < 1) {
+                return false;
+            }
+            lockedStock--;
+        }
+        synchronized (lock) {
+            lockedStock++;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+package com.freshcart.backend.service.inventory;
+
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.exception.BusinessException;
+import com.freshcart.backend.service.EntityCacheEvictor;
+import com.freshcart.backend.support.IntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InventoryReservationEngineTest extends IntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityCacheEvictor cacheEvictor;
+
+    @Test
+    void confirmedUnitsAreWrittenBackByReconciliation() {
+        Product product = data.product("1.00", 10);
+        InventoryReservationEngine engine = engine(new JdbcTemplate(dataSource), Set.of(), Duration.ofMinutes(10));
+
+        engine.confirm(engine.reserve(product.getId(), 3).id());
+
+        assertThat(engine.available(product.getId())).isEqualTo(7);
+        assertThat(data.stockOf(product.getId())).isEqualTo(10);
+        engine.reconcileAll();
+        assertThat(data.stockOf(product.getId())).isEqualTo(7);
+    }
+
+    @Test
+    void releasedAndExpiredReservationsReturnTheirUnits() {
+        Product product = data.product("1.00", 10);
+        InventoryReservationEngine engine = engine(new JdbcTemplate(dataSource), Set.of(), Duration.ofMinutes(10));
+        InventoryReservationEngine expiring = engine(new JdbcTemplate(dataSource), Set.of(), Duration.ofMillis(-1));
+
+        assertThat(engine.release(engine.reserve(product.getId(), 4).id())).isTrue();
+        InventoryReservation expired = expiring.reserve(product.getId(), 4);
+        expiring.expireReservations();
+
+        assertThat(engine.available(product.getId())).isEqualTo(10);
+        assertThat(expiring.available(product.getId())).isEqualTo(10);
+        assertThatThrownBy(() -> expiring.confirm(expired.id())).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void rejectsReservationsBeyondAvailableStock() {
+        Product product = data.product("1.00", 2);
+        InventoryReservationEngine engine = engine(new JdbcTemplate(dataSource), Set.of(product.getId()), Duration.ofMinutes(10));
+
+        engine.reserve(product.getId(), 2);
+
+        assertThatThrownBy(() -> engine.reserve(product.getId(), 1)).isInstanceOf(BusinessException.class);
+        assertThat(engine.available(product.getId())).isZero();
+    }
+
+    @Test
+    void failedWriteBackKeepsTheConfirmedUnits() {
+        Product product = data.product("1.00", 10);
+        FailingJdbcTemplate jdbcTemplate = new FailingJdbcTemplate(dataSource);
+        InventoryReservationEngine engine = engine(jdbcTemplate, Set.of(), Duration.ofMinutes(10));
+        engine.confirm(engine.reserve(product.getId(), 4).id());
+
+        jdbcTemplate.failBatches.set(true);
+        engine.reconcileAll();
+        assertThat(data.stockOf(product.getId())).isEqualTo(10);
+
+        jdbcTemplate.failBatches.set(false);
+        engine.reconcileAll();
+        assertThat(data.stockOf(product.getId())).isEqualTo(6);
+    }
+
+    @Test
+    void reloadWritesConfirmedUnitsBeforeReadingTheDatabase() {
+        Product product = data.product("1.00", 10);
+        InventoryReservationEngine engine = engine(new JdbcTemplate(dataSource), Set.of(), Duration.ofMinutes(10));
+        engine.confirm(engine.reserve(product.getId(), 3).id());
+        engine.reserve(product.getId(), 2);
+
+        engine.reload(product.getId());
+
+        assertThat(data.stockOf(product.getId())).isEqualTo(7);
+        assertThat(engine.available(product.getId())).isEqualTo(5);
+    }
+
+    @Test
+    void shortDatabaseStockResynchronizesTheLedger() {
+        Product product = data.product("1.00", 5);
+        InventoryReservationEngine engine = engine(new JdbcTemplate(dataSource), Set.of(), Duration.ofMinutes(10));
+        engine.confirm(engine.reserve(product.getId(), 5).id());
+        data.sql("UPDATE products SET stock_quantity = 2 WHERE id = ?", product.getId());
+
+        engine.reconcileAll();
+
+        assertThat(data.stockOf(product.getId())).isEqualTo(2);
+        assertThat(engine.available(product.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentCheckoutsOfAHotProductNeverOversell() throws Exception {
+        int initialStock = 500;
+        Product product = data.product("1.00", initialStock);
+        InventoryReservationEngine engine = engine(new JdbcTemplate(dataSource), Set.of(product.getId()), Duration.ofMinutes(10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> sold = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            sold.add(executor.submit(() -> {
+                int units = 0;
+                for (int i = 0; i < 200; i++) {
+                    try {
+                        engine.confirm(engine.reserve(product.getId(), 1).id());
+                        units++;
+                    } catch (BusinessException e) {
+                        // Sold out
+                    }
+                }
+                return units;
+            }));
+        }
+        int total = 0;
+        for (Future<Integer> units : sold) {
+            total += units.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        engine.reconcileAll();
+
+        assertThat(total).isEqualTo(initialStock);
+        assertThat(engine.available(product.getId())).isZero();
+        assertThat(data.stockOf(product.getId())).isZero();
+    }
+
+    private InventoryReservationEngine engine(JdbcTemplate jdbcTemplate, Set<Long> hotProductIds, Duration ttl) {
+        return new InventoryReservationEngine(jdbcTemplate, transactionTemplate, cacheEvictor,
+                new SimpleMeterRegistry(), hotProductIds, 16, ttl);
+    }
+
+    private static class FailingJdbcTemplate extends JdbcTemplate {
+
+        private final AtomicBoolean failBatches = new AtomicBoolean();
+
+        FailingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) {
+            if (failBatches.get()) {
+                throw new DataAccessResourceFailureException("Database unavailable");
+            }
+            return super.batchUpdate(sql, pss);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.freshcart.backend.service.moderation;
+
+import com.freshcart.backend.dto.request.BulkReviewModerationRequest;
+import com.freshcart.backend.dto.response.BulkReviewModerationResponse;
+import com.freshcart.backend.entity.Review;
+import com.freshcart.backend.repository.ReviewRepository;
+import com.freshcart.backend.support.IntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewModerationServiceTest extends IntegrationTest {
+
+    @Autowired
+    private ReviewModerationService moderationService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void committedDecisionsAreLearnedAndRelabellingRetractsTheOldLabel() {
+        Long reviewId = review("Cheap pills", "buy at www.pills.example").getId();
+        long spam = documents("spamDocuments");
+        long approved = documents("approvedDocuments");
+
+        BulkReviewModerationResponse response = moderationService.moderate(request(Review.ReviewStatus.SPAM, reviewId));
+
+        assertThat(response.getResults()).extracting(BulkReviewModerationResponse.Result::getOutcome)
+                .containsExactly(BulkReviewModerationResponse.Outcome.UPDATED);
+        assertThat(documents("spamDocuments")).isEqualTo(spam + 1);
+
+        moderationService.moderate(request(Review.ReviewStatus.APPROVED, reviewId));
+
+        assertThat(documents("spamDocuments")).isEqualTo(spam);
+        assertThat(documents("approvedDocuments")).isEqualTo(approved + 1);
+    }
+
+    @Test
+    void rolledBackDecisionIsNotLearned() {
+        Long reviewId = review("Tasty", "the bread was fresh and soft").getId();
+        long approved = documents("approvedDocuments");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            moderationService.moderate(request(Review.ReviewStatus.APPROVED, reviewId));
+            status.setRollbackOnly();
+        });
+
+        assertThat(documents("approvedDocuments")).isEqualTo(approved);
+        assertThat(reviewRepository.findById(reviewId).orElseThrow().getStatus())
+                .isEqualTo(Review.ReviewStatus.PENDING);
+    }
+
+    @Test
+    void decisionCommittedBeforeStartupTrainingIsLearnedOnce() {
+        ReviewModerationService untrained = new ReviewModerationService(reviewRepository, namedJdbcTemplate,
+                transactionTemplate, new SimpleMeterRegistry(), 200, 0.02, 0.98, 50);
+        Long reviewId = review("FREE MONEY", "click http://money.example").getId();
+
+        transactionTemplate.executeWithoutResult(status ->
+                untrained.moderate(request(Review.ReviewStatus.SPAM, reviewId)));
+        untrained.train();
+
+        assertThat(untrained.getClassifierStatus().get("spamDocuments")).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reviews WHERE status = 'SPAM' AND auto_moderated = FALSE", Long.class));
+    }
+
+    private Review review(String title, String comment) {
+        return data.persist(Review.builder()
+                .rating(new BigDecimal("5.0"))
+                .title(title)
+                .comment(comment)
+                .user(data.user())
+                .product(data.product("2.00", 10))
+                .build());
+    }
+
+    private long documents(String key) {
+        return (Long) moderationService.getClassifierStatus().get(key);
+    }
+
+    private static BulkReviewModerationRequest request(Review.ReviewStatus status, Long reviewId) {
+        return new BulkReviewModerationRequest(status, List.of(reviewId), null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.freshcart.backend.service.moderation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpamClassifierTest {
+
+    @Test
+    void learnedSpamScoresHigherThanLearnedHam() {
+        SpamClassifier classifier = new SpamClassifier();
+        classifier.learn("BUY CHEAP PILLS", "visit http://pills.example now for cheap pills", 5, true);
+        classifier.learn("Lovely apples", "crisp and sweet, my kids ate them all in two days", 4, false);
+
+        assertThat(classifier.score("cheap pills", "http://pills.example", 5))
+                .isGreaterThan(0.5)
+                .isGreaterThan(classifier.score("sweet apples", "crisp and sweet apples", 4));
+    }
+
+    @Test
+    void untrainedClassifierIsUndecided() {
+        assertThat(new SpamClassifier().score("anything", "at all", 3)).isEqualTo(0.5);
+    }
+
+    @Test
+    void forgettingTokensThatWereNeverLearnedLeavesTheTotalsAlone() {
+        SpamClassifier reference = new SpamClassifier();
+        reference.learn(null, "apples", 5, false);
+        reference.learn("spam", "free money", 1, true);
+
+        SpamClassifier classifier = new SpamClassifier();
+        classifier.learn(null, "apples", 5, false);
+        classifier.learn(null, "apples", 5, false);
+        classifier.learn("spam", "free money", 1, true);
+        classifier.forget(null, "apples pears", 5, false);
+
+        assertThat(classifier.hamDocuments()).isEqualTo(reference.hamDocuments());
+        assertThat(classifier.vocabularySize()).isEqualTo(reference.vocabularySize());
+        assertThat(classifier.score(null, "apples", 5)).isEqualTo(reference.score(null, "apples", 5));
+        assertThat(classifier.score("free", "money", 1)).isEqualTo(reference.score("free", "money", 1));
+    }
+
+    @Test
+    void forgetUndoesLearn() {
+        SpamClassifier classifier = new SpamClassifier();
+        classifier.learn("Great", "tasty bread", 5, false);
+        double before = classifier.score("tasty", "bread", 5);
+
+        classifier.learn("WIN", "win a prize at www.prize.example", 5, true);
+        classifier.forget("WIN", "win a prize at www.prize.example", 5, true);
+
+        assertThat(classifier.spamDocuments()).isZero();
+        assertThat(classifier.score("tasty", "bread", 5)).isEqualTo(before);
+    }
+}
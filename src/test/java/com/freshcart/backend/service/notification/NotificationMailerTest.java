@@ -0,0 +1,178 @@
+package com.freshcart.backend.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freshcart.backend.entity.NotificationDeadLetter;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.repository.NotificationDeadLetterRepository;
+import com.freshcart.backend.service.outbox.OutboxRelay;
+import com.freshcart.backend.support.IntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationMailerTest extends IntegrationTest {
+
+    @Autowired
+    private NotificationMailer mailer;
+
+    @Autowired
+    private LocalSmtpSink sink;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private NotificationDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mailIsQueuedOnlyWhenTheTransactionCommits() {
+        String committed = recipient();
+        String rolledBack = recipient();
+
+        transactionTemplate.executeWithoutResult(status -> mailer.enqueue(NotificationTemplate.WELCOME, committed,
+                Map.of("firstName", "Ada")));
+        transactionTemplate.executeWithoutResult(status -> {
+            mailer.enqueue(NotificationTemplate.WELCOME, rolledBack, Map.of("firstName", "Bob"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(queuedFor(committed)).isEqualTo(1);
+        assertThat(queuedFor(rolledBack)).isZero();
+
+        sendAll();
+
+        assertThat(receivedBy(committed)).hasSize(1);
+        assertThat(receivedBy(committed).get(0).data()).contains("Hi Ada");
+        assertThat(queuedFor(committed)).isZero();
+        assertThat(receivedBy(rolledBack)).isEmpty();
+    }
+
+    @Test
+    void deliveredOrderEventLeavesItsMailQueuedUntilSent() {
+        User user = data.user();
+        data.placeOrder(user, data.product("5.00", 10));
+
+        relay.poll();
+
+        // The outbox row is done, so the mail must already be durable
+        assertThat(queuedFor(user.getEmail())).isEqualTo(1);
+        assertThat(receivedBy(user.getEmail())).isEmpty();
+
+        sendAll();
+
+        assertThat(receivedBy(user.getEmail())).hasSize(1);
+        assertThat(queuedFor(user.getEmail())).isZero();
+    }
+
+    @Test
+    void mailClaimedByAMailerThatDiedIsSentAgainAfterTheLease() {
+        String abandoned = recipient();
+        String inFlight = recipient();
+        insertClaimed(abandoned, "dead-mailer", LocalDateTime.now().minusSeconds(1));
+        insertClaimed(inFlight, "busy-mailer", LocalDateTime.now().plusMinutes(5));
+
+        sendAll();
+
+        assertThat(receivedBy(abandoned)).hasSize(1);
+        assertThat(queuedFor(abandoned)).isZero();
+        assertThat(receivedBy(inFlight)).isEmpty();
+        assertThat(queuedFor(inFlight)).isEqualTo(1);
+        data.sql("DELETE FROM queued_notifications WHERE recipient = ?", inFlight);
+    }
+
+    @Test
+    void failedSendIsRetriedWithBackoffThenDeadLetteredAndCanBeRequeued() {
+        sendAll();
+        String recipient = recipient();
+        mailer.enqueue(NotificationTemplate.WELCOME, recipient, Map.of("firstName", "Cy"));
+
+        unreachableMailer(3).sendDue();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT attempts, available_at, claim_token, last_error FROM queued_notifications WHERE recipient = ?",
+                recipient);
+        assertThat(row.get("ATTEMPTS")).isEqualTo(1);
+        assertThat(row.get("CLAIM_TOKEN")).isNull();
+        assertThat(row.get("LAST_ERROR")).isNotNull();
+        assertThat(((Timestamp) row.get("AVAILABLE_AT")).toLocalDateTime()).isAfter(LocalDateTime.now());
+
+        data.sql("UPDATE queued_notifications SET attempts = 2, available_at = ? WHERE recipient = ?",
+                LocalDateTime.now().minusSeconds(1), recipient);
+        unreachableMailer(3).sendDue();
+
+        assertThat(queuedFor(recipient)).isZero();
+        NotificationDeadLetter deadLetter = deadLetterRepository.findTop100ByOrderByIdDesc().stream()
+                .filter(letter -> letter.getRecipient().equals(recipient))
+                .findFirst()
+                .orElseThrow();
+        assertThat(deadLetter.getAttempts()).isEqualTo(3);
+
+        mailer.requeue(deadLetter.getId());
+        sendAll();
+
+        assertThat(deadLetterRepository.findById(deadLetter.getId())).isEmpty();
+        assertThat(receivedBy(recipient)).hasSize(1);
+    }
+
+    private NotificationMailer unreachableMailer(int maxAttempts) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(1);
+        return new NotificationMailer(sender, deadLetterRepository, namedJdbcTemplate, transactionTemplate,
+                objectMapper, new SimpleMeterRegistry(), "noreply@freshcart.local", 50, 1000, maxAttempts,
+                Duration.ofSeconds(5), Duration.ofMinutes(2), 1000, false);
+    }
+
+    private void sendAll() {
+        while (mailer.sendDue() > 0) {
+            // keep draining
+        }
+    }
+
+    private void insertClaimed(String recipient, String token, LocalDateTime lockedUntil) {
+        data.sql("INSERT INTO queued_notifications (template, recipient, model, attempts, available_at, " +
+                        "claim_token, locked_until, created_at, updated_at, version) " +
+                        "VALUES ('WELCOME', ?, '{\"firstName\":\"Dee\"}', 0, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)",
+                recipient, LocalDateTime.now().minusMinutes(3), token, lockedUntil);
+    }
+
+    private int queuedFor(String recipient) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM queued_notifications WHERE recipient = ?",
+                Integer.class, recipient);
+    }
+
+    private List<LocalSmtpSink.ReceivedMail> receivedBy(String recipient) {
+        return sink.received().stream()
+                .filter(mail -> mail.recipients().contains(recipient))
+                .toList();
+    }
+
+    private static String recipient() {
+        return "mail-" + UUID.randomUUID() + "@example.com";
+    }
+}
@@ -0,0 +1,191 @@
+package com.freshcart.backend.service.outbox;
+
+import com.freshcart.backend.dto.request.OrderStatusUpdateRequest;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.OrderService;
+import com.freshcart.backend.service.inventory.OrderStockReleaseHandler;
+import com.freshcart.backend.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelayTest extends IntegrationTest {
+
+    private static final String UNKNOWN_HANDLER = "RetiredHandler";
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cancellationReturnsStockOnlyWhenTheRelayDelivers() {
+        User user = data.user();
+        Product product = data.product("2.50", 10);
+        Long orderId = data.placeOrder(user, product).getOrderId();
+        assertThat(data.stockOf(product.getId())).isEqualTo(9);
+
+        cancel(orderId);
+        assertThat(data.stockOf(product.getId())).isEqualTo(9);
+        assertThat(stockReleaseRow(orderId).get("STATUS")).isEqualTo("PENDING");
+
+        relay.poll();
+
+        assertThat(data.stockOf(product.getId())).isEqualTo(10);
+        Map<String, Object> row = stockReleaseRow(orderId);
+        assertThat(row.get("STATUS")).isEqualTo("DONE");
+        assertThat(row.get("PROCESSED_AT")).isNotNull();
+        assertThat(row.get("CLAIM_TOKEN")).isNull();
+
+        relay.poll();
+        assertThat(data.stockOf(product.getId())).isEqualTo(10);
+    }
+
+    @Test
+    void concurrentRelaysDeliverEachEventOnce() throws Exception {
+        Product product = data.product("1.00", 100);
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            orderIds.add(data.placeOrder(data.user(), product).getOrderId());
+        }
+        orderIds.forEach(this::cancel);
+
+        int relays = 4;
+        CyclicBarrier start = new CyclicBarrier(relays);
+        ExecutorService pool = Executors.newFixedThreadPool(relays);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int i = 0; i < relays; i++) {
+                runs.add(pool.submit(() -> {
+                    start.await();
+                    relay.poll();
+                    return null;
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(data.stockOf(product.getId())).isEqualTo(100);
+        for (Long orderId : orderIds) {
+            assertThat(stockReleaseRow(orderId).get("STATUS")).isEqualTo("DONE");
+        }
+    }
+
+    @Test
+    void failedDeliveryBacksOffBeforeTheNextAttempt() {
+        long id = insert(UNKNOWN_HANDLER, 0, null, null);
+
+        relay.poll();
+
+        Map<String, Object> row = row(id);
+        assertThat(row.get("STATUS")).isEqualTo("PENDING");
+        assertThat(row.get("ATTEMPTS")).isEqualTo(1);
+        assertThat((String) row.get("LAST_ERROR")).contains("Unknown outbox handler " + UNKNOWN_HANDLER);
+        assertThat(row.get("CLAIM_TOKEN")).isNull();
+        assertThat(((Timestamp) row.get("AVAILABLE_AT")).toLocalDateTime()).isAfter(LocalDateTime.now());
+
+        relay.poll();
+        assertThat(row(id).get("ATTEMPTS")).isEqualTo(1);
+
+        data.sql("UPDATE outbox_events SET available_at = ? WHERE id = ?", LocalDateTime.now().minusSeconds(1), id);
+        relay.poll();
+        assertThat(row(id).get("ATTEMPTS")).isEqualTo(2);
+    }
+
+    @Test
+    void deliveryIsParkedAfterTheLastAttempt() {
+        long id = insert(UNKNOWN_HANDLER, 7, null, null);
+
+        relay.poll();
+
+        Map<String, Object> row = row(id);
+        assertThat(row.get("STATUS")).isEqualTo("FAILED");
+        assertThat(row.get("ATTEMPTS")).isEqualTo(8);
+
+        data.sql("UPDATE outbox_events SET available_at = ? WHERE id = ?", LocalDateTime.now().minusSeconds(1), id);
+        relay.poll();
+        assertThat(row(id).get("ATTEMPTS")).isEqualTo(8);
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndLiveLeaseIsLeftAlone() {
+        long expired = insert(UNKNOWN_HANDLER, 0, "dead-relay", LocalDateTime.now().minusSeconds(5));
+        long live = insert(UNKNOWN_HANDLER, 0, "busy-relay", LocalDateTime.now().plusMinutes(5));
+
+        relay.poll();
+
+        assertThat(row(expired).get("CLAIM_TOKEN")).isNull();
+        assertThat(row(expired).get("ATTEMPTS")).isEqualTo(1);
+        assertThat(row(live).get("CLAIM_TOKEN")).isEqualTo("busy-relay");
+        assertThat(row(live).get("ATTEMPTS")).isEqualTo(0);
+    }
+
+    @Test
+    void purgeRemovesOnlyDeliveredRowsPastRetention() {
+        long old = insert(UNKNOWN_HANDLER, 1, null, null);
+        long recent = insert(UNKNOWN_HANDLER, 1, null, null);
+        long stalled = insert(UNKNOWN_HANDLER, 0, null, null);
+        data.sql("UPDATE outbox_events SET status = 'DONE', processed_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(8), old);
+        data.sql("UPDATE outbox_events SET status = 'DONE', processed_at = ? WHERE id = ?",
+                LocalDateTime.now(), recent);
+        data.sql("UPDATE outbox_events SET created_at = ? WHERE id = ?", LocalDateTime.now().minusDays(8), stalled);
+
+        relay.purge();
+
+        assertThat(exists(old)).isFalse();
+        assertThat(exists(recent)).isTrue();
+        assertThat(exists(stalled)).isTrue();
+    }
+
+    private void cancel(Long orderId) {
+        OrderStatusUpdateRequest request = new OrderStatusUpdateRequest();
+        request.setStatus(Order.OrderStatus.CANCELLED);
+        orderService.updateOrderStatus(orderId, request);
+    }
+
+    private Map<String, Object> stockReleaseRow(Long orderId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM outbox_events WHERE aggregate_id = ? AND handler = ? " +
+                "AND event_type = 'OrderStatusChangedEvent'", orderId, OutboxWriter.handlerName(OrderStockReleaseHandler.class));
+    }
+
+    private long insert(String handler, int attempts, String claimToken, LocalDateTime lockedUntil) {
+        long aggregateId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        data.sql("INSERT INTO outbox_events (event_type, handler, aggregate_id, payload, status, attempts, " +
+                        "available_at, claim_token, locked_until, created_at, updated_at, version) " +
+                        "VALUES ('OrderPlacedEvent', ?, ?, '{}', 'PENDING', ?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, 0)",
+                handler, aggregateId, attempts, LocalDateTime.now().minusSeconds(1), claimToken, lockedUntil);
+        return jdbcTemplate.queryForObject("SELECT id FROM outbox_events WHERE aggregate_id = ?", Long.class, aggregateId);
+    }
+
+    private Map<String, Object> row(long id) {
+        return jdbcTemplate.queryForMap("SELECT * FROM outbox_events WHERE id = ?", id);
+    }
+
+    private boolean exists(long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE id = ?", Integer.class, id) > 0;
+    }
+}
@@ -0,0 +1,107 @@
+package com.freshcart.backend.service.pricing;
+
+import com.freshcart.backend.util.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Totals of a large cart through a compiled {@link PricingPlan}, against
+ * evaluating the same rules per line with BigDecimal and map lookups
+ * 
+ * Run with {@code mvn -Pbenchmark -DskipTests test -Djmh.args=PricingBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.0725");
+
+    @Param({"100"})
+    private int lines;
+
+    private PricingPlan plan;
+    private PricingContext context;
+    private long[] productIds;
+    private Money[] prices;
+    private BigDecimal[] decimalPrices;
+    private int[] quantities;
+    private Map<Long, BigDecimal> percentOffByProduct;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        productIds = new long[lines];
+        prices = new Money[lines];
+        decimalPrices = new BigDecimal[lines];
+        quantities = new int[lines];
+        Map<Long, PricingPlan.PercentOff> planPercentOff = new HashMap<>();
+        percentOffByProduct = new HashMap<>();
+        for (int i = 0; i < lines; i++) {
+            productIds[i] = i + 1;
+            decimalPrices[i] = BigDecimal.valueOf(random.nextLong(50, 5_000), 2);
+            prices[i] = Money.of(decimalPrices[i], USD);
+            quantities[i] = random.nextInt(1, 6);
+            if (i % 4 == 0) {
+                planPercentOff.put(productIds[i], new PricingPlan.PercentOff("10% off", 1_000));
+                percentOffByProduct.put(productIds[i], new BigDecimal("0.10"));
+            }
+        }
+        plan = new PricingPlan(1, USD, new BigDecimal("0.05"),
+                Map.of(PricingPlan.taxKey("US", "CA"), TAX_RATE),
+                new long[]{0, 5_000}, new long[]{599, 0}, planPercentOff,
+                Map.of(2L, new PricingPlan.BuyXGetY("Buy 2 get 1", 2, 1)),
+                Map.of("SAVE5", new PricingPlan.Coupon("Save 5%", 500, 0, 0)));
+        context = new PricingContext("US", "CA", "SAVE5");
+    }
+
+    @Benchmark
+    public Money compiledPlan() {
+        OrderTotals totals = new OrderTotals(plan, context, lines);
+        for (int i = 0; i < lines; i++) {
+            totals.addLine(productIds[i], prices[i], quantities[i]);
+        }
+        return totals.getTotal();
+    }
+
+    @Benchmark
+    public BigDecimal perLineBigDecimal() {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal discount = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            BigDecimal lineTotal = decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i]));
+            subtotal = subtotal.add(lineTotal);
+            BigDecimal percentOff = percentOffByProduct.get(productIds[i]);
+            if (percentOff != null) {
+                discount = discount.add(lineTotal.multiply(percentOff).setScale(2, RoundingMode.HALF_UP));
+            }
+        }
+        BigDecimal remaining = subtotal.subtract(discount);
+        discount = discount.add(remaining.multiply(new BigDecimal("0.05")).setScale(2, RoundingMode.HALF_UP));
+        BigDecimal discounted = subtotal.subtract(discount);
+        BigDecimal tax = discounted.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal shipping = discounted.compareTo(new BigDecimal("50.00")) >= 0 ? BigDecimal.ZERO : new BigDecimal("5.99");
+        return discounted.add(tax).add(shipping);
+    }
+}
@@ -0,0 +1,67 @@
+package com.freshcart.backend.service.pricing;
+
+import com.freshcart.backend.config.PricingRules;
+import com.freshcart.backend.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PricingEngineTest {
+
+    private final PricingEngine engine = new PricingEngine(new PricingRules(), null, Currency.getInstance("USD"));
+
+    @Test
+    void compilesCouponsWithEitherPercentOrAmountOff() {
+        PricingPlan plan = engine.replaceRules(rules(coupon("PCT", new BigDecimal("15"), null),
+                coupon("AMT", null, new BigDecimal("4.50"))));
+
+        assertThat(plan.hasCoupon("pct")).isTrue();
+        assertThat(plan.discountMinor(new long[]{9}, new long[]{10_000}, new int[]{1}, 1, "PCT", null)).isEqualTo(1_500);
+        assertThat(plan.discountMinor(new long[]{9}, new long[]{10_000}, new int[]{1}, 1, "AMT", null)).isEqualTo(450);
+    }
+
+    @Test
+    void rejectsCouponsWithBothPercentAndAmountOff() {
+        PricingPlan before = engine.currentPlan();
+
+        assertThatThrownBy(() -> engine.replaceRules(rules(coupon("BOTH", new BigDecimal("10"), new BigDecimal("5")))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("either percent or amount off");
+        assertThat(engine.currentPlan()).isSameAs(before);
+    }
+
+    @Test
+    void rejectsCouponsWithoutADiscount() {
+        assertThatThrownBy(() -> engine.replaceRules(rules(coupon("NONE", null, null))))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> engine.replaceRules(rules(coupon("ZERO", null, BigDecimal.ZERO))))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void carriesTheConfiguredCurrency() {
+        PricingEngine euros = new PricingEngine(new PricingRules(), null, Currency.getInstance("EUR"));
+
+        assertThat(euros.currentPlan().getCurrency()).isEqualTo(Currency.getInstance("EUR"));
+    }
+
+    private static PricingRules rules(PricingRules.Promotion... promotions) {
+        PricingRules rules = new PricingRules();
+        rules.setPromotions(List.of(promotions));
+        return rules;
+    }
+
+    private static PricingRules.Promotion coupon(String code, BigDecimal percentOff, BigDecimal amountOff) {
+        PricingRules.Promotion promotion = new PricingRules.Promotion();
+        promotion.setType(PricingRules.PromotionType.COUPON);
+        promotion.setCouponCode(code);
+        promotion.setPercentOff(percentOff);
+        promotion.setAmountOff(amountOff);
+        return promotion;
+    }
+}
@@ -0,0 +1,100 @@
+package com.freshcart.backend.service.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PricingPlanTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final PricingPlan plan = new PricingPlan(1, USD, new BigDecimal("0.05"),
+            Map.of(PricingPlan.taxKey("US", null), new BigDecimal("0.06"),
+                    PricingPlan.taxKey("US", "CA"), new BigDecimal("0.0725")),
+            new long[]{0, 2_500, 5_000}, new long[]{799, 499, 0},
+            Map.of(1L, new PricingPlan.PercentOff("Produce 10%", 1_000)),
+            Map.of(2L, new PricingPlan.BuyXGetY("Buy 2 get 1", 2, 1)),
+            Map.of("SAVE10", new PricingPlan.Coupon("Save 10%", 1_000, 0, 2_000),
+                    "FIVE", new PricingPlan.Coupon("Five off", 0, 500, 0)));
+
+    @Test
+    void taxRateFallsBackFromStateToCountryToDefault() {
+        assertThat(plan.taxRate("us", " ca ")).isEqualByComparingTo("0.0725");
+        assertThat(plan.taxRate("US", "NY")).isEqualByComparingTo("0.06");
+        assertThat(plan.taxRate("US", null)).isEqualByComparingTo("0.06");
+        assertThat(plan.taxRate("DE", "BE")).isEqualByComparingTo("0.05");
+        assertThat(plan.taxRate(null, "CA")).isEqualByComparingTo("0.05");
+    }
+
+    @Test
+    void shippingUsesTheHighestTierReached() {
+        assertThat(plan.shippingMinor(0)).isZero();
+        assertThat(plan.shippingMinor(1)).isEqualTo(799);
+        assertThat(plan.shippingMinor(2_499)).isEqualTo(799);
+        assertThat(plan.shippingMinor(2_500)).isEqualTo(499);
+        assertThat(plan.shippingMinor(4_999)).isEqualTo(499);
+        assertThat(plan.shippingMinor(5_000)).isZero();
+        assertThat(new PricingPlan(1, USD, BigDecimal.ZERO, Map.of(), new long[0], new long[0],
+                Map.of(), Map.of(), Map.of()).shippingMinor(1_000)).isZero();
+    }
+
+    @Test
+    void shippingBelowTheLowestTierChargesTheLowestTier() {
+        PricingPlan tiered = new PricingPlan(1, USD, BigDecimal.ZERO, Map.of(),
+                new long[]{1_000, 5_000}, new long[]{500, 0}, Map.of(), Map.of(), Map.of());
+
+        assertThat(tiered.shippingMinor(999)).isEqualTo(500);
+    }
+
+    @Test
+    void eachLineGetsTheBetterOfItsPromotions() {
+        List<String> applied = new ArrayList<>();
+
+        // Product 1: 10% of 3 x 1.99 = 0.597 -> 0.60; product 2: 1 of 3 units free = 2.00; product 3: none
+        long discount = plan.discountMinor(new long[]{1, 2, 3}, new long[]{199, 200, 1_000}, new int[]{3, 3, 1}, 3,
+                null, applied);
+
+        assertThat(discount).isEqualTo(60 + 200);
+        assertThat(applied).containsExactly("Produce 10%", "Buy 2 get 1");
+    }
+
+    @Test
+    void buyXGetYNeedsAFullGroup() {
+        assertThat(plan.discountMinor(new long[]{2}, new long[]{200}, new int[]{2}, 1, null, null)).isZero();
+        assertThat(plan.discountMinor(new long[]{2}, new long[]{200}, new int[]{7}, 1, null, null)).isEqualTo(400);
+    }
+
+    @Test
+    void percentCouponAppliesToTheDiscountedSubtotalAboveItsMinimum() {
+        List<String> applied = new ArrayList<>();
+
+        // 30.00 of product 1 -> 3.00 off, coupon 10% of the remaining 27.00 -> 2.70
+        long discount = plan.discountMinor(new long[]{1}, new long[]{1_000}, new int[]{3}, 1, " save10 ", applied);
+
+        assertThat(discount).isEqualTo(300 + 270);
+        assertThat(applied).containsExactly("Produce 10%", "Save 10%");
+        assertThat(plan.discountMinor(new long[]{3}, new long[]{1_999}, new int[]{1}, 1, "SAVE10", null))
+                .as("below the coupon minimum").isZero();
+    }
+
+    @Test
+    void amountCouponNeverExceedsTheSubtotal() {
+        assertThat(plan.discountMinor(new long[]{3}, new long[]{2_000}, new int[]{1}, 1, "FIVE", null)).isEqualTo(500);
+        assertThat(plan.discountMinor(new long[]{3}, new long[]{300}, new int[]{1}, 1, "FIVE", null)).isEqualTo(300);
+        assertThat(plan.discountMinor(new long[]{3}, new long[]{300}, new int[]{1}, 1, "UNKNOWN", null)).isZero();
+    }
+
+    @Test
+    void onlyTheGivenNumberOfLinesIsRead() {
+        long discount = plan.discountMinor(new long[]{1, 2, 0, 0}, new long[]{1_000, 200, 0, 0},
+                new int[]{1, 3, 0, 0}, 1, null, null);
+
+        assertThat(discount).isEqualTo(100);
+    }
+}
@@ -0,0 +1,146 @@
+package com.freshcart.backend.service.pricing;
+
+import com.freshcart.backend.config.PricingRules;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.OrderItem;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.util.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TotalsEngineTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final PricingContext CONTEXT = new PricingContext("US", null, "FIVE");
+
+    private final PricingEngine pricingEngine = new PricingEngine(rules(new BigDecimal("0.0825")), null, USD);
+    private final TotalsEngine totalsEngine = new TotalsEngine(pricingEngine);
+
+    @Test
+    void ordersTakeEveryAmountFromTheEngine() {
+        OrderTotals totals = totalsEngine.newTotals(CONTEXT);
+        Order order = pricedOrder(totals);
+
+        assertThat(order.getSubtotal().toBigDecimal()).isEqualByComparingTo("35.99");
+        // Buy 2 get 1 on product 7 (2.00) plus the 5.00 coupon
+        assertThat(order.getDiscountAmount().toBigDecimal()).isEqualByComparingTo("7.00");
+        // 28.99 * 8.25% = 2.3917 -> 2.39
+        assertThat(order.getTaxAmount().toBigDecimal()).isEqualByComparingTo("2.39");
+        assertThat(order.getShippingCost().toBigDecimal()).isEqualByComparingTo("5.99");
+        assertThat(order.getTotalAmount().toBigDecimal()).isEqualByComparingTo("37.37");
+        totalsEngine.verify(totals, order);
+    }
+
+    @Test
+    void verificationDetectsItemsTheTotalsNeverSaw() {
+        OrderTotals totals = totalsEngine.newTotals(CONTEXT);
+        Order order = pricedOrder(totals);
+
+        order.addOrderItem(item(3, "1.00", 1));
+
+        assertThatThrownBy(() -> totalsEngine.verify(totals, order))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("subtotal 35.99 (expected 36.99)");
+    }
+
+    @Test
+    void verificationRepricesShippingAndDiscountInsteadOfTrustingThem() {
+        OrderTotals totals = totalsEngine.newTotals(CONTEXT);
+        Order order = pricedOrder(totals);
+
+        order.setShippingCost(usd("0.00"));
+        order.setDiscountAmount(usd("2.00"));
+        order.setTotalAmount(usd("36.38"));
+
+        assertThatThrownBy(() -> totalsEngine.verify(totals, order))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("discount 2.00 (expected 7.00)")
+                .hasMessageContaining("shipping 0.00 (expected 5.99)")
+                .hasMessageContaining("total 36.38 (expected 37.37)");
+    }
+
+    @Test
+    void verifiesWithThePlanTheOrderWasPricedWith() {
+        OrderTotals totals = totalsEngine.newTotals(CONTEXT);
+        Order order = pricedOrder(totals);
+
+        pricingEngine.replaceRules(rules(new BigDecimal("0.20")));
+
+        totalsEngine.verify(totals, order);
+    }
+
+    @Test
+    void removedItemsAreDetached() {
+        Order order = Order.builder().orderNumber("FC-TEST0001").build();
+        OrderItem kept = item(1, "4.00", 5);
+        OrderItem removed = item(2, "2.50", 2);
+        order.addOrderItem(kept);
+        order.addOrderItem(removed);
+
+        order.removeOrderItem(removed);
+
+        assertThat(order.getOrderItems()).containsExactly(kept);
+        assertThat(removed.getOrder()).isNull();
+    }
+
+    private Order pricedOrder(OrderTotals totals) {
+        Order order = Order.builder().orderNumber("FC-TEST0001").build();
+        for (OrderItem item : List.of(item(1, "10.00", 2), item(2, "3.33", 3), item(7, "2.00", 3))) {
+            order.addOrderItem(item);
+            totals.addLine(item.getProduct().getId(), item.getUnitPrice(), item.getQuantity());
+        }
+        totalsEngine.applyTo(totals, order);
+        return order;
+    }
+
+    private static OrderItem item(long productId, String unitPrice, int quantity) {
+        Product product = new Product();
+        product.setId(productId);
+        Money price = usd(unitPrice);
+        return OrderItem.builder()
+                .product(product)
+                .unitPrice(price)
+                .quantity(quantity)
+                .totalPrice(price.times(quantity))
+                .build();
+    }
+
+    private static Money usd(String amount) {
+        return Money.of(new BigDecimal(amount), USD);
+    }
+
+    private static PricingRules rules(BigDecimal taxRate) {
+        PricingRules rules = new PricingRules();
+        rules.setDefaultTaxRate(taxRate);
+        rules.setShippingTiers(List.of(tier("0", "5.99"), tier("50", "0")));
+
+        PricingRules.Promotion buyTwoGetOne = new PricingRules.Promotion();
+        buyTwoGetOne.setName("Buy 2 get 1");
+        buyTwoGetOne.setType(PricingRules.PromotionType.BUY_X_GET_Y);
+        buyTwoGetOne.setProductId(7L);
+        buyTwoGetOne.setBuyQuantity(2);
+        buyTwoGetOne.setFreeQuantity(1);
+
+        PricingRules.Promotion coupon = new PricingRules.Promotion();
+        coupon.setName("Five off");
+        coupon.setType(PricingRules.PromotionType.COUPON);
+        coupon.setCouponCode("FIVE");
+        coupon.setAmountOff(new BigDecimal("5.00"));
+
+        rules.setPromotions(List.of(buyTwoGetOne, coupon));
+        return rules;
+    }
+
+    private static PricingRules.ShippingTier tier(String minSubtotal, String cost) {
+        PricingRules.ShippingTier tier = new PricingRules.ShippingTier();
+        tier.setMinSubtotal(new BigDecimal(minSubtotal));
+        tier.setCost(new BigDecimal(cost));
+        return tier;
+    }
+}
@@ -0,0 +1,44 @@
+package com.freshcart.backend.support;
+
+import com.freshcart.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Base class of tests that run against the full application context
+ * 
+ * All subclasses share one context and one in-memory database. Scheduled
+ * jobs are off (see application-test.yml), so tests call them directly.
+ * The local-mail profile points the mail sender at the in-process sink.
+ * Tests create their own rows through {@link TestData} and must not assume
+ * empty tables.
+ * 
+ * @author FreshCart Development Team
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "local-mail"})
+@Import({IntegrationTest.TestSecurityConfig.class, TestData.class})
+public abstract class IntegrationTest {
+
+    @Autowired
+    protected TestData data;
+
+    /**
+     * The source tree has no authentication module; load principals by email
+     */
+    @TestConfiguration
+    static class TestSecurityConfig {
+
+        @Bean
+        UserDetailsService userDetailsService(UserRepository userRepository) {
+            return email -> userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException(email));
+        }
+    }
+}
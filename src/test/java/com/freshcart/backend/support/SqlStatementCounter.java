@@ -0,0 +1,77 @@
+package com.freshcart.backend.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.function.Supplier;
+
+/**
+ * Hibernate statement inspector that counts SQL statements per thread
+ * 
+ * Registered through {@code hibernate.session_factory.statement_inspector} in
+ * the test profile only. Counting is only active inside {@link #count(Supplier)}, so outside a
+ * measured block the inspector costs one thread-local read per statement.
+ * 
+ * Usage:
+ * <pre>
+ * SqlStatementCounter.expect(1, () -&gt; orderService.getOrderDetail(userId, orderId));
+ * </pre>
+ * 
+ * @author FreshCart Development Team
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Run work and report how many SQL statements it issued on this thread
+     * 
+     * @param work Work to measure
+     * @param <T> Result type
+     * @return Result and statement count
+     */
+    public static <T> Counted<T> count(Supplier<T> work) {
+        int[] previous = COUNTER.get();
+        int[] counter = new int[1];
+        COUNTER.set(counter);
+        try {
+            T result = work.get();
+            return new Counted<>(result, counter[0]);
+        } finally {
+            if (previous != null) {
+                previous[0] += counter[0];
+                COUNTER.set(previous);
+            } else {
+                COUNTER.remove();
+            }
+        }
+    }
+
+    /**
+     * Run work and fail when it issues a different number of SQL statements
+     * 
+     * @param expectedStatements Expected statement count
+     * @param work Work to measure
+     * @param <T> Result type
+     * @return Result of the work
+     */
+    public static <T> T expect(int expectedStatements, Supplier<T> work) {
+        Counted<T> counted = count(work);
+        if (counted.statements() != expectedStatements) {
+            throw new AssertionError("Expected " + expectedStatements + " SQL statements but "
+                    + counted.statements() + " were executed");
+        }
+        return counted.result();
+    }
+
+    public record Counted<T>(T result, int statements) {
+    }
+}
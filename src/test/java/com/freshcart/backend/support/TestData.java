@@ -0,0 +1,126 @@
+package com.freshcart.backend.support;
+
+import com.freshcart.backend.dto.request.PlaceOrderRequest;
+import com.freshcart.backend.dto.response.PlaceOrderResponse;
+import com.freshcart.backend.entity.Category;
+import com.freshcart.backend.entity.Order;
+import com.freshcart.backend.entity.Product;
+import com.freshcart.backend.entity.User;
+import com.freshcart.backend.service.CartService;
+import com.freshcart.backend.service.checkout.CheckoutService;
+import com.freshcart.backend.util.Money;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates rows with unique names for integration tests
+ * 
+ * @author FreshCart Development Team
+ */
+@TestComponent
+public class TestData {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime() % 1_000_000);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final CartService cartService;
+    private final CheckoutService checkoutService;
+
+    public TestData(TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate,
+                    CartService cartService, CheckoutService checkoutService) {
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cartService = cartService;
+        this.checkoutService = checkoutService;
+    }
+
+    public User user() {
+        long n = SEQUENCE.incrementAndGet();
+        return persist(User.builder()
+                .username("user" + n)
+                .email("user" + n + "@example.com")
+                .password("password-" + n)
+                .firstName("Test")
+                .lastName("Shopper")
+                .build());
+    }
+
+    public Category category() {
+        long n = SEQUENCE.incrementAndGet();
+        return persist(Category.builder()
+                .name("Category " + n)
+                .slug("category-" + n)
+                .build());
+    }
+
+    public Product product(String price, int stock) {
+        return product(null, price, stock);
+    }
+
+    public Product product(Category category, String price, int stock) {
+        long n = SEQUENCE.incrementAndGet();
+        return persist(Product.builder()
+                .name("Product " + n)
+                .slug("product-" + n)
+                .sku("SKU-" + n)
+                .price(Money.of(new BigDecimal(price), USD))
+                .stockQuantity(stock)
+                .unit("piece")
+                .category(category)
+                .build());
+    }
+
+    /**
+     * Put one of each product in the user's cart and check out
+     */
+    public PlaceOrderResponse placeOrder(User user, Product... products) {
+        for (Product product : products) {
+            cartService.addItem(user.getId(), product.getId(), 1);
+        }
+        return checkoutService.placeOrder(user.getId(), UUID.randomUUID().toString(), orderRequest());
+    }
+
+    public <T> T persist(T entity) {
+        return transactionTemplate.execute(status -> {
+            entityManager.persist(entity);
+            return entity;
+        });
+    }
+
+    public int stockOf(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, productId);
+    }
+
+    public List<Integer> cartQuantities(Long userId) {
+        return jdbcTemplate.queryForList("SELECT quantity FROM cart_items WHERE user_id = ? ORDER BY id", Integer.class, userId);
+    }
+
+    public void sql(String sql, Object... args) {
+        jdbcTemplate.update(sql, args);
+    }
+
+    public static PlaceOrderRequest orderRequest() {
+        PlaceOrderRequest request = new PlaceOrderRequest();
+        request.setPaymentMethod(Order.PaymentMethod.CREDIT_CARD);
+        request.setShippingAddressLine1("1 Market Street");
+        request.setShippingCity("Springfield");
+        request.setShippingState("IL");
+        request.setShippingPostalCode("62701");
+        request.setShippingCountry("US");
+        return request;
+    }
+}
@@ -0,0 +1,91 @@
+package com.freshcart.backend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart subtotal and tax on {@link Money} versus the BigDecimal arithmetic it replaced
+ * 
+ * Run with {@code mvn -Pbenchmark -DskipTests test -Djmh.args=MoneyBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.0825");
+
+    @Param({"10", "100"})
+    private int lines;
+
+    private BigDecimal[] decimalPrices;
+    private Money[] moneyPrices;
+    private long[] minorPrices;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        decimalPrices = new BigDecimal[lines];
+        moneyPrices = new Money[lines];
+        minorPrices = new long[lines];
+        quantities = new int[lines];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < lines; i++) {
+            decimalPrices[i] = BigDecimal.valueOf(random.nextLong(50, 5_000), 2);
+            moneyPrices[i] = Money.of(decimalPrices[i], USD);
+            minorPrices[i] = moneyPrices[i].getMinorUnits();
+            quantities[i] = random.nextInt(1, 6);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            subtotal = subtotal.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        BigDecimal tax = subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+        return subtotal.add(tax);
+    }
+
+    @Benchmark
+    public Money moneyTotal() {
+        Money subtotal = Money.zero(USD);
+        for (int i = 0; i < lines; i++) {
+            subtotal = subtotal.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return subtotal.plus(subtotal.times(TAX_RATE, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * What {@code OrderTotals} does: primitive minor units per line, one Money at the end
+     */
+    @Benchmark
+    public Money minorUnitTotal() {
+        long subtotal = 0;
+        for (int i = 0; i < lines; i++) {
+            subtotal += minorPrices[i] * quantities[i];
+        }
+        Money money = Money.ofMinor(subtotal, USD);
+        return money.plus(money.times(TAX_RATE, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,49 @@
+package com.freshcart.backend.util;
+
+import com.freshcart.backend.dto.request.PriceUpdateRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyConstraintValidatorsTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private final ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+    private final Validator validator = factory.getValidator();
+
+    @AfterEach
+    void closeFactory() {
+        factory.close();
+    }
+
+    @Test
+    void acceptsPricesWithinTheColumnLimits() {
+        assertThat(violations("0.01")).isEmpty();
+        assertThat(violations("99999999.99")).isEmpty();
+    }
+
+    @Test
+    void appliesDecimalMinAndDigitsToMoney() {
+        assertThat(violations("0.00")).containsExactly("Price must be greater than 0");
+        assertThat(violations("100000000.00"))
+                .containsExactly("Price must have at most 8 integer digits and 2 decimal places");
+    }
+
+    private Set<String> violations(String price) {
+        PriceUpdateRequest request = new PriceUpdateRequest(1L, Money.of(new BigDecimal(price), USD));
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,60 @@
+package com.freshcart.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Test
+    void convertsUsingTheCurrencysMinorUnit() {
+        assertThat(Money.of(new BigDecimal("2.345"), USD).getMinorUnits()).isEqualTo(235);
+        assertThat(Money.of(new BigDecimal("2.345"), JPY).getMinorUnits()).isEqualTo(2);
+        assertThat(Money.ofMinor(235, EUR).toBigDecimal()).isEqualByComparingTo("2.35");
+        assertThat(Money.ofMinor(235, JPY).toBigDecimal()).isEqualByComparingTo("235");
+        assertThat(Money.of(null, USD)).isNull();
+    }
+
+    @Test
+    void addsAndMultipliesExactly() {
+        Money price = Money.of(new BigDecimal("0.10"), EUR);
+
+        Money total = Money.zero(EUR);
+        for (int i = 0; i < 10; i++) {
+            total = total.plus(price);
+        }
+
+        assertThat(total).isEqualTo(Money.of(BigDecimal.ONE, EUR));
+        assertThat(price.times(3).minus(price)).isEqualTo(Money.ofMinor(20, EUR));
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE, EUR).times(2)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void appliesRatesWithTheGivenRounding() {
+        Money subtotal = Money.ofMinor(1999, USD);
+
+        assertThat(subtotal.times(new BigDecimal("0.0825"), RoundingMode.HALF_UP).getMinorUnits()).isEqualTo(165);
+        assertThat(subtotal.times(new BigDecimal("0.0825"), RoundingMode.DOWN).getMinorUnits()).isEqualTo(164);
+        assertThat(Money.ofMinor(250, USD).percentOf(Money.ofMinor(1000, USD), 2)).isEqualByComparingTo("25.00");
+        assertThat(Money.ofMinor(250, USD).percentOf(Money.zero(USD), 2)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void refusesToMixCurrencies() {
+        Money dollars = Money.ofMinor(100, USD);
+        Money euros = Money.ofMinor(100, EUR);
+
+        assertThatThrownBy(() -> dollars.plus(euros)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dollars.compareTo(euros)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(dollars).isNotEqualTo(euros);
+    }
+}